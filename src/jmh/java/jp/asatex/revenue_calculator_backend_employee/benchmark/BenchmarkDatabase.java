@@ -0,0 +1,74 @@
+package jp.asatex.revenue_calculator_backend_employee.benchmark;
+
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import org.flywaydb.core.Flyway;
+import org.springframework.r2dbc.connection.R2dbcTransactionManager;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+/**
+ * Disposable PostgreSQL database for JMH benchmarks
+ * Starts a TestContainers PostgreSQL instance, applies the application's Flyway migrations
+ * and exposes a pooled R2DBC client configured like the application (pool size 10)
+ */
+final class BenchmarkDatabase implements AutoCloseable {
+
+    private static final int POOL_SIZE = 10;
+
+    private final PostgreSQLContainer<?> container;
+    private final ConnectionPool connectionPool;
+    private final DatabaseClient databaseClient;
+    private final TransactionalOperator transactionalOperator;
+
+    @SuppressWarnings("resource") // Container is stopped in close()
+    BenchmarkDatabase() {
+        this.container = new PostgreSQLContainer<>("postgres:15-alpine")
+                .withDatabaseName("employee-benchmark")
+                .withUsername("db_user")
+                .withPassword("local");
+        this.container.start();
+
+        Flyway.configure()
+                .dataSource(container.getJdbcUrl(), container.getUsername(), container.getPassword())
+                .locations("classpath:db/migration")
+                .load()
+                .migrate();
+
+        ConnectionFactory connectionFactory = ConnectionFactories.get(ConnectionFactoryOptions.builder()
+                .option(ConnectionFactoryOptions.DRIVER, "postgresql")
+                .option(ConnectionFactoryOptions.HOST, container.getHost())
+                .option(ConnectionFactoryOptions.PORT, container.getMappedPort(PostgreSQLContainer.POSTGRESQL_PORT))
+                .option(ConnectionFactoryOptions.DATABASE, container.getDatabaseName())
+                .option(ConnectionFactoryOptions.USER, container.getUsername())
+                .option(ConnectionFactoryOptions.PASSWORD, container.getPassword())
+                .build());
+        this.connectionPool = new ConnectionPool(ConnectionPoolConfiguration.builder(connectionFactory)
+                .maxSize(POOL_SIZE)
+                .build());
+        this.databaseClient = DatabaseClient.create(connectionPool);
+        this.transactionalOperator = TransactionalOperator.create(new R2dbcTransactionManager(connectionPool));
+    }
+
+    DatabaseClient client() {
+        return databaseClient;
+    }
+
+    TransactionalOperator transactionalOperator() {
+        return transactionalOperator;
+    }
+
+    ConnectionFactory connectionFactory() {
+        return connectionPool;
+    }
+
+    @Override
+    public void close() {
+        connectionPool.dispose();
+        container.stop();
+    }
+}
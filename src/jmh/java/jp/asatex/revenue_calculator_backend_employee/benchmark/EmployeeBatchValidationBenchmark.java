@@ -0,0 +1,120 @@
+package jp.asatex.revenue_calculator_backend_employee.benchmark;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import jp.asatex.revenue_calculator_backend_employee.dto.BatchValidationResult;
+import jp.asatex.revenue_calculator_backend_employee.dto.EmployeeDto;
+import jp.asatex.revenue_calculator_backend_employee.validation.EmployeeBatchValidator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import reactor.core.publisher.Flux;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Batch validation benchmark
+ * Compares validating 10k EmployeeDto rows one at a time through a reactive pipeline (as the
+ * request path does per row) with the chunked parallel EmployeeBatchValidator. Every 100th row is invalid
+ *
+ * Run with: ./gradlew jmh -Pjmh.includes=EmployeeBatchValidationBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class EmployeeBatchValidationBenchmark {
+
+    @Param({"10000"})
+    private int rowCount;
+
+    @Param({"500"})
+    private int chunkSize;
+
+    private ValidatorFactory validatorFactory;
+
+    private Validator validator;
+
+    private EmployeeBatchValidator batchValidator;
+
+    private List<EmployeeDto> rows;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        validator = validatorFactory.getValidator();
+        batchValidator = new EmployeeBatchValidator(validator, chunkSize, 0);
+        rows = new ArrayList<>(rowCount);
+        for (int i = 0; i < rowCount; i++) {
+            rows.add(employee(i));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        batchValidator.destroy();
+        validatorFactory.close();
+    }
+
+    /**
+     * One row at a time, each row its own reactive validation step
+     */
+    @Benchmark
+    public long perRow() {
+        return Flux.fromIterable(rows)
+                .map(validator::validate)
+                .filter(violations -> !violations.isEmpty())
+                .count()
+                .block();
+    }
+
+    /**
+     * Plain sequential loop over the shared validator, the lower bound without parallelism
+     */
+    @Benchmark
+    public long sequentialLoop() {
+        long invalid = 0;
+        for (EmployeeDto row : rows) {
+            Set<ConstraintViolation<EmployeeDto>> violations = validator.validate(row);
+            if (!violations.isEmpty()) {
+                invalid++;
+            }
+        }
+        return invalid;
+    }
+
+    /**
+     * Chunked parallel validation on the bounded scheduler
+     */
+    @Benchmark
+    public int batchValidator() {
+        BatchValidationResult result = batchValidator.validate(rows).block();
+        return result.getInvalidRows();
+    }
+
+    private static EmployeeDto employee(int index) {
+        EmployeeDto employee = new EmployeeDto();
+        employee.setEmployeeNumber("EMP" + index);
+        employee.setName("Benchmark Employee " + index);
+        employee.setFurigana("べんちまーく");
+        employee.setBirthday(LocalDate.of(1990, 1, 1).plusDays(index % 3650));
+        employee.setEmail(index % 100 == 0 ? "invalid-email" : "employee" + index + "@example.com");
+        employee.setBasicSalary(new BigDecimal("350000"));
+        employee.setDependentCount(index % 4);
+        employee.setUnitPrice(new BigDecimal("600000"));
+        return employee;
+    }
+}
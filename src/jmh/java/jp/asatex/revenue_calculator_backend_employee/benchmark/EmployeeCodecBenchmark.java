@@ -0,0 +1,116 @@
+package jp.asatex.revenue_calculator_backend_employee.benchmark;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import jp.asatex.revenue_calculator_backend_employee.common.PageResponse;
+import jp.asatex.revenue_calculator_backend_employee.dto.EmployeeDto;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Codec benchmark
+ * Compares encoding and decoding a page of EmployeeDto as JSON, CBOR and Smile, with mappers
+ * configured like the application's codecs. Every amount is a BigDecimal with a fraction, the
+ * worst case for JSON text. The encoded page size of each format is reported as the secondary
+ * result "bytes" (one benchmark thread, as counters of all threads are summed)
+ *
+ * Run with: ./gradlew jmh -Pjmh.includes=EmployeeCodecBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class EmployeeCodecBenchmark {
+
+    private static final TypeReference<PageResponse<EmployeeDto>> PAGE_TYPE = new TypeReference<>() {};
+
+    @Param({"json", "cbor", "smile"})
+    private String format;
+
+    @Param({"100", "1000"})
+    private int pageSize;
+
+    private ObjectMapper objectMapper;
+
+    private PageResponse<EmployeeDto> page;
+
+    private byte[] encodedPage;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        JsonFactory factory = switch (format) {
+            case "cbor" -> new CBORFactory();
+            case "smile" -> new SmileFactory();
+            default -> new JsonFactory();
+        };
+        // Spring Boot writes dates as ISO strings, as the application's codecs do
+        objectMapper = Jackson2ObjectMapperBuilder.json()
+                .factory(factory)
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+
+        List<EmployeeDto> content = new ArrayList<>(pageSize);
+        for (int i = 0; i < pageSize; i++) {
+            content.add(employee(i));
+        }
+        page = new PageResponse<>(content, 0, pageSize, 10_000L, "employeeId", "ASC");
+        encodedPage = objectMapper.writeValueAsBytes(page);
+    }
+
+    @Benchmark
+    public byte[] encode(PayloadSize payloadSize) throws IOException {
+        return objectMapper.writeValueAsBytes(page);
+    }
+
+    @Benchmark
+    public PageResponse<EmployeeDto> decode(PayloadSize payloadSize) throws IOException {
+        return objectMapper.readValue(encodedPage, PAGE_TYPE);
+    }
+
+    /**
+     * Encoded page size, set (not accumulated) before every iteration
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class PayloadSize {
+
+        public long bytes;
+
+        @Setup(Level.Iteration)
+        public void setUp(EmployeeCodecBenchmark benchmark) {
+            bytes = benchmark.encodedPage.length;
+        }
+    }
+
+    private static EmployeeDto employee(int i) {
+        BigDecimal salary = BigDecimal.valueOf(25_000_000L + i * 137L, 2);
+        BigDecimal allowance = BigDecimal.valueOf(1_500_000L + i * 13L, 2);
+        BigDecimal rate = BigDecimal.valueOf(1000L + i % 500, 4);
+        EmployeeDto employee = new EmployeeDto((long) i + 1, String.format("EMP%05d", i), "Benchmark Employee " + i,
+                "benchmark employee", LocalDate.of(1970, 1, 1).plusDays(i * 7L), "employee" + i + "@example.com",
+                salary, i % 4, false, false, salary, salary, allowance, allowance, allowance,
+                allowance, allowance, rate, rate, "090-0000-" + String.format("%04d", i % 10_000), rate,
+                allowance, allowance, allowance, "Remarks for employee " + i, false, i % 7 == 0, false, false, 0);
+        employee.setVersion((long) i % 5);
+        return employee;
+    }
+}
@@ -0,0 +1,87 @@
+package jp.asatex.revenue_calculator_backend_employee.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Create path benchmark
+ * Compares the former check-then-insert create (SELECT + INSERT in one transaction)
+ * with the insert-only create that relies on the unique employee_number index
+ *
+ * Run with: ./gradlew jmh -Pjmh.includes=EmployeeCreateBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.AverageTime, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class EmployeeCreateBenchmark {
+
+    private static final String EXISTS_SQL =
+            "SELECT COUNT(*) > 0 FROM employeeInfo WHERE employee_number = :employeeNumber";
+
+    private static final String INSERT_SQL =
+            "INSERT INTO employeeInfo (employee_number, name) VALUES (:employeeNumber, :name) RETURNING employee_id";
+
+    private final AtomicLong sequence = new AtomicLong();
+
+    private BenchmarkDatabase database;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        database = new BenchmarkDatabase();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        database.close();
+    }
+
+    /**
+     * Former create path: existence check round trip followed by the insert
+     */
+    @Benchmark
+    public Long checkThenInsert() {
+        String employeeNumber = nextEmployeeNumber();
+        return database.client().sql(EXISTS_SQL)
+                .bind("employeeNumber", employeeNumber)
+                .map(row -> row.get(0, Boolean.class))
+                .one()
+                .flatMap(exists -> Boolean.TRUE.equals(exists)
+                        ? Mono.<Long>error(new IllegalStateException("Duplicate employee number: " + employeeNumber))
+                        : insert(employeeNumber))
+                .as(database.transactionalOperator()::transactional)
+                .block();
+    }
+
+    /**
+     * Current create path: a single insert, duplicates are rejected by the unique index
+     */
+    @Benchmark
+    public Long insertOnly() {
+        return insert(nextEmployeeNumber())
+                .as(database.transactionalOperator()::transactional)
+                .block();
+    }
+
+    private Mono<Long> insert(String employeeNumber) {
+        return database.client().sql(INSERT_SQL)
+                .bind("employeeNumber", employeeNumber)
+                .bind("name", "Benchmark Employee")
+                .map(row -> row.get("employee_id", Long.class))
+                .one();
+    }
+
+    private String nextEmployeeNumber() {
+        return "BENCH-" + sequence.incrementAndGet();
+    }
+}
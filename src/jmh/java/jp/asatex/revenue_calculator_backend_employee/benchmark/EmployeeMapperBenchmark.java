@@ -0,0 +1,158 @@
+package jp.asatex.revenue_calculator_backend_employee.benchmark;
+
+import jp.asatex.revenue_calculator_backend_employee.dto.EmployeeDto;
+import jp.asatex.revenue_calculator_backend_employee.entity.Employee;
+import jp.asatex.revenue_calculator_backend_employee.mapper.EmployeeMapper;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Employee mapper benchmark
+ * Compares the generated EmployeeMapper with the hand-written conversions it replaced
+ * (EmployeeService.convertToDto and convertToEntity, copied below), in both directions.
+ * The generated code should match or beat the hand-written code in time and in bytes allocated
+ * per conversion (gc.alloc.rate.norm)
+ *
+ * Run with: ./gradlew jmh -Pjmh.includes=EmployeeMapperBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class EmployeeMapperBenchmark {
+
+    private EmployeeMapper employeeMapper;
+
+    private Employee employee;
+
+    private EmployeeDto employeeDto;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        employeeMapper = Mappers.getMapper(EmployeeMapper.class);
+
+        BigDecimal amount = new BigDecimal("250000");
+        BigDecimal rate = new BigDecimal("0.10");
+        employee = new Employee(1L, "MAP001", "Benchmark Employee", "benchmark employee", LocalDate.of(1990, 1, 1),
+                "employee@example.com", amount, 1, false, false, amount, amount, amount, amount, amount,
+                amount, amount, rate, rate, "090-0000-0000", rate, amount, amount, amount, "remarks",
+                false, false, false, false, 0);
+        employee.setVersion(3L);
+        employee.setCreatedAt(LocalDateTime.now());
+        employee.setUpdatedAt(LocalDateTime.now());
+        employeeDto = handWrittenToDto(employee);
+    }
+
+    @Benchmark
+    public EmployeeDto toDtoHandWritten() {
+        return handWrittenToDto(employee);
+    }
+
+    @Benchmark
+    public EmployeeDto toDtoGenerated() {
+        return employeeMapper.toDto(employee);
+    }
+
+    @Benchmark
+    public Employee toEntityHandWritten() {
+        return handWrittenToEntity(employeeDto);
+    }
+
+    @Benchmark
+    public Employee toEntityGenerated() {
+        return employeeMapper.toEntity(employeeDto);
+    }
+
+    private static EmployeeDto handWrittenToDto(Employee employee) {
+        if (employee == null) {
+            return null;
+        }
+
+        EmployeeDto dto = new EmployeeDto();
+        dto.setEmployeeId(employee.getEmployeeId());
+        dto.setEmployeeNumber(employee.getEmployeeNumber());
+        dto.setName(employee.getName());
+        dto.setFurigana(employee.getFurigana());
+        dto.setBirthday(employee.getBirthday());
+        dto.setEmail(employee.getEmail());
+        dto.setBasicSalary(employee.getBasicSalary());
+        dto.setDependentCount(employee.getDependentCount());
+        dto.setNoHealthInsurance(employee.getNoHealthInsurance());
+        dto.setNoPensionInsurance(employee.getNoPensionInsurance());
+        dto.setUnitPrice(employee.getUnitPrice());
+        dto.setIndividualBusinessAmount(employee.getIndividualBusinessAmount());
+        dto.setPositionAllowance(employee.getPositionAllowance());
+        dto.setHousingAllowance(employee.getHousingAllowance());
+        dto.setFamilyAllowance(employee.getFamilyAllowance());
+        dto.setCollectionFeeAmount(employee.getCollectionFeeAmount());
+        dto.setPaymentFeeAmount(employee.getPaymentFeeAmount());
+        dto.setThirdPartyManagementRate(employee.getThirdPartyManagementRate());
+        dto.setThirdPartyProfitDistributionRate(employee.getThirdPartyProfitDistributionRate());
+        dto.setPhoneNumber(employee.getPhoneNumber());
+        dto.setConsumptionTaxRate(employee.getConsumptionTaxRate());
+        dto.setNonWorkingDeduction(employee.getNonWorkingDeduction());
+        dto.setOvertimeAllowance(employee.getOvertimeAllowance());
+        dto.setCommutingAllowance(employee.getCommutingAllowance());
+        dto.setRemarks(employee.getRemarks());
+        dto.setIsDisabled(employee.getIsDisabled());
+        dto.setIsSingleParent(employee.getIsSingleParent());
+        dto.setIsWidow(employee.getIsWidow());
+        dto.setIsWorkingStudent(employee.getIsWorkingStudent());
+        dto.setDisabledDependentCount(employee.getDisabledDependentCount());
+        dto.setVersion(employee.getVersion());
+
+        return dto;
+    }
+
+    private static Employee handWrittenToEntity(EmployeeDto dto) {
+        if (dto == null) {
+            return null;
+        }
+
+        Employee employee = new Employee();
+        employee.setEmployeeId(dto.getEmployeeId());
+        employee.setEmployeeNumber(dto.getEmployeeNumber());
+        employee.setName(dto.getName());
+        employee.setFurigana(dto.getFurigana());
+        employee.setBirthday(dto.getBirthday());
+        employee.setEmail(dto.getEmail());
+        employee.setBasicSalary(dto.getBasicSalary());
+        employee.setDependentCount(dto.getDependentCount());
+        employee.setNoHealthInsurance(dto.getNoHealthInsurance());
+        employee.setNoPensionInsurance(dto.getNoPensionInsurance());
+        employee.setUnitPrice(dto.getUnitPrice());
+        employee.setIndividualBusinessAmount(dto.getIndividualBusinessAmount());
+        employee.setPositionAllowance(dto.getPositionAllowance());
+        employee.setHousingAllowance(dto.getHousingAllowance());
+        employee.setFamilyAllowance(dto.getFamilyAllowance());
+        employee.setCollectionFeeAmount(dto.getCollectionFeeAmount());
+        employee.setPaymentFeeAmount(dto.getPaymentFeeAmount());
+        employee.setThirdPartyManagementRate(dto.getThirdPartyManagementRate());
+        employee.setThirdPartyProfitDistributionRate(dto.getThirdPartyProfitDistributionRate());
+        employee.setPhoneNumber(dto.getPhoneNumber());
+        employee.setConsumptionTaxRate(dto.getConsumptionTaxRate());
+        employee.setNonWorkingDeduction(dto.getNonWorkingDeduction());
+        employee.setOvertimeAllowance(dto.getOvertimeAllowance());
+        employee.setCommutingAllowance(dto.getCommutingAllowance());
+        employee.setRemarks(dto.getRemarks());
+        employee.setIsDisabled(dto.getIsDisabled());
+        employee.setIsSingleParent(dto.getIsSingleParent());
+        employee.setIsWidow(dto.getIsWidow());
+        employee.setIsWorkingStudent(dto.getIsWorkingStudent());
+        employee.setDisabledDependentCount(dto.getDisabledDependentCount());
+        employee.setVersion(dto.getVersion());
+
+        return employee;
+    }
+}
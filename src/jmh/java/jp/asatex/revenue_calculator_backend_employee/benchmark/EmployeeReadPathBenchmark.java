@@ -0,0 +1,145 @@
+package jp.asatex.revenue_calculator_backend_employee.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.r2dbc.connection.R2dbcTransactionManager;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import org.springframework.transaction.support.DefaultTransactionDefinition;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Read path benchmark
+ * Compares the former read-only transactional reads with the auto-commit reads used now.
+ * Round trips per request:
+ * <ul>
+ *   <li>lookup by ID: BEGIN READ ONLY, SELECT, COMMIT (3) vs SELECT (1)</li>
+ *   <li>page with total: BEGIN READ ONLY, SELECT, SELECT COUNT, COMMIT (4, queries serialized on
+ *       the transaction's connection) vs SELECT and SELECT COUNT on two connections in parallel (1 deep)</li>
+ * </ul>
+ * SampleTime mode reports p0.99 next to the average, read it from the JSON results
+ *
+ * Run with: ./gradlew jmh -Pjmh.includes=EmployeeReadPathBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.AverageTime, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class EmployeeReadPathBenchmark {
+
+    private static final String FIND_BY_ID_SQL =
+            "SELECT * FROM employeeInfo WHERE employee_id = :employeeId AND is_deleted = false";
+
+    private static final String FIND_PAGE_SQL =
+            "SELECT * FROM employeeInfo WHERE is_deleted = false ORDER BY employee_id ASC LIMIT :limit OFFSET :offset";
+
+    private static final String COUNT_SQL = "SELECT COUNT(*) FROM employeeInfo WHERE is_deleted = false";
+
+    private static final String SEED_SQL =
+            "INSERT INTO employeeInfo (employee_number, name) " +
+            "SELECT 'READ-' || n, 'Benchmark Employee ' || n FROM generate_series(1, :rows) AS n";
+
+    @Param({"1000"})
+    private int rowCount;
+
+    private BenchmarkDatabase database;
+
+    private TransactionalOperator readOnlyTransaction;
+
+    private List<Long> employeeIds;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        database = new BenchmarkDatabase();
+        database.client().sql(SEED_SQL)
+                .bind("rows", rowCount)
+                .fetch()
+                .rowsUpdated()
+                .block();
+        employeeIds = database.client().sql("SELECT employee_id FROM employeeInfo")
+                .map(row -> row.get(0, Long.class))
+                .all()
+                .collectList()
+                .block();
+
+        // What @Transactional(readOnly = true) used to open for every read
+        DefaultTransactionDefinition readOnly = new DefaultTransactionDefinition();
+        readOnly.setReadOnly(true);
+        readOnlyTransaction = TransactionalOperator.create(new R2dbcTransactionManager(database.connectionFactory()), readOnly);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        database.close();
+    }
+
+    /**
+     * Former lookup: single row read inside a read-only transaction
+     */
+    @Benchmark
+    public Long findByIdInReadOnlyTransaction() {
+        return findById(randomEmployeeId())
+                .as(readOnlyTransaction::transactional)
+                .block();
+    }
+
+    /**
+     * Current lookup: single row read in auto-commit mode
+     */
+    @Benchmark
+    public Long findByIdWithoutTransaction() {
+        return findById(randomEmployeeId()).block();
+    }
+
+    /**
+     * Former page read: page and total share the transaction's connection
+     */
+    @Benchmark
+    public Long pageInReadOnlyTransaction() {
+        return page()
+                .as(readOnlyTransaction::transactional)
+                .block();
+    }
+
+    /**
+     * Current page read: page and total run on their own connections
+     */
+    @Benchmark
+    public Long pageWithoutTransaction() {
+        return page().block();
+    }
+
+    private Mono<Long> findById(Long employeeId) {
+        return database.client().sql(FIND_BY_ID_SQL)
+                .bind("employeeId", employeeId)
+                .map(row -> row.get("employee_id", Long.class))
+                .one();
+    }
+
+    private Mono<Long> page() {
+        Flux<Long> content = database.client().sql(FIND_PAGE_SQL)
+                .bind("limit", 20)
+                .bind("offset", ThreadLocalRandom.current().nextInt(rowCount - 20))
+                .map(row -> row.get("employee_id", Long.class))
+                .all();
+        Mono<Long> total = database.client().sql(COUNT_SQL)
+                .map(row -> row.get(0, Long.class))
+                .one();
+        return Mono.zip(content.count(), total, Long::sum);
+    }
+
+    private Long randomEmployeeId() {
+        return employeeIds.get(ThreadLocalRandom.current().nextInt(employeeIds.size()));
+    }
+}
@@ -0,0 +1,119 @@
+package jp.asatex.revenue_calculator_backend_employee.benchmark;
+
+import io.r2dbc.spi.Row;
+import jp.asatex.revenue_calculator_backend_employee.entity.Employee;
+import jp.asatex.revenue_calculator_backend_employee.mapper.EmployeeMapper;
+import jp.asatex.revenue_calculator_backend_employee.repository.EmployeeDtoRowMapper;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.data.r2dbc.convert.MappingR2dbcConverter;
+import org.springframework.data.r2dbc.convert.R2dbcConverter;
+import org.springframework.data.r2dbc.convert.R2dbcCustomConversions;
+import org.springframework.data.r2dbc.dialect.PostgresDialect;
+import org.springframework.data.r2dbc.mapping.R2dbcMappingContext;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Row mapping benchmark
+ * Compares the former read path, which reads a SELECT * row into the Employee entity with the
+ * reflective R2DBC converter and copies it into an EmployeeDto with EmployeeMapper, with
+ * EmployeeDtoRowMapper, which reads a SELECT_COLUMNS row into the EmployeeDto by index.
+ * Rows are decoded in memory beforehand, so only the mapping is measured. Scores are per row, the
+ * gc profiler reports the bytes allocated per row as gc.alloc.rate.norm
+ *
+ * Run with: ./gradlew jmh -Pjmh.includes=EmployeeRowMappingBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class EmployeeRowMappingBenchmark {
+
+    private static final int ROW_COUNT = 1000;
+
+    /**
+     * Columns of employeeInfo not in EmployeeDto, returned by SELECT * after the DTO columns
+     */
+    private static final List<String> ENTITY_ONLY_COLUMNS =
+            List.of("created_at", "updated_at", "deleted_at", "deleted_by", "is_deleted");
+
+    private R2dbcConverter converter;
+
+    private EmployeeMapper employeeMapper;
+
+    private List<Row> entityRows;
+
+    private List<Row> dtoRows;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        converter = new MappingR2dbcConverter(new R2dbcMappingContext(), R2dbcCustomConversions.of(PostgresDialect.INSTANCE));
+        employeeMapper = Mappers.getMapper(EmployeeMapper.class);
+
+        List<String> dtoColumns = Arrays.stream(EmployeeDtoRowMapper.SELECT_COLUMNS.split(","))
+                .map(String::trim)
+                .toList();
+        List<String> entityColumns = new ArrayList<>(dtoColumns);
+        entityColumns.addAll(ENTITY_ONLY_COLUMNS);
+
+        List<Object[]> dtoValues = new ArrayList<>(ROW_COUNT);
+        List<Object[]> entityValues = new ArrayList<>(ROW_COUNT);
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < ROW_COUNT; i++) {
+            Object[] values = dtoValues(i);
+            dtoValues.add(values);
+            Object[] withEntityColumns = Arrays.copyOf(values, entityColumns.size());
+            withEntityColumns[values.length] = now;
+            withEntityColumns[values.length + 1] = now;
+            withEntityColumns[values.length + 4] = Boolean.FALSE;
+            entityValues.add(withEntityColumns);
+        }
+        dtoRows = InMemoryRow.of(dtoColumns, dtoValues);
+        entityRows = InMemoryRow.of(entityColumns, entityValues);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROW_COUNT)
+    public void entityThenDto(Blackhole blackhole) {
+        for (Row row : entityRows) {
+            blackhole.consume(employeeMapper.toDto(converter.read(Employee.class, row, row.getMetadata())));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROW_COUNT)
+    public void direct(Blackhole blackhole) {
+        for (Row row : dtoRows) {
+            blackhole.consume(EmployeeDtoRowMapper.map(row));
+        }
+    }
+
+    private static Object[] dtoValues(int i) {
+        BigDecimal amount = BigDecimal.valueOf(1000L + i);
+        BigDecimal rate = new BigDecimal("0.10");
+        return new Object[] {
+                (long) i + 1, "MAP" + i, "Benchmark Employee " + i, "benchmark employee", LocalDate.of(1990, 1, 1),
+                "employee" + i + "@example.com", amount, 1, Boolean.FALSE, Boolean.FALSE, amount,
+                amount, amount, amount, amount,
+                amount, amount, rate,
+                rate, "090-0000-0000", rate, amount,
+                amount, amount, "remarks", Boolean.FALSE, Boolean.FALSE, Boolean.FALSE,
+                Boolean.FALSE, 0, 0L
+        };
+    }
+}
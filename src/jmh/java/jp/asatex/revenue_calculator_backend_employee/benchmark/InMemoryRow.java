@@ -0,0 +1,130 @@
+package jp.asatex.revenue_calculator_backend_employee.benchmark;
+
+import io.r2dbc.spi.ColumnMetadata;
+import io.r2dbc.spi.R2dbcType;
+import io.r2dbc.spi.Row;
+import io.r2dbc.spi.RowMetadata;
+import io.r2dbc.spi.Type;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * R2DBC row backed by an array of already decoded values
+ * Lets mapping benchmarks measure the mapper alone, without the network and the driver's decoding.
+ * Lookups by name scan the columns case insensitively, as the PostgreSQL driver does
+ */
+final class InMemoryRow implements Row {
+
+    private final Metadata metadata;
+
+    private final Object[] values;
+
+    private InMemoryRow(Metadata metadata, Object[] values) {
+        this.metadata = metadata;
+        this.values = values;
+    }
+
+    /**
+     * Create rows sharing one metadata
+     * @param columns Column names
+     * @param rows Values of each row, in column order
+     * @return Rows
+     */
+    static List<Row> of(List<String> columns, List<Object[]> rows) {
+        Metadata metadata = new Metadata(columns, rows.get(0));
+        List<Row> result = new ArrayList<>(rows.size());
+        for (Object[] values : rows) {
+            result.add(new InMemoryRow(metadata, values));
+        }
+        return result;
+    }
+
+    @Override
+    public RowMetadata getMetadata() {
+        return metadata;
+    }
+
+    @Override
+    public <T> T get(int index, Class<T> type) {
+        return type.cast(values[index]);
+    }
+
+    @Override
+    public <T> T get(String name, Class<T> type) {
+        return get(metadata.indexOf(name), type);
+    }
+
+    private static final class Metadata implements RowMetadata {
+
+        private final List<Column> columns;
+
+        private Metadata(List<String> names, Object[] sample) {
+            this.columns = new ArrayList<>(names.size());
+            for (int i = 0; i < names.size(); i++) {
+                columns.add(new Column(names.get(i), typeOf(sample[i])));
+            }
+        }
+
+        private int indexOf(String name) {
+            for (int i = 0; i < columns.size(); i++) {
+                if (columns.get(i).getName().equalsIgnoreCase(name)) {
+                    return i;
+                }
+            }
+            throw new NoSuchElementException("Unknown column: " + name);
+        }
+
+        @Override
+        public ColumnMetadata getColumnMetadata(int index) {
+            return columns.get(index);
+        }
+
+        @Override
+        public ColumnMetadata getColumnMetadata(String name) {
+            return columns.get(indexOf(name));
+        }
+
+        @Override
+        public List<? extends ColumnMetadata> getColumnMetadatas() {
+            return columns;
+        }
+
+        @Override
+        public boolean contains(String name) {
+            for (Column column : columns) {
+                if (column.getName().equalsIgnoreCase(name)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private static Type typeOf(Object sample) {
+            if (sample instanceof Long) return R2dbcType.BIGINT;
+            if (sample instanceof Integer) return R2dbcType.INTEGER;
+            if (sample instanceof Boolean) return R2dbcType.BOOLEAN;
+            if (sample instanceof BigDecimal) return R2dbcType.NUMERIC;
+            if (sample instanceof LocalDate) return R2dbcType.DATE;
+            if (sample instanceof LocalDateTime) return R2dbcType.TIMESTAMP;
+            return R2dbcType.VARCHAR;
+        }
+    }
+
+    private record Column(String name, Type type) implements ColumnMetadata {
+
+        @Override
+        public String getName() {
+            return name;
+        }
+
+        @Override
+        public Type getType() {
+            return type;
+        }
+    }
+}
@@ -1,28 +1,90 @@
 package jp.asatex.revenue_calculator_backend_employee.application;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jp.asatex.revenue_calculator_backend_employee.dto.ArchivedEmployeeDto;
+import jp.asatex.revenue_calculator_backend_employee.dto.BulkDeleteRequest;
+import jp.asatex.revenue_calculator_backend_employee.dto.BulkDeleteResponse;
+import jp.asatex.revenue_calculator_backend_employee.dto.ChangeFeedResponse;
 import jp.asatex.revenue_calculator_backend_employee.dto.EmployeeDto;
+import jp.asatex.revenue_calculator_backend_employee.dto.EmployeeExportJob;
+import jp.asatex.revenue_calculator_backend_employee.dto.EmployeeField;
+import jp.asatex.revenue_calculator_backend_employee.common.ChangeCursor;
+import jp.asatex.revenue_calculator_backend_employee.common.EmployeeCsv;
+import jp.asatex.revenue_calculator_backend_employee.common.FieldSelection;
 import jp.asatex.revenue_calculator_backend_employee.common.PageRequest;
 import jp.asatex.revenue_calculator_backend_employee.common.PageResponse;
+import jp.asatex.revenue_calculator_backend_employee.export.EmployeeExportFormat;
+import jp.asatex.revenue_calculator_backend_employee.export.EmployeeExportJobService;
+import jp.asatex.revenue_calculator_backend_employee.routing.ReadRouting;
+import jp.asatex.revenue_calculator_backend_employee.service.EmployeeArchiveService;
+import jp.asatex.revenue_calculator_backend_employee.service.EmployeeChangeFeedService;
+import jp.asatex.revenue_calculator_backend_employee.service.EmployeeChangeStreamService;
+import jp.asatex.revenue_calculator_backend_employee.service.EmployeeRosterVersion;
 import jp.asatex.revenue_calculator_backend_employee.service.EmployeeService;
 import jp.asatex.revenue_calculator_backend_employee.exception.TransactionHandler;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ServerWebInputException;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.ConstraintViolationException;
+import jakarta.validation.Validator;
+
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * Employee Application Service
  * Application layer that orchestrates business use cases
- * Coordinates between presentation layer and domain services
+ * Coordinates between presentation layer and domain services.
+ * Only write use cases open a transaction; reads run in auto-commit mode, so a lookup is a
+ * single round trip instead of BEGIN, query and COMMIT on a connection held for all three.
+ * With a read replica configured, reads are served by the replica (see ReadRouting)
  */
 @Service
-@Transactional
 public class EmployeeApplicationService {
 
+    private static final String VERSION_PROPERTY = "version";
+
     @Autowired
     private EmployeeService employeeService;
 
+    @Autowired
+    private EmployeeArchiveService employeeArchiveService;
+
+    @Autowired
+    private EmployeeChangeFeedService employeeChangeFeedService;
+
+    @Autowired
+    private EmployeeChangeStreamService employeeChangeStreamService;
+
+    @Autowired
+    private EmployeeExportJobService employeeExportJobService;
+
+    @Autowired
+    private EmployeeRosterVersion employeeRosterVersion;
+
+    @Autowired
+    private ReadRouting readRouting;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private Validator validator;
+
     /**
      * Create employee use case
      * Orchestrates the employee creation process
@@ -30,18 +92,13 @@ public class EmployeeApplicationService {
      * @param employeeDto Employee data
      * @return Created employee
      */
+    @Transactional
     public Mono<EmployeeDto> createEmployee(EmployeeDto employeeDto) {
         // Application layer can add:
         // - Authorization checks
-        // - Event publishing
-        // - Audit logging
         // - Business rule validation
         
         return employeeService.createEmployee(employeeDto)
-                .doOnSuccess(createdEmployee -> {
-                    // Publish domain event if needed
-                    // auditService.logEmployeeCreation(createdEmployee);
-                })
                 .onErrorMap(throwable -> {
                     // Don't wrap business exceptions, only wrap unexpected technical exceptions
                     if (!(throwable instanceof TransactionHandler) && 
@@ -59,7 +116,6 @@ public class EmployeeApplicationService {
      * @param id Employee ID
      * @return Employee information
      */
-    @Transactional(readOnly = true)
     public Mono<EmployeeDto> getEmployeeById(Long id) {
         return employeeService.getEmployeeById(id);
     }
@@ -70,11 +126,32 @@ public class EmployeeApplicationService {
      * @param employeeNumber Employee number
      * @return Employee information
      */
-    @Transactional(readOnly = true)
     public Mono<EmployeeDto> getEmployeeByNumber(String employeeNumber) {
         return employeeService.getEmployeeByNumber(employeeNumber);
     }
 
+    /**
+     * Get selected fields of an employee by ID use case
+     * 
+     * @param id Employee ID
+     * @param fields Comma separated field names
+     * @return Selected employee fields
+     */
+    public Mono<Map<String, Object>> getEmployeeFieldsById(Long id, String fields) {
+        return Mono.defer(() -> employeeService.getEmployeeFieldsById(id, FieldSelection.parse(fields)));
+    }
+
+    /**
+     * Get selected fields of an employee by number use case
+     * 
+     * @param employeeNumber Employee number
+     * @param fields Comma separated field names
+     * @return Selected employee fields
+     */
+    public Mono<Map<String, Object>> getEmployeeFieldsByNumber(String employeeNumber, String fields) {
+        return Mono.defer(() -> employeeService.getEmployeeFieldsByNumber(employeeNumber, FieldSelection.parse(fields)));
+    }
+
     /**
      * Update employee use case
      * Orchestrates the employee update process
@@ -83,35 +160,113 @@ public class EmployeeApplicationService {
      * @param employeeDto Updated employee data
      * @return Updated employee
      */
+    @Transactional
     public Mono<EmployeeDto> updateEmployee(Long id, EmployeeDto employeeDto) {
         return employeeService.updateEmployee(id, employeeDto)
-                .doOnSuccess(updatedEmployee -> {
-                    // Publish domain event if needed
-                    // auditService.logEmployeeUpdate(updatedEmployee);
-                })
                 .onErrorMap(throwable -> {
                     // Don't wrap business exceptions, only wrap unexpected technical exceptions
                     if (!(throwable instanceof TransactionHandler) && 
                         !(throwable instanceof jp.asatex.revenue_calculator_backend_employee.exception.DuplicateEmployeeNumberHandler) &&
-                        !(throwable instanceof jp.asatex.revenue_calculator_backend_employee.exception.EmployeeNotFoundHandler)) {
+                        !(throwable instanceof jp.asatex.revenue_calculator_backend_employee.exception.EmployeeNotFoundHandler) &&
+                        !(throwable instanceof jp.asatex.revenue_calculator_backend_employee.exception.EmployeeVersionConflictHandler)) {
                         return new TransactionHandler("Failed to update employee with ID: " + id, throwable);
                     }
                     return throwable;
                 });
     }
 
+    /**
+     * Patch employee use case
+     * Applies a JSON Merge Patch (RFC 7396): only the supplied fields are validated and written,
+     * a null value clears the field. A "version" member is not written, it is the version the
+     * client read and is used when no If-Match version is given
+     * 
+     * @param id Employee ID
+     * @param patch Merge patch document
+     * @param expectedVersion Version from If-Match, or null
+     * @return Updated employee
+     */
+    @Transactional
+    public Mono<EmployeeDto> patchEmployee(Long id, JsonNode patch, Long expectedVersion) {
+        return Mono.fromCallable(() -> toValidatedChanges(patch))
+                .flatMap(changes -> employeeService.patchEmployee(id, changes,
+                        expectedVersion != null ? expectedVersion : readVersion(patch)))
+                .onErrorMap(throwable -> {
+                    // Don't wrap business or validation exceptions, only wrap unexpected technical exceptions
+                    if (!(throwable instanceof TransactionHandler) && 
+                        !(throwable instanceof jp.asatex.revenue_calculator_backend_employee.exception.DuplicateEmployeeNumberHandler) &&
+                        !(throwable instanceof jp.asatex.revenue_calculator_backend_employee.exception.EmployeeNotFoundHandler) &&
+                        !(throwable instanceof jp.asatex.revenue_calculator_backend_employee.exception.EmployeeVersionConflictHandler) &&
+                        !(throwable instanceof ConstraintViolationException) &&
+                        !(throwable instanceof ServerWebInputException)) {
+                        return new TransactionHandler("Failed to patch employee with ID: " + id, throwable);
+                    }
+                    return throwable;
+                });
+    }
+
+    /**
+     * Convert a merge patch document into field changes, validating each supplied value
+     * against the constraints declared on EmployeeDto
+     * 
+     * @param patch Merge patch document
+     * @return Field changes in column order
+     */
+    private Map<EmployeeField, Object> toValidatedChanges(JsonNode patch) {
+        if (patch == null || !patch.isObject()) {
+            throw new ServerWebInputException("Merge patch document must be a JSON object");
+        }
+        Map<EmployeeField, Object> changes = new EnumMap<>(EmployeeField.class);
+        Set<ConstraintViolation<EmployeeDto>> violations = new LinkedHashSet<>();
+        Iterator<Map.Entry<String, JsonNode>> entries = patch.fields();
+        while (entries.hasNext()) {
+            Map.Entry<String, JsonNode> entry = entries.next();
+            if (VERSION_PROPERTY.equals(entry.getKey())) {
+                continue;
+            }
+            EmployeeField field = EmployeeField.fromProperty(entry.getKey())
+                    .orElseThrow(() -> new ServerWebInputException("Unknown or read-only field: " + entry.getKey()));
+            Object value;
+            try {
+                value = field.readValue(entry.getValue());
+            } catch (IllegalArgumentException e) {
+                throw new ServerWebInputException(e.getMessage());
+            }
+            violations.addAll(validator.validateValue(EmployeeDto.class, field.getProperty(), value));
+            changes.put(field, value);
+        }
+        if (!violations.isEmpty()) {
+            throw new ConstraintViolationException(violations);
+        }
+        return changes;
+    }
+
+    /**
+     * Read the version member of a merge patch document
+     * 
+     * @param patch Merge patch document
+     * @return Version, or null if absent
+     */
+    private Long readVersion(JsonNode patch) {
+        JsonNode version = patch.get(VERSION_PROPERTY);
+        if (version == null || version.isNull()) {
+            return null;
+        }
+        if (!version.isIntegralNumber() || !version.canConvertToLong()) {
+            throw new ServerWebInputException("Invalid value type for version, expected Long");
+        }
+        return version.longValue();
+    }
+
     /**
      * Delete employee use case
      * Orchestrates the employee deletion process
      * 
      * @param id Employee ID
      */
+    @Transactional
     public Mono<Void> deleteEmployee(Long id) {
         return employeeService.deleteEmployeeById(id)
-                .doOnSuccess(result -> {
-                    // Publish domain event if needed
-                    // auditService.logEmployeeDeletion(id);
-                })
                 .onErrorMap(throwable -> {
                     // Don't wrap business exceptions, only wrap unexpected technical exceptions
                     if (!(throwable instanceof TransactionHandler) && 
@@ -123,13 +278,37 @@ public class EmployeeApplicationService {
                 });
     }
 
+    /**
+     * Bulk delete employees use case
+     * Deletes all requested employees in one statement and one transaction
+     * 
+     * @param request Employee IDs and/or employee numbers
+     * @return Per identifier results
+     */
+    @Transactional
+    public Mono<BulkDeleteResponse> bulkDeleteEmployees(BulkDeleteRequest request) {
+        List<Long> employeeIds = request.getEmployeeIds() != null ? request.getEmployeeIds() : List.of();
+        List<String> employeeNumbers = request.getEmployeeNumbers() != null ? request.getEmployeeNumbers() : List.of();
+        if (employeeIds.isEmpty() && employeeNumbers.isEmpty()) {
+            return Mono.error(new ServerWebInputException("At least one employee ID or employee number is required"));
+        }
+        
+        return employeeService.bulkDeleteEmployees(employeeIds, employeeNumbers)
+                .onErrorMap(throwable -> {
+                    // Don't wrap business exceptions, only wrap unexpected technical exceptions
+                    if (!(throwable instanceof TransactionHandler)) {
+                        return new TransactionHandler("Failed to bulk delete employees", throwable);
+                    }
+                    return throwable;
+                });
+    }
+
     /**
      * Search employees by name use case
      * 
      * @param name Search keyword
      * @return List of matching employees
      */
-    @Transactional(readOnly = true)
     public Flux<EmployeeDto> searchEmployeesByName(String name) {
         return employeeService.searchEmployeesByName(name);
     }
@@ -140,33 +319,184 @@ public class EmployeeApplicationService {
      * @param furigana Search keyword
      * @return List of matching employees
      */
-    @Transactional(readOnly = true)
     public Flux<EmployeeDto> searchEmployeesByFurigana(String furigana) {
         return employeeService.searchEmployeesByFurigana(furigana);
     }
 
+    /**
+     * Search selected fields of employees by name use case
+     * 
+     * @param name Search keyword
+     * @param fields Comma separated field names
+     * @return Selected fields of matching employees
+     */
+    public Flux<Map<String, Object>> searchEmployeeFieldsByName(String name, String fields) {
+        return Flux.defer(() -> employeeService.searchEmployeeFieldsByName(name, FieldSelection.parse(fields)));
+    }
+
+    /**
+     * Search selected fields of employees by furigana use case
+     * 
+     * @param furigana Search keyword
+     * @param fields Comma separated field names
+     * @return Selected fields of matching employees
+     */
+    public Flux<Map<String, Object>> searchEmployeeFieldsByFurigana(String furigana, String fields) {
+        return Flux.defer(() -> employeeService.searchEmployeeFieldsByFurigana(furigana, FieldSelection.parse(fields)));
+    }
+
+    /**
+     * Get roster entity tag use case
+     * Weak tag for list pages read after this call. No tag is given while the roster version misses
+     * writes of other instances (no change listener connected, e.g. employee.stream.enabled=false), since
+     * the tag would then match pages long changed; nor, with a read replica, while a change may not have
+     * reached the replica yet, since a page read from it could be older than its tag
+     * 
+     * @return Weak entity tag, or null if list pages cannot be tagged right now
+     */
+    public String getRosterETag() {
+        if (!employeeRosterVersion.isTracking() || !employeeRosterVersion.isVisibleToReads()) {
+            return null;
+        }
+        return employeeRosterVersion.eTag(employeeRosterVersion.current());
+    }
+
     /**
      * Get employees with pagination use case
      * 
      * @param pageRequest Pagination parameters
      * @return Paginated employee list
      */
-    @Transactional(readOnly = true)
     public Mono<PageResponse<EmployeeDto>> getEmployeesWithPagination(PageRequest pageRequest) {
         return employeeService.getEmployeesWithPagination(pageRequest);
     }
 
+    /**
+     * Get selected fields of employees with pagination use case
+     * 
+     * @param pageRequest Pagination parameters
+     * @param fields Comma separated field names
+     * @return Paginated selected employee fields
+     */
+    public Mono<PageResponse<Map<String, Object>>> getEmployeeFieldsWithPagination(PageRequest pageRequest, String fields) {
+        return Mono.defer(() -> employeeService.getEmployeeFieldsWithPagination(pageRequest, FieldSelection.parse(fields)));
+    }
+
+    /**
+     * Get archived employee by ID use case
+     * 
+     * @param id Employee ID
+     * @return Archived employee information
+     */
+    public Mono<ArchivedEmployeeDto> getArchivedEmployeeById(Long id) {
+        return readRouting.fromReplica(employeeArchiveService.getArchivedEmployeeById(id));
+    }
+
+    /**
+     * Get archived employees with pagination use case
+     * 
+     * @param pageRequest Pagination parameters
+     * @return Paginated archived employee list
+     */
+    public Mono<PageResponse<ArchivedEmployeeDto>> getArchivedEmployees(PageRequest pageRequest) {
+        return readRouting.fromReplica(employeeArchiveService.getArchivedEmployees(pageRequest));
+    }
+
+    /**
+     * Get employee changes use case
+     * Always read from the primary: a lagging replica could commit rows behind the cursor after the
+     * settle window has passed them, and the client would never see them
+     * 
+     * @param since Opaque cursor from a previous response, null or blank to start from the beginning
+     * @param limit Maximum number of changes
+     * @return Changes after the cursor and the cursor to resume from
+     */
+    public Mono<ChangeFeedResponse> getChanges(String since, int limit) {
+        return Mono.defer(() -> employeeChangeFeedService.getChanges(ChangeCursor.decode(since), limit));
+    }
+
+    /**
+     * Export employees as NDJSON use case
+     * 
+     * @return Active employees in employee ID order, streamed from a consistent snapshot
+     */
+    public Flux<EmployeeDto> exportEmployees() {
+        return employeeService.exportEmployees();
+    }
+
+    /**
+     * Export employees as CSV use case
+     * 
+     * @return Header line followed by one line per active employee, streamed from a consistent snapshot
+     */
+    public Flux<String> exportEmployeesAsCsv() {
+        return employeeService.exportEmployees()
+                .map(EmployeeCsv::row)
+                .startWith(EmployeeCsv.header());
+    }
+
+    /**
+     * Export employees as Arrow use case
+     * 
+     * @return Arrow IPC stream of the active employees, from a consistent snapshot
+     */
+    public Flux<byte[]> exportEmployeesAsArrow() {
+        return employeeService.exportEmployeesAsArrow();
+    }
+
+    /**
+     * Submit export job use case
+     * The export runs in the background with the same content as the streaming export of the format
+     * 
+     * @param format Export format: ndjson (default), csv or arrow
+     * @return Submitted job
+     */
+    public Mono<EmployeeExportJob> submitExportJob(String format) {
+        return Mono.fromSupplier(() -> {
+            EmployeeExportFormat exportFormat = EmployeeExportFormat.parse(format);
+            return employeeExportJobService.submit(exportFormat, exportContent(exportFormat));
+        });
+    }
+
+    /**
+     * Get export job use case
+     * 
+     * @param jobId Job ID
+     * @return Job status
+     */
+    public Mono<EmployeeExportJob> getExportJob(String jobId) {
+        return Mono.fromSupplier(() -> employeeExportJobService.getJob(jobId));
+    }
+
+    /**
+     * Get export job file use case
+     * 
+     * @param jobId Job ID
+     * @return Gzip compressed file of the completed job
+     */
+    public Mono<Path> getExportJobFile(String jobId) {
+        return Mono.fromSupplier(() -> employeeExportJobService.getFile(jobId));
+    }
+
+    /**
+     * Stream employee changes use case
+     * Runs without a transaction: the stream is long lived and must not hold a database connection
+     * 
+     * @param lastEventId Last-Event-ID of a reconnecting client, null for new subscribers
+     * @return Server-Sent Events of employee changes
+     */
+    public Flux<ServerSentEvent<Object>> streamChanges(String lastEventId) {
+        return employeeChangeStreamService.subscribe(lastEventId);
+    }
+
     /**
      * Delete employee by number use case
      * 
      * @param employeeNumber Employee number
      */
+    @Transactional
     public Mono<Void> deleteEmployeeByNumber(String employeeNumber) {
         return employeeService.deleteEmployeeByNumber(employeeNumber)
-                .doOnSuccess(result -> {
-                    // Publish domain event if needed
-                    // auditService.logEmployeeDeletionByNumber(employeeNumber);
-                })
                 .onErrorMap(throwable -> {
                     // Don't wrap business exceptions, only wrap unexpected technical exceptions
                     if (!(throwable instanceof TransactionHandler) && 
@@ -177,4 +507,20 @@ public class EmployeeApplicationService {
                     return throwable;
                 });
     }
+
+    private Flux<byte[]> exportContent(EmployeeExportFormat format) {
+        return switch (format) {
+            case NDJSON -> exportEmployees().map(this::toJsonLine);
+            case CSV -> exportEmployeesAsCsv().map(line -> line.getBytes(StandardCharsets.UTF_8));
+            case ARROW -> exportEmployeesAsArrow();
+        };
+    }
+
+    private byte[] toJsonLine(EmployeeDto employee) {
+        try {
+            return (objectMapper.writeValueAsString(employee) + "\n").getBytes(StandardCharsets.UTF_8);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException("Failed to write employee " + employee.getEmployeeId() + " as JSON", e);
+        }
+    }
 }
@@ -0,0 +1,135 @@
+package jp.asatex.revenue_calculator_backend_employee.audit;
+
+import java.util.Collection;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Bounded lock-free ring buffer
+ * Multi-producer multi-consumer array queue with a sequence number per slot (D. Vyukov's bounded queue).
+ * Producers and consumers claim positions with a single CAS and never block; offer fails instead of
+ * waiting when the buffer is full, so callers on request threads decide what to drop.
+ * Capacity is rounded up to a power of two, at least two
+ * @param <E> element type
+ */
+public final class BoundedRingBuffer<E> {
+
+    private static final int MAX_CAPACITY = 1 << 30;
+
+    private final int mask;
+
+    private final AtomicReferenceArray<E> elements;
+
+    /**
+     * Per slot: equal to the position when the slot is free for that position,
+     * position + 1 once the element for that position is published
+     */
+    private final AtomicLongArray sequences;
+
+    private final AtomicLong tail = new AtomicLong();
+
+    private final AtomicLong head = new AtomicLong();
+
+    public BoundedRingBuffer(int capacity) {
+        if (capacity < 1 || capacity > MAX_CAPACITY) {
+            throw new IllegalArgumentException("Capacity must be between 1 and " + MAX_CAPACITY + ": " + capacity);
+        }
+        int size = capacity <= 2 ? 2 : Integer.highestOneBit(capacity - 1) << 1;
+        this.mask = size - 1;
+        this.elements = new AtomicReferenceArray<>(size);
+        this.sequences = new AtomicLongArray(size);
+        for (int i = 0; i < size; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    /**
+     * Add an element without blocking
+     * @param element Element, not null
+     * @return true if added, false if the buffer is full
+     */
+    public boolean offer(E element) {
+        Objects.requireNonNull(element, "element");
+        long position = tail.get();
+        while (true) {
+            int index = (int) (position & mask);
+            long difference = sequences.get(index) - position;
+            if (difference == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    elements.set(index, element);
+                    // Publishes the element to consumers
+                    sequences.set(index, position + 1);
+                    return true;
+                }
+                position = tail.get();
+            } else if (difference < 0) {
+                // The slot still holds the element from one lap ago
+                return false;
+            } else {
+                position = tail.get();
+            }
+        }
+    }
+
+    /**
+     * Remove the oldest element without blocking
+     * @return the element, or null if the buffer is empty
+     */
+    public E poll() {
+        long position = head.get();
+        while (true) {
+            int index = (int) (position & mask);
+            long difference = sequences.get(index) - (position + 1);
+            if (difference == 0) {
+                if (head.compareAndSet(position, position + 1)) {
+                    E element = elements.get(index);
+                    elements.set(index, null);
+                    // Frees the slot for the producer one lap ahead
+                    sequences.set(index, position + mask + 1);
+                    return element;
+                }
+                position = head.get();
+            } else if (difference < 0) {
+                return null;
+            } else {
+                position = head.get();
+            }
+        }
+    }
+
+    /**
+     * Move up to maxElements of the oldest elements to a collection
+     * @param target Collection to add to
+     * @param maxElements Maximum number of elements to move
+     * @return number of elements moved
+     */
+    public int drainTo(Collection<? super E> target, int maxElements) {
+        int drained = 0;
+        E element;
+        while (drained < maxElements && (element = poll()) != null) {
+            target.add(element);
+            drained++;
+        }
+        return drained;
+    }
+
+    /**
+     * Approximate number of elements, exact when no offer or poll is in progress
+     * @return number of elements
+     */
+    public int size() {
+        while (true) {
+            long currentHead = head.get();
+            long currentTail = tail.get();
+            if (head.get() == currentHead) {
+                return (int) Math.max(0, Math.min(currentTail - currentHead, capacity()));
+            }
+        }
+    }
+
+    public int capacity() {
+        return mask + 1;
+    }
+}
@@ -0,0 +1,90 @@
+package jp.asatex.revenue_calculator_backend_employee.common;
+
+import org.springframework.web.server.ServerWebInputException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.Objects;
+
+/**
+ * Change feed cursor
+ * Position in the (updated_at, employee_id) order of the change feed, exchanged with clients
+ * as an opaque URL safe Base64 token
+ */
+public final class ChangeCursor {
+
+    private static final char SEPARATOR = '_';
+
+    private final LocalDateTime updatedAt;
+
+    private final Long employeeId;
+
+    public ChangeCursor(LocalDateTime updatedAt, Long employeeId) {
+        this.updatedAt = Objects.requireNonNull(updatedAt, "updatedAt");
+        this.employeeId = Objects.requireNonNull(employeeId, "employeeId");
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public Long getEmployeeId() {
+        return employeeId;
+    }
+
+    /**
+     * Encode the cursor as an opaque token
+     * @return URL safe Base64 token
+     */
+    public String encode() {
+        String raw = updatedAt + String.valueOf(SEPARATOR) + employeeId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decode a token from a client
+     * @param token Token, may be null or blank to start from the beginning
+     * @return Cursor, or null to start from the beginning
+     * @throws ServerWebInputException if the token was not produced by {@link #encode()}
+     */
+    public static ChangeCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token.trim()), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf(SEPARATOR);
+            if (separator <= 0) {
+                throw new ServerWebInputException("Invalid change cursor: " + token);
+            }
+            return new ChangeCursor(
+                    LocalDateTime.parse(raw.substring(0, separator)),
+                    Long.parseLong(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new ServerWebInputException("Invalid change cursor: " + token);
+        }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        ChangeCursor that = (ChangeCursor) o;
+        return updatedAt.equals(that.updatedAt) && employeeId.equals(that.employeeId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(updatedAt, employeeId);
+    }
+
+    @Override
+    public String toString() {
+        return "ChangeCursor{" +
+                "updatedAt=" + updatedAt +
+                ", employeeId=" + employeeId +
+                '}';
+    }
+}
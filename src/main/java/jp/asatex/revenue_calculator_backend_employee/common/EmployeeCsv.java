@@ -0,0 +1,78 @@
+package jp.asatex.revenue_calculator_backend_employee.common;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.StreamWriteFeature;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import jp.asatex.revenue_calculator_backend_employee.dto.EmployeeDto;
+import jp.asatex.revenue_calculator_backend_employee.dto.EmployeeField;
+
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Employee CSV format
+ * One header line of JSON property names (employee ID, the EmployeeField properties, version), then
+ * one line per employee. Values are written as in JSON: ISO dates, plain decimals, true/false, and an
+ * empty field for null. Fields containing separators, quotes or line breaks are quoted
+ */
+public final class EmployeeCsv {
+
+    private static final List<String> COLUMNS = columns();
+
+    private static final CsvMapper MAPPER = CsvMapper.builder()
+            .addModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .enable(StreamWriteFeature.WRITE_BIGDECIMAL_AS_PLAIN)
+            .enable(JsonGenerator.Feature.IGNORE_UNKNOWN)
+            .build();
+
+    private static final ObjectWriter ROW_WRITER = MAPPER.writer(schema());
+
+    private static final String HEADER = String.join(",", COLUMNS) + "\n";
+
+    private EmployeeCsv() {
+    }
+
+    /**
+     * Header line, terminated by a line feed
+     * @return Header line
+     */
+    public static String header() {
+        return HEADER;
+    }
+
+    /**
+     * Line of one employee, terminated by a line feed
+     * @param employee Employee
+     * @return CSV line
+     */
+    public static String row(EmployeeDto employee) {
+        try {
+            return ROW_WRITER.writeValueAsString(employee);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException("Failed to write employee " + employee.getEmployeeId() + " as CSV", e);
+        }
+    }
+
+    private static List<String> columns() {
+        List<String> columns = new ArrayList<>();
+        columns.add("employeeId");
+        for (EmployeeField field : EmployeeField.values()) {
+            columns.add(field.getProperty());
+        }
+        columns.add("version");
+        return List.copyOf(columns);
+    }
+
+    private static CsvSchema schema() {
+        CsvSchema.Builder schema = CsvSchema.builder().setLineSeparator("\n");
+        COLUMNS.forEach(schema::addColumn);
+        return schema.build();
+    }
+}
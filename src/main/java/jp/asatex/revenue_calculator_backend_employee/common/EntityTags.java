@@ -0,0 +1,81 @@
+package jp.asatex.revenue_calculator_backend_employee.common;
+
+import jp.asatex.revenue_calculator_backend_employee.dto.EmployeeDto;
+import org.springframework.web.server.ServerWebInputException;
+
+/**
+ * Entity tag utility
+ * Employee entity tags are strong tags of the form "{employeeId}-{version}"; roster wide
+ * representations such as list pages carry weak tags (see EmployeeRosterVersion)
+ */
+public final class EntityTags {
+
+    private static final String ANY = "*";
+
+    private static final String WEAK_PREFIX = "W/";
+
+    private EntityTags() {
+    }
+
+    /**
+     * Build the entity tag of an employee
+     * @param employee Employee
+     * @return Quoted entity tag, or null if the employee has no ID or version yet
+     */
+    public static String of(EmployeeDto employee) {
+        if (employee == null || employee.getEmployeeId() == null || employee.getVersion() == null) {
+            return null;
+        }
+        return "\"" + employee.getEmployeeId() + "-" + employee.getVersion() + "\"";
+    }
+
+    /**
+     * Whether an If-None-Match header matches an entity tag, using weak comparison as GET requires
+     * @param ifNoneMatch If-None-Match header value, a list of entity tags or "*"
+     * @param eTag Current entity tag, may be weak
+     * @return true if the client's copy is current, false if the header or the tag is absent
+     */
+    public static boolean matchesIfNoneMatch(String ifNoneMatch, String eTag) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank() || eTag == null) {
+            return false;
+        }
+        String opaqueTag = opaque(eTag);
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (ANY.equals(tag) || opaque(tag).equals(opaqueTag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Extract the expected version from an If-Match header
+     * @param ifMatch If-Match header value
+     * @param employeeId Employee ID addressed by the request
+     * @return Expected version, or null if the header is absent or "*"
+     * @throws ServerWebInputException if the header is not a strong tag of this employee
+     */
+    public static Long versionFromIfMatch(String ifMatch, Long employeeId) {
+        if (ifMatch == null || ifMatch.isBlank()) {
+            return null;
+        }
+        String tag = ifMatch.trim();
+        if (ANY.equals(tag)) {
+            return null;
+        }
+        String prefix = "\"" + employeeId + "-";
+        if (!tag.startsWith(prefix) || !tag.endsWith("\"") || tag.length() <= prefix.length() + 1) {
+            throw new ServerWebInputException("If-Match must be a single strong entity tag of employee " + employeeId);
+        }
+        try {
+            return Long.parseLong(tag.substring(prefix.length(), tag.length() - 1));
+        } catch (NumberFormatException e) {
+            throw new ServerWebInputException("If-Match must be a single strong entity tag of employee " + employeeId);
+        }
+    }
+
+    private static String opaque(String tag) {
+        return tag.startsWith(WEAK_PREFIX) ? tag.substring(WEAK_PREFIX.length()) : tag;
+    }
+}
@@ -0,0 +1,134 @@
+package jp.asatex.revenue_calculator_backend_employee.common;
+
+import jp.asatex.revenue_calculator_backend_employee.dto.EmployeeField;
+import org.springframework.web.server.ServerWebInputException;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Employee field selection
+ * Subset of employee properties requested with the fields parameter, e.g. fields=employeeNumber,name.
+ * Only properties on the allowlist (employee ID, version and the EmployeeField properties) can be
+ * selected, so the column names used in generated SQL never come from client input.
+ * The employee ID is always selected first, so every projected row can be identified
+ */
+public final class FieldSelection {
+
+    private static final String EMPLOYEE_ID = "employeeId";
+
+    private static final Map<String, Selectable> ALLOWLIST = allowlist();
+
+    private final List<String> properties;
+
+    private final List<String> columns;
+
+    private final List<Class<?>> types;
+
+    private FieldSelection(List<Selectable> selected) {
+        List<String> selectedProperties = new ArrayList<>(selected.size());
+        List<String> selectedColumns = new ArrayList<>(selected.size());
+        List<Class<?>> selectedTypes = new ArrayList<>(selected.size());
+        for (Selectable field : selected) {
+            selectedProperties.add(field.property());
+            selectedColumns.add(field.column());
+            selectedTypes.add(field.type());
+        }
+        this.properties = Collections.unmodifiableList(selectedProperties);
+        this.columns = Collections.unmodifiableList(selectedColumns);
+        this.types = Collections.unmodifiableList(selectedTypes);
+    }
+
+    /**
+     * JSON property names, in select order
+     * @return Property names
+     */
+    public List<String> getProperties() {
+        return properties;
+    }
+
+    /**
+     * employeeInfo column names, in the same order as the properties
+     * @return Column names
+     */
+    public List<String> getColumns() {
+        return columns;
+    }
+
+    /**
+     * Java types of the columns, in the same order as the properties
+     * @return Column types
+     */
+    public List<Class<?>> getTypes() {
+        return types;
+    }
+
+    /**
+     * Comma separated select list of the selected columns
+     * @return Select list
+     */
+    public String toSelectList() {
+        return String.join(", ", columns);
+    }
+
+    /**
+     * Parse the fields parameter
+     * @param fields Comma separated JSON property names
+     * @return Field selection
+     * @throws ServerWebInputException if no field is named or a field is not on the allowlist
+     */
+    public static FieldSelection parse(String fields) {
+        if (fields == null || fields.isBlank()) {
+            throw new ServerWebInputException("fields must name at least one field, allowed: " + String.join(",", ALLOWLIST.keySet()));
+        }
+        Map<String, Selectable> selected = new LinkedHashMap<>();
+        selected.put(EMPLOYEE_ID, ALLOWLIST.get(EMPLOYEE_ID));
+        for (String property : fields.split(",")) {
+            String trimmed = property.trim();
+            if (trimmed.isEmpty()) {
+                continue;
+            }
+            Selectable field = ALLOWLIST.get(trimmed);
+            if (field == null) {
+                throw new ServerWebInputException("Unknown field: " + trimmed + ", allowed: " + String.join(",", ALLOWLIST.keySet()));
+            }
+            selected.putIfAbsent(trimmed, field);
+        }
+        return new FieldSelection(List.copyOf(selected.values()));
+    }
+
+    private static Map<String, Selectable> allowlist() {
+        Map<String, Selectable> allowlist = new LinkedHashMap<>();
+        allowlist.put(EMPLOYEE_ID, new Selectable(EMPLOYEE_ID, "employee_id", Long.class));
+        for (EmployeeField field : EmployeeField.values()) {
+            allowlist.put(field.getProperty(), new Selectable(field.getProperty(), field.getColumn(), field.getType()));
+        }
+        allowlist.put("version", new Selectable("version", "version", Long.class));
+        return Collections.unmodifiableMap(allowlist);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        FieldSelection that = (FieldSelection) o;
+        return properties.equals(that.properties);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(properties);
+    }
+
+    @Override
+    public String toString() {
+        return String.join(",", properties);
+    }
+
+    private record Selectable(String property, String column, Class<?> type) {
+    }
+}
@@ -1,6 +1,7 @@
 package jp.asatex.revenue_calculator_backend_employee.config;
 
 import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.cache.caffeine.CaffeineCacheManager;
@@ -22,7 +23,7 @@ public class CacheConfig {
      * This is Spring Boot's default cache implementation
      */
     @Bean
-    public CacheManager cacheManager() {
+    public CacheManager cacheManager(@Value("${employee.page-cache.max-size:500}") long pageCacheMaxSize) {
         CaffeineCacheManager cacheManager = new CaffeineCacheManager();
 
         // Set cache names
@@ -39,6 +40,14 @@ public class CacheConfig {
                 .recordStats()                        // Enable statistics recording
         );
 
+        // List pages are keyed by the roster version instead of being evicted on writes, and are
+        // only cached while the version follows writes of every instance (EmployeeRosterVersion.isTracking);
+        // pages of older versions are dropped by size only
+        cacheManager.registerCustomCache("employeePages", Caffeine.newBuilder()
+                .maximumSize(pageCacheMaxSize)
+                .recordStats()
+                .buildAsync());
+
         return cacheManager;
     }
 }
@@ -77,6 +77,71 @@ public class MetricsConfig {
                 .register(meterRegistry);
     }
 
+    /**
+     * Employee archive counter - tracks soft deleted employees moved to the archive table
+     */
+    @Bean
+    public Counter employeeArchiveCounter(MeterRegistry meterRegistry) {
+        return Counter.builder("employee.archive.total")
+                .description("Total number of soft deleted employees moved to the archive table")
+                .tag("service", "revenue-calculator-employee")
+                .tag("component", "employee-archive")
+                .tag("operation", "archive")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Employee stream drop counter - tracks change stream subscribers disconnected for falling behind
+     */
+    @Bean
+    public Counter employeeStreamDropCounter(MeterRegistry meterRegistry) {
+        return Counter.builder("employee.stream.dropped.total")
+                .description("Total number of change stream subscribers disconnected for falling behind")
+                .tag("service", "revenue-calculator-employee")
+                .tag("component", "employee-stream")
+                .tag("operation", "drop")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Employee outbox relay counter - tracks domain events delivered to the event sink
+     */
+    @Bean
+    public Counter employeeOutboxRelayCounter(MeterRegistry meterRegistry) {
+        return Counter.builder("employee.outbox.relayed.total")
+                .description("Total number of employee domain events delivered to the event sink")
+                .tag("service", "revenue-calculator-employee")
+                .tag("component", "employee-outbox")
+                .tag("operation", "relay")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Employee audit write counter - tracks audit entries written to employee_audit
+     */
+    @Bean
+    public Counter employeeAuditWriteCounter(MeterRegistry meterRegistry) {
+        return Counter.builder("employee.audit.written.total")
+                .description("Total number of employee audit entries written")
+                .tag("service", "revenue-calculator-employee")
+                .tag("component", "employee-audit")
+                .tag("operation", "write")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Employee audit drop counter - tracks audit entries lost because the queue was full or the write failed
+     */
+    @Bean
+    public Counter employeeAuditDropCounter(MeterRegistry meterRegistry) {
+        return Counter.builder("employee.audit.dropped.total")
+                .description("Total number of employee audit entries dropped because the queue was full or the write failed")
+                .tag("service", "revenue-calculator-employee")
+                .tag("component", "employee-audit")
+                .tag("operation", "drop")
+                .register(meterRegistry);
+    }
+
     /**
      * Employee operation timer - tracks duration of employee operations
      */
@@ -99,6 +99,21 @@ public class RateLimitConfig {
         return registry.rateLimiter("employee-delete", config);
     }
 
+    /**
+     * Employee bulk deletion API rate limiter
+     * 5 requests per minute, each request may delete many employees
+     */
+    @Bean("employee-bulk-delete")
+    public RateLimiter employeeBulkDeleteRateLimiter(RateLimiterRegistry registry) {
+        RateLimiterConfig config = RateLimiterConfig.custom()
+                .limitForPeriod(5)
+                .limitRefreshPeriod(Duration.ofMinutes(1))
+                .timeoutDuration(Duration.ofSeconds(2))
+                .build();
+
+        return registry.rateLimiter("employee-bulk-delete", config);
+    }
+
     /**
      * Pagination query API rate limiter
      * 200 requests per minute
@@ -114,6 +129,21 @@ public class RateLimitConfig {
         return registry.rateLimiter("employee-pagination", config);
     }
 
+    /**
+     * Export job submission API rate limiter
+     * 10 requests per minute, each request runs a full export in the background
+     */
+    @Bean("employee-export-job")
+    public RateLimiter employeeExportJobRateLimiter(RateLimiterRegistry registry) {
+        RateLimiterConfig config = RateLimiterConfig.custom()
+                .limitForPeriod(10)
+                .limitRefreshPeriod(Duration.ofMinutes(1))
+                .timeoutDuration(Duration.ofSeconds(1))
+                .build();
+
+        return registry.rateLimiter("employee-export-job", config);
+    }
+
     /**
      * Monitoring API rate limiter
      * 10 requests per minute
@@ -0,0 +1,79 @@
+package jp.asatex.revenue_calculator_backend_employee.config;
+
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import jp.asatex.revenue_calculator_backend_employee.routing.ReplicaRoutingConnectionFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcConnectionDetails;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcProperties;
+import org.springframework.boot.context.properties.PropertyMapper;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+/**
+ * Replica routing configuration class
+ * With employee.replica.enabled=true the single auto-configured pool is replaced by a primary pool
+ * (spring.r2dbc.*) and a replica pool (employee.replica.*), behind a routing connection factory that
+ * every repository, DatabaseClient and the transaction manager use. See ReadRouting for which reads
+ * go to the replica
+ */
+@Configuration
+@ConditionalOnProperty(name = "employee.replica.enabled", havingValue = "true")
+public class ReplicaRoutingConfig {
+
+    /**
+     * Primary pool, configured like the auto-configured pool it replaces
+     */
+    @Bean(destroyMethod = "dispose")
+    public ConnectionPool primaryConnectionFactory(R2dbcConnectionDetails connectionDetails, R2dbcProperties properties) {
+        R2dbcProperties.Pool pool = properties.getPool();
+        ConnectionPoolConfiguration.Builder builder = ConnectionPoolConfiguration
+                .builder(ConnectionFactories.get(connectionDetails.getConnectionFactoryOptions()))
+                .name("primary")
+                .initialSize(pool.getInitialSize())
+                .maxSize(pool.getMaxSize());
+        PropertyMapper map = PropertyMapper.get().alwaysApplyingWhenNonNull();
+        map.from(pool.getMaxIdleTime()).to(builder::maxIdleTime);
+        map.from(pool.getMaxLifeTime()).to(builder::maxLifeTime);
+        map.from(pool.getMaxAcquireTime()).to(builder::maxAcquireTime);
+        map.from(pool.getMaxCreateConnectionTime()).to(builder::maxCreateConnectionTime);
+        map.from(pool.getValidationQuery()).to(builder::validationQuery);
+        return new ConnectionPool(builder.build());
+    }
+
+    /**
+     * Replica pool with its own size, so replica reads never queue behind primary work
+     */
+    @Bean(destroyMethod = "dispose")
+    public ConnectionPool replicaConnectionFactory(@Value("${employee.replica.url}") String url,
+                                                   @Value("${employee.replica.username}") String username,
+                                                   @Value("${employee.replica.password}") String password,
+                                                   @Value("${employee.replica.pool.initial-size:2}") int initialSize,
+                                                   @Value("${employee.replica.pool.max-size:10}") int maxSize) {
+        ConnectionFactoryOptions options = ConnectionFactoryOptions.parse(url).mutate()
+                .option(ConnectionFactoryOptions.USER, username)
+                .option(ConnectionFactoryOptions.PASSWORD, password)
+                .build();
+        return new ConnectionPool(ConnectionPoolConfiguration.builder(ConnectionFactories.get(options))
+                .name("replica")
+                .initialSize(initialSize)
+                .maxSize(maxSize)
+                .build());
+    }
+
+    /**
+     * Routing connection factory used by everything that asks for a ConnectionFactory
+     */
+    @Bean
+    @Primary
+    public ConnectionFactory connectionFactory(@Qualifier("primaryConnectionFactory") ConnectionFactory primaryConnectionFactory,
+                                               @Qualifier("replicaConnectionFactory") ConnectionFactory replicaConnectionFactory) {
+        return new ReplicaRoutingConnectionFactory(primaryConnectionFactory, replicaConnectionFactory);
+    }
+}
@@ -0,0 +1,13 @@
+package jp.asatex.revenue_calculator_backend_employee.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Scheduling configuration class
+ * Enables @Scheduled background jobs; each job can be switched off with its own property
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -1,5 +1,7 @@
 package jp.asatex.revenue_calculator_backend_employee.config;
 
+import jakarta.validation.Validator;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.validation.beanvalidation.LocalValidatorFactoryBean;
@@ -18,10 +20,14 @@ public class ValidationConfig implements WebFluxConfigurer {
         return new LocalValidatorFactoryBean();
     }
 
+    /**
+     * Method validation uses the shared validator bean instead of building its own factory;
+     * the provider defers the lookup so this static post processor does not initialize it early
+     */
     @Bean
-    public static MethodValidationPostProcessor methodValidationPostProcessor() {
+    public static MethodValidationPostProcessor methodValidationPostProcessor(ObjectProvider<Validator> validator) {
         MethodValidationPostProcessor processor = new MethodValidationPostProcessor();
-        processor.setValidator(new LocalValidatorFactoryBean());
+        processor.setValidatorProvider(validator);
         return processor;
     }
 }
@@ -1,13 +1,23 @@
 package jp.asatex.revenue_calculator_backend_employee.config;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.boot.web.codec.CodecCustomizer;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.codec.cbor.Jackson2CborDecoder;
+import org.springframework.http.codec.cbor.Jackson2CborEncoder;
+import org.springframework.http.codec.json.Jackson2SmileDecoder;
+import org.springframework.http.codec.json.Jackson2SmileEncoder;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
 import org.springframework.lang.NonNull;
 import org.springframework.web.reactive.config.ResourceHandlerRegistry;
 import org.springframework.web.reactive.config.WebFluxConfigurer;
 
 /**
  * WebFlux configuration class
- * Configures static resource handling and other web-related settings
+ * Configures static resource handling, the binary codecs and other web-related settings
  */
 @Configuration
 public class WebFluxConfig implements WebFluxConfigurer {
@@ -30,4 +40,25 @@ public class WebFluxConfig implements WebFluxConfigurer {
         registry.addResourceHandler("/v3/api-docs/**")
                 .addResourceLocations("classpath:/META-INF/resources/");
     }
+    
+    /**
+     * CBOR and Smile codecs for internal consumers
+     * A request with Accept: application/cbor or application/x-jackson-smile gets the same document as
+     * JSON in a binary encoding, and request bodies in these encodings are read the same way. JSON stays
+     * the default when the Accept header names no binary type. The mappers are built with the
+     * application's Jackson settings, so dates and decimals decode to the same values as from JSON
+     * @param objectMapperBuilder Jackson builder configured by Spring Boot
+     * @return CodecCustomizer applied to the server and WebClient codecs
+     */
+    @Bean
+    public CodecCustomizer binaryCodecCustomizer(Jackson2ObjectMapperBuilder objectMapperBuilder) {
+        ObjectMapper cborMapper = objectMapperBuilder.factory(new CBORFactory()).build();
+        ObjectMapper smileMapper = objectMapperBuilder.factory(new SmileFactory()).build();
+        return configurer -> {
+            configurer.defaultCodecs().jackson2SmileEncoder(new Jackson2SmileEncoder(smileMapper));
+            configurer.defaultCodecs().jackson2SmileDecoder(new Jackson2SmileDecoder(smileMapper));
+            configurer.customCodecs().registerWithDefaultConfig(new Jackson2CborEncoder(cborMapper));
+            configurer.customCodecs().registerWithDefaultConfig(new Jackson2CborDecoder(cborMapper));
+        };
+    }
 }
@@ -1,18 +1,38 @@
 package jp.asatex.revenue_calculator_backend_employee.controller;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import jp.asatex.revenue_calculator_backend_employee.dto.ArchivedEmployeeDto;
+import jp.asatex.revenue_calculator_backend_employee.dto.BulkDeleteRequest;
+import jp.asatex.revenue_calculator_backend_employee.dto.BulkDeleteResponse;
+import jp.asatex.revenue_calculator_backend_employee.dto.ChangeFeedResponse;
+import jp.asatex.revenue_calculator_backend_employee.dto.EmployeeChangeEvent;
 import jp.asatex.revenue_calculator_backend_employee.dto.EmployeeDto;
+import jp.asatex.revenue_calculator_backend_employee.dto.EmployeeExportJob;
 import jp.asatex.revenue_calculator_backend_employee.common.PageRequest;
 import jp.asatex.revenue_calculator_backend_employee.common.PageResponse;
+import jp.asatex.revenue_calculator_backend_employee.common.EntityTags;
 import jp.asatex.revenue_calculator_backend_employee.application.EmployeeApplicationService;
+import jp.asatex.revenue_calculator_backend_employee.export.EmployeeArrowWriter;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.web.bind.annotation.*;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+
+import java.net.URI;
+import java.util.Map;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
 import jakarta.validation.constraints.Pattern;
@@ -35,37 +55,86 @@ import io.github.resilience4j.ratelimiter.annotation.RateLimiter;
 @Tag(name = "Employee Management", description = "Employee Management API with comprehensive allowance, fee, and rate tracking")
 public class EmployeeController {
     
+    private static final String EXPORT_CSV_MEDIA_TYPE = "text/csv";
+    
+    private static final String EXPORT_JOB_FILE_MEDIA_TYPE = "application/gzip";
+    
     @Autowired
     private EmployeeApplicationService employeeApplicationService;
     
     /**
      * Get employees with pagination
      * GET /api/v1/employee?page=0&size=10&sortBy=name&sortDirection=ASC
+     * Pages carry a weak ETag of the roster version; a matching If-None-Match is answered with 304 without a query
      * @param page Page number (0-based)
      * @param size Page size
      * @param sortBy Sort field
      * @param sortDirection Sort direction (ASC/DESC)
-     * @return Mono<PageResponse<EmployeeDto>>
+     * @param ifNoneMatch If-None-Match header
+     * @return Mono<ResponseEntity<PageResponse<EmployeeDto>>>
      */
     @Operation(summary = "Get employees with pagination", description = "Retrieve employee information with pagination support")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Success", 
                     content = @Content(schema = @Schema(implementation = PageResponse.class))),
+            @ApiResponse(responseCode = "304", description = "Not modified since the page with the given ETag"),
             @ApiResponse(responseCode = "400", description = "Invalid parameters"),
             @ApiResponse(responseCode = "500", description = "Server error")
     })
     @GetMapping
     @RateLimiter(name = "employee-pagination")
-    public Mono<PageResponse<EmployeeDto>> getEmployeesWithPagination(
+    public Mono<ResponseEntity<PageResponse<EmployeeDto>>> getEmployeesWithPagination(
             @Parameter(description = "Pagination parameters") 
-            @Valid PageRequest pageRequest) {
-        
-        return employeeApplicationService.getEmployeesWithPagination(pageRequest);
+            @Valid PageRequest pageRequest,
+            @Parameter(description = "ETag of a cached page")
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        String eTag = employeeApplicationService.getRosterETag();
+        if (EntityTags.matchesIfNoneMatch(ifNoneMatch, eTag)) {
+            return Mono.just(notModified(eTag));
+        }
+        return employeeApplicationService.getEmployeesWithPagination(pageRequest)
+                .map(page -> withRosterETag(ResponseEntity.ok(), eTag).body(page));
+    }
+    
+    /**
+     * Get selected fields of employees with pagination
+     * GET /api/v1/employee?fields=employeeNumber,name&page=0&size=10
+     * Pages carry a weak ETag of the roster version like the full pages
+     * @param pageRequest Pagination parameters
+     * @param fields Comma separated fields to return
+     * @param ifNoneMatch If-None-Match header
+     * @return Mono<ResponseEntity<PageResponse<Map<String, Object>>>>
+     */
+    @Operation(summary = "Get selected employee fields with pagination", description = "Retrieve only the requested fields of employees with pagination support")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Success", 
+                    content = @Content(schema = @Schema(implementation = PageResponse.class))),
+            @ApiResponse(responseCode = "304", description = "Not modified since the page with the given ETag"),
+            @ApiResponse(responseCode = "400", description = "Invalid parameters or unknown field"),
+            @ApiResponse(responseCode = "500", description = "Server error")
+    })
+    @GetMapping(params = "fields")
+    @RateLimiter(name = "employee-pagination")
+    public Mono<ResponseEntity<PageResponse<Map<String, Object>>>> getEmployeeFieldsWithPagination(
+            @Parameter(description = "Pagination parameters") 
+            @Valid PageRequest pageRequest,
+            @Parameter(description = "Comma separated fields to return, the employee ID is always included", required = true, example = "employeeNumber,name")
+            @RequestParam String fields,
+            @Parameter(description = "ETag of a cached page")
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        String eTag = employeeApplicationService.getRosterETag();
+        if (EntityTags.matchesIfNoneMatch(ifNoneMatch, eTag)) {
+            return Mono.just(notModified(eTag));
+        }
+        return employeeApplicationService.getEmployeeFieldsWithPagination(pageRequest, fields)
+                .map(page -> withRosterETag(ResponseEntity.ok(), eTag).body(page));
     }
     
     /**
      * Get employee by ID
      * GET /api/v1/employee/{id}
+     * Carries a strong ETag of the employee version; a matching If-None-Match is answered with 304 without
+     * writing the body, and without a query while the employee is cached
      * @param id Employee ID
      * @return Mono<ResponseEntity<EmployeeDto>>
      */
@@ -73,6 +142,7 @@ public class EmployeeController {
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Success", 
                     content = @Content(schema = @Schema(implementation = EmployeeDto.class))),
+            @ApiResponse(responseCode = "304", description = "Not modified since the given ETag"),
             @ApiResponse(responseCode = "404", description = "Employee not found"),
             @ApiResponse(responseCode = "400", description = "Invalid ID"),
             @ApiResponse(responseCode = "500", description = "Server error")
@@ -82,13 +152,38 @@ public class EmployeeController {
             @Parameter(description = "Employee ID", required = true, example = "1")
             @PathVariable @NotNull @Positive(message = "Employee ID must be positive") Long id) {
         return employeeApplicationService.getEmployeeById(id)
-                .map(employee -> ResponseEntity.ok(employee))
+                .map(employee -> withETag(ResponseEntity.ok(), employee))
                 .defaultIfEmpty(ResponseEntity.notFound().build());
     }
     
+    /**
+     * Get selected fields of an employee by ID
+     * GET /api/v1/employee/{id}?fields=employeeNumber,name
+     * @param id Employee ID
+     * @param fields Comma separated fields to return
+     * @return Mono<ResponseEntity<Map<String, Object>>>
+     */
+    @Operation(summary = "Get selected employee fields by ID", description = "Retrieve only the requested fields of the employee with the specified ID")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Success"),
+            @ApiResponse(responseCode = "404", description = "Employee not found"),
+            @ApiResponse(responseCode = "400", description = "Invalid ID or unknown field"),
+            @ApiResponse(responseCode = "500", description = "Server error")
+    })
+    @GetMapping(value = "/{id}", params = "fields")
+    public Mono<ResponseEntity<Map<String, Object>>> getEmployeeFieldsById(
+            @Parameter(description = "Employee ID", required = true, example = "1")
+            @PathVariable @NotNull @Positive(message = "Employee ID must be positive") Long id,
+            @Parameter(description = "Comma separated fields to return, the employee ID is always included", required = true, example = "employeeNumber,name")
+            @RequestParam String fields) {
+        return employeeApplicationService.getEmployeeFieldsById(id, fields)
+                .map(ResponseEntity::ok);
+    }
+    
     /**
      * Get employee by employee number
      * GET /api/v1/employee/number/{employeeNumber}
+     * Conditional like GET /api/v1/employee/{id}
      * @param employeeNumber Employee number
      * @return Mono<ResponseEntity<EmployeeDto>>
      */
@@ -96,6 +191,7 @@ public class EmployeeController {
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Success", 
                     content = @Content(schema = @Schema(implementation = EmployeeDto.class))),
+            @ApiResponse(responseCode = "304", description = "Not modified since the given ETag"),
             @ApiResponse(responseCode = "404", description = "Employee not found"),
             @ApiResponse(responseCode = "400", description = "Invalid employee number"),
             @ApiResponse(responseCode = "500", description = "Server error")
@@ -105,10 +201,248 @@ public class EmployeeController {
             @Parameter(description = "Employee number", required = true, example = "EMP001")
             @PathVariable @NotBlank(message = "Employee numbercannot be empty") @Size(min = 1, max = 20, message = "Employee numberlength must be between 1-20 characters") @Pattern(regexp = "^[A-Za-z0-9_-]+$", message = "Employee numbercan only contain letters, numbers, underscores, and hyphens") String employeeNumber) {
         return employeeApplicationService.getEmployeeByNumber(employeeNumber)
-                .map(employee -> ResponseEntity.ok(employee))
+                .map(employee -> withETag(ResponseEntity.ok(), employee))
                 .defaultIfEmpty(ResponseEntity.notFound().build());
     }
     
+    /**
+     * Get selected fields of an employee by employee number
+     * GET /api/v1/employee/number/{employeeNumber}?fields=employeeNumber,name
+     * @param employeeNumber Employee number
+     * @param fields Comma separated fields to return
+     * @return Mono<ResponseEntity<Map<String, Object>>>
+     */
+    @Operation(summary = "Get selected employee fields by employee number", description = "Retrieve only the requested fields of the employee with the specified employee number")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Success"),
+            @ApiResponse(responseCode = "404", description = "Employee not found"),
+            @ApiResponse(responseCode = "400", description = "Invalid employee number or unknown field"),
+            @ApiResponse(responseCode = "500", description = "Server error")
+    })
+    @GetMapping(value = "/number/{employeeNumber}", params = "fields")
+    public Mono<ResponseEntity<Map<String, Object>>> getEmployeeFieldsByNumber(
+            @Parameter(description = "Employee number", required = true, example = "EMP001")
+            @PathVariable @NotBlank(message = "Employee numbercannot be empty") @Size(min = 1, max = 20, message = "Employee numberlength must be between 1-20 characters") @Pattern(regexp = "^[A-Za-z0-9_-]+$", message = "Employee numbercan only contain letters, numbers, underscores, and hyphens") String employeeNumber,
+            @Parameter(description = "Comma separated fields to return, the employee ID is always included", required = true, example = "employeeNumber,name")
+            @RequestParam String fields) {
+        return employeeApplicationService.getEmployeeFieldsByNumber(employeeNumber, fields)
+                .map(ResponseEntity::ok);
+    }
+    
+    /**
+     * Get archived employees with pagination
+     * GET /api/v1/employee/archive?page=0&size=10
+     * @param pageRequest Pagination parameters, archived employees are always sorted by archive time descending
+     * @return Mono<PageResponse<ArchivedEmployeeDto>>
+     */
+    @Operation(summary = "Get archived employees", description = "Retrieve deleted employees that were moved to the archive, most recently archived first")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Success", 
+                    content = @Content(schema = @Schema(implementation = PageResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid parameters"),
+            @ApiResponse(responseCode = "500", description = "Server error")
+    })
+    @GetMapping("/archive")
+    @RateLimiter(name = "employee-pagination")
+    public Mono<PageResponse<ArchivedEmployeeDto>> getArchivedEmployees(
+            @Parameter(description = "Pagination parameters") 
+            @Valid PageRequest pageRequest) {
+        return employeeApplicationService.getArchivedEmployees(pageRequest);
+    }
+    
+    /**
+     * Get archived employee by ID
+     * GET /api/v1/employee/archive/{id}
+     * @param id Employee ID
+     * @return Mono<ResponseEntity<ArchivedEmployeeDto>>
+     */
+    @Operation(summary = "Get archived employee by ID", description = "Retrieve a deleted employee that was moved to the archive")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Success", 
+                    content = @Content(schema = @Schema(implementation = ArchivedEmployeeDto.class))),
+            @ApiResponse(responseCode = "404", description = "Archived employee not found"),
+            @ApiResponse(responseCode = "400", description = "Invalid ID"),
+            @ApiResponse(responseCode = "500", description = "Server error")
+    })
+    @GetMapping("/archive/{id}")
+    public Mono<ResponseEntity<ArchivedEmployeeDto>> getArchivedEmployeeById(
+            @Parameter(description = "Employee ID", required = true, example = "1")
+            @PathVariable @NotNull @Positive(message = "Employee ID must be positive") Long id) {
+        return employeeApplicationService.getArchivedEmployeeById(id)
+                .map(ResponseEntity::ok);
+    }
+    
+    /**
+     * Get employee changes
+     * GET /api/v1/employee/changes?since={cursor}&limit=500
+     * @param since Cursor returned by the previous call, omitted to start from the beginning
+     * @param limit Maximum number of changes
+     * @return Mono<ChangeFeedResponse>
+     */
+    @Operation(summary = "Get employee changes", description = "Retrieve employees created, updated or deleted after the cursor, in stable order, with the cursor to resume from")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Success", 
+                    content = @Content(schema = @Schema(implementation = ChangeFeedResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor or limit"),
+            @ApiResponse(responseCode = "500", description = "Server error")
+    })
+    @GetMapping("/changes")
+    @RateLimiter(name = "employee-pagination")
+    public Mono<ChangeFeedResponse> getChanges(
+            @Parameter(description = "Cursor from the previous response")
+            @RequestParam(required = false) String since,
+            @Parameter(description = "Maximum number of changes", example = "500")
+            @RequestParam(defaultValue = "500") @Min(value = 1, message = "Limit must be at least 1") @Max(value = 1000, message = "Limit cannot exceed 1000") int limit) {
+        return employeeApplicationService.getChanges(since, limit);
+    }
+    
+    /**
+     * Stream employee changes
+     * GET /api/v1/employee/stream (text/event-stream)
+     * @param lastEventId Last-Event-ID sent by a reconnecting EventSource
+     * @return Flux<ServerSentEvent<Object>> employee-change events, resync when changes were missed
+     */
+    @Operation(summary = "Stream employee changes", description = "Server-Sent Events stream of employee changes. Reconnecting clients send Last-Event-ID to replay recent changes; a 'resync' event means changes were missed and should be re-read from /changes")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Success", 
+                    content = @Content(mediaType = MediaType.TEXT_EVENT_STREAM_VALUE, schema = @Schema(implementation = EmployeeChangeEvent.class))),
+            @ApiResponse(responseCode = "500", description = "Server error")
+    })
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<ServerSentEvent<Object>> streamChanges(
+            @Parameter(description = "ID of the last event received before reconnecting")
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        return employeeApplicationService.streamChanges(lastEventId);
+    }
+    
+    /**
+     * Export all employees as NDJSON
+     * GET /api/v1/employee/export (application/x-ndjson)
+     * Streams one JSON document per line from a database cursor over a consistent snapshot
+     * @return Flux<EmployeeDto> active employees in employee ID order
+     */
+    @Operation(summary = "Export employees as NDJSON", description = "Stream every active employee, one JSON document per line, in employee ID order from a consistent snapshot. Add format=csv for CSV or format=arrow for Arrow")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Success", 
+                    content = @Content(mediaType = MediaType.APPLICATION_NDJSON_VALUE, schema = @Schema(implementation = EmployeeDto.class))),
+            @ApiResponse(responseCode = "500", description = "Server error")
+    })
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<EmployeeDto> exportEmployees() {
+        return employeeApplicationService.exportEmployees();
+    }
+    
+    /**
+     * Export all employees as CSV
+     * GET /api/v1/employee/export?format=csv (text/csv)
+     * Streams a header line and one line per employee from a database cursor over a consistent snapshot
+     * @return ResponseEntity<Flux<String>> CSV lines, as an attachment named employees.csv
+     */
+    @Operation(summary = "Export employees as CSV", description = "Stream every active employee as CSV, in employee ID order from a consistent snapshot")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Success", 
+                    content = @Content(mediaType = EXPORT_CSV_MEDIA_TYPE)),
+            @ApiResponse(responseCode = "500", description = "Server error")
+    })
+    @GetMapping(value = "/export", params = "format=csv", produces = EXPORT_CSV_MEDIA_TYPE)
+    public ResponseEntity<Flux<String>> exportEmployeesAsCsv() {
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"employees.csv\"")
+                .body(employeeApplicationService.exportEmployeesAsCsv());
+    }
+    
+    /**
+     * Export all employees as an Arrow IPC stream
+     * GET /api/v1/employee/export?format=arrow (application/vnd.apache.arrow.stream)
+     * Columnar record batches for analytics tools (pyarrow, pandas, DuckDB), streamed from a consistent snapshot
+     * @return ResponseEntity<Flux<byte[]>> Arrow IPC stream, as an attachment named employees.arrows
+     */
+    @Operation(summary = "Export employees as Arrow", description = "Stream every active employee as an Arrow IPC stream of fixed-size record batches, amounts and rates as decimal columns, in employee ID order from a consistent snapshot")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Success", 
+                    content = @Content(mediaType = EmployeeArrowWriter.MEDIA_TYPE)),
+            @ApiResponse(responseCode = "500", description = "Server error")
+    })
+    @GetMapping(value = "/export", params = "format=arrow", produces = EmployeeArrowWriter.MEDIA_TYPE)
+    public ResponseEntity<Flux<byte[]>> exportEmployeesAsArrow() {
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"employees.arrows\"")
+                .body(employeeApplicationService.exportEmployeesAsArrow());
+    }
+    
+    /**
+     * Submit a background export job
+     * POST /api/v1/employee/export/jobs?format=csv
+     * The export is written to a gzip compressed file; poll the job until it is COMPLETED, then download its file
+     * @param format Export format: ndjson (default), csv or arrow
+     * @return Mono<ResponseEntity<EmployeeExportJob>> 202 with the job and its Location
+     */
+    @Operation(summary = "Submit export job", description = "Run an export in the background into a gzip compressed file, for rosters too large to stream over one request. Jobs and files are removed after a TTL")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "202", description = "Job submitted", 
+                    content = @Content(schema = @Schema(implementation = EmployeeExportJob.class))),
+            @ApiResponse(responseCode = "400", description = "Unknown format"),
+            @ApiResponse(responseCode = "429", description = "Too many submissions"),
+            @ApiResponse(responseCode = "503", description = "Too many jobs waiting to run"),
+            @ApiResponse(responseCode = "500", description = "Server error")
+    })
+    @PostMapping("/export/jobs")
+    @RateLimiter(name = "employee-export-job")
+    public Mono<ResponseEntity<EmployeeExportJob>> submitExportJob(
+            @Parameter(description = "Export format: ndjson, csv or arrow", example = "csv")
+            @RequestParam(value = "format", required = false) String format) {
+        return employeeApplicationService.submitExportJob(format)
+                .map(job -> ResponseEntity.accepted()
+                        .location(URI.create("/api/v1/employee/export/jobs/" + job.getJobId()))
+                        .body(job));
+    }
+    
+    /**
+     * Get export job status
+     * GET /api/v1/employee/export/jobs/{jobId}
+     * @param jobId Job ID
+     * @return Mono<EmployeeExportJob>
+     */
+    @Operation(summary = "Get export job", description = "Status of a background export job")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Success", 
+                    content = @Content(schema = @Schema(implementation = EmployeeExportJob.class))),
+            @ApiResponse(responseCode = "404", description = "Job not found or expired")
+    })
+    @GetMapping("/export/jobs/{jobId}")
+    public Mono<EmployeeExportJob> getExportJob(
+            @Parameter(description = "Job ID", required = true) @PathVariable String jobId) {
+        return employeeApplicationService.getExportJob(jobId);
+    }
+    
+    /**
+     * Download the file of a completed export job
+     * GET /api/v1/employee/export/jobs/{jobId}/file
+     * Sent with zero-copy file transfer where the server supports it; Range requests resume an interrupted download
+     * @param jobId Job ID
+     * @return Mono<ResponseEntity<Resource>> gzip compressed export, as an attachment
+     */
+    @Operation(summary = "Download export job file", description = "Gzip compressed file of a completed export job. Supports Range requests")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Success", 
+                    content = @Content(mediaType = EXPORT_JOB_FILE_MEDIA_TYPE)),
+            @ApiResponse(responseCode = "206", description = "Requested range"),
+            @ApiResponse(responseCode = "404", description = "Job not found or expired"),
+            @ApiResponse(responseCode = "409", description = "Job not completed")
+    })
+    @GetMapping("/export/jobs/{jobId}/file")
+    public Mono<ResponseEntity<Resource>> downloadExportJobFile(
+            @Parameter(description = "Job ID", required = true) @PathVariable String jobId) {
+        return employeeApplicationService.getExportJobFile(jobId)
+                .map(file -> ResponseEntity.ok()
+                        .contentType(MediaType.parseMediaType(EXPORT_JOB_FILE_MEDIA_TYPE))
+                        .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                                .filename("employees-" + file.getFileName())
+                                .build()
+                                .toString())
+                        .body(new FileSystemResource(file)));
+    }
+    
     /**
      * Search employees by name
      * GET /api/v1/employee/search/name?q={name}
@@ -130,6 +464,29 @@ public class EmployeeController {
         return employeeApplicationService.searchEmployeesByName(name);
     }
     
+    /**
+     * Search selected fields of employees by name
+     * GET /api/v1/employee/search/name?name={name}&fields=employeeNumber,name
+     * @param name Name keyword
+     * @param fields Comma separated fields to return
+     * @return Flux<Map<String, Object>>
+     */
+    @Operation(summary = "Search selected employee fields by name", description = "Retrieve only the requested fields of employees whose name contains the keyword")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Success"),
+            @ApiResponse(responseCode = "400", description = "Invalid search keyword or unknown field"),
+            @ApiResponse(responseCode = "500", description = "Server error")
+    })
+    @GetMapping(value = "/search/name", params = "fields")
+    @RateLimiter(name = "employee-search")
+    public Flux<Map<String, Object>> searchEmployeeFieldsByName(
+            @Parameter(description = "Search keyword", required = true, example = "Tanaka")
+            @RequestParam @NotBlank(message = "Search keyword cannot be empty") @Size(min = 1, max = 100, message = "Search keyword length must be between 1-100 characters") String name,
+            @Parameter(description = "Comma separated fields to return, the employee ID is always included", required = true, example = "employeeNumber,name")
+            @RequestParam String fields) {
+        return employeeApplicationService.searchEmployeeFieldsByName(name, fields);
+    }
+    
     /**
      * Search employees by furigana
      * GET /api/v1/employee/search/furigana?furigana={furigana}
@@ -151,6 +508,29 @@ public class EmployeeController {
         return employeeApplicationService.searchEmployeesByFurigana(furigana);
     }
     
+    /**
+     * Search selected fields of employees by furigana
+     * GET /api/v1/employee/search/furigana?furigana={furigana}&fields=employeeNumber,name
+     * @param furigana Furigana keyword
+     * @param fields Comma separated fields to return
+     * @return Flux<Map<String, Object>>
+     */
+    @Operation(summary = "Search selected employee fields by furigana", description = "Retrieve only the requested fields of employees whose furigana contains the keyword")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Success"),
+            @ApiResponse(responseCode = "400", description = "Invalid search keyword or unknown field"),
+            @ApiResponse(responseCode = "500", description = "Server error")
+    })
+    @GetMapping(value = "/search/furigana", params = "fields")
+    @RateLimiter(name = "employee-search")
+    public Flux<Map<String, Object>> searchEmployeeFieldsByFurigana(
+            @Parameter(description = "Search keyword", required = true, example = "tanaka")
+            @RequestParam @NotBlank(message = "Search keyword cannot be empty") @Size(min = 1, max = 100, message = "Search keyword length must be between 1-100 characters") String furigana,
+            @Parameter(description = "Comma separated fields to return, the employee ID is always included", required = true, example = "employeeNumber,name")
+            @RequestParam String fields) {
+        return employeeApplicationService.searchEmployeeFieldsByFurigana(furigana, fields);
+    }
+    
     
     
     
@@ -175,13 +555,15 @@ public class EmployeeController {
             @Parameter(description = "Employee information", required = true)
             @RequestBody @Valid EmployeeDto employeeDto) {
         return employeeApplicationService.createEmployee(employeeDto)
-                .map(createdEmployee -> ResponseEntity.status(HttpStatus.CREATED).body(createdEmployee));
+                .map(createdEmployee -> withETag(ResponseEntity.status(HttpStatus.CREATED), createdEmployee));
     }
     
     /**
      * Update employee information
      * PUT /api/v1/employee/{id}
+     * The expected version is taken from If-Match, or from the version in the body
      * @param id Employee ID
+     * @param ifMatch Entity tag the client read (optional)
      * @param employeeDto Employee information
      * @return Mono<ResponseEntity<EmployeeDto>>
      */
@@ -191,6 +573,7 @@ public class EmployeeController {
                     content = @Content(schema = @Schema(implementation = EmployeeDto.class))),
             @ApiResponse(responseCode = "400", description = "Invalid request data"),
             @ApiResponse(responseCode = "404", description = "Employee not found"),
+            @ApiResponse(responseCode = "409", description = "Employee number already exists or version conflict (body contains the current state)"),
             @ApiResponse(responseCode = "500", description = "Server error")
     })
     @PutMapping("/{id}")
@@ -198,10 +581,47 @@ public class EmployeeController {
     public Mono<ResponseEntity<EmployeeDto>> updateEmployee(
             @Parameter(description = "Employee ID", required = true, example = "1")
             @PathVariable @NotNull @Positive(message = "Employee ID must be positive") Long id, 
+            @Parameter(description = "Entity tag of the version being updated", example = "\"1-0\"")
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             @Parameter(description = "Employee information to update", required = true)
             @RequestBody @Valid EmployeeDto employeeDto) {
+        Long expectedVersion = EntityTags.versionFromIfMatch(ifMatch, id);
+        if (expectedVersion != null) {
+            employeeDto.setVersion(expectedVersion);
+        }
         return employeeApplicationService.updateEmployee(id, employeeDto)
-                .map(updatedEmployee -> ResponseEntity.ok(updatedEmployee))
+                .map(updatedEmployee -> withETag(ResponseEntity.ok(), updatedEmployee))
+                .defaultIfEmpty(ResponseEntity.notFound().build());
+    }
+    
+    /**
+     * Partially update employee information
+     * PATCH /api/v1/employee/{id}
+     * @param id Employee ID
+     * @param ifMatch Entity tag the client read (optional)
+     * @param patch JSON Merge Patch document containing only the fields to change
+     * @return Mono<ResponseEntity<EmployeeDto>>
+     */
+    @Operation(summary = "Partially update employee information", description = "Apply a JSON Merge Patch (RFC 7396) to the employee for the specified ID. Only the supplied fields are validated and written; null clears a field")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Employee information updated successfully", 
+                    content = @Content(schema = @Schema(implementation = EmployeeDto.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid request data or unknown field"),
+            @ApiResponse(responseCode = "404", description = "Employee not found"),
+            @ApiResponse(responseCode = "409", description = "Employee number already exists or version conflict (body contains the current state)"),
+            @ApiResponse(responseCode = "500", description = "Server error")
+    })
+    @PatchMapping(value = "/{id}", consumes = {"application/merge-patch+json", MediaType.APPLICATION_JSON_VALUE})
+    @RateLimiter(name = "employee-update")
+    public Mono<ResponseEntity<EmployeeDto>> patchEmployee(
+            @Parameter(description = "Employee ID", required = true, example = "1")
+            @PathVariable @NotNull @Positive(message = "Employee ID must be positive") Long id,
+            @Parameter(description = "Entity tag of the version being updated", example = "\"1-0\"")
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @Parameter(description = "Fields to update", required = true)
+            @RequestBody JsonNode patch) {
+        return employeeApplicationService.patchEmployee(id, patch, EntityTags.versionFromIfMatch(ifMatch, id))
+                .map(patchedEmployee -> withETag(ResponseEntity.ok(), patchedEmployee))
                 .defaultIfEmpty(ResponseEntity.notFound().build());
     }
     
@@ -249,6 +669,29 @@ public class EmployeeController {
                 .then(Mono.just(ResponseEntity.noContent().<Void>build()));
     }
     
+    /**
+     * Delete employees in bulk
+     * POST /api/v1/employee/bulk-delete
+     * @param request Employee IDs and/or employee numbers
+     * @return Mono<ResponseEntity<BulkDeleteResponse>>
+     */
+    @Operation(summary = "Delete employees in bulk", description = "Delete up to " + BulkDeleteRequest.MAX_IDENTIFIERS 
+            + " employees by ID and/or employee number in one transaction, returning a result per identifier")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Bulk delete processed", 
+                    content = @Content(schema = @Schema(implementation = BulkDeleteResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid or empty request"),
+            @ApiResponse(responseCode = "500", description = "Server error")
+    })
+    @PostMapping("/bulk-delete")
+    @RateLimiter(name = "employee-bulk-delete")
+    public Mono<ResponseEntity<BulkDeleteResponse>> bulkDeleteEmployees(
+            @Parameter(description = "Employees to delete", required = true)
+            @RequestBody @Valid BulkDeleteRequest request) {
+        return employeeApplicationService.bulkDeleteEmployees(request)
+                .map(ResponseEntity::ok);
+    }
+    
     /**
      * Health check endpoint
      * GET /api/v1/employee/health
@@ -263,4 +706,37 @@ public class EmployeeController {
     public Mono<ResponseEntity<String>> healthCheck() {
         return Mono.just(ResponseEntity.ok("Employee API is running"));
     }
+    
+    /**
+     * Add the roster entity tag to a list response, if there is one
+     * @param builder Response builder
+     * @param eTag Roster entity tag or null
+     * @return ResponseEntity.BodyBuilder
+     */
+    private static ResponseEntity.BodyBuilder withRosterETag(ResponseEntity.BodyBuilder builder, String eTag) {
+        return eTag != null ? builder.eTag(eTag) : builder;
+    }
+    
+    /**
+     * Build a 304 response for a client copy that is still current
+     * @param eTag Current entity tag
+     * @return ResponseEntity<T> without body
+     */
+    private static <T> ResponseEntity<T> notModified(String eTag) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+    }
+    
+    /**
+     * Build a response carrying the employee's entity tag
+     * @param builder Response builder
+     * @param employee Employee
+     * @return ResponseEntity<EmployeeDto>
+     */
+    private ResponseEntity<EmployeeDto> withETag(ResponseEntity.BodyBuilder builder, EmployeeDto employee) {
+        String eTag = EntityTags.of(employee);
+        if (eTag != null) {
+            builder.eTag(eTag);
+        }
+        return builder.body(employee);
+    }
 }
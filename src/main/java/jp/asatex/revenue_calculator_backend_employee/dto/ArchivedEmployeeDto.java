@@ -0,0 +1,95 @@
+package jp.asatex.revenue_calculator_backend_employee.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * Archived employee data transfer object
+ * Read only view of an employee moved to the archive table
+ */
+@Schema(description = "Archived employee, as it was when deleted")
+public class ArchivedEmployeeDto {
+
+    @Schema(description = "Employee information at the time of deletion")
+    private EmployeeDto employee;
+
+    @Schema(description = "When the employee was deleted", example = "2025-01-15T10:30:00")
+    private LocalDateTime deletedAt;
+
+    @Schema(description = "Who deleted the employee", example = "system")
+    private String deletedBy;
+
+    @Schema(description = "When the employee was moved to the archive", example = "2025-04-15T03:00:00")
+    private LocalDateTime archivedAt;
+
+    // Default constructor
+    public ArchivedEmployeeDto() {}
+
+    // All parameters constructor
+    public ArchivedEmployeeDto(EmployeeDto employee, LocalDateTime deletedAt, String deletedBy, LocalDateTime archivedAt) {
+        this.employee = employee;
+        this.deletedAt = deletedAt;
+        this.deletedBy = deletedBy;
+        this.archivedAt = archivedAt;
+    }
+
+    public EmployeeDto getEmployee() {
+        return employee;
+    }
+
+    public void setEmployee(EmployeeDto employee) {
+        this.employee = employee;
+    }
+
+    public LocalDateTime getDeletedAt() {
+        return deletedAt;
+    }
+
+    public void setDeletedAt(LocalDateTime deletedAt) {
+        this.deletedAt = deletedAt;
+    }
+
+    public String getDeletedBy() {
+        return deletedBy;
+    }
+
+    public void setDeletedBy(String deletedBy) {
+        this.deletedBy = deletedBy;
+    }
+
+    public LocalDateTime getArchivedAt() {
+        return archivedAt;
+    }
+
+    public void setArchivedAt(LocalDateTime archivedAt) {
+        this.archivedAt = archivedAt;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        ArchivedEmployeeDto that = (ArchivedEmployeeDto) o;
+        return Objects.equals(employee, that.employee) &&
+                Objects.equals(deletedAt, that.deletedAt) &&
+                Objects.equals(deletedBy, that.deletedBy) &&
+                Objects.equals(archivedAt, that.archivedAt);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(employee, deletedAt, deletedBy, archivedAt);
+    }
+
+    @Override
+    public String toString() {
+        return "ArchivedEmployeeDto{" +
+                "employee=" + employee +
+                ", deletedAt=" + deletedAt +
+                ", deletedBy='" + deletedBy + '\'' +
+                ", archivedAt=" + archivedAt +
+                '}';
+    }
+}
@@ -0,0 +1,80 @@
+package jp.asatex.revenue_calculator_backend_employee.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+
+/**
+ * Batch validation result
+ * Violations grouped by row index, rows without violations are absent
+ */
+@Schema(description = "Batch validation result")
+public class BatchValidationResult {
+
+    @Schema(description = "Number of rows validated", example = "10000")
+    private int totalRows;
+
+    @Schema(description = "Violations by zero based row index, in row order")
+    private Map<Integer, List<RowViolation>> violationsByRow = new TreeMap<>();
+
+    // Default constructor
+    public BatchValidationResult() {}
+
+    // All parameters constructor
+    public BatchValidationResult(int totalRows, Map<Integer, List<RowViolation>> violationsByRow) {
+        this.totalRows = totalRows;
+        this.violationsByRow = new TreeMap<>(violationsByRow);
+    }
+
+    public int getTotalRows() {
+        return totalRows;
+    }
+
+    public void setTotalRows(int totalRows) {
+        this.totalRows = totalRows;
+    }
+
+    public Map<Integer, List<RowViolation>> getViolationsByRow() {
+        return violationsByRow;
+    }
+
+    public void setViolationsByRow(Map<Integer, List<RowViolation>> violationsByRow) {
+        this.violationsByRow = new TreeMap<>(violationsByRow);
+    }
+
+    @Schema(description = "Number of rows with at least one violation", example = "3")
+    public int getInvalidRows() {
+        return violationsByRow.size();
+    }
+
+    @Schema(description = "Whether every row is valid", example = "false")
+    public boolean isValid() {
+        return violationsByRow.isEmpty();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        BatchValidationResult that = (BatchValidationResult) o;
+        return totalRows == that.totalRows &&
+                Objects.equals(violationsByRow, that.violationsByRow);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(totalRows, violationsByRow);
+    }
+
+    @Override
+    public String toString() {
+        return "BatchValidationResult{" +
+                "totalRows=" + totalRows +
+                ", invalidRows=" + getInvalidRows() +
+                ", violationsByRow=" + violationsByRow +
+                '}';
+    }
+}
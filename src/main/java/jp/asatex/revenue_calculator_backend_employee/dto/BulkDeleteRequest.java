@@ -0,0 +1,80 @@
+package jp.asatex.revenue_calculator_backend_employee.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Bulk delete request
+ * Employees to delete, identified by ID and/or employee number
+ */
+@Schema(description = "Bulk delete request, employees may be identified by ID, by employee number or both")
+public class BulkDeleteRequest {
+
+    /**
+     * Maximum number of identifiers accepted in one request
+     */
+    public static final int MAX_IDENTIFIERS = 500;
+
+    @Schema(description = "Employee IDs to delete", example = "[1, 2, 3]")
+    @Size(max = MAX_IDENTIFIERS, message = "At most " + MAX_IDENTIFIERS + " employee IDs can be deleted at once")
+    private List<@NotNull(message = "Employee ID cannot be null") @Positive(message = "Employee ID must be positive") Long> employeeIds = new ArrayList<>();
+
+    @Schema(description = "Employee numbers to delete", example = "[\"EMP001\", \"EMP002\"]")
+    @Size(max = MAX_IDENTIFIERS, message = "At most " + MAX_IDENTIFIERS + " employee numbers can be deleted at once")
+    private List<@NotBlank(message = "Employee number cannot be empty") @Size(max = 20, message = "Employee number length must be between 1-20 characters") @Pattern(regexp = "^[A-Za-z0-9_-]+$", message = "Employee number can only contain letters, numbers, underscores, and hyphens") String> employeeNumbers = new ArrayList<>();
+
+    // Default constructor
+    public BulkDeleteRequest() {}
+
+    // All parameters constructor
+    public BulkDeleteRequest(List<Long> employeeIds, List<String> employeeNumbers) {
+        this.employeeIds = employeeIds;
+        this.employeeNumbers = employeeNumbers;
+    }
+
+    public List<Long> getEmployeeIds() {
+        return employeeIds;
+    }
+
+    public void setEmployeeIds(List<Long> employeeIds) {
+        this.employeeIds = employeeIds;
+    }
+
+    public List<String> getEmployeeNumbers() {
+        return employeeNumbers;
+    }
+
+    public void setEmployeeNumbers(List<String> employeeNumbers) {
+        this.employeeNumbers = employeeNumbers;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        BulkDeleteRequest that = (BulkDeleteRequest) o;
+        return Objects.equals(employeeIds, that.employeeIds) &&
+                Objects.equals(employeeNumbers, that.employeeNumbers);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(employeeIds, employeeNumbers);
+    }
+
+    @Override
+    public String toString() {
+        return "BulkDeleteRequest{" +
+                "employeeIds=" + employeeIds +
+                ", employeeNumbers=" + employeeNumbers +
+                '}';
+    }
+}
@@ -0,0 +1,82 @@
+package jp.asatex.revenue_calculator_backend_employee.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Bulk delete response
+ * One result per requested identifier, in request order (IDs first, then employee numbers)
+ */
+@Schema(description = "Bulk delete response")
+public class BulkDeleteResponse {
+
+    @Schema(description = "Number of requested identifiers", example = "3")
+    private int requested;
+
+    @Schema(description = "Number of employees deleted", example = "2")
+    private int deleted;
+
+    @Schema(description = "Per identifier results")
+    private List<BulkDeleteResult> results = new ArrayList<>();
+
+    // Default constructor
+    public BulkDeleteResponse() {}
+
+    // All parameters constructor
+    public BulkDeleteResponse(int requested, int deleted, List<BulkDeleteResult> results) {
+        this.requested = requested;
+        this.deleted = deleted;
+        this.results = results;
+    }
+
+    public int getRequested() {
+        return requested;
+    }
+
+    public void setRequested(int requested) {
+        this.requested = requested;
+    }
+
+    public int getDeleted() {
+        return deleted;
+    }
+
+    public void setDeleted(int deleted) {
+        this.deleted = deleted;
+    }
+
+    public List<BulkDeleteResult> getResults() {
+        return results;
+    }
+
+    public void setResults(List<BulkDeleteResult> results) {
+        this.results = results;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        BulkDeleteResponse that = (BulkDeleteResponse) o;
+        return requested == that.requested &&
+                deleted == that.deleted &&
+                Objects.equals(results, that.results);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(requested, deleted, results);
+    }
+
+    @Override
+    public String toString() {
+        return "BulkDeleteResponse{" +
+                "requested=" + requested +
+                ", deleted=" + deleted +
+                ", results=" + results +
+                '}';
+    }
+}
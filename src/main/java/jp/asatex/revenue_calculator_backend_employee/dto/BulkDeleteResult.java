@@ -0,0 +1,87 @@
+package jp.asatex.revenue_calculator_backend_employee.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.Objects;
+
+/**
+ * Bulk delete result for a single requested identifier
+ */
+@Schema(description = "Outcome of one requested employee ID or employee number")
+public class BulkDeleteResult {
+
+    /**
+     * Bulk delete outcome
+     */
+    public enum Status {
+        DELETED,
+        NOT_FOUND
+    }
+
+    @Schema(description = "Employee ID", example = "1")
+    private Long employeeId;
+
+    @Schema(description = "Employee number", example = "EMP001")
+    private String employeeNumber;
+
+    @Schema(description = "DELETED, or NOT_FOUND when no active employee matched", example = "DELETED")
+    private Status status;
+
+    // Default constructor
+    public BulkDeleteResult() {}
+
+    // All parameters constructor
+    public BulkDeleteResult(Long employeeId, String employeeNumber, Status status) {
+        this.employeeId = employeeId;
+        this.employeeNumber = employeeNumber;
+        this.status = status;
+    }
+
+    public Long getEmployeeId() {
+        return employeeId;
+    }
+
+    public void setEmployeeId(Long employeeId) {
+        this.employeeId = employeeId;
+    }
+
+    public String getEmployeeNumber() {
+        return employeeNumber;
+    }
+
+    public void setEmployeeNumber(String employeeNumber) {
+        this.employeeNumber = employeeNumber;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public void setStatus(Status status) {
+        this.status = status;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        BulkDeleteResult that = (BulkDeleteResult) o;
+        return Objects.equals(employeeId, that.employeeId) &&
+                Objects.equals(employeeNumber, that.employeeNumber) &&
+                status == that.status;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(employeeId, employeeNumber, status);
+    }
+
+    @Override
+    public String toString() {
+        return "BulkDeleteResult{" +
+                "employeeId=" + employeeId +
+                ", employeeNumber='" + employeeNumber + '\'' +
+                ", status=" + status +
+                '}';
+    }
+}
@@ -0,0 +1,83 @@
+package jp.asatex.revenue_calculator_backend_employee.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Change feed response
+ * Changes in stable (changedAt, employeeId) order and the cursor to resume from
+ */
+@Schema(description = "Employee change feed page")
+public class ChangeFeedResponse {
+
+    @Schema(description = "Changes in (changedAt, employeeId) order")
+    private List<EmployeeChangeDto> changes = new ArrayList<>();
+
+    @Schema(description = "Cursor to pass as 'since' on the next call; unchanged when there were no changes",
+            example = "MjAyNS0wMS0xNVQxMDozMDowMC4xMjM0NTZfNDI")
+    private String nextCursor;
+
+    @Schema(description = "Whether more changes are available right away", example = "false")
+    private boolean hasMore;
+
+    // Default constructor
+    public ChangeFeedResponse() {}
+
+    // All parameters constructor
+    public ChangeFeedResponse(List<EmployeeChangeDto> changes, String nextCursor, boolean hasMore) {
+        this.changes = changes;
+        this.nextCursor = nextCursor;
+        this.hasMore = hasMore;
+    }
+
+    public List<EmployeeChangeDto> getChanges() {
+        return changes;
+    }
+
+    public void setChanges(List<EmployeeChangeDto> changes) {
+        this.changes = changes;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+
+    public boolean isHasMore() {
+        return hasMore;
+    }
+
+    public void setHasMore(boolean hasMore) {
+        this.hasMore = hasMore;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        ChangeFeedResponse that = (ChangeFeedResponse) o;
+        return hasMore == that.hasMore &&
+                Objects.equals(changes, that.changes) &&
+                Objects.equals(nextCursor, that.nextCursor);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(changes, nextCursor, hasMore);
+    }
+
+    @Override
+    public String toString() {
+        return "ChangeFeedResponse{" +
+                "changes=" + changes.size() +
+                ", nextCursor='" + nextCursor + '\'' +
+                ", hasMore=" + hasMore +
+                '}';
+    }
+}
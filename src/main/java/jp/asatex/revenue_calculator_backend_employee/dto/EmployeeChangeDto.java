@@ -0,0 +1,102 @@
+package jp.asatex.revenue_calculator_backend_employee.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * Employee change feed entry
+ */
+@Schema(description = "Change of one employee since the previous cursor")
+public class EmployeeChangeDto {
+
+    /**
+     * Kind of change
+     */
+    public enum ChangeType {
+        UPSERTED,
+        DELETED
+    }
+
+    @Schema(description = "Employee ID", example = "1")
+    private Long employeeId;
+
+    @Schema(description = "UPSERTED for created or updated employees, DELETED for soft deleted employees", example = "UPSERTED")
+    private ChangeType changeType;
+
+    @Schema(description = "When the change happened", example = "2025-01-15T10:30:00.123456")
+    private LocalDateTime changedAt;
+
+    @Schema(description = "Current employee state, null for deleted employees")
+    private EmployeeDto employee;
+
+    // Default constructor
+    public EmployeeChangeDto() {}
+
+    // All parameters constructor
+    public EmployeeChangeDto(Long employeeId, ChangeType changeType, LocalDateTime changedAt, EmployeeDto employee) {
+        this.employeeId = employeeId;
+        this.changeType = changeType;
+        this.changedAt = changedAt;
+        this.employee = employee;
+    }
+
+    public Long getEmployeeId() {
+        return employeeId;
+    }
+
+    public void setEmployeeId(Long employeeId) {
+        this.employeeId = employeeId;
+    }
+
+    public ChangeType getChangeType() {
+        return changeType;
+    }
+
+    public void setChangeType(ChangeType changeType) {
+        this.changeType = changeType;
+    }
+
+    public LocalDateTime getChangedAt() {
+        return changedAt;
+    }
+
+    public void setChangedAt(LocalDateTime changedAt) {
+        this.changedAt = changedAt;
+    }
+
+    public EmployeeDto getEmployee() {
+        return employee;
+    }
+
+    public void setEmployee(EmployeeDto employee) {
+        this.employee = employee;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        EmployeeChangeDto that = (EmployeeChangeDto) o;
+        return Objects.equals(employeeId, that.employeeId) &&
+                changeType == that.changeType &&
+                Objects.equals(changedAt, that.changedAt) &&
+                Objects.equals(employee, that.employee);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(employeeId, changeType, changedAt, employee);
+    }
+
+    @Override
+    public String toString() {
+        return "EmployeeChangeDto{" +
+                "employeeId=" + employeeId +
+                ", changeType=" + changeType +
+                ", changedAt=" + changedAt +
+                ", employee=" + employee +
+                '}';
+    }
+}
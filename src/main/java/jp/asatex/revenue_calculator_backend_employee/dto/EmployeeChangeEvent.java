@@ -0,0 +1,110 @@
+package jp.asatex.revenue_calculator_backend_employee.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * Employee change event
+ * Pushed to stream subscribers when an employee is created, updated or soft deleted
+ */
+@Schema(description = "Employee change pushed on the event stream")
+public class EmployeeChangeEvent {
+
+    @Schema(description = "Employee ID", example = "1")
+    private Long employeeId;
+
+    @Schema(description = "Employee number", example = "EMP001")
+    private String employeeNumber;
+
+    @Schema(description = "UPSERTED for created or updated employees, DELETED for soft deleted employees", example = "UPSERTED")
+    private EmployeeChangeDto.ChangeType changeType;
+
+    @Schema(description = "Employee version after the change", example = "2")
+    private Long version;
+
+    @Schema(description = "When the change happened", example = "2025-01-15T10:30:00.123456")
+    private LocalDateTime changedAt;
+
+    // Default constructor
+    public EmployeeChangeEvent() {}
+
+    // All parameters constructor
+    public EmployeeChangeEvent(Long employeeId, String employeeNumber, EmployeeChangeDto.ChangeType changeType,
+                               Long version, LocalDateTime changedAt) {
+        this.employeeId = employeeId;
+        this.employeeNumber = employeeNumber;
+        this.changeType = changeType;
+        this.version = version;
+        this.changedAt = changedAt;
+    }
+
+    public Long getEmployeeId() {
+        return employeeId;
+    }
+
+    public void setEmployeeId(Long employeeId) {
+        this.employeeId = employeeId;
+    }
+
+    public String getEmployeeNumber() {
+        return employeeNumber;
+    }
+
+    public void setEmployeeNumber(String employeeNumber) {
+        this.employeeNumber = employeeNumber;
+    }
+
+    public EmployeeChangeDto.ChangeType getChangeType() {
+        return changeType;
+    }
+
+    public void setChangeType(EmployeeChangeDto.ChangeType changeType) {
+        this.changeType = changeType;
+    }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
+    public LocalDateTime getChangedAt() {
+        return changedAt;
+    }
+
+    public void setChangedAt(LocalDateTime changedAt) {
+        this.changedAt = changedAt;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        EmployeeChangeEvent that = (EmployeeChangeEvent) o;
+        return Objects.equals(employeeId, that.employeeId) &&
+                Objects.equals(employeeNumber, that.employeeNumber) &&
+                changeType == that.changeType &&
+                Objects.equals(version, that.version) &&
+                Objects.equals(changedAt, that.changedAt);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(employeeId, employeeNumber, changeType, version, changedAt);
+    }
+
+    @Override
+    public String toString() {
+        return "EmployeeChangeEvent{" +
+                "employeeId=" + employeeId +
+                ", employeeNumber='" + employeeNumber + '\'' +
+                ", changeType=" + changeType +
+                ", version=" + version +
+                ", changedAt=" + changedAt +
+                '}';
+    }
+}
@@ -0,0 +1,117 @@
+package jp.asatex.revenue_calculator_backend_employee.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * Employee domain event
+ * Delivered to downstream services through the outbox relay, at least once and in order per employee
+ */
+@Schema(description = "Employee domain event")
+public class EmployeeDomainEvent {
+
+    /**
+     * Kind of domain event
+     */
+    public enum EventType {
+        CREATED,
+        UPDATED,
+        DELETED
+    }
+
+    @Schema(description = "Event ID, increasing in event order; redelivered events keep their ID", example = "1024")
+    private Long eventId;
+
+    @Schema(description = "Event type", example = "UPDATED")
+    private EventType eventType;
+
+    @Schema(description = "Employee ID", example = "1")
+    private Long employeeId;
+
+    @Schema(description = "When the change was written", example = "2025-01-15T10:30:00.123456")
+    private LocalDateTime occurredAt;
+
+    @Schema(description = "Employee state after the change")
+    private EmployeeDto employee;
+
+    // Default constructor
+    public EmployeeDomainEvent() {}
+
+    // All parameters constructor
+    public EmployeeDomainEvent(Long eventId, EventType eventType, Long employeeId, LocalDateTime occurredAt, EmployeeDto employee) {
+        this.eventId = eventId;
+        this.eventType = eventType;
+        this.employeeId = employeeId;
+        this.occurredAt = occurredAt;
+        this.employee = employee;
+    }
+
+    public Long getEventId() {
+        return eventId;
+    }
+
+    public void setEventId(Long eventId) {
+        this.eventId = eventId;
+    }
+
+    public EventType getEventType() {
+        return eventType;
+    }
+
+    public void setEventType(EventType eventType) {
+        this.eventType = eventType;
+    }
+
+    public Long getEmployeeId() {
+        return employeeId;
+    }
+
+    public void setEmployeeId(Long employeeId) {
+        this.employeeId = employeeId;
+    }
+
+    public LocalDateTime getOccurredAt() {
+        return occurredAt;
+    }
+
+    public void setOccurredAt(LocalDateTime occurredAt) {
+        this.occurredAt = occurredAt;
+    }
+
+    public EmployeeDto getEmployee() {
+        return employee;
+    }
+
+    public void setEmployee(EmployeeDto employee) {
+        this.employee = employee;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        EmployeeDomainEvent that = (EmployeeDomainEvent) o;
+        return Objects.equals(eventId, that.eventId) &&
+                eventType == that.eventType &&
+                Objects.equals(employeeId, that.employeeId) &&
+                Objects.equals(occurredAt, that.occurredAt) &&
+                Objects.equals(employee, that.employee);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(eventId, eventType, employeeId, occurredAt, employee);
+    }
+
+    @Override
+    public String toString() {
+        return "EmployeeDomainEvent{" +
+                "eventId=" + eventId +
+                ", eventType=" + eventType +
+                ", employeeId=" + employeeId +
+                ", occurredAt=" + occurredAt +
+                '}';
+    }
+}
@@ -152,6 +152,10 @@ public class EmployeeDto {
     @Min(value = 0, message = "Disabled dependent count must be non-negative")
     private Integer disabledDependentCount;
     
+    @Schema(description = "Row version for optimistic locking; send it back (or as If-Match) when updating", example = "0")
+    @Min(value = 0, message = "Version must be non-negative")
+    private Long version;
+    
     // Default constructor
     public EmployeeDto() {}
     
@@ -430,6 +434,14 @@ public class EmployeeDto {
         this.disabledDependentCount = disabledDependentCount;
     }
     
+    public Long getVersion() {
+        return version;
+    }
+    
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+    
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -464,12 +476,13 @@ public class EmployeeDto {
                 Objects.equals(isSingleParent, that.isSingleParent) &&
                 Objects.equals(isWidow, that.isWidow) &&
                 Objects.equals(isWorkingStudent, that.isWorkingStudent) &&
-                Objects.equals(disabledDependentCount, that.disabledDependentCount);
+                Objects.equals(disabledDependentCount, that.disabledDependentCount) &&
+                Objects.equals(version, that.version);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(employeeId, employeeNumber, name, furigana, birthday, email, basicSalary, dependentCount, noHealthInsurance, noPensionInsurance, unitPrice, individualBusinessAmount, positionAllowance, housingAllowance, familyAllowance, collectionFeeAmount, paymentFeeAmount, thirdPartyManagementRate, thirdPartyProfitDistributionRate, phoneNumber, consumptionTaxRate, nonWorkingDeduction, overtimeAllowance, commutingAllowance, remarks, isDisabled, isSingleParent, isWidow, isWorkingStudent, disabledDependentCount);
+        return Objects.hash(employeeId, employeeNumber, name, furigana, birthday, email, basicSalary, dependentCount, noHealthInsurance, noPensionInsurance, unitPrice, individualBusinessAmount, positionAllowance, housingAllowance, familyAllowance, collectionFeeAmount, paymentFeeAmount, thirdPartyManagementRate, thirdPartyProfitDistributionRate, phoneNumber, consumptionTaxRate, nonWorkingDeduction, overtimeAllowance, commutingAllowance, remarks, isDisabled, isSingleParent, isWidow, isWorkingStudent, disabledDependentCount, version);
     }
 
     @Override
@@ -505,6 +518,7 @@ public class EmployeeDto {
                 ", isWidow=" + isWidow +
                 ", isWorkingStudent=" + isWorkingStudent +
                 ", disabledDependentCount=" + disabledDependentCount +
+                ", version=" + version +
                 '}';
     }
 }
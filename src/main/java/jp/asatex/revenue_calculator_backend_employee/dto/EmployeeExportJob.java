@@ -0,0 +1,166 @@
+package jp.asatex.revenue_calculator_backend_employee.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * Employee export job
+ * Status of a background export and, once completed, the size of its gzip compressed file
+ */
+@Schema(description = "Background employee export job")
+public class EmployeeExportJob {
+
+    /**
+     * Export job status
+     */
+    public enum Status {
+        /** Waiting for a free export slot */
+        QUEUED,
+        /** Writing the file */
+        RUNNING,
+        /** File ready for download until expiresAt */
+        COMPLETED,
+        /** Export failed, see error */
+        FAILED
+    }
+
+    @Schema(description = "Job ID", example = "3f2b8c1e-6d4a-4f0e-9a57-2c1d8e7b9f10")
+    private String jobId;
+
+    @Schema(description = "Export format", example = "csv", allowableValues = {"ndjson", "csv", "arrow"})
+    private String format;
+
+    @Schema(description = "Job status", example = "COMPLETED")
+    private Status status;
+
+    @Schema(description = "Time the job was submitted")
+    private LocalDateTime submittedAt;
+
+    @Schema(description = "Time the job completed or failed")
+    private LocalDateTime completedAt;
+
+    @Schema(description = "Time the job and its file are removed")
+    private LocalDateTime expiresAt;
+
+    @Schema(description = "Size of the gzip compressed file in bytes", example = "1048576")
+    private Long fileSize;
+
+    @Schema(description = "Failure message of a failed job")
+    private String error;
+
+    // Default constructor
+    public EmployeeExportJob() {}
+
+    // All parameters constructor
+    public EmployeeExportJob(String jobId, String format, Status status, LocalDateTime submittedAt,
+                             LocalDateTime completedAt, LocalDateTime expiresAt, Long fileSize, String error) {
+        this.jobId = jobId;
+        this.format = format;
+        this.status = status;
+        this.submittedAt = submittedAt;
+        this.completedAt = completedAt;
+        this.expiresAt = expiresAt;
+        this.fileSize = fileSize;
+        this.error = error;
+    }
+
+    public String getJobId() {
+        return jobId;
+    }
+
+    public void setJobId(String jobId) {
+        this.jobId = jobId;
+    }
+
+    public String getFormat() {
+        return format;
+    }
+
+    public void setFormat(String format) {
+        this.format = format;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public void setStatus(Status status) {
+        this.status = status;
+    }
+
+    public LocalDateTime getSubmittedAt() {
+        return submittedAt;
+    }
+
+    public void setSubmittedAt(LocalDateTime submittedAt) {
+        this.submittedAt = submittedAt;
+    }
+
+    public LocalDateTime getCompletedAt() {
+        return completedAt;
+    }
+
+    public void setCompletedAt(LocalDateTime completedAt) {
+        this.completedAt = completedAt;
+    }
+
+    public LocalDateTime getExpiresAt() {
+        return expiresAt;
+    }
+
+    public void setExpiresAt(LocalDateTime expiresAt) {
+        this.expiresAt = expiresAt;
+    }
+
+    public Long getFileSize() {
+        return fileSize;
+    }
+
+    public void setFileSize(Long fileSize) {
+        this.fileSize = fileSize;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    public void setError(String error) {
+        this.error = error;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        EmployeeExportJob that = (EmployeeExportJob) o;
+        return Objects.equals(jobId, that.jobId) &&
+                Objects.equals(format, that.format) &&
+                status == that.status &&
+                Objects.equals(submittedAt, that.submittedAt) &&
+                Objects.equals(completedAt, that.completedAt) &&
+                Objects.equals(expiresAt, that.expiresAt) &&
+                Objects.equals(fileSize, that.fileSize) &&
+                Objects.equals(error, that.error);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(jobId, format, status, submittedAt, completedAt, expiresAt, fileSize, error);
+    }
+
+    @Override
+    public String toString() {
+        return "EmployeeExportJob{" +
+                "jobId='" + jobId + '\'' +
+                ", format='" + format + '\'' +
+                ", status=" + status +
+                ", submittedAt=" + submittedAt +
+                ", completedAt=" + completedAt +
+                ", expiresAt=" + expiresAt +
+                ", fileSize=" + fileSize +
+                ", error='" + error + '\'' +
+                '}';
+    }
+}
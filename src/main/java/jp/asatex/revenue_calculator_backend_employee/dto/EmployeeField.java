@@ -0,0 +1,124 @@
+package jp.asatex.revenue_calculator_backend_employee.dto;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Writable employee fields
+ * Maps each EmployeeDto property to its employeeInfo column and Java type.
+ * Column names come only from this enum, never from client input, so they are safe to use in generated SQL
+ */
+public enum EmployeeField {
+
+    EMPLOYEE_NUMBER("employeeNumber", "employee_number", String.class),
+    NAME("name", "name", String.class),
+    FURIGANA("furigana", "furigana", String.class),
+    BIRTHDAY("birthday", "birthday", LocalDate.class),
+    EMAIL("email", "email", String.class),
+    BASIC_SALARY("basicSalary", "basic_salary", BigDecimal.class),
+    DEPENDENT_COUNT("dependentCount", "dependent_count", Integer.class),
+    NO_HEALTH_INSURANCE("noHealthInsurance", "no_health_insurance", Boolean.class),
+    NO_PENSION_INSURANCE("noPensionInsurance", "no_pension_insurance", Boolean.class),
+    UNIT_PRICE("unitPrice", "unit_price", BigDecimal.class),
+    INDIVIDUAL_BUSINESS_AMOUNT("individualBusinessAmount", "individual_business_amount", BigDecimal.class),
+    POSITION_ALLOWANCE("positionAllowance", "position_allowance", BigDecimal.class),
+    HOUSING_ALLOWANCE("housingAllowance", "housing_allowance", BigDecimal.class),
+    FAMILY_ALLOWANCE("familyAllowance", "family_allowance", BigDecimal.class),
+    COLLECTION_FEE_AMOUNT("collectionFeeAmount", "collection_fee_amount", BigDecimal.class),
+    PAYMENT_FEE_AMOUNT("paymentFeeAmount", "payment_fee_amount", BigDecimal.class),
+    THIRD_PARTY_MANAGEMENT_RATE("thirdPartyManagementRate", "third_party_management_rate", BigDecimal.class),
+    THIRD_PARTY_PROFIT_DISTRIBUTION_RATE("thirdPartyProfitDistributionRate", "third_party_profit_distribution_rate", BigDecimal.class),
+    PHONE_NUMBER("phoneNumber", "phone_number", String.class),
+    CONSUMPTION_TAX_RATE("consumptionTaxRate", "consumption_tax_rate", BigDecimal.class),
+    NON_WORKING_DEDUCTION("nonWorkingDeduction", "non_working_deduction", BigDecimal.class),
+    OVERTIME_ALLOWANCE("overtimeAllowance", "overtime_allowance", BigDecimal.class),
+    COMMUTING_ALLOWANCE("commutingAllowance", "commuting_allowance", BigDecimal.class),
+    REMARKS("remarks", "remarks", String.class),
+    IS_DISABLED("isDisabled", "is_disabled", Boolean.class),
+    IS_SINGLE_PARENT("isSingleParent", "is_single_parent", Boolean.class),
+    IS_WIDOW("isWidow", "is_widow", Boolean.class),
+    IS_WORKING_STUDENT("isWorkingStudent", "is_working_student", Boolean.class),
+    DISABLED_DEPENDENT_COUNT("disabledDependentCount", "disabled_dependent_count", Integer.class);
+
+    private static final Map<String, EmployeeField> BY_PROPERTY = Arrays.stream(values())
+            .collect(Collectors.toUnmodifiableMap(EmployeeField::getProperty, Function.identity()));
+
+    private final String property;
+    private final String column;
+    private final Class<?> type;
+
+    EmployeeField(String property, String column, Class<?> type) {
+        this.property = property;
+        this.column = column;
+        this.type = type;
+    }
+
+    public String getProperty() {
+        return property;
+    }
+
+    public String getColumn() {
+        return column;
+    }
+
+    public Class<?> getType() {
+        return type;
+    }
+
+    /**
+     * Find a writable field by its JSON property name
+     * @param property JSON property name
+     * @return the field, or empty if the property is unknown or read-only
+     */
+    public static Optional<EmployeeField> fromProperty(String property) {
+        return Optional.ofNullable(BY_PROPERTY.get(property));
+    }
+
+    /**
+     * Read a JSON value as this field's Java type
+     * JSON null is returned as null (merge patch semantics: clear the column)
+     * @param node JSON value
+     * @return converted value or null
+     * @throws IllegalArgumentException if the JSON value does not fit the field type
+     */
+    public Object readValue(JsonNode node) {
+        if (node == null || node.isNull()) {
+            return null;
+        }
+        if (type == String.class && node.isTextual()) {
+            return node.textValue();
+        }
+        if (type == Boolean.class && node.isBoolean()) {
+            return node.booleanValue();
+        }
+        if (type == Integer.class && node.isIntegralNumber() && node.canConvertToInt()) {
+            return node.intValue();
+        }
+        if (type == BigDecimal.class && node.isNumber()) {
+            return node.decimalValue();
+        }
+        if (type == BigDecimal.class && node.isTextual()) {
+            try {
+                return new BigDecimal(node.textValue());
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Invalid decimal value for " + property, e);
+            }
+        }
+        if (type == LocalDate.class && node.isTextual()) {
+            try {
+                return LocalDate.parse(node.textValue());
+            } catch (DateTimeParseException e) {
+                throw new IllegalArgumentException("Invalid date value for " + property + ", expected yyyy-MM-dd", e);
+            }
+        }
+        throw new IllegalArgumentException("Invalid value type for " + property + ", expected " + type.getSimpleName());
+    }
+}
@@ -0,0 +1,79 @@
+package jp.asatex.revenue_calculator_backend_employee.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.Objects;
+
+/**
+ * Constraint violation of one row in a batch
+ */
+@Schema(description = "Constraint violation of one row in a batch")
+public class RowViolation {
+
+    @Schema(description = "Zero based row index in the batch", example = "42")
+    private int rowIndex;
+
+    @Schema(description = "Field path", example = "email")
+    private String field;
+
+    @Schema(description = "Violation message", example = "Email format is invalid")
+    private String message;
+
+    // Default constructor
+    public RowViolation() {}
+
+    // All parameters constructor
+    public RowViolation(int rowIndex, String field, String message) {
+        this.rowIndex = rowIndex;
+        this.field = field;
+        this.message = message;
+    }
+
+    public int getRowIndex() {
+        return rowIndex;
+    }
+
+    public void setRowIndex(int rowIndex) {
+        this.rowIndex = rowIndex;
+    }
+
+    public String getField() {
+        return field;
+    }
+
+    public void setField(String field) {
+        this.field = field;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public void setMessage(String message) {
+        this.message = message;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        RowViolation that = (RowViolation) o;
+        return rowIndex == that.rowIndex &&
+                Objects.equals(field, that.field) &&
+                Objects.equals(message, that.message);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(rowIndex, field, message);
+    }
+
+    @Override
+    public String toString() {
+        return "RowViolation{" +
+                "rowIndex=" + rowIndex +
+                ", field='" + field + '\'' +
+                ", message='" + message + '\'' +
+                '}';
+    }
+}
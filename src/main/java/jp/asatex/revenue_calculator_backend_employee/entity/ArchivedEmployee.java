@@ -0,0 +1,62 @@
+package jp.asatex.revenue_calculator_backend_employee.entity;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * Archived employee
+ * A row of employeeInfo_archive: the employee as it was when soft deleted, and when it was archived
+ */
+public class ArchivedEmployee {
+
+    private Employee employee;
+
+    private LocalDateTime archivedAt;
+
+    // Default constructor
+    public ArchivedEmployee() {}
+
+    // All parameters constructor
+    public ArchivedEmployee(Employee employee, LocalDateTime archivedAt) {
+        this.employee = employee;
+        this.archivedAt = archivedAt;
+    }
+
+    public Employee getEmployee() {
+        return employee;
+    }
+
+    public void setEmployee(Employee employee) {
+        this.employee = employee;
+    }
+
+    public LocalDateTime getArchivedAt() {
+        return archivedAt;
+    }
+
+    public void setArchivedAt(LocalDateTime archivedAt) {
+        this.archivedAt = archivedAt;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        ArchivedEmployee that = (ArchivedEmployee) o;
+        return Objects.equals(employee, that.employee) &&
+                Objects.equals(archivedAt, that.archivedAt);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(employee, archivedAt);
+    }
+
+    @Override
+    public String toString() {
+        return "ArchivedEmployee{" +
+                "employee=" + employee +
+                ", archivedAt=" + archivedAt +
+                '}';
+    }
+}
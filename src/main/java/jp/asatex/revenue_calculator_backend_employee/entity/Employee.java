@@ -1,6 +1,8 @@
 package jp.asatex.revenue_calculator_backend_employee.entity;
 
 import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Transient;
+import org.springframework.data.annotation.Version;
 import org.springframework.data.relational.core.mapping.Column;
 import org.springframework.data.relational.core.mapping.Table;
 
@@ -168,6 +170,16 @@ public class Employee {
     @Column("is_deleted")
     private Boolean deleted = false;
     
+    @Version
+    @Column("version")
+    private Long version;
+    
+    /**
+     * Row before the write as JSON keyed by column name, only set on rows returned by update statements
+     */
+    @Transient
+    private String previousState;
+    
     // Default constructor
     public Employee() {}
     
@@ -490,6 +502,22 @@ public class Employee {
         return deleted != null && deleted;
     }
     
+    public Long getVersion() {
+        return version;
+    }
+    
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+    
+    public String getPreviousState() {
+        return previousState;
+    }
+    
+    public void setPreviousState(String previousState) {
+        this.previousState = previousState;
+    }
+    
     @Override
     public String toString() {
         return "Employee{" +
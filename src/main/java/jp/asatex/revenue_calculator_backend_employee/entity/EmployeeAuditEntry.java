@@ -0,0 +1,102 @@
+package jp.asatex.revenue_calculator_backend_employee.entity;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * Employee audit entry
+ * A row of employee_audit: the fields one committed change wrote, changes is JSON keyed by property
+ * with the old and new value of each field
+ */
+public class EmployeeAuditEntry {
+
+    private Long employeeId;
+
+    private String action;
+
+    private String changes;
+
+    private String changedBy;
+
+    private LocalDateTime changedAt;
+
+    // Default constructor
+    public EmployeeAuditEntry() {}
+
+    // All parameters constructor
+    public EmployeeAuditEntry(Long employeeId, String action, String changes, String changedBy, LocalDateTime changedAt) {
+        this.employeeId = employeeId;
+        this.action = action;
+        this.changes = changes;
+        this.changedBy = changedBy;
+        this.changedAt = changedAt;
+    }
+
+    public Long getEmployeeId() {
+        return employeeId;
+    }
+
+    public void setEmployeeId(Long employeeId) {
+        this.employeeId = employeeId;
+    }
+
+    public String getAction() {
+        return action;
+    }
+
+    public void setAction(String action) {
+        this.action = action;
+    }
+
+    public String getChanges() {
+        return changes;
+    }
+
+    public void setChanges(String changes) {
+        this.changes = changes;
+    }
+
+    public String getChangedBy() {
+        return changedBy;
+    }
+
+    public void setChangedBy(String changedBy) {
+        this.changedBy = changedBy;
+    }
+
+    public LocalDateTime getChangedAt() {
+        return changedAt;
+    }
+
+    public void setChangedAt(LocalDateTime changedAt) {
+        this.changedAt = changedAt;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        EmployeeAuditEntry that = (EmployeeAuditEntry) o;
+        return Objects.equals(employeeId, that.employeeId) &&
+                Objects.equals(action, that.action) &&
+                Objects.equals(changes, that.changes) &&
+                Objects.equals(changedBy, that.changedBy) &&
+                Objects.equals(changedAt, that.changedAt);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(employeeId, action, changes, changedBy, changedAt);
+    }
+
+    @Override
+    public String toString() {
+        // Field values are left out so that logging an entry never prints personal data
+        return "EmployeeAuditEntry{" +
+                "employeeId=" + employeeId +
+                ", action='" + action + '\'' +
+                ", changedBy='" + changedBy + '\'' +
+                ", changedAt=" + changedAt +
+                '}';
+    }
+}
@@ -0,0 +1,100 @@
+package jp.asatex.revenue_calculator_backend_employee.entity;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * Employee outbox entry
+ * A row of employeeInfo_outbox: a domain event waiting to be relayed, payload is the JSON employee state
+ */
+public class EmployeeOutboxEntry {
+
+    private Long eventId;
+
+    private Long employeeId;
+
+    private String eventType;
+
+    private String payload;
+
+    private LocalDateTime createdAt;
+
+    // Default constructor
+    public EmployeeOutboxEntry() {}
+
+    // All parameters constructor
+    public EmployeeOutboxEntry(Long eventId, Long employeeId, String eventType, String payload, LocalDateTime createdAt) {
+        this.eventId = eventId;
+        this.employeeId = employeeId;
+        this.eventType = eventType;
+        this.payload = payload;
+        this.createdAt = createdAt;
+    }
+
+    public Long getEventId() {
+        return eventId;
+    }
+
+    public void setEventId(Long eventId) {
+        this.eventId = eventId;
+    }
+
+    public Long getEmployeeId() {
+        return employeeId;
+    }
+
+    public void setEmployeeId(Long employeeId) {
+        this.employeeId = employeeId;
+    }
+
+    public String getEventType() {
+        return eventType;
+    }
+
+    public void setEventType(String eventType) {
+        this.eventType = eventType;
+    }
+
+    public String getPayload() {
+        return payload;
+    }
+
+    public void setPayload(String payload) {
+        this.payload = payload;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        EmployeeOutboxEntry that = (EmployeeOutboxEntry) o;
+        return Objects.equals(eventId, that.eventId) &&
+                Objects.equals(employeeId, that.employeeId) &&
+                Objects.equals(eventType, that.eventType) &&
+                Objects.equals(payload, that.payload) &&
+                Objects.equals(createdAt, that.createdAt);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(eventId, employeeId, eventType, payload, createdAt);
+    }
+
+    @Override
+    public String toString() {
+        return "EmployeeOutboxEntry{" +
+                "eventId=" + eventId +
+                ", employeeId=" + employeeId +
+                ", eventType='" + eventType + '\'' +
+                ", createdAt=" + createdAt +
+                '}';
+    }
+}
@@ -0,0 +1,22 @@
+package jp.asatex.revenue_calculator_backend_employee.exception;
+
+import jp.asatex.revenue_calculator_backend_employee.dto.EmployeeDto;
+
+/**
+ * Employee version conflict exception handler
+ * Raised when an update carries a version that no longer matches the stored row;
+ * carries the current state so the client can merge without another read
+ */
+public class EmployeeVersionConflictHandler extends RuntimeException {
+    
+    private final transient EmployeeDto currentEmployee;
+    
+    public EmployeeVersionConflictHandler(String message, EmployeeDto currentEmployee) {
+        super(message);
+        this.currentEmployee = currentEmployee;
+    }
+    
+    public EmployeeDto getCurrentEmployee() {
+        return currentEmployee;
+    }
+}
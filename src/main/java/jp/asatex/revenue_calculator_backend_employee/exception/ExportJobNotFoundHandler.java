@@ -0,0 +1,12 @@
+package jp.asatex.revenue_calculator_backend_employee.exception;
+
+/**
+ * Export job not found exception handler
+ * Raised for unknown job IDs, including jobs already removed after their TTL
+ */
+public class ExportJobNotFoundHandler extends RuntimeException {
+    
+    public ExportJobNotFoundHandler(String message) {
+        super(message);
+    }
+}
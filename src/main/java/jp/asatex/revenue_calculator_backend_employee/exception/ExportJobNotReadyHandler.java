@@ -0,0 +1,22 @@
+package jp.asatex.revenue_calculator_backend_employee.exception;
+
+import jp.asatex.revenue_calculator_backend_employee.dto.EmployeeExportJob;
+
+/**
+ * Export job not ready exception handler
+ * Raised when the file of a job that is still running or has failed is requested;
+ * carries the job so the client sees its status
+ */
+public class ExportJobNotReadyHandler extends RuntimeException {
+    
+    private final transient EmployeeExportJob job;
+    
+    public ExportJobNotReadyHandler(String message, EmployeeExportJob job) {
+        super(message);
+        this.job = job;
+    }
+    
+    public EmployeeExportJob getJob() {
+        return job;
+    }
+}
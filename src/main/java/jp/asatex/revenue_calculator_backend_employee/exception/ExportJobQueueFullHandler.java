@@ -0,0 +1,12 @@
+package jp.asatex.revenue_calculator_backend_employee.exception;
+
+/**
+ * Export job queue full exception handler
+ * Raised when employee.export.jobs.max-queued jobs are already waiting to run
+ */
+public class ExportJobQueueFullHandler extends RuntimeException {
+    
+    public ExportJobQueueFullHandler(String message) {
+        super(message);
+    }
+}
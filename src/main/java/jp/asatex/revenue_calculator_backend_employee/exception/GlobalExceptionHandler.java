@@ -1,5 +1,7 @@
 package jp.asatex.revenue_calculator_backend_employee.exception;
 
+import io.github.resilience4j.ratelimiter.RequestNotPermitted;
+import jp.asatex.revenue_calculator_backend_employee.common.EntityTags;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -71,6 +73,80 @@ public class GlobalExceptionHandler {
         return Mono.just(ResponseEntity.status(HttpStatus.CONFLICT).body(response));
     }
 
+    /**
+     * Handle employee version conflict exception
+     * Returns the current state and its entity tag so the client can retry without another read
+     */
+    @ExceptionHandler(EmployeeVersionConflictHandler.class)
+    public Mono<ResponseEntity<Map<String, Object>>> handleEmployeeVersionConflictException(EmployeeVersionConflictHandler ex) {
+        Map<String, Object> response = new HashMap<>();
+        response.put("error", "Version conflict");
+        response.put("message", ex.getMessage());
+        response.put("status", HttpStatus.CONFLICT.value());
+        response.put("current", ex.getCurrentEmployee());
+        
+        ResponseEntity.BodyBuilder builder = ResponseEntity.status(HttpStatus.CONFLICT);
+        String eTag = EntityTags.of(ex.getCurrentEmployee());
+        if (eTag != null) {
+            builder.eTag(eTag);
+        }
+        return Mono.just(builder.body(response));
+    }
+
+    /**
+     * Handle export job not found exception
+     */
+    @ExceptionHandler(ExportJobNotFoundHandler.class)
+    public Mono<ResponseEntity<Map<String, Object>>> handleExportJobNotFoundException(ExportJobNotFoundHandler ex) {
+        Map<String, Object> response = new HashMap<>();
+        response.put("error", "Export job not found");
+        response.put("message", ex.getMessage());
+        response.put("status", HttpStatus.NOT_FOUND.value());
+        
+        return Mono.just(ResponseEntity.status(HttpStatus.NOT_FOUND).body(response));
+    }
+
+    /**
+     * Handle export job not ready exception
+     * Returns the job so the client can see whether to wait or resubmit
+     */
+    @ExceptionHandler(ExportJobNotReadyHandler.class)
+    public Mono<ResponseEntity<Map<String, Object>>> handleExportJobNotReadyException(ExportJobNotReadyHandler ex) {
+        Map<String, Object> response = new HashMap<>();
+        response.put("error", "Export job not ready");
+        response.put("message", ex.getMessage());
+        response.put("status", HttpStatus.CONFLICT.value());
+        response.put("job", ex.getJob());
+        
+        return Mono.just(ResponseEntity.status(HttpStatus.CONFLICT).body(response));
+    }
+
+    /**
+     * Handle export job queue full exception
+     */
+    @ExceptionHandler(ExportJobQueueFullHandler.class)
+    public Mono<ResponseEntity<Map<String, Object>>> handleExportJobQueueFullException(ExportJobQueueFullHandler ex) {
+        Map<String, Object> response = new HashMap<>();
+        response.put("error", "Export job queue full");
+        response.put("message", ex.getMessage());
+        response.put("status", HttpStatus.SERVICE_UNAVAILABLE.value());
+        
+        return Mono.just(ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(response));
+    }
+
+    /**
+     * Handle rate limit exceeded exception
+     */
+    @ExceptionHandler(RequestNotPermitted.class)
+    public Mono<ResponseEntity<Map<String, Object>>> handleRequestNotPermittedException(RequestNotPermitted ex) {
+        Map<String, Object> response = new HashMap<>();
+        response.put("error", "Too many requests");
+        response.put("message", ex.getMessage());
+        response.put("status", HttpStatus.TOO_MANY_REQUESTS.value());
+        
+        return Mono.just(ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS).body(response));
+    }
+
     /**
      * Handle constraint violation exception (path parameter and query parameter validation)
      */
@@ -0,0 +1,39 @@
+package jp.asatex.revenue_calculator_backend_employee.exception;
+
+import io.r2dbc.spi.R2dbcException;
+import org.springframework.dao.DuplicateKeyException;
+
+/**
+ * PostgreSQL error code helper
+ * Recognizes database errors that map to business exceptions
+ */
+public final class PostgresErrorCodes {
+
+    /**
+     * SQLSTATE raised when a UNIQUE constraint or unique index is violated
+     */
+    public static final String UNIQUE_VIOLATION = "23505";
+
+    private PostgresErrorCodes() {
+    }
+
+    /**
+     * Check whether an error (or any of its causes) is a unique constraint violation
+     * @param error Error raised by the database layer
+     * @return true if the error was caused by SQLSTATE 23505
+     */
+    public static boolean isUniqueViolation(Throwable error) {
+        Throwable current = error;
+        while (current != null) {
+            if (current instanceof DuplicateKeyException) {
+                return true;
+            }
+            if (current instanceof R2dbcException r2dbcException
+                    && UNIQUE_VIOLATION.equals(r2dbcException.getSqlState())) {
+                return true;
+            }
+            current = current.getCause() == current ? null : current.getCause();
+        }
+        return false;
+    }
+}
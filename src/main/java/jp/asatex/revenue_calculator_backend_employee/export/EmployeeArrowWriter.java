@@ -0,0 +1,228 @@
+package jp.asatex.revenue_calculator_backend_employee.export;
+
+import jp.asatex.revenue_calculator_backend_employee.dto.EmployeeField;
+import org.apache.arrow.memory.BufferAllocator;
+import org.apache.arrow.memory.RootAllocator;
+import org.apache.arrow.vector.BigIntVector;
+import org.apache.arrow.vector.BitVector;
+import org.apache.arrow.vector.DateDayVector;
+import org.apache.arrow.vector.DecimalVector;
+import org.apache.arrow.vector.FieldVector;
+import org.apache.arrow.vector.IntVector;
+import org.apache.arrow.vector.VarCharVector;
+import org.apache.arrow.vector.VectorSchemaRoot;
+import org.apache.arrow.vector.ipc.ArrowStreamWriter;
+import org.apache.arrow.vector.types.DateUnit;
+import org.apache.arrow.vector.types.pojo.ArrowType;
+import org.apache.arrow.vector.types.pojo.Field;
+import org.apache.arrow.vector.types.pojo.FieldType;
+import org.apache.arrow.vector.types.pojo.Schema;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Employee Arrow writer
+ * Writes employee rows as an Arrow IPC stream: the schema, then one record batch per batch-size rows,
+ * then the end-of-stream marker. Columns are named after the JSON properties; amounts are
+ * decimal(12, 2) and rates decimal(5, 2) like their employeeInfo columns, dates are date32 and
+ * null values are null. One batch of vectors is held per export, reused for every batch, so memory
+ * does not grow with the roster. Arrow memory is off-heap and capped by employee.export.arrow.memory-limit
+ */
+@Component
+public class EmployeeArrowWriter implements DisposableBean {
+
+    /**
+     * Media type of the Arrow IPC stream format
+     */
+    public static final String MEDIA_TYPE = "application/vnd.apache.arrow.stream";
+
+    private static final Set<EmployeeField> RATES = EnumSet.of(EmployeeField.THIRD_PARTY_MANAGEMENT_RATE,
+            EmployeeField.THIRD_PARTY_PROFIT_DISTRIBUTION_RATE, EmployeeField.CONSUMPTION_TAX_RATE);
+
+    private static final Schema SCHEMA = schema();
+
+    private final BufferAllocator allocator;
+
+    private final int batchSize;
+
+    public EmployeeArrowWriter(@Value("${employee.export.arrow.batch-size:4096}") int batchSize,
+                               @Value("${employee.export.arrow.memory-limit:268435456}") long memoryLimit) {
+        this.allocator = new RootAllocator(memoryLimit);
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Arrow schema of the export
+     * @return Schema: employeeId, the EmployeeField properties in enum order, version
+     */
+    public static Schema getSchema() {
+        return SCHEMA;
+    }
+
+    /**
+     * Write rows as an Arrow IPC stream
+     * Vectors are released when the stream completes, fails or is cancelled; a cancellation while a
+     * batch is being written releases them once that batch is done
+     * @param rows Row values in schema order, e.g. from EmployeeDtoRowMapper.values
+     * @return Flux<byte[]> the stream, one chunk for the schema, each record batch and the end marker
+     */
+    public Flux<byte[]> write(Flux<Object[]> rows) {
+        return Flux.using(
+                () -> new Export(allocator.newChildAllocator("employee-export", 0, Long.MAX_VALUE)),
+                export -> Mono.fromCallable(export::start)
+                        .concatWith(rows.buffer(batchSize).map(export::writeBatch))
+                        .concatWith(Mono.fromCallable(export::end)),
+                Export::close);
+    }
+
+    @Override
+    public void destroy() {
+        allocator.close();
+    }
+
+    private static Schema schema() {
+        List<Field> fields = new ArrayList<>();
+        fields.add(new Field("employeeId", FieldType.notNullable(new ArrowType.Int(64, true)), null));
+        for (EmployeeField field : EmployeeField.values()) {
+            fields.add(Field.nullable(field.getProperty(), arrowType(field)));
+        }
+        fields.add(Field.nullable("version", new ArrowType.Int(64, true)));
+        return new Schema(fields);
+    }
+
+    private static ArrowType arrowType(EmployeeField field) {
+        Class<?> type = field.getType();
+        if (type == BigDecimal.class) {
+            return RATES.contains(field) ? new ArrowType.Decimal(5, 2, 128) : new ArrowType.Decimal(12, 2, 128);
+        }
+        if (type == Integer.class) {
+            return new ArrowType.Int(32, true);
+        }
+        if (type == Boolean.class) {
+            return ArrowType.Bool.INSTANCE;
+        }
+        if (type == LocalDate.class) {
+            return new ArrowType.Date(DateUnit.DAY);
+        }
+        return ArrowType.Utf8.INSTANCE;
+    }
+
+    /**
+     * State of one export: its allocator, the reused vectors and the stream writer
+     * Cancellation closes the export on the cancelling thread while the publishing thread may still be
+     * writing a batch, so writing and closing exclude each other and nothing is written once closed
+     */
+    private static final class Export implements AutoCloseable {
+
+        /**
+         * Chunk of a cancelled export, never reaches the subscriber
+         */
+        private static final byte[] EMPTY = new byte[0];
+
+        private final BufferAllocator allocator;
+
+        private final VectorSchemaRoot root;
+
+        private final ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        private final ArrowStreamWriter writer;
+
+        private boolean closed;
+
+        private Export(BufferAllocator allocator) {
+            this.allocator = allocator;
+            this.root = VectorSchemaRoot.create(SCHEMA, allocator);
+            this.root.allocateNew();
+            this.writer = new ArrowStreamWriter(root, null, Channels.newChannel(out));
+        }
+
+        private synchronized byte[] start() throws IOException {
+            if (closed) {
+                return EMPTY;
+            }
+            writer.start();
+            return drain();
+        }
+
+        private synchronized byte[] writeBatch(List<Object[]> rows) {
+            if (closed) {
+                return EMPTY;
+            }
+            List<FieldVector> vectors = root.getFieldVectors();
+            // Keep the buffers of the previous batch, only clear their contents
+            vectors.forEach(FieldVector::reset);
+            for (int row = 0; row < rows.size(); row++) {
+                Object[] values = rows.get(row);
+                for (int column = 0; column < values.length; column++) {
+                    if (values[column] != null) {
+                        set(vectors.get(column), row, values[column]);
+                    }
+                }
+            }
+            root.setRowCount(rows.size());
+            try {
+                writer.writeBatch();
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to write Arrow record batch", e);
+            }
+            return drain();
+        }
+
+        private synchronized byte[] end() throws IOException {
+            if (closed) {
+                return EMPTY;
+            }
+            writer.end();
+            return drain();
+        }
+
+        private byte[] drain() {
+            byte[] bytes = out.toByteArray();
+            out.reset();
+            return bytes;
+        }
+
+        private static void set(FieldVector vector, int index, Object value) {
+            switch (vector) {
+                case BigIntVector bigInt -> bigInt.setSafe(index, (Long) value);
+                case IntVector integer -> integer.setSafe(index, (Integer) value);
+                case BitVector bit -> bit.setSafe(index, (Boolean) value ? 1 : 0);
+                case DateDayVector date -> date.setSafe(index, Math.toIntExact(((LocalDate) value).toEpochDay()));
+                case DecimalVector decimal -> decimal.setSafe(index,
+                        ((BigDecimal) value).setScale(decimal.getScale(), RoundingMode.UNNECESSARY));
+                case VarCharVector text -> text.setSafe(index, ((String) value).getBytes(StandardCharsets.UTF_8));
+                default -> throw new IllegalStateException("Unsupported Arrow vector: " + vector.getField());
+            }
+        }
+
+        @Override
+        public synchronized void close() {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            try {
+                writer.close();
+            } finally {
+                root.close();
+                allocator.close();
+            }
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package jp.asatex.revenue_calculator_backend_employee.export;
+
+import org.springframework.web.server.ServerWebInputException;
+
+/**
+ * Employee export format
+ * Formats of GET /api/v1/employee/export, with the file extension of each
+ */
+public enum EmployeeExportFormat {
+
+    NDJSON("ndjson", "ndjson"),
+    CSV("csv", "csv"),
+    ARROW("arrow", "arrows");
+
+    private final String parameter;
+
+    private final String extension;
+
+    EmployeeExportFormat(String parameter, String extension) {
+        this.parameter = parameter;
+        this.extension = extension;
+    }
+
+    /**
+     * Value of the format parameter
+     * @return Parameter value
+     */
+    public String getParameter() {
+        return parameter;
+    }
+
+    /**
+     * File extension of the exported content
+     * @return Extension without the leading dot
+     */
+    public String getExtension() {
+        return extension;
+    }
+
+    /**
+     * Parse the format parameter
+     * @param format Parameter value, NDJSON if null or blank
+     * @return Export format
+     * @throws ServerWebInputException if the format is unknown
+     */
+    public static EmployeeExportFormat parse(String format) {
+        if (format == null || format.isBlank()) {
+            return NDJSON;
+        }
+        for (EmployeeExportFormat candidate : values()) {
+            if (candidate.parameter.equalsIgnoreCase(format.trim())) {
+                return candidate;
+            }
+        }
+        throw new ServerWebInputException("Unknown export format: " + format + ", allowed: ndjson,csv,arrow");
+    }
+}
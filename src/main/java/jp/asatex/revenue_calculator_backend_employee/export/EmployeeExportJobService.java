@@ -0,0 +1,315 @@
+package jp.asatex.revenue_calculator_backend_employee.export;
+
+import jp.asatex.revenue_calculator_backend_employee.dto.EmployeeExportJob;
+import jp.asatex.revenue_calculator_backend_employee.exception.ExportJobNotFoundHandler;
+import jp.asatex.revenue_calculator_backend_employee.exception.ExportJobNotReadyHandler;
+import jp.asatex.revenue_calculator_backend_employee.exception.ExportJobQueueFullHandler;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Employee export job service
+ * Runs exports in the background into gzip compressed files under employee.export.jobs.directory, so a
+ * large export does not hold an HTTP connection open while it runs, and the finished file can be
+ * downloaded (and resumed) at the client's pace. At most employee.export.jobs.max-running exports
+ * run at once, further jobs queue up to employee.export.jobs.max-queued and submissions beyond that
+ * are rejected, so the queue and the jobs kept for it stay bounded. Jobs are kept in memory of this instance; a finished job and its
+ * file are removed employee.export.jobs.ttl after completion, and files left behind by a previous
+ * run once they are older than the TTL. The directory must be dedicated to export files
+ */
+@Component
+public class EmployeeExportJobService implements DisposableBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(EmployeeExportJobService.class);
+
+    private static final String FILE_SUFFIX = ".gz";
+
+    private static final String PART_SUFFIX = ".part";
+
+    /**
+     * Chunks buffered between the export and the file writer
+     */
+    private static final int WRITE_PREFETCH = 256;
+
+    private static final int GZIP_BUFFER_SIZE = 64 * 1024;
+
+    private static final Duration EMIT_TIMEOUT = Duration.ofSeconds(1);
+
+    private final Path directory;
+
+    private final Duration ttl;
+
+    private final Map<String, Job> jobs = new ConcurrentHashMap<>();
+
+    private final Sinks.Many<Job> queue = Sinks.many().unicast().onBackpressureBuffer();
+
+    /**
+     * Jobs submitted and not started yet
+     */
+    private final AtomicInteger queued = new AtomicInteger();
+
+    private final int maxQueued;
+
+    private final Disposable worker;
+
+    public EmployeeExportJobService(@Value("${employee.export.jobs.directory:build/exports}") Path directory,
+                                    @Value("${employee.export.jobs.ttl:PT1H}") Duration ttl,
+                                    @Value("${employee.export.jobs.max-running:2}") int maxRunning,
+                                    @Value("${employee.export.jobs.max-queued:20}") int maxQueued) {
+        this.directory = directory.toAbsolutePath();
+        this.ttl = ttl;
+        this.maxQueued = maxQueued;
+        this.worker = queue.asFlux()
+                .flatMap(this::run, maxRunning)
+                .subscribe();
+    }
+
+    /**
+     * Submit an export job
+     * The content is subscribed to when the job starts, on a bounded elastic thread
+     * @param format Export format
+     * @param content Exported content
+     * @return Submitted job
+     * @throws ExportJobQueueFullHandler if max-queued jobs are already waiting
+     */
+    public EmployeeExportJob submit(EmployeeExportFormat format, Flux<byte[]> content) {
+        if (queued.incrementAndGet() > maxQueued) {
+            queued.decrementAndGet();
+            throw new ExportJobQueueFullHandler("Export job queue is full, " + maxQueued + " jobs are waiting");
+        }
+        Job job = new Job(UUID.randomUUID().toString(), format, content);
+        jobs.put(job.id, job);
+        queue.emitNext(job, Sinks.EmitFailureHandler.busyLooping(EMIT_TIMEOUT));
+        return job.snapshot();
+    }
+
+    /**
+     * Get an export job
+     * @param jobId Job ID
+     * @return Job
+     * @throws ExportJobNotFoundHandler if there is no such job
+     */
+    public EmployeeExportJob getJob(String jobId) {
+        return findJob(jobId).snapshot();
+    }
+
+    /**
+     * Get the file of a completed export job
+     * @param jobId Job ID
+     * @return Gzip compressed file
+     * @throws ExportJobNotFoundHandler if there is no such job
+     * @throws ExportJobNotReadyHandler if the job has not completed
+     */
+    public Path getFile(String jobId) {
+        Job job = findJob(jobId);
+        EmployeeExportJob snapshot = job.snapshot();
+        if (snapshot.getStatus() != EmployeeExportJob.Status.COMPLETED) {
+            throw new ExportJobNotReadyHandler("Export job " + jobId + " is " + snapshot.getStatus(), snapshot);
+        }
+        return job.file;
+    }
+
+    /**
+     * Remove expired jobs with their files, and files of a previous run older than the TTL
+     * @return Mono<Integer> number of removed files
+     */
+    public Mono<Integer> purgeExpired() {
+        return Mono.fromCallable(this::purge)
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    @Override
+    public void destroy() {
+        worker.dispose();
+    }
+
+    private Job findJob(String jobId) {
+        Job job = jobs.get(jobId);
+        if (job == null) {
+            throw new ExportJobNotFoundHandler("Export job not found: " + jobId);
+        }
+        return job;
+    }
+
+    private Mono<Void> run(Job job) {
+        Path part = job.file.resolveSibling(job.file.getFileName() + PART_SUFFIX);
+        return Mono.defer(() -> {
+                    queued.decrementAndGet();
+                    return write(job.start(), part);
+                })
+                .then(Mono.fromCallable(() -> {
+                    Files.move(part, job.file, StandardCopyOption.ATOMIC_MOVE);
+                    return Files.size(job.file);
+                }))
+                .subscribeOn(Schedulers.boundedElastic())
+                .doOnNext(fileSize -> {
+                    job.complete(fileSize);
+                    logger.info("Export job {} completed, {} bytes", job.id, fileSize);
+                })
+                .onErrorResume(error -> {
+                    logger.error("Export job {} failed", job.id, error);
+                    job.fail(error.getMessage());
+                    deleteQuietly(part);
+                    return Mono.empty();
+                })
+                .then();
+    }
+
+    private static Mono<Void> write(Flux<byte[]> content, Path part) {
+        return Flux.using(() -> open(part),
+                        out -> content.publishOn(Schedulers.boundedElastic(), WRITE_PREFETCH)
+                                .doOnNext(chunk -> write(out, chunk)),
+                        EmployeeExportJobService::close)
+                .then();
+    }
+
+    private static OutputStream open(Path part) throws IOException {
+        Files.createDirectories(part.getParent());
+        return new GZIPOutputStream(Files.newOutputStream(part), GZIP_BUFFER_SIZE);
+    }
+
+    private static void write(OutputStream out, byte[] chunk) {
+        try {
+            out.write(chunk);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void close(OutputStream out) {
+        try {
+            out.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private int purge() throws IOException {
+        int removed = 0;
+        LocalDateTime now = LocalDateTime.now();
+        for (Job job : jobs.values()) {
+            if (job.isExpired(now) && jobs.remove(job.id, job)) {
+                if (Files.deleteIfExists(job.file)) {
+                    removed++;
+                }
+            }
+        }
+        if (!Files.isDirectory(directory)) {
+            return removed;
+        }
+        Instant cutoff = Instant.now().minus(ttl);
+        List<Path> files;
+        try (Stream<Path> listing = Files.list(directory)) {
+            files = listing.filter(EmployeeExportJobService::isExportFile).toList();
+        }
+        for (Path file : files) {
+            String name = file.getFileName().toString();
+            if (!jobs.containsKey(name.substring(0, name.indexOf('.')))
+                    && Files.getLastModifiedTime(file).toInstant().isBefore(cutoff)
+                    && Files.deleteIfExists(file)) {
+                removed++;
+            }
+        }
+        return removed;
+    }
+
+    private static boolean isExportFile(Path file) {
+        String name = file.getFileName().toString();
+        return name.indexOf('.') > 0 && (name.endsWith(FILE_SUFFIX) || name.endsWith(FILE_SUFFIX + PART_SUFFIX));
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            logger.warn("Failed to delete {}", file, e);
+        }
+    }
+
+    /**
+     * Job state, changed by the worker and read by status requests
+     */
+    private final class Job {
+
+        private final String id;
+
+        private final EmployeeExportFormat format;
+
+        private final Path file;
+
+        private final LocalDateTime submittedAt = LocalDateTime.now();
+
+        private Flux<byte[]> content;
+
+        private EmployeeExportJob.Status status = EmployeeExportJob.Status.QUEUED;
+
+        private LocalDateTime completedAt;
+
+        private Long fileSize;
+
+        private String error;
+
+        private Job(String id, EmployeeExportFormat format, Flux<byte[]> content) {
+            this.id = id;
+            this.format = format;
+            this.file = directory.resolve(id + "." + format.getExtension() + FILE_SUFFIX);
+            this.content = content;
+        }
+
+        /**
+         * Mark the job running and hand over its content, which is not kept afterwards
+         */
+        private synchronized Flux<byte[]> start() {
+            Flux<byte[]> started = content;
+            content = null;
+            status = EmployeeExportJob.Status.RUNNING;
+            return started;
+        }
+
+        private synchronized void complete(long size) {
+            status = EmployeeExportJob.Status.COMPLETED;
+            completedAt = LocalDateTime.now();
+            fileSize = size;
+        }
+
+        private synchronized void fail(String message) {
+            status = EmployeeExportJob.Status.FAILED;
+            completedAt = LocalDateTime.now();
+            error = message;
+        }
+
+        private synchronized boolean isExpired(LocalDateTime now) {
+            return completedAt != null && !completedAt.plus(ttl).isAfter(now);
+        }
+
+        private synchronized EmployeeExportJob snapshot() {
+            return new EmployeeExportJob(id, format.getParameter(), status, submittedAt, completedAt,
+                    completedAt != null ? completedAt.plus(ttl) : null, fileSize, error);
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package jp.asatex.revenue_calculator_backend_employee.mapper;
+
+import jp.asatex.revenue_calculator_backend_employee.dto.EmployeeDto;
+import jp.asatex.revenue_calculator_backend_employee.entity.Employee;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.ReportingPolicy;
+
+/**
+ * Employee mapper
+ * Converts between the Employee entity and EmployeeDto. The implementation is generated by MapStruct at
+ * compile time as plain getter and setter calls, without reflection at runtime.
+ * Unmapped target properties fail the build, so a column added to Employee or EmployeeDto must either be
+ * mapped or be listed below as deliberately ignored
+ */
+@Mapper(componentModel = "spring", unmappedTargetPolicy = ReportingPolicy.ERROR)
+public interface EmployeeMapper {
+
+    /**
+     * Convert Employee entity to EmployeeDto
+     * @param employee Employee entity
+     * @return EmployeeDto, or null for null
+     */
+    EmployeeDto toDto(Employee employee);
+
+    /**
+     * Convert EmployeeDto to Employee entity
+     * Audit and soft delete columns are maintained by the database and the repository, never by clients
+     * @param dto EmployeeDto
+     * @return Employee, or null for null
+     */
+    @Mapping(target = "createdAt", ignore = true)
+    @Mapping(target = "updatedAt", ignore = true)
+    @Mapping(target = "deletedAt", ignore = true)
+    @Mapping(target = "deletedBy", ignore = true)
+    @Mapping(target = "deleted", ignore = true)
+    @Mapping(target = "previousState", ignore = true)
+    Employee toEntity(EmployeeDto dto);
+}
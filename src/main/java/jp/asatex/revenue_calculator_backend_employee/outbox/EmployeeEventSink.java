@@ -0,0 +1,24 @@
+package jp.asatex.revenue_calculator_backend_employee.outbox;
+
+import jp.asatex.revenue_calculator_backend_employee.dto.EmployeeDomainEvent;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * Employee event sink
+ * Destination of the outbox relay. Select a built-in sink with employee.outbox.sink (memory, file)
+ * or set it to any other value and register an EmployeeEventSink bean for a broker
+ */
+public interface EmployeeEventSink {
+
+    /**
+     * Deliver a batch of events
+     * Events arrive in event ID order. Delivery is at least once: when this fails or the relay
+     * stops before recording success, the same events (same IDs) are delivered again, so the
+     * receiving side must tolerate duplicates
+     * @param events Events in event ID order, never empty
+     * @return Mono<Void> completing once the events are durably accepted
+     */
+    Mono<Void> deliver(List<EmployeeDomainEvent> events);
+}
@@ -0,0 +1,66 @@
+package jp.asatex.revenue_calculator_backend_employee.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jp.asatex.revenue_calculator_backend_employee.dto.EmployeeDomainEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * File employee event sink
+ * Appends events as newline delimited JSON to employee.outbox.file.path, for local use; a batch is
+ * flushed to disk before it counts as delivered
+ */
+@Component
+@ConditionalOnProperty(name = "employee.outbox.sink", havingValue = "file")
+public class FileEmployeeEventSink implements EmployeeEventSink {
+
+    private final ObjectMapper objectMapper;
+
+    private final Path path;
+
+    public FileEmployeeEventSink(ObjectMapper objectMapper,
+                                 @Value("${employee.outbox.file.path:build/outbox/employee-events.ndjson}") Path path) {
+        this.objectMapper = objectMapper;
+        this.path = path;
+    }
+
+    @Override
+    public Mono<Void> deliver(List<EmployeeDomainEvent> events) {
+        return Mono.<Void>fromCallable(() -> {
+                    write(events);
+                    return null;
+                })
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    private synchronized void write(List<EmployeeDomainEvent> events) throws IOException {
+        StringBuilder lines = new StringBuilder();
+        for (EmployeeDomainEvent event : events) {
+            lines.append(objectMapper.writeValueAsString(event)).append('\n');
+        }
+        Path parent = path.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        try (FileChannel channel = FileChannel.open(path,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            ByteBuffer buffer = ByteBuffer.wrap(lines.toString().getBytes(StandardCharsets.UTF_8));
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(false);
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package jp.asatex.revenue_calculator_backend_employee.outbox;
+
+import jp.asatex.revenue_calculator_backend_employee.dto.EmployeeDomainEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * In-memory employee event sink
+ * Keeps the most recent events in memory, for local development and tests; enable it there
+ * explicitly with employee.outbox.sink=memory, events it drops are gone for good
+ */
+@Component
+@ConditionalOnProperty(name = "employee.outbox.sink", havingValue = "memory")
+public class InMemoryEmployeeEventSink implements EmployeeEventSink {
+
+    private final Deque<EmployeeDomainEvent> events = new ArrayDeque<>();
+
+    private final int capacity;
+
+    public InMemoryEmployeeEventSink(@Value("${employee.outbox.memory.capacity:10000}") int capacity) {
+        this.capacity = Math.max(1, capacity);
+    }
+
+    @Override
+    public Mono<Void> deliver(List<EmployeeDomainEvent> batch) {
+        return Mono.fromRunnable(() -> {
+            synchronized (events) {
+                for (EmployeeDomainEvent event : batch) {
+                    if (events.size() == capacity) {
+                        events.removeFirst();
+                    }
+                    events.addLast(event);
+                }
+            }
+        });
+    }
+
+    /**
+     * @return Retained events, oldest first
+     */
+    public List<EmployeeDomainEvent> getEvents() {
+        synchronized (events) {
+            return List.copyOf(events);
+        }
+    }
+
+    /**
+     * Remove all retained events
+     */
+    public void clear() {
+        synchronized (events) {
+            events.clear();
+        }
+    }
+}
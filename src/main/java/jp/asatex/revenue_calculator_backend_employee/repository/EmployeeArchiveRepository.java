@@ -0,0 +1,124 @@
+package jp.asatex.revenue_calculator_backend_employee.repository;
+
+import io.r2dbc.spi.Row;
+import io.r2dbc.spi.RowMetadata;
+import jp.asatex.revenue_calculator_backend_employee.entity.ArchivedEmployee;
+import jp.asatex.revenue_calculator_backend_employee.entity.Employee;
+import org.springframework.data.r2dbc.convert.R2dbcConverter;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * Employee archive repository
+ * Moves soft deleted employees into employeeInfo_archive and reads them back
+ */
+@Repository
+public class EmployeeArchiveRepository {
+
+    /**
+     * Columns moved into the archive, named rather than matched by position: columns added to both
+     * tables later land in a different position in the archive, after archived_at
+     */
+    private static final String ARCHIVED_COLUMNS = EmployeeDtoRowMapper.SELECT_COLUMNS
+            + ", created_at, updated_at, is_deleted, deleted_at, deleted_by";
+
+    /**
+     * Moves one batch in a single statement: the DELETE ... RETURNING feeds the INSERT, so a row
+     * is never lost or duplicated. SKIP LOCKED lets concurrent instances take different batches
+     * and keeps the job from waiting on rows that are being written
+     */
+    private static final String ARCHIVE_BATCH_SQL = """
+            WITH moved AS (
+                DELETE FROM employeeInfo
+                WHERE employee_id IN (
+                    SELECT employee_id FROM employeeInfo
+                    WHERE is_deleted = true
+                      AND deleted_at < CURRENT_TIMESTAMP - (:retentionSeconds * INTERVAL '1 second')
+                    ORDER BY deleted_at
+                    LIMIT :batchSize
+                    FOR UPDATE SKIP LOCKED
+                )
+                RETURNING %1$s
+            )
+            INSERT INTO employeeInfo_archive (%1$s, archived_at)
+            SELECT %1$s, CURRENT_TIMESTAMP FROM moved
+            """.formatted(ARCHIVED_COLUMNS);
+
+    private static final String FIND_BY_ID_SQL =
+            "SELECT * FROM employeeInfo_archive WHERE employee_id = :employeeId";
+
+    private static final String FIND_PAGE_SQL =
+            "SELECT * FROM employeeInfo_archive ORDER BY archived_at DESC, employee_id DESC LIMIT :limit OFFSET :offset";
+
+    private static final String COUNT_SQL = "SELECT COUNT(*) FROM employeeInfo_archive";
+
+    private final DatabaseClient databaseClient;
+
+    private final R2dbcConverter converter;
+
+    public EmployeeArchiveRepository(DatabaseClient databaseClient, R2dbcConverter converter) {
+        this.databaseClient = databaseClient;
+        this.converter = converter;
+    }
+
+    /**
+     * Archive one batch of employees soft deleted longer ago than the retention period
+     * @param retention Minimum time since soft delete
+     * @param batchSize Maximum number of rows to move
+     * @return Mono<Long> number of rows archived
+     */
+    public Mono<Long> archiveBatch(Duration retention, int batchSize) {
+        return databaseClient.sql(ARCHIVE_BATCH_SQL.strip())
+                .bind("retentionSeconds", retention.toSeconds())
+                .bind("batchSize", batchSize)
+                .fetch()
+                .rowsUpdated();
+    }
+
+    /**
+     * Find archived employee by ID
+     * @param employeeId Employee ID
+     * @return Mono<ArchivedEmployee>
+     */
+    public Mono<ArchivedEmployee> findById(Long employeeId) {
+        return databaseClient.sql(FIND_BY_ID_SQL)
+                .bind("employeeId", employeeId)
+                .map(this::mapRow)
+                .one();
+    }
+
+    /**
+     * Find archived employees, most recently archived first
+     * @param offset Offset
+     * @param limit Limit
+     * @return Flux<ArchivedEmployee>
+     */
+    public Flux<ArchivedEmployee> findPage(int offset, int limit) {
+        return databaseClient.sql(FIND_PAGE_SQL)
+                .bind("limit", limit)
+                .bind("offset", offset)
+                .map(this::mapRow)
+                .all();
+    }
+
+    /**
+     * Count archived employees
+     * @return Mono<Long>
+     */
+    public Mono<Long> count() {
+        return databaseClient.sql(COUNT_SQL)
+                .map(row -> row.get(0, Long.class))
+                .one();
+    }
+
+    private ArchivedEmployee mapRow(Row row, RowMetadata metadata) {
+        return new ArchivedEmployee(
+                converter.read(Employee.class, row, metadata),
+                row.get("archived_at", LocalDateTime.class));
+    }
+}
@@ -0,0 +1,52 @@
+package jp.asatex.revenue_calculator_backend_employee.repository;
+
+import jp.asatex.revenue_calculator_backend_employee.entity.EmployeeAuditEntry;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * Employee audit repository
+ * Writes audit entries to employee_audit
+ */
+@Repository
+public class EmployeeAuditRepository {
+
+    /**
+     * Inserts a whole batch in a single statement, changed_at is bound as ISO text so that every
+     * column travels as one array parameter
+     */
+    private static final String INSERT_ALL_SQL = """
+            INSERT INTO employee_audit (employee_id, action, changes, changed_by, changed_at)
+            SELECT entry.employee_id, entry.action, CAST(entry.changes AS jsonb), entry.changed_by,
+                CAST(entry.changed_at AS timestamp)
+            FROM unnest(CAST(:employeeIds AS bigint[]), CAST(:actions AS text[]), CAST(:changes AS text[]),
+                CAST(:changedBy AS text[]), CAST(:changedAt AS text[]))
+                WITH ORDINALITY AS entry(employee_id, action, changes, changed_by, changed_at, position)
+            ORDER BY entry.position
+            """;
+
+    private final DatabaseClient databaseClient;
+
+    public EmployeeAuditRepository(DatabaseClient databaseClient) {
+        this.databaseClient = databaseClient;
+    }
+
+    /**
+     * Insert audit entries, in the given order
+     * @param entries Audit entries, must not be empty
+     * @return Mono<Long> number of entries inserted
+     */
+    public Mono<Long> insertAll(List<EmployeeAuditEntry> entries) {
+        return databaseClient.sql(INSERT_ALL_SQL.strip())
+                .bind("employeeIds", entries.stream().map(EmployeeAuditEntry::getEmployeeId).toArray(Long[]::new))
+                .bind("actions", entries.stream().map(EmployeeAuditEntry::getAction).toArray(String[]::new))
+                .bind("changes", entries.stream().map(EmployeeAuditEntry::getChanges).toArray(String[]::new))
+                .bind("changedBy", entries.stream().map(EmployeeAuditEntry::getChangedBy).toArray(String[]::new))
+                .bind("changedAt", entries.stream().map(entry -> entry.getChangedAt().toString()).toArray(String[]::new))
+                .fetch()
+                .rowsUpdated();
+    }
+}
@@ -0,0 +1,102 @@
+package jp.asatex.revenue_calculator_backend_employee.repository;
+
+import io.r2dbc.spi.Row;
+import jp.asatex.revenue_calculator_backend_employee.dto.EmployeeDto;
+import jp.asatex.revenue_calculator_backend_employee.dto.EmployeeField;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Employee DTO row mapper
+ * Maps rows selected with {@link #SELECT_COLUMNS} straight into EmployeeDto, without the reflective
+ * entity converter and the entity to DTO copy. The select list fixes the position of every column,
+ * so values are read by index and no column name is looked up per row
+ */
+public final class EmployeeDtoRowMapper {
+
+    /**
+     * Select list of every column of EmployeeDto, in the order of its all-arguments constructor followed by version
+     */
+    public static final String SELECT_COLUMNS = "employee_id, employee_number, name, furigana, birthday, email, "
+            + "basic_salary, dependent_count, no_health_insurance, no_pension_insurance, unit_price, "
+            + "individual_business_amount, position_allowance, housing_allowance, family_allowance, "
+            + "collection_fee_amount, payment_fee_amount, third_party_management_rate, "
+            + "third_party_profit_distribution_rate, phone_number, consumption_tax_rate, non_working_deduction, "
+            + "overtime_allowance, commuting_allowance, remarks, is_disabled, is_single_parent, is_widow, "
+            + "is_working_student, disabled_dependent_count, version";
+
+    /**
+     * Java type of each column of {@link #SELECT_COLUMNS}, in select order
+     */
+    private static final Class<?>[] COLUMN_TYPES = columnTypes();
+
+    private EmployeeDtoRowMapper() {
+    }
+
+    /**
+     * Map a row selected with {@link #SELECT_COLUMNS}
+     * @param row Row
+     * @return EmployeeDto
+     */
+    public static EmployeeDto map(Row row) {
+        EmployeeDto employee = new EmployeeDto(
+                row.get(0, Long.class),
+                row.get(1, String.class),
+                row.get(2, String.class),
+                row.get(3, String.class),
+                row.get(4, LocalDate.class),
+                row.get(5, String.class),
+                row.get(6, BigDecimal.class),
+                row.get(7, Integer.class),
+                row.get(8, Boolean.class),
+                row.get(9, Boolean.class),
+                row.get(10, BigDecimal.class),
+                row.get(11, BigDecimal.class),
+                row.get(12, BigDecimal.class),
+                row.get(13, BigDecimal.class),
+                row.get(14, BigDecimal.class),
+                row.get(15, BigDecimal.class),
+                row.get(16, BigDecimal.class),
+                row.get(17, BigDecimal.class),
+                row.get(18, BigDecimal.class),
+                row.get(19, String.class),
+                row.get(20, BigDecimal.class),
+                row.get(21, BigDecimal.class),
+                row.get(22, BigDecimal.class),
+                row.get(23, BigDecimal.class),
+                row.get(24, String.class),
+                row.get(25, Boolean.class),
+                row.get(26, Boolean.class),
+                row.get(27, Boolean.class),
+                row.get(28, Boolean.class),
+                row.get(29, Integer.class));
+        employee.setVersion(row.get(30, Long.class));
+        return employee;
+    }
+
+    /**
+     * Read the values of a row selected with {@link #SELECT_COLUMNS}, in select order
+     * For consumers that write the values elsewhere (e.g. columnar export) without building a DTO
+     * @param row Row
+     * @return Values: employee ID, the EmployeeField columns in enum order, version
+     */
+    public static Object[] values(Row row) {
+        Object[] values = new Object[COLUMN_TYPES.length];
+        for (int i = 0; i < COLUMN_TYPES.length; i++) {
+            values[i] = row.get(i, COLUMN_TYPES[i]);
+        }
+        return values;
+    }
+
+    private static Class<?>[] columnTypes() {
+        EmployeeField[] fields = EmployeeField.values();
+        Class<?>[] types = new Class<?>[fields.length + 2];
+        types[0] = Long.class;
+        for (int i = 0; i < fields.length; i++) {
+            types[i + 1] = fields[i].getType();
+        }
+        types[types.length - 1] = Long.class;
+        return types;
+    }
+}
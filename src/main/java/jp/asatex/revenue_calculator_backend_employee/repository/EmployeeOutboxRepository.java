@@ -0,0 +1,135 @@
+package jp.asatex.revenue_calculator_backend_employee.repository;
+
+import io.r2dbc.spi.Row;
+import jp.asatex.revenue_calculator_backend_employee.entity.EmployeeOutboxEntry;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Employee outbox repository
+ * Appends domain events to employeeInfo_outbox and lets the relay read and remove them
+ */
+@Repository
+public class EmployeeOutboxRepository {
+
+    /**
+     * Appends all events of one write in a single statement, in the given order
+     */
+    private static final String APPEND_SQL = """
+            INSERT INTO employeeInfo_outbox (employee_id, event_type, payload)
+            SELECT event.employee_id, :eventType, CAST(event.payload AS jsonb)
+            FROM unnest(CAST(:employeeIds AS bigint[]), CAST(:payloads AS text[]))
+                WITH ORDINALITY AS event(employee_id, payload, position)
+            ORDER BY event.position
+            """;
+
+    private static final String FIND_BATCH_SQL =
+            "SELECT event_id, employee_id, event_type, payload::text AS payload, created_at " +
+            "FROM employeeInfo_outbox ORDER BY event_id LIMIT :limit";
+
+    private static final String DELETE_SQL = "DELETE FROM employeeInfo_outbox WHERE event_id = ANY(:eventIds)";
+
+    /**
+     * Transaction scoped, released on commit or rollback
+     */
+    private static final String TRY_LOCK_SQL = "SELECT pg_try_advisory_xact_lock(:lockKey)";
+
+    private static final String LAG_SQL =
+            "SELECT COUNT(*) AS pending, " +
+            "CAST(EXTRACT(EPOCH FROM (LOCALTIMESTAMP - MIN(created_at))) AS double precision) AS lag_seconds " +
+            "FROM employeeInfo_outbox";
+
+    private final DatabaseClient databaseClient;
+
+    public EmployeeOutboxRepository(DatabaseClient databaseClient) {
+        this.databaseClient = databaseClient;
+    }
+
+    /**
+     * Append events, joins the caller's transaction
+     * @param eventType Event type of all events
+     * @param employeeIds Employee ID of each event
+     * @param payloads JSON payload of each event, same order as employeeIds
+     * @return Mono<Long> number of events appended
+     */
+    public Mono<Long> append(String eventType, List<Long> employeeIds, List<String> payloads) {
+        return databaseClient.sql(APPEND_SQL.strip())
+                .bind("eventType", eventType)
+                .bind("employeeIds", employeeIds.toArray(Long[]::new))
+                .bind("payloads", payloads.toArray(String[]::new))
+                .fetch()
+                .rowsUpdated();
+    }
+
+    /**
+     * Find the oldest events
+     * @param limit Maximum number of events
+     * @return Flux<EmployeeOutboxEntry> in event order
+     */
+    public Flux<EmployeeOutboxEntry> findBatch(int limit) {
+        return databaseClient.sql(FIND_BATCH_SQL)
+                .bind("limit", limit)
+                .map(this::mapRow)
+                .all();
+    }
+
+    /**
+     * Remove relayed events
+     * @param eventIds Event IDs
+     * @return Mono<Long> number of events removed
+     */
+    public Mono<Long> deleteAll(List<Long> eventIds) {
+        return databaseClient.sql(DELETE_SQL)
+                .bind("eventIds", eventIds.toArray(Long[]::new))
+                .fetch()
+                .rowsUpdated();
+    }
+
+    /**
+     * Try to take the relay lock for the current transaction
+     * @param lockKey Advisory lock key
+     * @return Mono<Boolean> whether the lock was taken
+     */
+    public Mono<Boolean> tryLock(long lockKey) {
+        return databaseClient.sql(TRY_LOCK_SQL)
+                .bind("lockKey", lockKey)
+                .map(row -> row.get(0, Boolean.class))
+                .one();
+    }
+
+    /**
+     * Number of pending events and age of the oldest one
+     * @return Mono<Lag>
+     */
+    public Mono<Lag> lag() {
+        return databaseClient.sql(LAG_SQL)
+                .map(row -> {
+                    Long pending = row.get("pending", Long.class);
+                    Double lagSeconds = row.get("lag_seconds", Double.class);
+                    return new Lag(pending != null ? pending : 0L, lagSeconds != null ? Math.max(0, lagSeconds) : 0);
+                })
+                .one();
+    }
+
+    private EmployeeOutboxEntry mapRow(Row row) {
+        return new EmployeeOutboxEntry(
+                row.get("event_id", Long.class),
+                row.get("employee_id", Long.class),
+                row.get("event_type", String.class),
+                row.get("payload", String.class),
+                row.get("created_at", LocalDateTime.class));
+    }
+
+    /**
+     * Outbox backlog
+     * @param pending Number of events not yet relayed
+     * @param lagSeconds Age of the oldest pending event in seconds, 0 when empty
+     */
+    public record Lag(long pending, double lagSeconds) {
+    }
+}
@@ -7,43 +7,54 @@ import org.springframework.stereotype.Repository;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.time.LocalDateTime;
+
 /**
  * Employee reactive repository interface
  * Provides CRUD operations for employee data
  */
 @Repository
-public interface EmployeeRepository extends ReactiveCrudRepository<Employee, Long> {
+public interface EmployeeRepository extends ReactiveCrudRepository<Employee, Long>, EmployeeRepositoryCustom {
+    
+    /**
+     * Find active (not soft deleted) employee by ID
+     * @param employeeId Employee ID
+     * @return Mono<Employee>
+     */
+    @Query("SELECT * FROM employeeInfo WHERE employee_id = :employeeId AND is_deleted = false")
+    Mono<Employee> findActiveById(Long employeeId);
     
     /**
-     * Find employee by employee number
+     * Find active (not soft deleted) employee by employee number
      * @param employeeNumber Employee number
      * @return Mono<Employee>
      */
-    @Query("SELECT * FROM employeeInfo WHERE employee_number = :employeeNumber")
+    @Query("SELECT * FROM employeeInfo WHERE employee_number = :employeeNumber AND is_deleted = false")
     Mono<Employee> findByEmployeeNumber(String employeeNumber);
     
     /**
-     * Find employeeInfo by name containing keyword
+     * Find active employeeInfo by name containing keyword
      * @param name Name keyword
      * @return Flux<Employee>
      */
-    @Query("SELECT * FROM employeeInfo WHERE name LIKE :name")
+    @Query("SELECT * FROM employeeInfo WHERE name LIKE :name AND is_deleted = false")
     Flux<Employee> findByNameContaining(String name);
     
     /**
-     * Find employeeInfo by furigana containing keyword
+     * Find active employeeInfo by furigana containing keyword
      * @param furigana Furigana keyword
      * @return Flux<Employee>
      */
-    @Query("SELECT * FROM employeeInfo WHERE furigana LIKE :furigana")
+    @Query("SELECT * FROM employeeInfo WHERE furigana LIKE :furigana AND is_deleted = false")
     Flux<Employee> findByFuriganaContaining(String furigana);
     
     /**
-     * Check if employee number exists
+     * Check if employee number is taken by an active employee
+     * Numbers of soft deleted employees can be reused, the unique index only covers active rows
      * @param employeeNumber Employee number
      * @return Mono<Boolean>
      */
-    @Query("SELECT COUNT(*) > 0 FROM employeeInfo WHERE employee_number = :employeeNumber")
+    @Query("SELECT COUNT(*) > 0 FROM employeeInfo WHERE employee_number = :employeeNumber AND is_deleted = false")
     Mono<Boolean> existsByEmployeeNumber(String employeeNumber);
     
     /**
@@ -108,6 +119,47 @@ public interface EmployeeRepository extends ReactiveCrudRepository<Employee, Lon
     @Query("SELECT * FROM employeeInfo WHERE is_deleted = false ORDER BY employee_number DESC LIMIT :limit OFFSET :offset")
     Flux<Employee> findAllWithPaginationByNumberDesc(int offset, int limit);
     
+    /**
+     * Change feed from the beginning - active and deleted employeeInfo ordered by (updated_at, employee_id)
+     * Rows changed within the settle window are left for the next call, so a transaction that
+     * commits after a later one cannot slip behind a cursor already handed out
+     * @param settleMillis Settle window in milliseconds
+     * @param limit Limit
+     * @return Flux<Employee>
+     */
+    @Query("SELECT * FROM employeeInfo WHERE updated_at < LOCALTIMESTAMP - (:settleMillis * INTERVAL '1 millisecond') " +
+           "ORDER BY updated_at ASC, employee_id ASC LIMIT :limit")
+    Flux<Employee> findChangesFromStart(long settleMillis, int limit);
+    
+    /**
+     * Change feed after a cursor - active and deleted employeeInfo ordered by (updated_at, employee_id)
+     * @param updatedAt Cursor update time
+     * @param employeeId Cursor employee ID
+     * @param settleMillis Settle window in milliseconds
+     * @param limit Limit
+     * @return Flux<Employee>
+     */
+    @Query("SELECT * FROM employeeInfo WHERE (updated_at, employee_id) > (:updatedAt, :employeeId) " +
+           "AND updated_at < LOCALTIMESTAMP - (:settleMillis * INTERVAL '1 millisecond') " +
+           "ORDER BY updated_at ASC, employee_id ASC LIMIT :limit")
+    Flux<Employee> findChangesAfter(LocalDateTime updatedAt, Long employeeId, long settleMillis, int limit);
+    
+    /**
+     * Active and deleted employeeInfo changed after a watermark, ordered by (updated_at, employee_id)
+     * Used to catch a restored roster snapshot up with the database
+     * @param watermark Update time the snapshot is known to be current at
+     * @return Flux<Employee>
+     */
+    @Query("SELECT * FROM employeeInfo WHERE updated_at > :watermark ORDER BY updated_at ASC, employee_id ASC")
+    Flux<Employee> findChangedAfter(LocalDateTime watermark);
+    
+    /**
+     * Current database time, on the clock updated_at is written with
+     * @return Mono<LocalDateTime>
+     */
+    @Query("SELECT LOCALTIMESTAMP")
+    Mono<LocalDateTime> currentTimestamp();
+    
     /**
      * Count total number of all employeeInfo (excluding deleted)
      * @return Mono<Long>
@@ -0,0 +1,169 @@
+package jp.asatex.revenue_calculator_backend_employee.repository;
+
+import io.r2dbc.spi.Row;
+import jp.asatex.revenue_calculator_backend_employee.common.FieldSelection;
+import jp.asatex.revenue_calculator_backend_employee.dto.EmployeeDto;
+import jp.asatex.revenue_calculator_backend_employee.dto.EmployeeField;
+import jp.asatex.revenue_calculator_backend_employee.entity.Employee;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Employee repository custom fragment
+ * Provides single-statement write operations, and reads mapped straight into DTOs or projected
+ * onto selected fields, that derived queries cannot express
+ */
+public interface EmployeeRepositoryCustom {
+
+    /**
+     * Update all business columns of an active (not soft deleted) employee in one statement
+     * and increment its version
+     * @param employeeId Employee ID
+     * @param employee Employee data to write
+     * @param expectedVersion Version the caller read, or null to skip the version check
+     * @return Mono<Employee> the updated row carrying the row before the write as previous state,
+     *         or empty if no active employee has the ID and expected version
+     */
+    Mono<Employee> updateActiveById(Long employeeId, Employee employee, Long expectedVersion);
+
+    /**
+     * Update only the given columns of an active (not soft deleted) employee in one statement
+     * and increment its version
+     * @param employeeId Employee ID
+     * @param changes New column values keyed by field, null values clear the column; must not be empty
+     * @param expectedVersion Version the caller read, or null to skip the version check
+     * @return Mono<Employee> the updated row carrying the row before the write as previous state,
+     *         or empty if no active employee has the ID and expected version
+     */
+    Mono<Employee> patchActiveById(Long employeeId, Map<EmployeeField, Object> changes, Long expectedVersion);
+
+    /**
+     * Soft delete an active employee by ID in one statement
+     * @param employeeId Employee ID
+     * @param deletedBy Who deleted the employee
+     * @return Mono<Employee> the deleted row, or empty if no active employee has the ID
+     */
+    Mono<Employee> softDeleteById(Long employeeId, String deletedBy);
+
+    /**
+     * Soft delete an active employee by employee number in one statement
+     * @param employeeNumber Employee number
+     * @param deletedBy Who deleted the employee
+     * @return Mono<Employee> the deleted row, or empty if no active employee has the number
+     */
+    Mono<Employee> softDeleteByEmployeeNumber(String employeeNumber, String deletedBy);
+
+    /**
+     * Soft delete all active employees matching any of the IDs or employee numbers in one statement
+     * @param employeeIds Employee IDs, may be empty
+     * @param employeeNumbers Employee numbers, may be empty
+     * @param deletedBy Who deleted the employees
+     * @return Flux<Employee> the deleted rows
+     */
+    Flux<Employee> softDeleteAll(Collection<Long> employeeIds, Collection<String> employeeNumbers, String deletedBy);
+
+    /**
+     * Read an active employee by ID straight into a DTO
+     * @param employeeId Employee ID
+     * @return Mono<EmployeeDto> the employee, or empty if no active employee has the ID
+     */
+    Mono<EmployeeDto> findActiveDtoById(Long employeeId);
+
+    /**
+     * Read an active employee by employee number straight into a DTO
+     * @param employeeNumber Employee number
+     * @return Mono<EmployeeDto> the employee, or empty if no active employee has the number
+     */
+    Mono<EmployeeDto> findActiveDtoByEmployeeNumber(String employeeNumber);
+
+    /**
+     * Read active employees whose name matches a LIKE pattern straight into DTOs
+     * @param name Name pattern
+     * @return Flux<EmployeeDto>
+     */
+    Flux<EmployeeDto> findActiveDtosByNameContaining(String name);
+
+    /**
+     * Read active employees whose furigana matches a LIKE pattern straight into DTOs
+     * @param furigana Furigana pattern
+     * @return Flux<EmployeeDto>
+     */
+    Flux<EmployeeDto> findActiveDtosByFuriganaContaining(String furigana);
+
+    /**
+     * Read a page of active employees straight into DTOs
+     * @param sortColumn Sort column, one of employee_id, name or employee_number
+     * @param descending Whether to sort descending
+     * @param offset Offset
+     * @param limit Limit
+     * @return Flux<EmployeeDto>
+     */
+    Flux<EmployeeDto> findActiveDtoPage(String sortColumn, boolean descending, int offset, int limit);
+
+    /**
+     * Stream every active employee straight into DTOs, in employee ID order
+     * Rows are fetched from a cursor fetchSize at a time as downstream demand arrives, so the
+     * result set is never held in memory. Run it in a transaction: the cursor lives in the
+     * transaction, and a repeatable read transaction gives the stream a consistent snapshot
+     * @param fetchSize Rows fetched per round trip
+     * @return Flux<EmployeeDto>
+     */
+    Flux<EmployeeDto> streamActiveDtos(int fetchSize);
+
+    /**
+     * Stream every active employee row, in employee ID order
+     * Like streamActiveDtos, for readers that consume the row values without building a DTO.
+     * Rows hold the columns of {@link EmployeeDtoRowMapper#SELECT_COLUMNS}, in that order
+     * @param fetchSize Rows fetched per round trip
+     * @param mapper Reads one row, called while the row is valid
+     * @return Flux<T> mapped rows
+     */
+    <T> Flux<T> streamActive(int fetchSize, Function<Row, T> mapper);
+
+    /**
+     * Read the selected columns of an active employee by ID
+     * @param employeeId Employee ID
+     * @param fields Selected fields
+     * @return Mono<Map<String, Object>> selected values keyed by property, or empty if no active employee has the ID
+     */
+    Mono<Map<String, Object>> findActiveFieldsById(Long employeeId, FieldSelection fields);
+
+    /**
+     * Read the selected columns of an active employee by employee number
+     * @param employeeNumber Employee number
+     * @param fields Selected fields
+     * @return Mono<Map<String, Object>> selected values keyed by property, or empty if no active employee has the number
+     */
+    Mono<Map<String, Object>> findActiveFieldsByEmployeeNumber(String employeeNumber, FieldSelection fields);
+
+    /**
+     * Read the selected columns of active employees whose name matches a LIKE pattern
+     * @param name Name pattern
+     * @param fields Selected fields
+     * @return Flux<Map<String, Object>> selected values keyed by property
+     */
+    Flux<Map<String, Object>> findActiveFieldsByNameContaining(String name, FieldSelection fields);
+
+    /**
+     * Read the selected columns of active employees whose furigana matches a LIKE pattern
+     * @param furigana Furigana pattern
+     * @param fields Selected fields
+     * @return Flux<Map<String, Object>> selected values keyed by property
+     */
+    Flux<Map<String, Object>> findActiveFieldsByFuriganaContaining(String furigana, FieldSelection fields);
+
+    /**
+     * Read the selected columns of a page of active employees
+     * @param fields Selected fields
+     * @param sortColumn Sort column, one of employee_id, name or employee_number
+     * @param descending Whether to sort descending
+     * @param offset Offset
+     * @param limit Limit
+     * @return Flux<Map<String, Object>> selected values keyed by property
+     */
+    Flux<Map<String, Object>> findActiveFieldsPage(FieldSelection fields, String sortColumn, boolean descending, int offset, int limit);
+}
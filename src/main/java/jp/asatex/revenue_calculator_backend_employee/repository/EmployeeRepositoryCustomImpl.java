@@ -0,0 +1,336 @@
+package jp.asatex.revenue_calculator_backend_employee.repository;
+
+import io.r2dbc.spi.Row;
+import io.r2dbc.spi.RowMetadata;
+import jp.asatex.revenue_calculator_backend_employee.common.FieldSelection;
+import jp.asatex.revenue_calculator_backend_employee.dto.EmployeeDto;
+import jp.asatex.revenue_calculator_backend_employee.dto.EmployeeField;
+import jp.asatex.revenue_calculator_backend_employee.entity.Employee;
+import org.springframework.data.r2dbc.convert.R2dbcConverter;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.r2dbc.core.Parameter;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Employee repository custom fragment implementation
+ * Uses DatabaseClient with UPDATE ... RETURNING so that writes need a single round trip.
+ * Updates join the locked row as it was before the write, so the audit diff needs no extra read.
+ * Reads select an explicit column list and read it by index, straight into EmployeeDto
+ * (see EmployeeDtoRowMapper) or, for projected reads, into plain maps of the requested columns,
+ * without materializing an Employee
+ */
+class EmployeeRepositoryCustomImpl implements EmployeeRepositoryCustom {
+
+    private static final String UPDATE_ACTIVE_BY_ID_SQL = """
+            UPDATE employeeInfo AS e SET
+                version = e.version + 1,
+                employee_number = :employeeNumber,
+                name = :name,
+                furigana = :furigana,
+                birthday = :birthday,
+                email = :email,
+                basic_salary = :basicSalary,
+                dependent_count = :dependentCount,
+                no_health_insurance = :noHealthInsurance,
+                no_pension_insurance = :noPensionInsurance,
+                unit_price = :unitPrice,
+                individual_business_amount = :individualBusinessAmount,
+                position_allowance = :positionAllowance,
+                housing_allowance = :housingAllowance,
+                family_allowance = :familyAllowance,
+                collection_fee_amount = :collectionFeeAmount,
+                payment_fee_amount = :paymentFeeAmount,
+                third_party_management_rate = :thirdPartyManagementRate,
+                third_party_profit_distribution_rate = :thirdPartyProfitDistributionRate,
+                phone_number = :phoneNumber,
+                consumption_tax_rate = :consumptionTaxRate,
+                non_working_deduction = :nonWorkingDeduction,
+                overtime_allowance = :overtimeAllowance,
+                commuting_allowance = :commutingAllowance,
+                remarks = :remarks,
+                is_disabled = :isDisabled,
+                is_single_parent = :isSingleParent,
+                is_widow = :isWidow,
+                is_working_student = :isWorkingStudent,
+                disabled_dependent_count = :disabledDependentCount
+            """;
+
+    /**
+     * Locks the active row and keeps its state before the write for RETURNING_WITH_PREVIOUS
+     */
+    private static final String FROM_PREVIOUS_SQL =
+            " FROM (SELECT * FROM employeeInfo WHERE employee_id = :employeeId AND is_deleted = false FOR UPDATE) AS previous" +
+            " WHERE e.employee_id = previous.employee_id";
+
+    private static final String SOFT_DELETE_SQL = """
+            UPDATE employeeInfo SET
+                is_deleted = true,
+                deleted_at = CURRENT_TIMESTAMP,
+                deleted_by = :deletedBy,
+                version = version + 1
+            WHERE is_deleted = false AND\s""";
+
+    private static final String VERSION_PREDICATE = " AND e.version = :expectedVersion";
+
+    private static final String RETURNING_ALL = " RETURNING *";
+
+    private static final String RETURNING_WITH_PREVIOUS = " RETURNING e.*, to_jsonb(previous)::text AS previous_state";
+
+    private static final String FROM_ACTIVE_SQL = " FROM employeeInfo WHERE is_deleted = false";
+
+    private static final String SELECT_ACTIVE_DTO_SQL = "SELECT " + EmployeeDtoRowMapper.SELECT_COLUMNS + FROM_ACTIVE_SQL;
+
+    private static final Set<String> SORT_COLUMNS = Set.of("employee_id", "name", "employee_number");
+
+    private final DatabaseClient databaseClient;
+    private final R2dbcConverter converter;
+
+    EmployeeRepositoryCustomImpl(DatabaseClient databaseClient, R2dbcConverter converter) {
+        this.databaseClient = databaseClient;
+        this.converter = converter;
+    }
+
+    @Override
+    public Mono<Employee> updateActiveById(Long employeeId, Employee employee, Long expectedVersion) {
+        DatabaseClient.GenericExecuteSpec spec = databaseClient
+                .sql(UPDATE_ACTIVE_BY_ID_SQL.strip() + FROM_PREVIOUS_SQL + versionPredicate(expectedVersion) + RETURNING_WITH_PREVIOUS);
+        return bindVersion(spec, expectedVersion)
+                .bind("employeeId", employeeId)
+                .bind("employeeNumber", Parameter.fromOrEmpty(employee.getEmployeeNumber(), String.class))
+                .bind("name", Parameter.fromOrEmpty(employee.getName(), String.class))
+                .bind("furigana", Parameter.fromOrEmpty(employee.getFurigana(), String.class))
+                .bind("birthday", Parameter.fromOrEmpty(employee.getBirthday(), LocalDate.class))
+                .bind("email", Parameter.fromOrEmpty(employee.getEmail(), String.class))
+                .bind("basicSalary", Parameter.fromOrEmpty(employee.getBasicSalary(), BigDecimal.class))
+                .bind("dependentCount", Parameter.fromOrEmpty(employee.getDependentCount(), Integer.class))
+                .bind("noHealthInsurance", Parameter.fromOrEmpty(employee.getNoHealthInsurance(), Boolean.class))
+                .bind("noPensionInsurance", Parameter.fromOrEmpty(employee.getNoPensionInsurance(), Boolean.class))
+                .bind("unitPrice", Parameter.fromOrEmpty(employee.getUnitPrice(), BigDecimal.class))
+                .bind("individualBusinessAmount", Parameter.fromOrEmpty(employee.getIndividualBusinessAmount(), BigDecimal.class))
+                .bind("positionAllowance", Parameter.fromOrEmpty(employee.getPositionAllowance(), BigDecimal.class))
+                .bind("housingAllowance", Parameter.fromOrEmpty(employee.getHousingAllowance(), BigDecimal.class))
+                .bind("familyAllowance", Parameter.fromOrEmpty(employee.getFamilyAllowance(), BigDecimal.class))
+                .bind("collectionFeeAmount", Parameter.fromOrEmpty(employee.getCollectionFeeAmount(), BigDecimal.class))
+                .bind("paymentFeeAmount", Parameter.fromOrEmpty(employee.getPaymentFeeAmount(), BigDecimal.class))
+                .bind("thirdPartyManagementRate", Parameter.fromOrEmpty(employee.getThirdPartyManagementRate(), BigDecimal.class))
+                .bind("thirdPartyProfitDistributionRate", Parameter.fromOrEmpty(employee.getThirdPartyProfitDistributionRate(), BigDecimal.class))
+                .bind("phoneNumber", Parameter.fromOrEmpty(employee.getPhoneNumber(), String.class))
+                .bind("consumptionTaxRate", Parameter.fromOrEmpty(employee.getConsumptionTaxRate(), BigDecimal.class))
+                .bind("nonWorkingDeduction", Parameter.fromOrEmpty(employee.getNonWorkingDeduction(), BigDecimal.class))
+                .bind("overtimeAllowance", Parameter.fromOrEmpty(employee.getOvertimeAllowance(), BigDecimal.class))
+                .bind("commutingAllowance", Parameter.fromOrEmpty(employee.getCommutingAllowance(), BigDecimal.class))
+                .bind("remarks", Parameter.fromOrEmpty(employee.getRemarks(), String.class))
+                .bind("isDisabled", Parameter.fromOrEmpty(employee.getIsDisabled(), Boolean.class))
+                .bind("isSingleParent", Parameter.fromOrEmpty(employee.getIsSingleParent(), Boolean.class))
+                .bind("isWidow", Parameter.fromOrEmpty(employee.getIsWidow(), Boolean.class))
+                .bind("isWorkingStudent", Parameter.fromOrEmpty(employee.getIsWorkingStudent(), Boolean.class))
+                .bind("disabledDependentCount", Parameter.fromOrEmpty(employee.getDisabledDependentCount(), Integer.class))
+                .map(this::readWithPreviousState)
+                .one();
+    }
+
+    @Override
+    public Mono<Employee> patchActiveById(Long employeeId, Map<EmployeeField, Object> changes, Long expectedVersion) {
+        if (changes.isEmpty()) {
+            return Mono.error(new IllegalArgumentException("At least one field must be changed"));
+        }
+        // Column names come from EmployeeField, values are always bound as parameters
+        String assignments = changes.keySet().stream()
+                .map(field -> field.getColumn() + " = :" + field.getProperty())
+                .collect(Collectors.joining(", "));
+        DatabaseClient.GenericExecuteSpec spec = databaseClient
+                .sql("UPDATE employeeInfo AS e SET version = e.version + 1, " + assignments
+                        + FROM_PREVIOUS_SQL + versionPredicate(expectedVersion) + RETURNING_WITH_PREVIOUS)
+                .bind("employeeId", employeeId);
+        spec = bindVersion(spec, expectedVersion);
+        for (Map.Entry<EmployeeField, Object> change : changes.entrySet()) {
+            EmployeeField field = change.getKey();
+            spec = spec.bind(field.getProperty(), Parameter.fromOrEmpty(change.getValue(), field.getType()));
+        }
+        return spec
+                .map(this::readWithPreviousState)
+                .one();
+    }
+
+    @Override
+    public Mono<Employee> softDeleteById(Long employeeId, String deletedBy) {
+        return databaseClient.sql(SOFT_DELETE_SQL + "employee_id = :employeeId" + RETURNING_ALL)
+                .bind("employeeId", employeeId)
+                .bind("deletedBy", deletedBy)
+                .map((row, metadata) -> converter.read(Employee.class, row, metadata))
+                .one();
+    }
+
+    @Override
+    public Mono<Employee> softDeleteByEmployeeNumber(String employeeNumber, String deletedBy) {
+        return databaseClient.sql(SOFT_DELETE_SQL + "employee_number = :employeeNumber" + RETURNING_ALL)
+                .bind("employeeNumber", employeeNumber)
+                .bind("deletedBy", deletedBy)
+                .map((row, metadata) -> converter.read(Employee.class, row, metadata))
+                .one();
+    }
+
+    @Override
+    public Flux<Employee> softDeleteAll(Collection<Long> employeeIds, Collection<String> employeeNumbers, String deletedBy) {
+        return databaseClient.sql(SOFT_DELETE_SQL
+                        + "(employee_id = ANY(:employeeIds) OR employee_number = ANY(:employeeNumbers))" + RETURNING_ALL)
+                .bind("employeeIds", employeeIds.toArray(new Long[0]))
+                .bind("employeeNumbers", employeeNumbers.toArray(new String[0]))
+                .bind("deletedBy", deletedBy)
+                .map((row, metadata) -> converter.read(Employee.class, row, metadata))
+                .all();
+    }
+
+    @Override
+    public Mono<EmployeeDto> findActiveDtoById(Long employeeId) {
+        return databaseClient.sql(SELECT_ACTIVE_DTO_SQL + " AND employee_id = :employeeId")
+                .bind("employeeId", employeeId)
+                .map(EmployeeDtoRowMapper::map)
+                .one();
+    }
+
+    @Override
+    public Mono<EmployeeDto> findActiveDtoByEmployeeNumber(String employeeNumber) {
+        return databaseClient.sql(SELECT_ACTIVE_DTO_SQL + " AND employee_number = :employeeNumber")
+                .bind("employeeNumber", employeeNumber)
+                .map(EmployeeDtoRowMapper::map)
+                .one();
+    }
+
+    @Override
+    public Flux<EmployeeDto> findActiveDtosByNameContaining(String name) {
+        return databaseClient.sql(SELECT_ACTIVE_DTO_SQL + " AND name LIKE :name")
+                .bind("name", name)
+                .map(EmployeeDtoRowMapper::map)
+                .all();
+    }
+
+    @Override
+    public Flux<EmployeeDto> findActiveDtosByFuriganaContaining(String furigana) {
+        return databaseClient.sql(SELECT_ACTIVE_DTO_SQL + " AND furigana LIKE :furigana")
+                .bind("furigana", furigana)
+                .map(EmployeeDtoRowMapper::map)
+                .all();
+    }
+
+    @Override
+    public Flux<EmployeeDto> findActiveDtoPage(String sortColumn, boolean descending, int offset, int limit) {
+        if (!SORT_COLUMNS.contains(sortColumn)) {
+            return Flux.error(new IllegalArgumentException("Unsupported sort column: " + sortColumn));
+        }
+        return databaseClient.sql(SELECT_ACTIVE_DTO_SQL + pageClause(sortColumn, descending))
+                .bind("limit", limit)
+                .bind("offset", offset)
+                .map(EmployeeDtoRowMapper::map)
+                .all();
+    }
+
+    @Override
+    public Flux<EmployeeDto> streamActiveDtos(int fetchSize) {
+        return streamActive(fetchSize, EmployeeDtoRowMapper::map);
+    }
+
+    @Override
+    public <T> Flux<T> streamActive(int fetchSize, Function<Row, T> mapper) {
+        return databaseClient.sql(SELECT_ACTIVE_DTO_SQL + " ORDER BY employee_id")
+                .filter(statement -> statement.fetchSize(fetchSize))
+                .map(mapper)
+                .all();
+    }
+
+    @Override
+    public Mono<Map<String, Object>> findActiveFieldsById(Long employeeId, FieldSelection fields) {
+        return databaseClient.sql(selectActive(fields) + " AND employee_id = :employeeId")
+                .bind("employeeId", employeeId)
+                .map(row -> readFields(row, fields))
+                .one();
+    }
+
+    @Override
+    public Mono<Map<String, Object>> findActiveFieldsByEmployeeNumber(String employeeNumber, FieldSelection fields) {
+        return databaseClient.sql(selectActive(fields) + " AND employee_number = :employeeNumber")
+                .bind("employeeNumber", employeeNumber)
+                .map(row -> readFields(row, fields))
+                .one();
+    }
+
+    @Override
+    public Flux<Map<String, Object>> findActiveFieldsByNameContaining(String name, FieldSelection fields) {
+        return databaseClient.sql(selectActive(fields) + " AND name LIKE :name")
+                .bind("name", name)
+                .map(row -> readFields(row, fields))
+                .all();
+    }
+
+    @Override
+    public Flux<Map<String, Object>> findActiveFieldsByFuriganaContaining(String furigana, FieldSelection fields) {
+        return databaseClient.sql(selectActive(fields) + " AND furigana LIKE :furigana")
+                .bind("furigana", furigana)
+                .map(row -> readFields(row, fields))
+                .all();
+    }
+
+    @Override
+    public Flux<Map<String, Object>> findActiveFieldsPage(FieldSelection fields, String sortColumn, boolean descending, int offset, int limit) {
+        if (!SORT_COLUMNS.contains(sortColumn)) {
+            return Flux.error(new IllegalArgumentException("Unsupported sort column: " + sortColumn));
+        }
+        return databaseClient.sql(selectActive(fields) + pageClause(sortColumn, descending))
+                .bind("limit", limit)
+                .bind("offset", offset)
+                .map(row -> readFields(row, fields))
+                .all();
+    }
+
+    /**
+     * Text columns are compared under the "C" collation, the order EmployeeRosterSnapshot sorts by,
+     * and ties are broken by employee ID, so pages are stable across offsets
+     */
+    private static String pageClause(String sortColumn, boolean descending) {
+        String direction = descending ? " DESC" : " ASC";
+        String order = "employee_id".equals(sortColumn)
+                ? "employee_id" + direction
+                : sortColumn + " COLLATE \"C\"" + direction + ", employee_id" + direction;
+        return " ORDER BY " + order + " LIMIT :limit OFFSET :offset";
+    }
+
+    private static String selectActive(FieldSelection fields) {
+        // Column names come from the FieldSelection allowlist
+        return "SELECT " + fields.toSelectList() + FROM_ACTIVE_SQL;
+    }
+
+    private static Map<String, Object> readFields(Row row, FieldSelection fields) {
+        List<String> properties = fields.getProperties();
+        List<Class<?>> types = fields.getTypes();
+        Map<String, Object> values = new LinkedHashMap<>(properties.size() * 4 / 3 + 1);
+        for (int i = 0; i < properties.size(); i++) {
+            values.put(properties.get(i), row.get(i, types.get(i)));
+        }
+        return values;
+    }
+
+    private Employee readWithPreviousState(Row row, RowMetadata metadata) {
+        Employee employee = converter.read(Employee.class, row, metadata);
+        employee.setPreviousState(row.get("previous_state", String.class));
+        return employee;
+    }
+
+    private static String versionPredicate(Long expectedVersion) {
+        return expectedVersion != null ? VERSION_PREDICATE : "";
+    }
+
+    private static DatabaseClient.GenericExecuteSpec bindVersion(DatabaseClient.GenericExecuteSpec spec, Long expectedVersion) {
+        return expectedVersion != null ? spec.bind("expectedVersion", expectedVersion) : spec;
+    }
+}
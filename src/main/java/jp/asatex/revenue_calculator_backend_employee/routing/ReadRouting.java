@@ -0,0 +1,117 @@
+package jp.asatex.revenue_calculator_backend_employee.routing;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Read routing
+ * Decides per read whether it may be served by the read replica. Reads go to the replica only when
+ * one is configured and its lag is within employee.replica.max-lag; reads of an employee written by
+ * this instance within the last max-lag go to the primary, so a client reads its own writes.
+ * Without a replica every method returns the read unchanged
+ */
+@Component
+public class ReadRouting {
+
+    /**
+     * Reactor context key holding the route of a read
+     */
+    public static final String ROUTE_KEY = ReadRouting.class.getName() + ".ROUTE";
+
+    /**
+     * Route of reads served by the replica
+     */
+    public static final String REPLICA = "replica";
+
+    private static final String NUMBER_KEY_PREFIX = "number:";
+
+    private static final long MAX_RECENT_WRITES = 100_000;
+
+    private final ReplicaLagMonitor replicaLagMonitor;
+
+    /**
+     * Employees written within the lag bound, keyed like the employee cache
+     */
+    private final Cache<Object, Boolean> recentWrites;
+
+    @Autowired
+    public ReadRouting(Optional<ReplicaLagMonitor> replicaLagMonitor,
+                       @Value("${employee.replica.max-lag:PT5S}") Duration maxLag) {
+        this.replicaLagMonitor = replicaLagMonitor.orElse(null);
+        this.recentWrites = Caffeine.newBuilder()
+                .expireAfterWrite(maxLag)
+                .maximumSize(MAX_RECENT_WRITES)
+                .build();
+    }
+
+    /**
+     * Serve a read from the replica when it is within the lag bound
+     * @param read Read to route
+     * @return Mono<T> the routed read
+     */
+    public <T> Mono<T> fromReplica(Mono<T> read) {
+        return Mono.defer(() -> isReplicaUsable() ? read.contextWrite(context -> context.put(ROUTE_KEY, REPLICA)) : read);
+    }
+
+    /**
+     * Serve a read from the replica when it is within the lag bound
+     * @param read Read to route
+     * @return Flux<T> the routed read
+     */
+    public <T> Flux<T> fromReplica(Flux<T> read) {
+        return Flux.defer(() -> isReplicaUsable() ? read.contextWrite(context -> context.put(ROUTE_KEY, REPLICA)) : read);
+    }
+
+    /**
+     * Serve a read of one employee from the replica, unless the employee was written recently
+     * @param employeeId Employee ID
+     * @param read Read to route
+     * @return Mono<T> the routed read
+     */
+    public <T> Mono<T> fromReplicaById(Long employeeId, Mono<T> read) {
+        return Mono.defer(() -> recentWrites.getIfPresent(employeeId) != null ? read : fromReplica(read));
+    }
+
+    /**
+     * Serve a read of one employee from the replica, unless the employee was written recently
+     * @param employeeNumber Employee number
+     * @param read Read to route
+     * @return Mono<T> the routed read
+     */
+    public <T> Mono<T> fromReplicaByNumber(String employeeNumber, Mono<T> read) {
+        return Mono.defer(() -> recentWrites.getIfPresent(NUMBER_KEY_PREFIX + employeeNumber) != null ? read : fromReplica(read));
+    }
+
+    /**
+     * Remember a written employee, its reads stay on the primary for the lag bound
+     * @param employeeId Employee ID
+     * @param employeeNumber Employee number
+     */
+    public void recordWrite(Long employeeId, String employeeNumber) {
+        if (replicaLagMonitor == null) {
+            return;
+        }
+        if (employeeId != null) {
+            recentWrites.put(employeeId, Boolean.TRUE);
+        }
+        if (employeeNumber != null) {
+            recentWrites.put(NUMBER_KEY_PREFIX + employeeNumber, Boolean.TRUE);
+        }
+    }
+
+    /**
+     * Whether reads currently go to the replica
+     * @return true if a replica is configured and within the lag bound
+     */
+    public boolean isReplicaUsable() {
+        return replicaLagMonitor != null && replicaLagMonitor.isWithinLagBound();
+    }
+}
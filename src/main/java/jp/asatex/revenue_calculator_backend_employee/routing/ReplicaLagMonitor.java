@@ -0,0 +1,121 @@
+package jp.asatex.revenue_calculator_backend_employee.routing;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.r2dbc.spi.ConnectionFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+/**
+ * Replica lag monitor
+ * Periodically measures how far the replica's replay is behind the primary. The replica is usable
+ * for reads only while the last check succeeded, its WAL receiver is streaming and the lag is within
+ * employee.replica.max-lag; a failed check takes the replica out of rotation until the next successful one.
+ * Reading the WAL receiver status needs a superuser or a member of pg_read_all_stats, for any other
+ * replica user the receiver looks disconnected and reads stay on the primary
+ */
+@Component
+@ConditionalOnProperty(name = "employee.replica.enabled", havingValue = "true")
+public class ReplicaLagMonitor {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReplicaLagMonitor.class);
+
+    /**
+     * A replica that has replayed everything it received is up to date even when the primary has been
+     * idle for a while, otherwise the lag is the age of the last replayed transaction. Both only hold
+     * while the WAL receiver is streaming and has heard from the primary recently: a replica cut off
+     * from the primary has replayed everything it received too, and would otherwise report no lag
+     */
+    private static final String LAG_SQL = """
+            SELECT COALESCE(receiver.status = 'streaming'
+                    AND receiver.last_msg_receipt_time >= clock_timestamp() - (:maxSilenceMillis * INTERVAL '1 millisecond'),
+                    false) AS receiving,
+                CASE
+                    WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0
+                    ELSE COALESCE(CAST(EXTRACT(EPOCH FROM (clock_timestamp() - pg_last_xact_replay_timestamp())) AS double precision), 0)
+                END AS lag_seconds
+            FROM (SELECT 1) AS one
+            LEFT JOIN pg_stat_wal_receiver AS receiver ON true
+            """;
+
+    private final DatabaseClient replicaClient;
+
+    private final Duration maxLag;
+
+    private final Duration maxReceiverSilence;
+
+    private volatile double lagSeconds = Double.NaN;
+
+    public ReplicaLagMonitor(@Qualifier("replicaConnectionFactory") ConnectionFactory replicaConnectionFactory,
+                             @Value("${employee.replica.max-lag:PT5S}") Duration maxLag,
+                             @Value("${employee.replica.max-receiver-silence:PT1M}") Duration maxReceiverSilence,
+                             MeterRegistry meterRegistry) {
+        this.replicaClient = DatabaseClient.create(replicaConnectionFactory);
+        this.maxLag = maxLag;
+        this.maxReceiverSilence = maxReceiverSilence;
+        Gauge.builder("employee.replica.lag.seconds", this, monitor -> monitor.lagSeconds)
+                .description("Replay lag of the read replica, NaN while the replica cannot be reached or is not streaming")
+                .tag("service", "revenue-calculator-employee")
+                .tag("component", "employee-replica")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Measure the replica lag, scheduled and callable on demand
+     * @return Mono<Double> lag in seconds, NaN if the replica is not streaming from the primary,
+     * empty if the replica could not be reached
+     */
+    @Scheduled(initialDelay = 0, fixedDelayString = "${employee.replica.lag-check-interval:PT1S}")
+    public Mono<Double> check() {
+        return replicaClient.sql(LAG_SQL.strip())
+                .bind("maxSilenceMillis", maxReceiverSilence.toMillis())
+                .map(row -> Boolean.TRUE.equals(row.get("receiving", Boolean.class))
+                        ? row.get("lag_seconds", Double.class)
+                        : Double.NaN)
+                .one()
+                .timeout(maxLag)
+                .doOnNext(this::update)
+                .onErrorResume(error -> {
+                    if (!Double.isNaN(lagSeconds)) {
+                        logger.warn("Replica lag check failed, reads go to the primary", error);
+                    }
+                    lagSeconds = Double.NaN;
+                    return Mono.empty();
+                });
+    }
+
+    /**
+     * Whether reads may go to the replica
+     * @return true if the last check succeeded within the lag bound
+     */
+    public boolean isWithinLagBound() {
+        double lag = lagSeconds;
+        return !Double.isNaN(lag) && lag * 1000 <= maxLag.toMillis();
+    }
+
+    private void update(double lag) {
+        boolean wasWithinLagBound = isWithinLagBound();
+        lagSeconds = lag;
+        if (wasWithinLagBound != isWithinLagBound()) {
+            if (Double.isNaN(lag)) {
+                logger.warn("Replica is not streaming from the primary: reads go to the primary");
+                return;
+            }
+            logger.info("Replica lag {}s, bound {}ms: reads go to the {}", lag, maxLag.toMillis(),
+                    isWithinLagBound() ? "replica" : "primary");
+        }
+    }
+
+    public Duration getMaxLag() {
+        return maxLag;
+    }
+}
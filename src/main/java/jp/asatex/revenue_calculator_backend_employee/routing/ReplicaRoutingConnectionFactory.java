@@ -0,0 +1,37 @@
+package jp.asatex.revenue_calculator_backend_employee.routing;
+
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.Wrapped;
+import org.springframework.r2dbc.connection.lookup.AbstractRoutingConnectionFactory;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+
+/**
+ * Replica routing connection factory
+ * Hands out replica connections to subscriptions whose Reactor context carries the replica route
+ * set by ReadRouting, and primary connections to everything else. Transactions bind their
+ * connection when they begin, so transactional work always stays on the primary.
+ * Unwraps to the primary so that code needing a driver connection (LISTEN) gets the primary
+ */
+public class ReplicaRoutingConnectionFactory extends AbstractRoutingConnectionFactory implements Wrapped<ConnectionFactory> {
+
+    private final ConnectionFactory primary;
+
+    public ReplicaRoutingConnectionFactory(ConnectionFactory primary, ConnectionFactory replica) {
+        this.primary = primary;
+        setDefaultTargetConnectionFactory(primary);
+        setTargetConnectionFactories(Map.of(ReadRouting.REPLICA, replica));
+        setLenientFallback(false);
+    }
+
+    @Override
+    protected Mono<Object> determineCurrentLookupKey() {
+        return Mono.deferContextual(context -> Mono.justOrEmpty(context.getOrEmpty(ReadRouting.ROUTE_KEY)));
+    }
+
+    @Override
+    public ConnectionFactory unwrap() {
+        return primary;
+    }
+}
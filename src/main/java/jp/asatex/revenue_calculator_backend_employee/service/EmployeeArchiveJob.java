@@ -0,0 +1,44 @@
+package jp.asatex.revenue_calculator_backend_employee.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Employee archive background job
+ * Periodically moves long soft deleted employees to the archive table
+ * Disable with employee.archive.enabled=false
+ */
+@Component
+@ConditionalOnProperty(name = "employee.archive.enabled", havingValue = "true", matchIfMissing = true)
+public class EmployeeArchiveJob {
+    
+    private static final Logger logger = LoggerFactory.getLogger(EmployeeArchiveJob.class);
+    
+    private final AtomicBoolean running = new AtomicBoolean();
+    
+    @Autowired
+    private EmployeeArchiveService employeeArchiveService;
+    
+    /**
+     * Run one archival pass, skipped if the previous pass is still running
+     */
+    @Scheduled(initialDelayString = "${employee.archive.initial-delay:PT5M}",
+               fixedDelayString = "${employee.archive.interval:PT1H}")
+    public void archiveDeletedEmployees() {
+        if (!running.compareAndSet(false, true)) {
+            logger.debug("Previous archival pass still running, skipping");
+            return;
+        }
+        employeeArchiveService.archiveDeletedEmployees()
+                .doFinally(signal -> running.set(false))
+                .subscribe(
+                        total -> logger.debug("Archival pass finished, {} employees archived", total),
+                        error -> logger.error("Archival pass failed", error));
+    }
+}
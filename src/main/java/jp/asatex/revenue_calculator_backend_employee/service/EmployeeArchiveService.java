@@ -0,0 +1,123 @@
+package jp.asatex.revenue_calculator_backend_employee.service;
+
+import jp.asatex.revenue_calculator_backend_employee.common.PageRequest;
+import jp.asatex.revenue_calculator_backend_employee.common.PageResponse;
+import jp.asatex.revenue_calculator_backend_employee.dto.ArchivedEmployeeDto;
+import jp.asatex.revenue_calculator_backend_employee.entity.ArchivedEmployee;
+import jp.asatex.revenue_calculator_backend_employee.exception.EmployeeNotFoundHandler;
+import jp.asatex.revenue_calculator_backend_employee.mapper.EmployeeMapper;
+import jp.asatex.revenue_calculator_backend_employee.repository.EmployeeArchiveRepository;
+import io.micrometer.core.instrument.Counter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+/**
+ * Employee archive service layer
+ * Moves long soft deleted employees to the archive table and provides read access to them
+ */
+@Service
+public class EmployeeArchiveService {
+    
+    private static final Logger logger = LoggerFactory.getLogger(EmployeeArchiveService.class);
+    
+    @Autowired
+    private EmployeeArchiveRepository employeeArchiveRepository;
+    
+    @Autowired
+    private EmployeeMapper employeeMapper;
+    
+    @Autowired
+    private Counter employeeArchiveCounter;
+    
+    @Value("${employee.archive.retention:P90D}")
+    private Duration retention;
+    
+    @Value("${employee.archive.batch-size:200}")
+    private int batchSize;
+    
+    @Value("${employee.archive.batch-pause:PT0.5S}")
+    private Duration batchPause;
+    
+    @Value("${employee.archive.max-batches-per-run:100}")
+    private int maxBatchesPerRun;
+    
+    /**
+     * Archive employees soft deleted longer ago than the retention period
+     * Works in small batches, each its own statement and transaction, pausing between batches
+     * to spread lock and WAL load; stops at the first partial batch or after the per run limit
+     * @return Mono<Long> number of employees archived
+     */
+    public Mono<Long> archiveDeletedEmployees() {
+        logger.debug("Archiving employees deleted more than {} ago", retention);
+        
+        return employeeArchiveRepository.archiveBatch(retention, batchSize)
+                .expand(archived -> archived < batchSize
+                        ? Mono.empty()
+                        : Mono.delay(batchPause).then(employeeArchiveRepository.archiveBatch(retention, batchSize)))
+                .take(maxBatchesPerRun)
+                .doOnNext(employeeArchiveCounter::increment)
+                .reduce(0L, Long::sum)
+                .doOnSuccess(total -> {
+                    if (total > 0) {
+                        logger.info("Successfully archived {} deleted employees", total);
+                    }
+                })
+                .doOnError(error -> logger.error("Failed to archive deleted employees", error));
+    }
+    
+    /**
+     * Get archived employee by ID
+     * @param id Employee ID
+     * @return Mono<ArchivedEmployeeDto>
+     */
+    public Mono<ArchivedEmployeeDto> getArchivedEmployeeById(Long id) {
+        logger.debug("Retrieving archived employee with ID: {}", id);
+        
+        return employeeArchiveRepository.findById(id)
+                .map(this::convertToDto)
+                .switchIfEmpty(Mono.error(new EmployeeNotFoundHandler("Archived employee not found with ID: " + id)))
+                .doOnError(error -> logger.error("Failed to retrieve archived employee with ID: {}", id, error));
+    }
+    
+    /**
+     * Get archived employees with pagination, most recently archived first
+     * @param pageRequest Page request, sorting parameters are ignored
+     * @return Mono<PageResponse<ArchivedEmployeeDto>>
+     */
+    public Mono<PageResponse<ArchivedEmployeeDto>> getArchivedEmployees(PageRequest pageRequest) {
+        logger.debug("Retrieving archived employees: page={}, size={}", pageRequest.getPage(), pageRequest.getSize());
+        
+        return Mono.zip(employeeArchiveRepository.findPage(pageRequest.getOffset(), pageRequest.getSize())
+                                .map(this::convertToDto)
+                                .collectList(),
+                        employeeArchiveRepository.count())
+                .map(result -> new PageResponse<>(
+                        result.getT1(),
+                        pageRequest.getPage(),
+                        pageRequest.getSize(),
+                        result.getT2(),
+                        "archivedAt",
+                        "DESC"
+                ))
+                .doOnError(error -> logger.error("Failed to retrieve archived employees", error));
+    }
+    
+    /**
+     * Convert ArchivedEmployee to ArchivedEmployeeDto
+     * @param archivedEmployee Archived employee
+     * @return ArchivedEmployeeDto
+     */
+    private ArchivedEmployeeDto convertToDto(ArchivedEmployee archivedEmployee) {
+        return new ArchivedEmployeeDto(
+                employeeMapper.toDto(archivedEmployee.getEmployee()),
+                archivedEmployee.getEmployee().getDeletedAt(),
+                archivedEmployee.getEmployee().getDeletedBy(),
+                archivedEmployee.getArchivedAt());
+    }
+}
@@ -0,0 +1,44 @@
+package jp.asatex.revenue_calculator_backend_employee.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Employee audit flush background job
+ * Periodically writes queued employee audit entries to employee_audit
+ * Disable with employee.audit.flush.enabled=false
+ */
+@Component
+@ConditionalOnProperty(name = "employee.audit.flush.enabled", havingValue = "true", matchIfMissing = true)
+public class EmployeeAuditFlushJob {
+
+    private static final Logger logger = LoggerFactory.getLogger(EmployeeAuditFlushJob.class);
+
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    @Autowired
+    private EmployeeAuditService employeeAuditService;
+
+    /**
+     * Run one flush, skipped if the previous flush is still running
+     */
+    @Scheduled(initialDelayString = "${employee.audit.flush.initial-delay:PT5S}",
+               fixedDelayString = "${employee.audit.flush.interval:PT0.5S}")
+    public void flushAuditEntries() {
+        if (!running.compareAndSet(false, true)) {
+            logger.debug("Previous audit flush still running, skipping");
+            return;
+        }
+        employeeAuditService.flush()
+                .doFinally(signal -> running.set(false))
+                .subscribe(
+                        total -> logger.debug("Audit flush finished, {} entries taken off the queue", total),
+                        error -> logger.error("Audit flush failed", error));
+    }
+}
@@ -0,0 +1,285 @@
+package jp.asatex.revenue_calculator_backend_employee.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import jp.asatex.revenue_calculator_backend_employee.audit.BoundedRingBuffer;
+import jp.asatex.revenue_calculator_backend_employee.dto.EmployeeDomainEvent;
+import jp.asatex.revenue_calculator_backend_employee.dto.EmployeeDto;
+import jp.asatex.revenue_calculator_backend_employee.dto.EmployeeField;
+import jp.asatex.revenue_calculator_backend_employee.entity.EmployeeAuditEntry;
+import jp.asatex.revenue_calculator_backend_employee.repository.EmployeeAuditRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.NoTransactionException;
+import org.springframework.transaction.reactive.TransactionSynchronization;
+import org.springframework.transaction.reactive.TransactionSynchronizationManager;
+import reactor.core.publisher.Mono;
+
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Employee audit service layer
+ * Provides the field level audit trail: each committed change is turned into an entry holding the old
+ * and new value of every changed field and queued on a bounded ring buffer; entries are written to
+ * employee_audit in batches by EmployeeAuditFlushJob, so audit persistence never adds to request latency.
+ * When the queue is full the entry is dropped and counted instead of blocking the request
+ */
+@Service
+public class EmployeeAuditService implements DisposableBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(EmployeeAuditService.class);
+
+    /**
+     * No authenticated principal is available yet, changes are attributed like soft deletes
+     */
+    private static final String CHANGED_BY = "system";
+
+    private static final Duration SHUTDOWN_FLUSH_TIMEOUT = Duration.ofSeconds(10);
+
+    private final BoundedRingBuffer<EmployeeAuditEntry> queue;
+
+    private final EmployeeAuditRepository employeeAuditRepository;
+
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Reads stored rows without rounding numeric columns through double
+     */
+    private final ObjectReader rowReader;
+
+    private final Counter employeeAuditWriteCounter;
+
+    private final Counter employeeAuditDropCounter;
+
+    @Value("${employee.audit.batch-size:500}")
+    private int batchSize;
+
+    @Autowired
+    public EmployeeAuditService(@Value("${employee.audit.queue-capacity:8192}") int queueCapacity,
+                                EmployeeAuditRepository employeeAuditRepository,
+                                ObjectMapper objectMapper,
+                                @Qualifier("employeeAuditWriteCounter") Counter employeeAuditWriteCounter,
+                                @Qualifier("employeeAuditDropCounter") Counter employeeAuditDropCounter,
+                                MeterRegistry meterRegistry) {
+        this.queue = new BoundedRingBuffer<>(queueCapacity);
+        this.employeeAuditRepository = employeeAuditRepository;
+        this.objectMapper = objectMapper;
+        this.rowReader = objectMapper.reader().with(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS);
+        this.employeeAuditWriteCounter = employeeAuditWriteCounter;
+        this.employeeAuditDropCounter = employeeAuditDropCounter;
+        Gauge.builder("employee.audit.queue.depth", queue, BoundedRingBuffer::size)
+                .description("Employee audit entries waiting to be written")
+                .tag("service", "revenue-calculator-employee")
+                .tag("component", "employee-audit")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Record a created employee, every set field is recorded as a new value
+     * @param created Employee state after the insert
+     * @return Mono<Void> completes once the entry is queued, or registered to be queued on commit
+     */
+    public Mono<Void> recordCreated(EmployeeDto created) {
+        return Mono.fromCallable(() -> List.of(entry(EmployeeDomainEvent.EventType.CREATED, created.getEmployeeId(),
+                        Map.of(), valuesOf(created))))
+                .flatMap(this::enqueueAfterCommit);
+    }
+
+    /**
+     * Record an updated employee, only fields whose value changed are recorded
+     * @param previousState Row before the write as JSON keyed by column name, as returned by the update
+     * @param updated Employee state after the update
+     * @return Mono<Void> completes once the entry is queued, or registered to be queued on commit
+     */
+    public Mono<Void> recordUpdated(String previousState, EmployeeDto updated) {
+        return Mono.fromCallable(() -> {
+                    Map<EmployeeField, Object> previousValues = valuesOfRow(previousState);
+                    Map<EmployeeField, Object> updatedValues = valuesOf(updated);
+                    EmployeeAuditEntry entry = entry(EmployeeDomainEvent.EventType.UPDATED, updated.getEmployeeId(),
+                            previousValues, updatedValues);
+                    return entry != null ? List.of(entry) : List.<EmployeeAuditEntry>of();
+                })
+                .flatMap(this::enqueueAfterCommit);
+    }
+
+    /**
+     * Record deleted employees, every set field is recorded as an old value
+     * @param deleted Employee states at deletion
+     * @return Mono<Void> completes once the entries are queued, or registered to be queued on commit
+     */
+    public Mono<Void> recordDeleted(List<EmployeeDto> deleted) {
+        return Mono.fromCallable(() -> deleted.stream()
+                        .map(employee -> entry(EmployeeDomainEvent.EventType.DELETED, employee.getEmployeeId(),
+                                valuesOf(employee), Map.of()))
+                        .toList())
+                .flatMap(this::enqueueAfterCommit);
+    }
+
+    /**
+     * Write queued entries to employee_audit, one insert per batch, until the queue is drained
+     * A failed batch is logged and counted as dropped, it is not retried
+     * @return Mono<Long> number of entries taken off the queue
+     */
+    public Mono<Long> flush() {
+        return writeBatch()
+                .expand(taken -> taken < batchSize ? Mono.empty() : writeBatch())
+                .reduce(0L, Long::sum)
+                .doOnSuccess(total -> {
+                    if (total != null && total > 0) {
+                        logger.debug("Flushed {} employee audit entries", total);
+                    }
+                });
+    }
+
+    /**
+     * Number of entries waiting to be written
+     * @return queue depth
+     */
+    public int getQueueDepth() {
+        return queue.size();
+    }
+
+    /**
+     * Write what is still queued before the connection pool shuts down
+     */
+    @Override
+    public void destroy() {
+        try {
+            flush().block(SHUTDOWN_FLUSH_TIMEOUT);
+        } catch (RuntimeException e) {
+            logger.error("Failed to flush {} employee audit entries on shutdown", queue.size(), e);
+        }
+    }
+
+    private Mono<Long> writeBatch() {
+        return Mono.defer(() -> {
+            List<EmployeeAuditEntry> batch = new ArrayList<>(Math.min(batchSize, queue.size()));
+            queue.drainTo(batch, batchSize);
+            if (batch.isEmpty()) {
+                return Mono.just(0L);
+            }
+            return employeeAuditRepository.insertAll(batch)
+                    .doOnNext(employeeAuditWriteCounter::increment)
+                    .thenReturn((long) batch.size())
+                    .onErrorResume(error -> {
+                        logger.error("Failed to write {} employee audit entries", batch.size(), error);
+                        employeeAuditDropCounter.increment(batch.size());
+                        return Mono.just((long) batch.size());
+                    });
+        });
+    }
+
+    /**
+     * Queue entries once the surrounding transaction commits, so rolled back changes are never audited;
+     * without a transaction they are queued right away. Entries are stamped with the commit time when queued
+     */
+    private Mono<Void> enqueueAfterCommit(List<EmployeeAuditEntry> entries) {
+        if (entries.isEmpty()) {
+            return Mono.empty();
+        }
+        return TransactionSynchronizationManager.forCurrentTransaction()
+                .flatMap(synchronizationManager -> {
+                    if (!synchronizationManager.isSynchronizationActive()) {
+                        enqueue(entries);
+                        return Mono.<Void>empty();
+                    }
+                    synchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                        @Override
+                        public Mono<Void> afterCommit() {
+                            return Mono.fromRunnable(() -> enqueue(entries));
+                        }
+                    });
+                    return Mono.<Void>empty();
+                })
+                .onErrorResume(NoTransactionException.class, e -> Mono.fromRunnable(() -> enqueue(entries)));
+    }
+
+    private void enqueue(List<EmployeeAuditEntry> entries) {
+        LocalDateTime changedAt = LocalDateTime.now();
+        for (EmployeeAuditEntry entry : entries) {
+            entry.setChangedAt(changedAt);
+            if (!queue.offer(entry)) {
+                employeeAuditDropCounter.increment();
+                logger.debug("Employee audit queue full, dropped entry for employee ID: {}", entry.getEmployeeId());
+            }
+        }
+    }
+
+    /**
+     * Build an entry with the fields whose value differs, or null if no field changed
+     * The change time is set when the entry is queued after commit
+     */
+    private EmployeeAuditEntry entry(EmployeeDomainEvent.EventType action, Long employeeId,
+                                     Map<EmployeeField, Object> oldValues, Map<EmployeeField, Object> newValues) {
+        ObjectNode changes = objectMapper.createObjectNode();
+        for (EmployeeField field : EmployeeField.values()) {
+            Object oldValue = oldValues.get(field);
+            Object newValue = newValues.get(field);
+            if (!sameValue(oldValue, newValue)) {
+                ObjectNode change = changes.putObject(field.getProperty());
+                change.set("old", objectMapper.valueToTree(oldValue));
+                change.set("new", objectMapper.valueToTree(newValue));
+            }
+        }
+        if (changes.isEmpty()) {
+            return null;
+        }
+        return new EmployeeAuditEntry(employeeId, action.name(), changes.toString(), CHANGED_BY, null);
+    }
+
+    private Map<EmployeeField, Object> valuesOf(EmployeeDto employee) {
+        return values(objectMapper.valueToTree(employee), false);
+    }
+
+    private Map<EmployeeField, Object> valuesOfRow(String row) {
+        if (row == null) {
+            return Map.of();
+        }
+        try {
+            return values(rowReader.readTree(row), true);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException("Unreadable previous employee state", e);
+        }
+    }
+
+    private static Map<EmployeeField, Object> values(JsonNode node, boolean byColumn) {
+        Map<EmployeeField, Object> values = new EnumMap<>(EmployeeField.class);
+        for (EmployeeField field : EmployeeField.values()) {
+            Object value = field.readValue(node.get(byColumn ? field.getColumn() : field.getProperty()));
+            if (value != null) {
+                values.put(field, value);
+            }
+        }
+        return values;
+    }
+
+    /**
+     * Decimals are compared by value, the stored scale may differ from the one the client sent
+     */
+    private static boolean sameValue(Object oldValue, Object newValue) {
+        if (oldValue instanceof BigDecimal oldDecimal && newValue instanceof BigDecimal newDecimal) {
+            return oldDecimal.compareTo(newDecimal) == 0;
+        }
+        return Objects.equals(oldValue, newValue);
+    }
+}
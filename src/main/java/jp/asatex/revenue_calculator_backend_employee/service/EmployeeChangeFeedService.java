@@ -0,0 +1,97 @@
+package jp.asatex.revenue_calculator_backend_employee.service;
+
+import jp.asatex.revenue_calculator_backend_employee.common.ChangeCursor;
+import jp.asatex.revenue_calculator_backend_employee.dto.ChangeFeedResponse;
+import jp.asatex.revenue_calculator_backend_employee.dto.EmployeeChangeDto;
+import jp.asatex.revenue_calculator_backend_employee.entity.Employee;
+import jp.asatex.revenue_calculator_backend_employee.mapper.EmployeeMapper;
+import jp.asatex.revenue_calculator_backend_employee.repository.EmployeeRepository;
+import io.micrometer.core.instrument.Counter;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Employee change feed service layer
+ * Provides incremental synchronization: employees created, updated or soft deleted after a cursor
+ */
+@Service
+public class EmployeeChangeFeedService {
+    
+    private static final Logger logger = LoggerFactory.getLogger(EmployeeChangeFeedService.class);
+    
+    @Autowired
+    private EmployeeRepository employeeRepository;
+    
+    @Autowired
+    private EmployeeMapper employeeMapper;
+    
+    @Autowired
+    private Counter employeeQueryCounter;
+    
+    @Value("${employee.changes.settle-window:PT5S}")
+    private Duration settleWindow;
+    
+    /**
+     * The settle window is applied in whole milliseconds, reject values that would be silently truncated
+     */
+    @PostConstruct
+    void validateSettleWindow() {
+        if (settleWindow.isNegative() || settleWindow.getNano() % 1_000_000 != 0) {
+            throw new IllegalStateException("employee.changes.settle-window must be a non-negative whole number of milliseconds: "
+                    + settleWindow);
+        }
+    }
+    
+    /**
+     * Get changes after a cursor
+     * Reads one row more than requested to know whether another page is available
+     * @param since Cursor from the previous response, or null to start from the beginning
+     * @param limit Maximum number of changes
+     * @return Mono<ChangeFeedResponse>
+     */
+    public Mono<ChangeFeedResponse> getChanges(ChangeCursor since, int limit) {
+        logger.debug("Retrieving employee changes since: {}, limit: {}", since, limit);
+        employeeQueryCounter.increment();
+        
+        long settleMillis = settleWindow.toMillis();
+        Flux<Employee> changes = since == null
+                ? employeeRepository.findChangesFromStart(settleMillis, limit + 1)
+                : employeeRepository.findChangesAfter(since.getUpdatedAt(), since.getEmployeeId(), settleMillis, limit + 1);
+        
+        return changes.collectList()
+                .map(rows -> toResponse(rows, since, limit))
+                .doOnSuccess(response -> logger.info("Successfully retrieved {} employee changes", response.getChanges().size()))
+                .doOnError(error -> logger.error("Failed to retrieve employee changes since: {}", since, error));
+    }
+    
+    private ChangeFeedResponse toResponse(List<Employee> rows, ChangeCursor since, int limit) {
+        boolean hasMore = rows.size() > limit;
+        List<Employee> page = hasMore ? rows.subList(0, limit) : rows;
+        
+        List<EmployeeChangeDto> changes = page.stream()
+                .map(this::toChange)
+                .toList();
+        ChangeCursor next = page.isEmpty()
+                ? since
+                : new ChangeCursor(page.get(page.size() - 1).getUpdatedAt(), page.get(page.size() - 1).getEmployeeId());
+        return new ChangeFeedResponse(changes, next != null ? next.encode() : null, hasMore);
+    }
+    
+    private EmployeeChangeDto toChange(Employee employee) {
+        if (employee.isDeleted()) {
+            return new EmployeeChangeDto(employee.getEmployeeId(), EmployeeChangeDto.ChangeType.DELETED,
+                    employee.getUpdatedAt(), null);
+        }
+        return new EmployeeChangeDto(employee.getEmployeeId(), EmployeeChangeDto.ChangeType.UPSERTED,
+                employee.getUpdatedAt(), employeeMapper.toDto(employee));
+    }
+}
@@ -0,0 +1,159 @@
+package jp.asatex.revenue_calculator_backend_employee.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jp.asatex.revenue_calculator_backend_employee.dto.EmployeeChangeEvent;
+import io.r2dbc.postgresql.api.Notification;
+import io.r2dbc.postgresql.api.PostgresqlConnection;
+import io.r2dbc.postgresql.api.PostgresqlResult;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.Wrapped;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+
+/**
+ * Employee change listener
+ * Holds a dedicated PostgreSQL connection that LISTENs on the employee_changes channel (notified by
+ * a trigger on every committed write) and forwards notifications to the change stream; the connection
+ * is re-established with backoff and subscribers are told to resync after a reconnect. Every
+ * notification, including those of writes by other instances, is applied to the roster snapshot and
+ * then increments the roster version; after a reconnect the snapshot is reloaded. While no connection
+ * is listening the roster version is marked as not tracking other instances
+ * Disable with employee.stream.enabled=false
+ */
+@Component
+@ConditionalOnProperty(name = "employee.stream.enabled", havingValue = "true", matchIfMissing = true)
+public class EmployeeChangeListener implements DisposableBean {
+    
+    private static final Logger logger = LoggerFactory.getLogger(EmployeeChangeListener.class);
+    
+    /**
+     * Notification channel, see V23__Notify_employee_changes.sql
+     */
+    static final String CHANNEL = "employee_changes";
+    
+    @Autowired
+    private ConnectionFactory connectionFactory;
+    
+    @Autowired
+    private ObjectMapper objectMapper;
+    
+    @Autowired
+    private EmployeeChangeStreamService employeeChangeStreamService;
+    
+    @Autowired
+    private EmployeeRosterVersion employeeRosterVersion;
+    
+    @Autowired
+    private EmployeeSnapshotService employeeSnapshotService;
+    
+    private volatile Disposable subscription;
+    
+    private volatile boolean listening;
+    
+    private volatile boolean listenedBefore;
+    
+    /**
+     * Start listening once the application (and Flyway) is ready
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        subscription = listen()
+                .doOnError(error -> onListeningLost())
+                .retryWhen(Retry.backoff(Long.MAX_VALUE, Duration.ofSeconds(1))
+                        .maxBackoff(Duration.ofSeconds(30))
+                        .doBeforeRetry(signal -> logger.warn("Employee change listener failed, reconnecting (attempt {})",
+                                signal.totalRetries() + 1, signal.failure())))
+                .subscribe(
+                        notification -> onNotification(notification.getParameter()),
+                        error -> logger.error("Employee change listener stopped", error));
+    }
+    
+    private Flux<Notification> listen() {
+        // A connection of its own: LISTEN is bound to the session and must not be returned to the pool
+        return Flux.usingWhen(
+                        Mono.from(unwrap(connectionFactory).create()).cast(PostgresqlConnection.class),
+                        connection -> connection.createStatement("LISTEN " + CHANNEL)
+                                .execute()
+                                .flatMap(PostgresqlResult::getRowsUpdated)
+                                .then(Mono.fromRunnable(this::onListening))
+                                .thenMany(connection.getNotifications()),
+                        PostgresqlConnection::close)
+                .concatWith(Mono.error(() -> new IllegalStateException("Employee change listener connection closed")));
+    }
+    
+    private void onListening() {
+        logger.info("Listening for employee changes on channel {}", CHANNEL);
+        listening = true;
+        if (listenedBefore) {
+            // Changes committed while no connection was listening are lost
+            employeeRosterVersion.increment();
+            employeeSnapshotService.reload().subscribe(
+                    differences -> logger.info("Employee snapshot reloaded after reconnect"),
+                    error -> logger.error("Failed to reload employee snapshot after reconnect", error));
+            employeeChangeStreamService.publishResync();
+        }
+        listenedBefore = true;
+        employeeRosterVersion.setTracking(true);
+    }
+    
+    private void onListeningLost() {
+        listening = false;
+        employeeRosterVersion.setTracking(false);
+    }
+    
+    /**
+     * @return Whether a connection is currently listening for changes
+     */
+    public boolean isListening() {
+        return listening;
+    }
+    
+    void onNotification(String payload) {
+        if (payload == null) {
+            return;
+        }
+        EmployeeChangeEvent event;
+        try {
+            event = objectMapper.readValue(payload, EmployeeChangeEvent.class);
+        } catch (JsonProcessingException e) {
+            logger.warn("Ignoring malformed employee change notification: {}", payload, e);
+            employeeRosterVersion.increment();
+            return;
+        }
+        // The snapshot catches up first, so no page of the new version is read from an older snapshot
+        employeeSnapshotService.applyChange(event)
+                .doFinally(signal -> employeeRosterVersion.increment())
+                .subscribe(null, error -> logger.warn("Failed to apply employee change {} to the snapshot", event, error));
+        employeeChangeStreamService.publish(event);
+    }
+    
+    private static ConnectionFactory unwrap(ConnectionFactory connectionFactory) {
+        ConnectionFactory target = connectionFactory;
+        while (target instanceof Wrapped<?> wrapped && wrapped.unwrap() instanceof ConnectionFactory inner) {
+            target = inner;
+        }
+        return target;
+    }
+    
+    @Override
+    public void destroy() {
+        Disposable current = subscription;
+        if (current != null) {
+            current.dispose();
+        }
+        onListeningLost();
+    }
+}
@@ -0,0 +1,184 @@
+package jp.asatex.revenue_calculator_backend_employee.service;
+
+import jp.asatex.revenue_calculator_backend_employee.dto.EmployeeChangeEvent;
+import io.micrometer.core.instrument.Counter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.stereotype.Service;
+import reactor.core.Exceptions;
+import reactor.core.publisher.BufferOverflowStrategy;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Employee change stream service layer
+ * Provides the Server-Sent Events stream of employee changes: changes are numbered as they arrive,
+ * the most recent ones are kept for reconnecting clients (Last-Event-ID), and each subscriber gets a
+ * bounded buffer so a slow consumer is disconnected instead of buffered without limit
+ */
+@Service
+public class EmployeeChangeStreamService {
+    
+    private static final Logger logger = LoggerFactory.getLogger(EmployeeChangeStreamService.class);
+    
+    /**
+     * SSE event name of an employee change
+     */
+    public static final String CHANGE_EVENT = "employee-change";
+    
+    /**
+     * SSE event name telling the client that changes were missed and it should resynchronize
+     * through the change feed
+     */
+    public static final String RESYNC_EVENT = "resync";
+    
+    private static final char ID_SEPARATOR = '-';
+    
+    /**
+     * Distinguishes event IDs of this instance and run from IDs handed out before a restart
+     */
+    private final String epoch = Long.toString(System.currentTimeMillis(), Character.MAX_RADIX);
+    
+    private final AtomicLong sequence = new AtomicLong();
+    
+    private final Sinks.Many<SequencedChange> sink;
+    
+    private final int replaySize;
+    
+    private final int subscriberBuffer;
+    
+    private final Duration heartbeat;
+    
+    private final Counter employeeStreamDropCounter;
+    
+    @Autowired
+    public EmployeeChangeStreamService(@Value("${employee.stream.replay-size:1000}") int replaySize,
+                                       @Value("${employee.stream.subscriber-buffer:256}") int subscriberBuffer,
+                                       @Value("${employee.stream.heartbeat:PT15S}") Duration heartbeat,
+                                       @Qualifier("employeeStreamDropCounter") Counter employeeStreamDropCounter) {
+        this.replaySize = Math.max(1, replaySize);
+        this.subscriberBuffer = Math.max(1, subscriberBuffer);
+        this.heartbeat = heartbeat;
+        this.employeeStreamDropCounter = employeeStreamDropCounter;
+        this.sink = Sinks.many().replay().limit(this.replaySize);
+    }
+    
+    /**
+     * Publish an employee change to all subscribers
+     * @param change Employee change
+     */
+    public void publish(EmployeeChangeEvent change) {
+        emit(change);
+    }
+    
+    /**
+     * Tell all subscribers that changes may have been missed, e.g. after the change listener reconnected
+     */
+    public void publishResync() {
+        emit(null);
+    }
+    
+    private synchronized void emit(EmployeeChangeEvent change) {
+        SequencedChange sequenced = new SequencedChange(sequence.incrementAndGet(), change);
+        Sinks.EmitResult result = sink.tryEmitNext(sequenced);
+        if (result.isFailure()) {
+            logger.warn("Failed to publish employee change {}: {}", sequenced.sequence(), result);
+        }
+    }
+    
+    /**
+     * Subscribe to employee changes
+     * Replays retained changes after lastEventId; if they are no longer retained (or the ID comes from
+     * an earlier run), a resync event is sent first and the stream continues with new changes
+     * @param lastEventId Last-Event-ID sent by a reconnecting client, null for new subscribers
+     * @return Flux of SSE events, completes when the subscriber falls too far behind
+     */
+    public Flux<ServerSentEvent<Object>> subscribe(String lastEventId) {
+        return Flux.defer(() -> {
+            long latest = sequence.get();
+            long after = latest;
+            boolean missed = false;
+            if (lastEventId != null && !lastEventId.isBlank()) {
+                long seen = sequenceOf(lastEventId);
+                long oldestRetained = Math.max(1, latest - replaySize + 1);
+                if (seen >= oldestRetained - 1 && seen <= latest) {
+                    after = seen;
+                } else {
+                    missed = true;
+                }
+            }
+            
+            long resumeAfter = after;
+            Flux<ServerSentEvent<Object>> changes = sink.asFlux()
+                    .filter(change -> change.sequence() > resumeAfter)
+                    .map(this::toEvent);
+            if (missed) {
+                logger.debug("Last-Event-ID {} is outside the replay window, requesting resync", lastEventId);
+                changes = changes.startWith(resyncEvent(latest));
+            }
+            
+            return Flux.merge(
+                            changes.onBackpressureBuffer(subscriberBuffer, BufferOverflowStrategy.ERROR),
+                            Flux.interval(heartbeat)
+                                    .onBackpressureDrop()
+                                    .map(tick -> ServerSentEvent.builder().comment("keepalive").build()))
+                    .onErrorResume(Exceptions::isOverflow, error -> {
+                        // Close the stream, the client reconnects with its Last-Event-ID
+                        employeeStreamDropCounter.increment();
+                        logger.warn("Dropping employee stream subscriber that fell more than {} events behind", subscriberBuffer);
+                        return Flux.empty();
+                    });
+        });
+    }
+    
+    private ServerSentEvent<Object> toEvent(SequencedChange change) {
+        if (change.change() == null) {
+            return resyncEvent(change.sequence());
+        }
+        return ServerSentEvent.builder((Object) change.change())
+                .id(idOf(change.sequence()))
+                .event(CHANGE_EVENT)
+                .build();
+    }
+    
+    private ServerSentEvent<Object> resyncEvent(long sequence) {
+        // EventSource ignores events without data
+        return ServerSentEvent.builder((Object) RESYNC_EVENT)
+                .id(idOf(sequence))
+                .event(RESYNC_EVENT)
+                .build();
+    }
+    
+    private String idOf(long sequence) {
+        return epoch + ID_SEPARATOR + sequence;
+    }
+    
+    /**
+     * @return Sequence of an event ID of this run, or -1 for foreign or malformed IDs
+     */
+    private long sequenceOf(String eventId) {
+        String id = eventId.trim();
+        int separator = id.lastIndexOf(ID_SEPARATOR);
+        if (separator <= 0 || !epoch.equals(id.substring(0, separator))) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(id.substring(separator + 1));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+    
+    /**
+     * Change numbered in arrival order, a null change marks a possible gap
+     */
+    private record SequencedChange(long sequence, EmployeeChangeEvent change) {
+    }
+}
@@ -0,0 +1,45 @@
+package jp.asatex.revenue_calculator_backend_employee.service;
+
+import jp.asatex.revenue_calculator_backend_employee.export.EmployeeExportJobService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Employee export cleanup background job
+ * Periodically removes export jobs and files older than employee.export.jobs.ttl
+ * Disable with employee.export.jobs.cleanup.enabled=false
+ */
+@Component
+@ConditionalOnProperty(name = "employee.export.jobs.cleanup.enabled", havingValue = "true", matchIfMissing = true)
+public class EmployeeExportCleanupJob {
+
+    private static final Logger logger = LoggerFactory.getLogger(EmployeeExportCleanupJob.class);
+
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    @Autowired
+    private EmployeeExportJobService employeeExportJobService;
+
+    /**
+     * Run one cleanup pass, skipped if the previous pass is still running
+     */
+    @Scheduled(initialDelayString = "${employee.export.jobs.cleanup.initial-delay:PT1M}",
+               fixedDelayString = "${employee.export.jobs.cleanup.interval:PT5M}")
+    public void purgeExpiredExports() {
+        if (!running.compareAndSet(false, true)) {
+            logger.debug("Previous export cleanup still running, skipping");
+            return;
+        }
+        employeeExportJobService.purgeExpired()
+                .doFinally(signal -> running.set(false))
+                .subscribe(
+                        total -> logger.debug("Export cleanup finished, {} files removed", total),
+                        error -> logger.error("Export cleanup failed", error));
+    }
+}
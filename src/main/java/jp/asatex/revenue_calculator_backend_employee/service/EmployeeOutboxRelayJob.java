@@ -0,0 +1,56 @@
+package jp.asatex.revenue_calculator_backend_employee.service;
+
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Employee outbox relay background job
+ * Periodically relays pending employee domain events to the event sink
+ * Enable with employee.outbox.relay.enabled=true, which also requires an event sink (employee.outbox.sink)
+ */
+@Component
+@ConditionalOnProperty(name = "employee.outbox.relay.enabled", havingValue = "true")
+public class EmployeeOutboxRelayJob {
+    
+    private static final Logger logger = LoggerFactory.getLogger(EmployeeOutboxRelayJob.class);
+    
+    private final AtomicBoolean running = new AtomicBoolean();
+    
+    @Autowired
+    private EmployeeOutboxService employeeOutboxService;
+    
+    /**
+     * Fail startup rather than relay into nowhere when the relay is enabled without a sink
+     */
+    @PostConstruct
+    void requireSink() {
+        if (!employeeOutboxService.hasSink()) {
+            throw new IllegalStateException(
+                    "employee.outbox.relay.enabled=true requires an event sink, set employee.outbox.sink");
+        }
+    }
+    
+    /**
+     * Run one relay pass, skipped if the previous pass is still running
+     */
+    @Scheduled(initialDelayString = "${employee.outbox.relay.initial-delay:PT10S}",
+               fixedDelayString = "${employee.outbox.relay.interval:PT1S}")
+    public void relayEvents() {
+        if (!running.compareAndSet(false, true)) {
+            logger.debug("Previous outbox relay pass still running, skipping");
+            return;
+        }
+        employeeOutboxService.relay()
+                .doFinally(signal -> running.set(false))
+                .subscribe(
+                        total -> logger.debug("Outbox relay pass finished, {} events relayed", total),
+                        error -> logger.error("Outbox relay pass failed", error));
+    }
+}
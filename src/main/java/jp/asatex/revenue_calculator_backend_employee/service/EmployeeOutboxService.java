@@ -0,0 +1,193 @@
+package jp.asatex.revenue_calculator_backend_employee.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jp.asatex.revenue_calculator_backend_employee.dto.EmployeeDomainEvent;
+import jp.asatex.revenue_calculator_backend_employee.dto.EmployeeDto;
+import jp.asatex.revenue_calculator_backend_employee.entity.EmployeeOutboxEntry;
+import jp.asatex.revenue_calculator_backend_employee.outbox.EmployeeEventSink;
+import jp.asatex.revenue_calculator_backend_employee.repository.EmployeeOutboxRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Mono;
+
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Employee outbox service layer
+ * Provides the transactional outbox: domain events are appended in the caller's transaction and
+ * relayed in batches to the configured EmployeeEventSink, at least once and in event order.
+ * Without a sink (employee.outbox.sink unset) events are appended but stay in the outbox
+ */
+@Service
+public class EmployeeOutboxService {
+    
+    private static final Logger logger = LoggerFactory.getLogger(EmployeeOutboxService.class);
+    
+    /**
+     * Advisory lock key of the relay ("EMPOUTBX"), one relay runs at a time across instances so
+     * that events of one employee are never delivered out of order
+     */
+    static final long RELAY_LOCK_KEY = 0x454D504F55544258L;
+    
+    private final EmployeeOutboxRepository employeeOutboxRepository;
+    
+    private final EmployeeEventSink employeeEventSink;
+    
+    private final TransactionalOperator transactionalOperator;
+    
+    private final ObjectMapper objectMapper;
+    
+    private final Counter employeeOutboxRelayCounter;
+    
+    private final AtomicLong pending = new AtomicLong();
+    
+    private final AtomicReference<Double> lagSeconds = new AtomicReference<>(0.0);
+    
+    @Value("${employee.outbox.relay.batch-size:100}")
+    private int batchSize;
+    
+    @Value("${employee.outbox.relay.max-batches-per-run:50}")
+    private int maxBatchesPerRun;
+    
+    @Autowired
+    public EmployeeOutboxService(EmployeeOutboxRepository employeeOutboxRepository,
+                                 Optional<EmployeeEventSink> employeeEventSink,
+                                 TransactionalOperator transactionalOperator,
+                                 ObjectMapper objectMapper,
+                                 @Qualifier("employeeOutboxRelayCounter") Counter employeeOutboxRelayCounter,
+                                 MeterRegistry meterRegistry) {
+        this.employeeOutboxRepository = employeeOutboxRepository;
+        this.employeeEventSink = employeeEventSink.orElse(null);
+        this.transactionalOperator = transactionalOperator;
+        this.objectMapper = objectMapper;
+        this.employeeOutboxRelayCounter = employeeOutboxRelayCounter;
+        Gauge.builder("employee.outbox.pending", pending, AtomicLong::get)
+                .description("Employee domain events waiting to be relayed")
+                .tag("service", "revenue-calculator-employee")
+                .tag("component", "employee-outbox")
+                .register(meterRegistry);
+        Gauge.builder("employee.outbox.lag.seconds", lagSeconds, AtomicReference::get)
+                .description("Age of the oldest employee domain event waiting to be relayed")
+                .tag("service", "revenue-calculator-employee")
+                .tag("component", "employee-outbox")
+                .register(meterRegistry);
+    }
+    
+    /**
+     * Append domain events for changed employees
+     * Must be called inside the transaction that wrote the change, so the events commit or roll back with it
+     * @param eventType Event type
+     * @param employees Employee states after the change, in change order
+     * @return Mono<Void>
+     */
+    public Mono<Void> append(EmployeeDomainEvent.EventType eventType, List<EmployeeDto> employees) {
+        if (employees.isEmpty()) {
+            return Mono.empty();
+        }
+        List<Long> employeeIds = employees.stream().map(EmployeeDto::getEmployeeId).toList();
+        return Mono.fromCallable(() -> {
+                    List<String> payloads = new ArrayList<>(employees.size());
+                    for (EmployeeDto employee : employees) {
+                        payloads.add(objectMapper.writeValueAsString(employee));
+                    }
+                    return payloads;
+                })
+                .flatMap(payloads -> employeeOutboxRepository.append(eventType.name(), employeeIds, payloads))
+                .doOnNext(appended -> logger.debug("Appended {} {} events to the outbox", appended, eventType))
+                .then();
+    }
+    
+    /**
+     * Relay pending events to the sink
+     * Each batch is read, delivered and removed in one transaction holding the relay lock; a failed
+     * delivery rolls back, so the batch is delivered again on the next run. Stops at the first partial
+     * batch, when another instance holds the lock, or after the per run limit, then refreshes the lag gauges
+     * @return Mono<Long> number of events relayed, an error if no sink is configured
+     */
+    public Mono<Long> relay() {
+        if (!hasSink()) {
+            return Mono.error(new IllegalStateException("No employee event sink configured, set employee.outbox.sink"));
+        }
+        return relayBatch()
+                .expand(relayed -> relayed < batchSize ? Mono.empty() : relayBatch())
+                .take(maxBatchesPerRun)
+                .reduce(0L, Long::sum)
+                .flatMap(total -> refreshLag().thenReturn(total))
+                .doOnSuccess(total -> {
+                    if (total != null && total > 0) {
+                        logger.debug("Relayed {} employee domain events", total);
+                    }
+                })
+                .doOnError(error -> logger.error("Failed to relay employee domain events", error));
+    }
+    
+    /**
+     * Whether events can be relayed
+     * @return true if an EmployeeEventSink is configured
+     */
+    public boolean hasSink() {
+        return employeeEventSink != null;
+    }
+    
+    private Mono<Long> relayBatch() {
+        return transactionalOperator.transactional(
+                employeeOutboxRepository.tryLock(RELAY_LOCK_KEY)
+                        .flatMap(locked -> {
+                            if (!locked) {
+                                logger.debug("Outbox relay lock held by another instance, skipping");
+                                return Mono.just(0L);
+                            }
+                            return employeeOutboxRepository.findBatch(batchSize)
+                                    .map(this::toEvent)
+                                    .collectList()
+                                    .flatMap(this::deliver);
+                        }));
+    }
+    
+    private Mono<Long> deliver(List<EmployeeDomainEvent> events) {
+        if (events.isEmpty()) {
+            return Mono.just(0L);
+        }
+        List<Long> eventIds = events.stream().map(EmployeeDomainEvent::getEventId).toList();
+        return employeeEventSink.deliver(events)
+                .then(employeeOutboxRepository.deleteAll(eventIds))
+                .doOnSuccess(removed -> employeeOutboxRelayCounter.increment(events.size()))
+                .thenReturn((long) events.size());
+    }
+    
+    private Mono<Void> refreshLag() {
+        return employeeOutboxRepository.lag()
+                .doOnNext(lag -> {
+                    pending.set(lag.pending());
+                    lagSeconds.set(lag.lagSeconds());
+                })
+                .then();
+    }
+    
+    private EmployeeDomainEvent toEvent(EmployeeOutboxEntry entry) {
+        try {
+            return new EmployeeDomainEvent(
+                    entry.getEventId(),
+                    EmployeeDomainEvent.EventType.valueOf(entry.getEventType()),
+                    entry.getEmployeeId(),
+                    entry.getCreatedAt(),
+                    objectMapper.readValue(entry.getPayload(), EmployeeDto.class));
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException("Unreadable outbox event " + entry.getEventId(), e);
+        }
+    }
+}
@@ -0,0 +1,293 @@
+package jp.asatex.revenue_calculator_backend_employee.service;
+
+import jp.asatex.revenue_calculator_backend_employee.dto.EmployeeDto;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Immutable snapshot of the active roster
+ * Employees are held in an array ordered by employee ID, with one index permutation per further
+ * sort key (name, employee number), so a page in any supported order is read in O(page size).
+ * Every change returns a new snapshot and leaves this one untouched (copy-on-write, O(roster size)),
+ * so readers never lock. Ties are broken by employee ID; text is compared by Unicode code point, which
+ * is the order of the "C" collation the database pages sort by as well (see EmployeeRepositoryCustomImpl).
+ * The DTOs are shared, never modify them
+ */
+public final class EmployeeRosterSnapshot {
+
+    /**
+     * Column names of the sort keys with a permutation, as resolved by EmployeeService
+     */
+    static final String NAME = "name";
+
+    static final String EMPLOYEE_NUMBER = "employee_number";
+
+    /**
+     * Order of the "C" collation over UTF-8: by code point, unlike String.compareTo which compares
+     * UTF-16 units and sorts supplementary characters (e.g. 𠮷) before U+E000..U+FFFF
+     */
+    private static final Comparator<String> CODE_POINT_ORDER = EmployeeRosterSnapshot::compareCodePoints;
+
+    private static final Comparator<EmployeeDto> BY_NAME = Comparator
+            .comparing(EmployeeDto::getName, Comparator.nullsLast(CODE_POINT_ORDER))
+            .thenComparing(EmployeeDto::getEmployeeId);
+
+    private static final Comparator<EmployeeDto> BY_EMPLOYEE_NUMBER = Comparator
+            .comparing(EmployeeDto::getEmployeeNumber, Comparator.nullsLast(CODE_POINT_ORDER))
+            .thenComparing(EmployeeDto::getEmployeeId);
+
+    private static final EmployeeRosterSnapshot EMPTY = new EmployeeRosterSnapshot(new EmployeeDto[0], new int[0], new int[0]);
+
+    private final EmployeeDto[] employees;
+
+    private final int[] byName;
+
+    private final int[] byEmployeeNumber;
+
+    private EmployeeRosterSnapshot(EmployeeDto[] employees, int[] byName, int[] byEmployeeNumber) {
+        this.employees = employees;
+        this.byName = byName;
+        this.byEmployeeNumber = byEmployeeNumber;
+    }
+
+    /**
+     * Empty snapshot
+     * @return Snapshot without employees
+     */
+    public static EmployeeRosterSnapshot empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Build a snapshot of the given employees
+     * @param employees Active employees with IDs, in any order
+     * @return Snapshot
+     */
+    public static EmployeeRosterSnapshot of(Collection<EmployeeDto> employees) {
+        EmployeeDto[] sorted = employees.toArray(new EmployeeDto[0]);
+        Arrays.sort(sorted, Comparator.comparing(EmployeeDto::getEmployeeId));
+        return new EmployeeRosterSnapshot(sorted, permutation(sorted, BY_NAME), permutation(sorted, BY_EMPLOYEE_NUMBER));
+    }
+
+    /**
+     * Number of active employees
+     * @return Size
+     */
+    public int size() {
+        return employees.length;
+    }
+
+    /**
+     * Find an employee by ID
+     * @param employeeId Employee ID
+     * @return Employee, or null if not in the snapshot
+     */
+    public EmployeeDto get(Long employeeId) {
+        int index = indexOf(employeeId);
+        return index >= 0 ? employees[index] : null;
+    }
+
+    /**
+     * All employees in employee ID order
+     * @return Unmodifiable list backed by the snapshot
+     */
+    public List<EmployeeDto> getEmployees() {
+        return Collections.unmodifiableList(Arrays.asList(employees));
+    }
+
+    /**
+     * Read one page
+     * @param sortColumn employee_id, name or employee_number; anything else sorts by employee ID
+     * @param descending Whether to sort descending
+     * @param offset Offset of the page
+     * @param limit Page size
+     * @return Employees of the page
+     */
+    public List<EmployeeDto> page(String sortColumn, boolean descending, int offset, int limit) {
+        int from = Math.min(Math.max(offset, 0), employees.length);
+        int to = Math.min(employees.length, from + Math.max(limit, 0));
+        int[] order = order(sortColumn);
+        List<EmployeeDto> page = new ArrayList<>(to - from);
+        for (int position = from; position < to; position++) {
+            int sorted = descending ? employees.length - 1 - position : position;
+            page.add(employees[order == null ? sorted : order[sorted]]);
+        }
+        return page;
+    }
+
+    /**
+     * Add or replace an employee, unless the snapshot already holds the same or a later version
+     * @param employee Active employee with an ID
+     * @return New snapshot, or this one if nothing changed
+     */
+    public EmployeeRosterSnapshot put(EmployeeDto employee) {
+        EmployeeDto current = get(employee.getEmployeeId());
+        if (current != null && isSameOrLater(current.getVersion(), employee.getVersion())) {
+            return this;
+        }
+        return remove(employee.getEmployeeId()).insert(employee);
+    }
+
+    /**
+     * Remove an employee
+     * @param employeeId Employee ID
+     * @return New snapshot, or this one if the employee is not in it
+     */
+    public EmployeeRosterSnapshot remove(Long employeeId) {
+        int index = indexOf(employeeId);
+        if (index < 0) {
+            return this;
+        }
+        EmployeeDto[] removed = new EmployeeDto[employees.length - 1];
+        System.arraycopy(employees, 0, removed, 0, index);
+        System.arraycopy(employees, index + 1, removed, index, removed.length - index);
+        return new EmployeeRosterSnapshot(removed, withoutIndex(byName, index), withoutIndex(byEmployeeNumber, index));
+    }
+
+    /**
+     * Count employees that differ between two snapshots
+     * @param other Snapshot to compare with
+     * @return Number of employee IDs present in only one snapshot or present in both with different versions
+     */
+    public int differences(EmployeeRosterSnapshot other) {
+        int differences = 0;
+        int i = 0;
+        int j = 0;
+        while (i < employees.length || j < other.employees.length) {
+            int comparison = i == employees.length ? 1
+                    : j == other.employees.length ? -1
+                    : employees[i].getEmployeeId().compareTo(other.employees[j].getEmployeeId());
+            if (comparison != 0) {
+                differences++;
+                if (comparison < 0) {
+                    i++;
+                } else {
+                    j++;
+                }
+                continue;
+            }
+            if (!Objects.equals(employees[i].getVersion(), other.employees[j].getVersion())) {
+                differences++;
+            }
+            i++;
+            j++;
+        }
+        return differences;
+    }
+
+    private EmployeeRosterSnapshot insert(EmployeeDto employee) {
+        int index = -indexOf(employee.getEmployeeId()) - 1;
+        EmployeeDto[] inserted = new EmployeeDto[employees.length + 1];
+        System.arraycopy(employees, 0, inserted, 0, index);
+        inserted[index] = employee;
+        System.arraycopy(employees, index, inserted, index + 1, employees.length - index);
+        return new EmployeeRosterSnapshot(inserted,
+                withIndex(byName, index, insertionPoint(byName, employee, BY_NAME)),
+                withIndex(byEmployeeNumber, index, insertionPoint(byEmployeeNumber, employee, BY_EMPLOYEE_NUMBER)));
+    }
+
+    private int[] order(String sortColumn) {
+        if (NAME.equals(sortColumn)) {
+            return byName;
+        }
+        if (EMPLOYEE_NUMBER.equals(sortColumn)) {
+            return byEmployeeNumber;
+        }
+        return null;
+    }
+
+    private int indexOf(Long employeeId) {
+        int low = 0;
+        int high = employees.length - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            int comparison = employees[middle].getEmployeeId().compareTo(employeeId);
+            if (comparison < 0) {
+                low = middle + 1;
+            } else if (comparison > 0) {
+                high = middle - 1;
+            } else {
+                return middle;
+            }
+        }
+        return -(low + 1);
+    }
+
+    /**
+     * Position in a permutation before which the employee sorts
+     */
+    private int insertionPoint(int[] order, EmployeeDto employee, Comparator<EmployeeDto> comparator) {
+        int low = 0;
+        int high = order.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (comparator.compare(employees[order[middle]], employee) < 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Permutation without the given array index, later indexes shifted down
+     */
+    private static int[] withoutIndex(int[] order, int index) {
+        int[] result = new int[order.length - 1];
+        int position = 0;
+        for (int value : order) {
+            if (value != index) {
+                result[position++] = value > index ? value - 1 : value;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Permutation with a new array index at the given position, later indexes shifted up
+     */
+    private static int[] withIndex(int[] order, int index, int position) {
+        int[] result = new int[order.length + 1];
+        for (int i = 0; i < order.length; i++) {
+            int value = order[i] >= index ? order[i] + 1 : order[i];
+            result[i < position ? i : i + 1] = value;
+        }
+        result[position] = index;
+        return result;
+    }
+
+    private static int[] permutation(EmployeeDto[] employees, Comparator<EmployeeDto> comparator) {
+        Integer[] order = new Integer[employees.length];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> comparator.compare(employees[a], employees[b]));
+        return Arrays.stream(order).mapToInt(Integer::intValue).toArray();
+    }
+
+    private static int compareCodePoints(String left, String right) {
+        int i = 0;
+        int j = 0;
+        while (i < left.length() && j < right.length()) {
+            int leftCodePoint = left.codePointAt(i);
+            int rightCodePoint = right.codePointAt(j);
+            if (leftCodePoint != rightCodePoint) {
+                return Integer.compare(leftCodePoint, rightCodePoint);
+            }
+            i += Character.charCount(leftCodePoint);
+            j += Character.charCount(rightCodePoint);
+        }
+        return Integer.compare(left.length() - i, right.length() - j);
+    }
+
+    private static boolean isSameOrLater(Long current, Long incoming) {
+        return current != null && incoming != null && current >= incoming;
+    }
+}
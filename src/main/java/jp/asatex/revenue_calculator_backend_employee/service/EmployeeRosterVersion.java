@@ -0,0 +1,133 @@
+package jp.asatex.revenue_calculator_backend_employee.service;
+
+import jp.asatex.revenue_calculator_backend_employee.routing.ReadRouting;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.NoTransactionException;
+import org.springframework.transaction.reactive.TransactionSynchronization;
+import org.springframework.transaction.reactive.TransactionSynchronizationManager;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Employee roster version
+ * Counts changes to the active roster seen by this instance: incremented once every write of
+ * EmployeeService commits, and on change notifications of other instances (see EmployeeChangeListener).
+ * Anything derived from the roster as a whole (list pages) is current for as long as the version is
+ * unchanged. Read the version before reading the roster, so a concurrent write can only make the
+ * result look older than it is. Entity tags carry an epoch of this process, so tags of other instances
+ * or of an earlier run never match. Results derived from a version are only valid once reads see the
+ * change behind it, see isVisibleToReads, and only while the version follows the writes of other
+ * instances, see isTracking
+ */
+@Component
+public class EmployeeRosterVersion {
+
+    private final String epoch = UUID.randomUUID().toString().substring(0, 8);
+
+    private final AtomicLong version = new AtomicLong();
+
+    private volatile long changedAtNanos = System.nanoTime();
+
+    private volatile boolean tracking;
+
+    private final ReadRouting readRouting;
+
+    private final Duration replicaMaxLag;
+
+    public EmployeeRosterVersion(ReadRouting readRouting,
+                                 @Value("${employee.replica.max-lag:PT5S}") Duration replicaMaxLag) {
+        this.readRouting = readRouting;
+        this.replicaMaxLag = replicaMaxLag;
+    }
+
+    /**
+     * Current version
+     * @return Version, starting at 0
+     */
+    public long current() {
+        return version.get();
+    }
+
+    /**
+     * Record a change of the roster
+     */
+    public void increment() {
+        version.incrementAndGet();
+        changedAtNanos = System.nanoTime();
+    }
+
+    /**
+     * Record a change of the roster once the surrounding transaction commits, so readers never see a
+     * new version before the change is visible; without a transaction the change is recorded right away
+     * @return Mono<Void>
+     */
+    public Mono<Void> incrementAfterCommit() {
+        return TransactionSynchronizationManager.forCurrentTransaction()
+                .flatMap(synchronizationManager -> {
+                    if (!synchronizationManager.isSynchronizationActive()) {
+                        increment();
+                        return Mono.<Void>empty();
+                    }
+                    synchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                        @Override
+                        public Mono<Void> afterCommit() {
+                            return Mono.fromRunnable(EmployeeRosterVersion.this::increment);
+                        }
+                    });
+                    return Mono.<Void>empty();
+                })
+                .onErrorResume(NoTransactionException.class, e -> Mono.fromRunnable(this::increment));
+    }
+
+    /**
+     * Whether the roster changed within a period, e.g. the replica lag bound
+     * @param period Period
+     * @return true if the last change is more recent than the period
+     */
+    public boolean changedWithin(Duration period) {
+        return System.nanoTime() - changedAtNanos < period.toNanos();
+    }
+
+    /**
+     * Whether reads see the roster at the current version
+     * Reads served by a replica within its lag bound may miss changes of the last max-lag, so results
+     * of such reads must not be labelled with (or cached under) the current version
+     * @return false if reads go to the replica and the roster changed within max-lag
+     */
+    public boolean isVisibleToReads() {
+        return !(readRouting.isReplicaUsable() && changedWithin(replicaMaxLag));
+    }
+
+    /**
+     * Record whether change notifications of other instances reach this instance
+     * Set by EmployeeChangeListener while it is connected
+     * @param tracking true while listening
+     */
+    public void setTracking(boolean tracking) {
+        this.tracking = tracking;
+    }
+
+    /**
+     * Whether the version also moves on writes of other instances
+     * Without a connected change listener (employee.stream.enabled=false, or while it reconnects) the
+     * version only follows the writes of this instance, so results derived from it must not be cached
+     * under (or labelled with) it: they would never be invalidated by writes elsewhere
+     * @return true while change notifications are received
+     */
+    public boolean isTracking() {
+        return tracking;
+    }
+
+    /**
+     * Weak entity tag of a representation derived from the given version
+     * @param version Version read before the roster
+     * @return Quoted weak entity tag
+     */
+    public String eTag(long version) {
+        return "W/\"roster-" + epoch + "-" + version + "\"";
+    }
+}
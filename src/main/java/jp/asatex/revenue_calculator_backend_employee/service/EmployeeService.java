@@ -1,23 +1,47 @@
 package jp.asatex.revenue_calculator_backend_employee.service;
 
+import jp.asatex.revenue_calculator_backend_employee.dto.BulkDeleteResponse;
+import jp.asatex.revenue_calculator_backend_employee.dto.BulkDeleteResult;
+import jp.asatex.revenue_calculator_backend_employee.dto.EmployeeDomainEvent;
 import jp.asatex.revenue_calculator_backend_employee.dto.EmployeeDto;
+import jp.asatex.revenue_calculator_backend_employee.dto.EmployeeField;
+import jp.asatex.revenue_calculator_backend_employee.common.FieldSelection;
 import jp.asatex.revenue_calculator_backend_employee.common.PageRequest;
 import jp.asatex.revenue_calculator_backend_employee.common.PageResponse;
+import jp.asatex.revenue_calculator_backend_employee.common.SortDirection;
 import jp.asatex.revenue_calculator_backend_employee.entity.Employee;
 import jp.asatex.revenue_calculator_backend_employee.exception.DuplicateEmployeeNumberHandler;
 import jp.asatex.revenue_calculator_backend_employee.exception.EmployeeNotFoundHandler;
+import jp.asatex.revenue_calculator_backend_employee.exception.EmployeeVersionConflictHandler;
+import jp.asatex.revenue_calculator_backend_employee.exception.PostgresErrorCodes;
+import jp.asatex.revenue_calculator_backend_employee.export.EmployeeArrowWriter;
+import jp.asatex.revenue_calculator_backend_employee.mapper.EmployeeMapper;
+import jp.asatex.revenue_calculator_backend_employee.repository.EmployeeDtoRowMapper;
 import jp.asatex.revenue_calculator_backend_employee.repository.EmployeeRepository;
+import jp.asatex.revenue_calculator_backend_employee.routing.ReadRouting;
 import io.micrometer.core.instrument.Counter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.cache.annotation.CacheEvict;
-import org.springframework.cache.annotation.CachePut;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
 import org.springframework.transaction.annotation.Transactional;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.util.function.Tuple2;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 
 /**
  * Employee service layer
@@ -28,12 +52,42 @@ public class EmployeeService {
     
     private static final Logger logger = LoggerFactory.getLogger(EmployeeService.class);
     
+    private static final String EMPLOYEE_CACHE = "employees";
+    
+    private static final String NUMBER_KEY_PREFIX = "number:";
+    
+    private static final String DELETED_BY = "system";
+    
     @Autowired
     private EmployeeRepository employeeRepository;
+    
+    @Autowired
+    private CacheManager cacheManager;
 
     @Autowired
     private SystemMonitoringService systemMonitoringService;
     
+    @Autowired
+    private EmployeeOutboxService employeeOutboxService;
+    
+    @Autowired
+    private EmployeeAuditService employeeAuditService;
+    
+    @Autowired
+    private ReadRouting readRouting;
+    
+    @Autowired
+    private EmployeeRosterVersion employeeRosterVersion;
+    
+    @Autowired
+    private EmployeeSnapshotService employeeSnapshotService;
+    
+    @Autowired
+    private EmployeeMapper employeeMapper;
+    
+    @Autowired
+    private EmployeeArrowWriter employeeArrowWriter;
+    
     @Autowired
     private Counter employeeOperationCounter;
     
@@ -49,6 +103,9 @@ public class EmployeeService {
     @Autowired
     private Counter employeeDeleteCounter;
     
+    @Value("${employee.export.fetch-size:500}")
+    private int exportFetchSize;
+    
     /**
      * Get employee by ID
      * @param id Employee ID
@@ -59,8 +116,7 @@ public class EmployeeService {
         logger.debug("Retrieving employee with ID: {}", id);
         employeeQueryCounter.increment();
         
-        return employeeRepository.findById(id)
-                .map(this::convertToDto)
+        return readRouting.fromReplicaById(id, employeeRepository.findActiveDtoById(id))
                 .doOnSuccess(employee -> {
                     if (employee != null) {
                         logger.info("Successfully retrieved employee: {}", employee.getEmployeeNumber());
@@ -80,8 +136,7 @@ public class EmployeeService {
         logger.debug("Retrieving employee with number: {}", employeeNumber);
         employeeQueryCounter.increment();
         
-        return employeeRepository.findByEmployeeNumber(employeeNumber)
-                .map(this::convertToDto)
+        return readRouting.fromReplicaByNumber(employeeNumber, employeeRepository.findActiveDtoByEmployeeNumber(employeeNumber))
                 .doOnSuccess(employee -> {
                     if (employee != null) {
                         logger.info("Successfully retrieved employee: {}", employee.getEmployeeNumber());
@@ -91,8 +146,41 @@ public class EmployeeService {
                 .switchIfEmpty(Mono.error(new EmployeeNotFoundHandler("Employee not found with number: " + employeeNumber)));
     }
     
+    /**
+     * Get selected fields of an employee by ID
+     * Reads only the selected columns and bypasses the employee cache, which holds full employees
+     * @param id Employee ID
+     * @param fields Selected fields
+     * @return Mono<Map<String, Object>>
+     */
+    public Mono<Map<String, Object>> getEmployeeFieldsById(Long id, FieldSelection fields) {
+        logger.debug("Retrieving fields {} of employee with ID: {}", fields, id);
+        employeeQueryCounter.increment();
+        
+        return readRouting.fromReplicaById(id, employeeRepository.findActiveFieldsById(id, fields))
+                .doOnError(error -> logger.error("Failed to retrieve employee with ID: {}", id, error))
+                .switchIfEmpty(Mono.error(new EmployeeNotFoundHandler("Employee not found with ID: " + id)));
+    }
+    
+    /**
+     * Get selected fields of an employee by employee number
+     * @param employeeNumber Employee number
+     * @param fields Selected fields
+     * @return Mono<Map<String, Object>>
+     */
+    public Mono<Map<String, Object>> getEmployeeFieldsByNumber(String employeeNumber, FieldSelection fields) {
+        logger.debug("Retrieving fields {} of employee with number: {}", fields, employeeNumber);
+        employeeQueryCounter.increment();
+        
+        return readRouting.fromReplicaByNumber(employeeNumber, employeeRepository.findActiveFieldsByEmployeeNumber(employeeNumber, fields))
+                .doOnError(error -> logger.error("Failed to retrieve employee with number: {}", employeeNumber, error))
+                .switchIfEmpty(Mono.error(new EmployeeNotFoundHandler("Employee not found with number: " + employeeNumber)));
+    }
+    
     /**
      * Create new employee
+     * Inserts directly and relies on the unique index over active employee numbers to reject duplicates,
+     * which saves the existence check round trip and is safe under concurrent creates
      * @param employeeDto Employee data
      * @return Mono<EmployeeDto>
      */
@@ -101,20 +189,27 @@ public class EmployeeService {
         logger.info("Creating new employee with number: {}", employeeDto.getEmployeeNumber());
         employeeOperationCounter.increment();
         employeeCreateCounter.increment();
-        
+
         return systemMonitoringService.monitorTransaction(
                 "CREATE_EMPLOYEE",
                 "Creating employee: " + employeeDto.getEmployeeNumber(),
-                employeeRepository.existsByEmployeeNumber(employeeDto.getEmployeeNumber())
-                        .flatMap(exists -> {
-                            if (exists) {
-                                logger.warn("Duplicate employee number detected: {}", employeeDto.getEmployeeNumber());
-                                return Mono.error(new DuplicateEmployeeNumberHandler("Employee number already exists: " + employeeDto.getEmployeeNumber()));
-                            }
-                            return Mono.just(convertToEntity(employeeDto));
+                Mono.fromSupplier(() -> {
+                            Employee employee = employeeMapper.toEntity(employeeDto);
+                            // Always insert: a client supplied ID or version must not turn the save into an update
+                            employee.setEmployeeId(null);
+                            employee.setVersion(null);
+                            return employee;
                         })
                         .flatMap(employeeRepository::save)
-                        .map(this::convertToDto)
+                        .onErrorMap(PostgresErrorCodes::isUniqueViolation, error -> {
+                            logger.warn("Duplicate employee number detected: {}", employeeDto.getEmployeeNumber());
+                            return new DuplicateEmployeeNumberHandler("Employee number already exists: " + employeeDto.getEmployeeNumber(), error);
+                        })
+                        .doOnNext(this::recordWrite)
+                        .map(employeeMapper::toDto)
+                        .flatMap(createdEmployee -> publish(EmployeeDomainEvent.EventType.CREATED, createdEmployee))
+                        .flatMap(createdEmployee -> employeeAuditService.recordCreated(createdEmployee).thenReturn(createdEmployee))
+                        .flatMap(createdEmployee -> rosterChangedAfterCommit(employeeSnapshotService.putAfterCommit(createdEmployee)).thenReturn(createdEmployee))
                         .doOnSuccess(createdEmployee -> {
                             logger.info("Successfully created employee: {} with ID: {}", 
                                     createdEmployee.getEmployeeNumber(), createdEmployee.getEmployeeId());
@@ -127,31 +222,41 @@ public class EmployeeService {
     
     /**
      * Update employee
+     * Writes the new values with a single UPDATE ... RETURNING restricted to active employees,
+     * the returned row replaces the cached DTO under both the ID and employee number keys.
+     * When the DTO carries a version the update only succeeds if it still matches the stored row
      * @param id Employee ID
-     * @param employeeDto Updated employee data
+     * @param employeeDto Updated employee data, version is the version the client read
      * @return Mono<EmployeeDto>
      */
     @Transactional
-    @CachePut(value = "employees", key = "#id")
     public Mono<EmployeeDto> updateEmployee(Long id, EmployeeDto employeeDto) {
         employeeOperationCounter.increment();
         employeeUpdateCounter.increment();
+        Long expectedVersion = employeeDto.getVersion();
         
         return systemMonitoringService.monitorTransaction(
                 "UPDATE_EMPLOYEE",
                 "Updating employee ID: " + id,
-                employeeRepository.findById(id)
-                        .switchIfEmpty(Mono.error(new EmployeeNotFoundHandler("Employee not found with ID: " + id)))
-                        .flatMap(existingEmployee -> {
-                            Employee updatedEmployee = convertToEntity(employeeDto);
-                            updatedEmployee.setEmployeeId(id);
-                            logger.info("Updating employee with: {}", updatedEmployee.toString());
-                            return employeeRepository.save(updatedEmployee);
+                Mono.fromSupplier(() -> employeeMapper.toEntity(employeeDto))
+                        .flatMap(employee -> {
+                            logger.info("Updating employee ID: {} with number: {} (expected version: {})", 
+                                    id, employee.getEmployeeNumber(), expectedVersion);
+                            return employeeRepository.updateActiveById(id, employee, expectedVersion);
                         })
-                        .map(this::convertToDto)
+                        .onErrorMap(PostgresErrorCodes::isUniqueViolation, error -> {
+                            logger.warn("Duplicate employee number detected: {}", employeeDto.getEmployeeNumber());
+                            return new DuplicateEmployeeNumberHandler("Employee number already exists: " + employeeDto.getEmployeeNumber(), error);
+                        })
+                        .switchIfEmpty(Mono.defer(() -> notFoundOrConflict(id, expectedVersion)))
+                        .doOnNext(this::recordWrite)
+                        .flatMap(this::convertAndAudit)
+                        .flatMap(updatedEmployee -> publish(EmployeeDomainEvent.EventType.UPDATED, updatedEmployee))
+                        .flatMap(updatedEmployee -> rosterChangedAfterCommit(employeeSnapshotService.putAfterCommit(updatedEmployee)).thenReturn(updatedEmployee))
                         .doOnSuccess(updatedEmployee -> {
-                            logger.info("Successfully updated employee ID: {} with: {}", 
-                                    updatedEmployee.getEmployeeId(), updatedEmployee.toString());
+                            refreshCachedEmployee(updatedEmployee);
+                            logger.info("Successfully updated employee ID: {} with number: {}", 
+                                    updatedEmployee.getEmployeeId(), updatedEmployee.getEmployeeNumber());
                         })
                         .doOnError(error -> {
                             logger.error("Failed to update employee with ID: {}", id, error);
@@ -159,13 +264,55 @@ public class EmployeeService {
         );
     }
     
+    /**
+     * Partially update employee
+     * Generates an UPDATE that writes only the supplied columns; the returned row replaces the
+     * cached DTO under both the ID and employee number keys instead of evicting it
+     * @param id Employee ID
+     * @param changes Validated field changes, null values clear the column
+     * @param expectedVersion Version the client read, or null to skip the version check
+     * @return Mono<EmployeeDto>
+     */
+    @Transactional
+    public Mono<EmployeeDto> patchEmployee(Long id, Map<EmployeeField, Object> changes, Long expectedVersion) {
+        if (changes.isEmpty()) {
+            logger.debug("Empty patch for employee ID: {}, returning current state", id);
+            return getEmployeeById(id);
+        }
+        employeeOperationCounter.increment();
+        employeeUpdateCounter.increment();
+        
+        return systemMonitoringService.monitorTransaction(
+                "PATCH_EMPLOYEE",
+                "Patching employee ID: " + id,
+                employeeRepository.patchActiveById(id, changes, expectedVersion)
+                        .onErrorMap(PostgresErrorCodes::isUniqueViolation, error -> {
+                            Object employeeNumber = changes.get(EmployeeField.EMPLOYEE_NUMBER);
+                            logger.warn("Duplicate employee number detected: {}", employeeNumber);
+                            return new DuplicateEmployeeNumberHandler("Employee number already exists: " + employeeNumber, error);
+                        })
+                        .switchIfEmpty(Mono.defer(() -> notFoundOrConflict(id, expectedVersion)))
+                        .doOnNext(this::recordWrite)
+                        .flatMap(this::convertAndAudit)
+                        .flatMap(patchedEmployee -> publish(EmployeeDomainEvent.EventType.UPDATED, patchedEmployee))
+                        .flatMap(patchedEmployee -> rosterChangedAfterCommit(employeeSnapshotService.putAfterCommit(patchedEmployee)).thenReturn(patchedEmployee))
+                        .doOnSuccess(patchedEmployee -> {
+                            refreshCachedEmployee(patchedEmployee);
+                            logger.info("Successfully patched employee ID: {} fields: {}", id, changes.keySet());
+                        })
+                        .doOnError(error -> {
+                            logger.error("Failed to patch employee with ID: {}", id, error);
+                        })
+        );
+    }
+    
     /**
      * Delete employee by ID
+     * Soft deletes the employee with a single UPDATE and evicts both of its cache keys
      * @param id Employee ID
      * @return Mono<Void>
      */
     @Transactional
-    @CacheEvict(value = "employees", key = "#id")
     public Mono<Void> deleteEmployeeById(Long id) {
         logger.info("Deleting employee with ID: {}", id);
         employeeOperationCounter.increment();
@@ -174,9 +321,15 @@ public class EmployeeService {
         return systemMonitoringService.monitorTransaction(
                 "DELETE_EMPLOYEE_BY_ID",
                 "Deleting employee ID: " + id,
-                employeeRepository.findById(id)
+                employeeRepository.softDeleteById(id, DELETED_BY)
                         .switchIfEmpty(Mono.error(new EmployeeNotFoundHandler("Employee not found with ID: " + id)))
-                        .flatMap(employeeRepository::delete)
+                        .doOnNext(employee -> {
+                            evictCachedEmployees(List.of(employee));
+                            recordWrite(employee);
+                        })
+                        .flatMap(employee -> publish(EmployeeDomainEvent.EventType.DELETED, employeeMapper.toDto(employee)))
+                        .flatMap(deletedEmployee -> employeeAuditService.recordDeleted(List.of(deletedEmployee))
+                                .then(rosterChangedAfterCommit(employeeSnapshotService.removeAfterCommit(List.of(deletedEmployee.getEmployeeId())))))
                         .doOnSuccess(unused -> {
                             logger.info("Successfully deleted employee with ID: {}", id);
                         })
@@ -188,11 +341,11 @@ public class EmployeeService {
     
     /**
      * Delete employee by employee number
+     * Soft deletes the employee with a single UPDATE and evicts both of its cache keys
      * @param employeeNumber Employee number
      * @return Mono<Void>
      */
     @Transactional
-    @CacheEvict(value = "employees", key = "'number:' + #employeeNumber")
     public Mono<Void> deleteEmployeeByNumber(String employeeNumber) {
         logger.info("Deleting employee with number: {}", employeeNumber);
         employeeOperationCounter.increment();
@@ -201,9 +354,15 @@ public class EmployeeService {
         return systemMonitoringService.monitorTransaction(
                 "DELETE_EMPLOYEE_BY_NUMBER",
                 "Deleting employee number: " + employeeNumber,
-                employeeRepository.findByEmployeeNumber(employeeNumber)
+                employeeRepository.softDeleteByEmployeeNumber(employeeNumber, DELETED_BY)
                         .switchIfEmpty(Mono.error(new EmployeeNotFoundHandler("Employee not found with number: " + employeeNumber)))
-                        .flatMap(employeeRepository::delete)
+                        .doOnNext(employee -> {
+                            evictCachedEmployees(List.of(employee));
+                            recordWrite(employee);
+                        })
+                        .flatMap(employee -> publish(EmployeeDomainEvent.EventType.DELETED, employeeMapper.toDto(employee)))
+                        .flatMap(deletedEmployee -> employeeAuditService.recordDeleted(List.of(deletedEmployee))
+                                .then(rosterChangedAfterCommit(employeeSnapshotService.removeAfterCommit(List.of(deletedEmployee.getEmployeeId())))))
                         .doOnSuccess(unused -> {
                             logger.info("Successfully deleted employee with number: {}", employeeNumber);
                         })
@@ -213,6 +372,47 @@ public class EmployeeService {
         );
     }
     
+    /**
+     * Delete employees in bulk
+     * Soft deletes every matching active employee with a single UPDATE in one transaction
+     * and evicts all of their cache keys in one operation
+     * @param employeeIds Employee IDs
+     * @param employeeNumbers Employee numbers
+     * @return Mono<BulkDeleteResponse> with one result per distinct requested identifier
+     */
+    @Transactional
+    public Mono<BulkDeleteResponse> bulkDeleteEmployees(Collection<Long> employeeIds, Collection<String> employeeNumbers) {
+        Set<Long> ids = new LinkedHashSet<>(employeeIds);
+        Set<String> numbers = new LinkedHashSet<>(employeeNumbers);
+        logger.info("Bulk deleting employees: {} IDs, {} numbers", ids.size(), numbers.size());
+        employeeOperationCounter.increment();
+        
+        return systemMonitoringService.monitorTransaction(
+                "BULK_DELETE_EMPLOYEES",
+                "Bulk deleting " + (ids.size() + numbers.size()) + " employees",
+                employeeRepository.softDeleteAll(ids, numbers, DELETED_BY)
+                        .collectList()
+                        .flatMap(deleted -> {
+                            employeeDeleteCounter.increment(deleted.size());
+                            evictCachedEmployees(deleted);
+                            deleted.forEach(this::recordWrite);
+                            List<EmployeeDto> deletedEmployees = deleted.stream().map(employeeMapper::toDto).toList();
+                            return employeeOutboxService.append(EmployeeDomainEvent.EventType.DELETED, deletedEmployees)
+                                    .then(employeeAuditService.recordDeleted(deletedEmployees))
+                                    .then(deleted.isEmpty() ? Mono.<Void>empty() : rosterChangedAfterCommit(employeeSnapshotService.removeAfterCommit(
+                                            deleted.stream().map(Employee::getEmployeeId).toList())))
+                                    .thenReturn(toBulkDeleteResponse(ids, numbers, deleted));
+                        })
+                        .doOnSuccess(response -> {
+                            logger.info("Successfully bulk deleted {} of {} requested employees", 
+                                    response.getDeleted(), response.getRequested());
+                        })
+                        .doOnError(error -> {
+                            logger.error("Failed to bulk delete employees", error);
+                        })
+        );
+    }
+    
     /**
      * Search employees by name
      * @param name Employee name
@@ -222,8 +422,7 @@ public class EmployeeService {
         logger.debug("Searching employees by name: {}", name);
         employeeQueryCounter.increment();
         
-        return employeeRepository.findByNameContaining("%" + name + "%")
-                .map(this::convertToDto)
+        return readRouting.fromReplica(employeeRepository.findActiveDtosByNameContaining("%" + name + "%"))
                 .doOnComplete(() -> logger.info("Successfully searched employees by name: {}", name))
                 .doOnError(error -> logger.error("Failed to search employees by name: {}", name, error));
     }
@@ -237,69 +436,163 @@ public class EmployeeService {
         logger.debug("Searching employees by furigana: {}", furigana);
         employeeQueryCounter.increment();
         
-        return employeeRepository.findByFuriganaContaining("%" + furigana + "%")
-                .map(this::convertToDto)
+        return readRouting.fromReplica(employeeRepository.findActiveDtosByFuriganaContaining("%" + furigana + "%"))
+                .doOnComplete(() -> logger.info("Successfully searched employees by furigana: {}", furigana))
+                .doOnError(error -> logger.error("Failed to search employees by furigana: {}", furigana, error));
+    }
+    
+    /**
+     * Search selected fields of employees by name
+     * @param name Employee name
+     * @param fields Selected fields
+     * @return Flux<Map<String, Object>>
+     */
+    public Flux<Map<String, Object>> searchEmployeeFieldsByName(String name, FieldSelection fields) {
+        logger.debug("Searching employee fields {} by name: {}", fields, name);
+        employeeQueryCounter.increment();
+        
+        return readRouting.fromReplica(employeeRepository.findActiveFieldsByNameContaining("%" + name + "%", fields))
+                .doOnComplete(() -> logger.info("Successfully searched employees by name: {}", name))
+                .doOnError(error -> logger.error("Failed to search employees by name: {}", name, error));
+    }
+    
+    /**
+     * Search selected fields of employees by furigana
+     * @param furigana Employee furigana
+     * @param fields Selected fields
+     * @return Flux<Map<String, Object>>
+     */
+    public Flux<Map<String, Object>> searchEmployeeFieldsByFurigana(String furigana, FieldSelection fields) {
+        logger.debug("Searching employee fields {} by furigana: {}", fields, furigana);
+        employeeQueryCounter.increment();
+        
+        return readRouting.fromReplica(employeeRepository.findActiveFieldsByFuriganaContaining("%" + furigana + "%", fields))
                 .doOnComplete(() -> logger.info("Successfully searched employees by furigana: {}", furigana))
                 .doOnError(error -> logger.error("Failed to search employees by furigana: {}", furigana, error));
     }
     
     /**
      * Get employees with pagination
+     * Sorting, paging and counting run in the database over active employees only.
+     * Pages are cached under the roster version read before the query, so every write makes the
+     * cached pages unreachable without evicting them. Nothing is cached while the version misses
+     * writes of other instances or reads may not see the current version yet
+     * (see EmployeeRosterVersion.isTracking and isVisibleToReads).
+     * In snapshot mode pages are read from memory instead and not cached (see EmployeeSnapshotService)
      * @param pageRequest Page request
      * @return Mono<PageResponse<EmployeeDto>>
      */
+    @Cacheable(value = "employeePages",
+            key = "{@employeeRosterVersion.current(), #pageRequest.page, #pageRequest.size, #pageRequest.sortBy, #pageRequest.sortDirection}",
+            condition = "@employeeRosterVersion.isTracking() && @employeeRosterVersion.isVisibleToReads() && !@employeeSnapshotService.isServing()")
     public Mono<PageResponse<EmployeeDto>> getEmployeesWithPagination(PageRequest pageRequest) {
         logger.debug("Retrieving employees with pagination: page={}, size={}", pageRequest.getPage(), pageRequest.getSize());
         employeeQueryCounter.increment();
         
-        return employeeRepository.findAll()
-                .map(this::convertToDto)
-                .collectList()
-                .map(employees -> {
-                    // Apply sorting
-                    employees.sort((e1, e2) -> {
-                        String sortBy = pageRequest.getSortBy().toLowerCase();
-                        boolean isDesc = pageRequest.getSortDirection().toString().equals("DESC");
-                        
-                        int comparison = 0;
-                        switch (sortBy) {
-                            case "employeeid":
-                            case "employee_id":
-                            case "id":
-                                comparison = e1.getEmployeeId().compareTo(e2.getEmployeeId());
-                                break;
-                            case "name":
-                                comparison = e1.getName().compareTo(e2.getName());
-                                break;
-                            case "employeenumber":
-                            case "employee_number":
-                            case "number":
-                                comparison = e1.getEmployeeNumber().compareTo(e2.getEmployeeNumber());
-                                break;
-                            default:
-                                comparison = e1.getEmployeeId().compareTo(e2.getEmployeeId());
-                        }
-                        
-                        return isDesc ? -comparison : comparison;
-                    });
-                    
-                    int totalElements = employees.size();
-                    int startIndex = pageRequest.getPage() * pageRequest.getSize();
-                    int endIndex = Math.min(startIndex + pageRequest.getSize(), totalElements);
-                    
-                    return new PageResponse<>(
-                            employees.subList(startIndex, endIndex),
-                            pageRequest.getPage(),
-                            pageRequest.getSize(),
-                            totalElements,
-                            pageRequest.getSortBy(),
-                            pageRequest.getSortDirection().toString()
-                    );
-                })
+        boolean descending = pageRequest.getSortDirection() == SortDirection.DESC;
+        Mono<Tuple2<List<EmployeeDto>, Long>> page = employeeSnapshotService.isServing()
+                ? Mono.fromSupplier(() -> employeeSnapshotService.getPage(sortColumn(pageRequest), descending,
+                        pageRequest.getOffset(), pageRequest.getSize()))
+                : readRouting.fromReplica(Mono.zip(
+                        employeeRepository.findActiveDtoPage(sortColumn(pageRequest), descending,
+                                pageRequest.getOffset(), pageRequest.getSize()).collectList(),
+                        employeeRepository.countAllActive()));
+        return page
+                .map(result -> new PageResponse<>(
+                        result.getT1(),
+                        pageRequest.getPage(),
+                        pageRequest.getSize(),
+                        result.getT2(),
+                        pageRequest.getSortBy(),
+                        pageRequest.getSortDirection().toString()
+                ))
                 .doOnSuccess(pageResponse -> logger.info("Successfully retrieved employees with pagination: {} items", pageResponse.getContent().size()))
                 .doOnError(error -> logger.error("Failed to retrieve employees with pagination", error));
     }
     
+    /**
+     * Export every active employee
+     * Unlike other reads this runs in a transaction: a repeatable read snapshot keeps the export
+     * consistent while employees change during a long download, and holds the cursor the rows are
+     * fetched from. Rows are fetched as the client consumes them, so memory does not grow with the roster.
+     * Stays on the primary, where a long snapshot cannot be cancelled by replication conflicts
+     * @return Flux<EmployeeDto> active employees in employee ID order
+     */
+    @Transactional(readOnly = true, isolation = Isolation.REPEATABLE_READ)
+    public Flux<EmployeeDto> exportEmployees() {
+        logger.debug("Exporting employees with fetch size {}", exportFetchSize);
+        employeeQueryCounter.increment();
+        
+        return employeeRepository.streamActiveDtos(exportFetchSize)
+                .doOnComplete(() -> logger.info("Successfully exported employees"))
+                .doOnError(error -> logger.error("Failed to export employees", error));
+    }
+    
+    /**
+     * Export every active employee as an Arrow IPC stream
+     * Runs in a repeatable read snapshot like exportEmployees. Row values go from the cursor straight
+     * into the record batch vectors, without building DTOs
+     * @return Flux<byte[]> Arrow IPC stream chunks
+     */
+    @Transactional(readOnly = true, isolation = Isolation.REPEATABLE_READ)
+    public Flux<byte[]> exportEmployeesAsArrow() {
+        logger.debug("Exporting employees as Arrow with fetch size {}", exportFetchSize);
+        employeeQueryCounter.increment();
+        
+        return employeeArrowWriter.write(employeeRepository.streamActive(exportFetchSize, EmployeeDtoRowMapper::values))
+                .doOnComplete(() -> logger.info("Successfully exported employees as Arrow"))
+                .doOnError(error -> logger.error("Failed to export employees as Arrow", error));
+    }
+    
+    /**
+     * Get selected fields of a page of employees
+     * Sorts, pages, counts and caches like getEmployeesWithPagination but selects only the requested columns
+     * @param pageRequest Page request
+     * @param fields Selected fields
+     * @return Mono<PageResponse<Map<String, Object>>>
+     */
+    @Cacheable(value = "employeePages",
+            key = "{@employeeRosterVersion.current(), #pageRequest.page, #pageRequest.size, #pageRequest.sortBy, #pageRequest.sortDirection, #fields}",
+            condition = "@employeeRosterVersion.isTracking() && @employeeRosterVersion.isVisibleToReads()")
+    public Mono<PageResponse<Map<String, Object>>> getEmployeeFieldsWithPagination(PageRequest pageRequest, FieldSelection fields) {
+        logger.debug("Retrieving employee fields {} with pagination: page={}, size={}", fields, pageRequest.getPage(), pageRequest.getSize());
+        employeeQueryCounter.increment();
+        
+        Flux<Map<String, Object>> content = employeeRepository.findActiveFieldsPage(fields, sortColumn(pageRequest),
+                pageRequest.getSortDirection() == SortDirection.DESC, pageRequest.getOffset(), pageRequest.getSize());
+        return readRouting.fromReplica(Mono.zip(content.collectList(), employeeRepository.countAllActive()))
+                .map(result -> new PageResponse<>(
+                        result.getT1(),
+                        pageRequest.getPage(),
+                        pageRequest.getSize(),
+                        result.getT2(),
+                        pageRequest.getSortBy(),
+                        pageRequest.getSortDirection().toString()
+                ))
+                .doOnSuccess(pageResponse -> logger.info("Successfully retrieved employee fields with pagination: {} items", pageResponse.getContent().size()))
+                .doOnError(error -> logger.error("Failed to retrieve employee fields with pagination", error));
+    }
+    
+    /**
+     * Resolve the requested sort field to its column
+     * Unknown sort fields fall back to employee ID
+     * @param pageRequest Page request
+     * @return employee_id, name or employee_number
+     */
+    private static String sortColumn(PageRequest pageRequest) {
+        String sortBy = pageRequest.getSortBy() == null ? "" : pageRequest.getSortBy().toLowerCase();
+        switch (sortBy) {
+            case "name":
+                return "name";
+            case "employeenumber":
+            case "employee_number":
+            case "number":
+                return "employee_number";
+            default:
+                return "employee_id";
+        }
+    }
+    
     /**
      * Check if employee exists by employee number
      * @param employeeNumber Employee number
@@ -307,107 +600,155 @@ public class EmployeeService {
      */
     public Mono<Boolean> existsByEmployeeNumber(String employeeNumber) {
         logger.debug("Checking if employee exists with number: {}", employeeNumber);
-        return employeeRepository.existsByEmployeeNumber(employeeNumber);
+        return readRouting.fromReplica(employeeRepository.existsByEmployeeNumber(employeeNumber));
     }
     
     /**
-     * Get total employee count
+     * Get total active employee count
      * @return Mono<Long>
      */
     public Mono<Long> getEmployeeCount() {
         logger.debug("Getting total employee count");
-        return employeeRepository.count()
+        if (employeeSnapshotService.isServing()) {
+            return Mono.fromSupplier(employeeSnapshotService::getCount);
+        }
+        return readRouting.fromReplica(employeeRepository.countAllActive())
                 .doOnSuccess(count -> logger.info("Total employee count: {}", count))
                 .doOnError(error -> logger.error("Failed to get employee count", error));
     }
     
     /**
-     * Convert Employee entity to EmployeeDto
-     * @param employee Employee entity
-     * @return EmployeeDto
+     * Explain why a version-checked update matched no row
+     * Only reads the row when a version was expected: if the employee is still active the
+     * version was stale, and the current state is returned with the conflict (and refreshed in the cache)
+     * @param id Employee ID
+     * @param expectedVersion Version the client read
+     * @return Mono error with EmployeeVersionConflictHandler or EmployeeNotFoundHandler
      */
-    private EmployeeDto convertToDto(Employee employee) {
-        if (employee == null) {
-            return null;
+    private Mono<Employee> notFoundOrConflict(Long id, Long expectedVersion) {
+        Mono<Employee> notFound = Mono.error(new EmployeeNotFoundHandler("Employee not found with ID: " + id));
+        if (expectedVersion == null) {
+            return notFound;
         }
-        
-        EmployeeDto dto = new EmployeeDto();
-        dto.setEmployeeId(employee.getEmployeeId());
-        dto.setEmployeeNumber(employee.getEmployeeNumber());
-        dto.setName(employee.getName());
-        dto.setFurigana(employee.getFurigana());
-        dto.setBirthday(employee.getBirthday());
-        dto.setEmail(employee.getEmail());
-        dto.setBasicSalary(employee.getBasicSalary());
-        dto.setDependentCount(employee.getDependentCount());
-        dto.setNoHealthInsurance(employee.getNoHealthInsurance());
-        dto.setNoPensionInsurance(employee.getNoPensionInsurance());
-        dto.setUnitPrice(employee.getUnitPrice());
-        dto.setIndividualBusinessAmount(employee.getIndividualBusinessAmount());
-        dto.setPositionAllowance(employee.getPositionAllowance());
-        dto.setHousingAllowance(employee.getHousingAllowance());
-        dto.setFamilyAllowance(employee.getFamilyAllowance());
-        dto.setCollectionFeeAmount(employee.getCollectionFeeAmount());
-        dto.setPaymentFeeAmount(employee.getPaymentFeeAmount());
-        dto.setThirdPartyManagementRate(employee.getThirdPartyManagementRate());
-        dto.setThirdPartyProfitDistributionRate(employee.getThirdPartyProfitDistributionRate());
-        dto.setPhoneNumber(employee.getPhoneNumber());
-        dto.setConsumptionTaxRate(employee.getConsumptionTaxRate());
-        dto.setNonWorkingDeduction(employee.getNonWorkingDeduction());
-        dto.setOvertimeAllowance(employee.getOvertimeAllowance());
-        dto.setCommutingAllowance(employee.getCommutingAllowance());
-        dto.setRemarks(employee.getRemarks());
-        dto.setIsDisabled(employee.getIsDisabled());
-        dto.setIsSingleParent(employee.getIsSingleParent());
-        dto.setIsWidow(employee.getIsWidow());
-        dto.setIsWorkingStudent(employee.getIsWorkingStudent());
-        dto.setDisabledDependentCount(employee.getDisabledDependentCount());
-        
-        return dto;
+        return employeeRepository.findActiveDtoById(id)
+                .flatMap(currentEmployee -> {
+                    refreshCachedEmployee(currentEmployee);
+                    logger.warn("Version conflict for employee ID: {} (expected: {}, current: {})", 
+                            id, expectedVersion, currentEmployee.getVersion());
+                    return Mono.<Employee>error(new EmployeeVersionConflictHandler(
+                            "Employee was modified concurrently, expected version " + expectedVersion 
+                                    + " but current version is " + currentEmployee.getVersion(), currentEmployee));
+                })
+                .switchIfEmpty(notFound);
+    }
+    
+    /**
+     * Append a domain event for a changed employee to the outbox, in the current transaction
+     * @param eventType Event type
+     * @param employee Employee state after the change
+     * @return Mono<EmployeeDto> the employee, once the event is appended
+     */
+    private Mono<EmployeeDto> publish(EmployeeDomainEvent.EventType eventType, EmployeeDto employee) {
+        return employeeOutboxService.append(eventType, List.of(employee)).thenReturn(employee);
     }
     
     /**
-     * Convert EmployeeDto to Employee entity
-     * @param dto EmployeeDto
-     * @return Employee
+     * Convert an updated row and record the fields the update changed, against the row's previous state
+     * @param employee Updated row as returned by the repository
+     * @return Mono<EmployeeDto> the updated employee
      */
-    private Employee convertToEntity(EmployeeDto dto) {
-        if (dto == null) {
-            return null;
+    private Mono<EmployeeDto> convertAndAudit(Employee employee) {
+        EmployeeDto updatedEmployee = employeeMapper.toDto(employee);
+        return employeeAuditService.recordUpdated(employee.getPreviousState(), updatedEmployee).thenReturn(updatedEmployee);
+    }
+    
+    /**
+     * Record a change of the roster once the surrounding transaction commits
+     * The snapshot change is registered first, so it is applied before the roster version moves on
+     * and no page of the new version is read from an older snapshot
+     * @param snapshotChange Snapshot change registered after commit
+     * @return Mono<Void>
+     */
+    private Mono<Void> rosterChangedAfterCommit(Mono<Void> snapshotChange) {
+        return snapshotChange.then(employeeRosterVersion.incrementAfterCommit());
+    }
+    
+    /**
+     * Keep reads of a written employee on the primary until the replica has caught up
+     * @param employee Written employee row
+     */
+    private void recordWrite(Employee employee) {
+        readRouting.recordWrite(employee.getEmployeeId(), employee.getEmployeeNumber());
+    }
+    
+    /**
+     * Replace the cached entries of an employee with its latest state
+     * Drops the old employee number key when the number has changed
+     * @param employee Latest employee state
+     */
+    private void refreshCachedEmployee(EmployeeDto employee) {
+        Cache cache = cacheManager.getCache(EMPLOYEE_CACHE);
+        if (cache == null) {
+            return;
+        }
+        EmployeeDto previous = cache.get(employee.getEmployeeId(), EmployeeDto.class);
+        if (previous != null && !Objects.equals(previous.getEmployeeNumber(), employee.getEmployeeNumber())) {
+            cache.evict(NUMBER_KEY_PREFIX + previous.getEmployeeNumber());
+        }
+        cache.put(employee.getEmployeeId(), employee);
+        cache.put(NUMBER_KEY_PREFIX + employee.getEmployeeNumber(), employee);
+    }
+    
+    /**
+     * Evict the cached entries of deleted employees under both the ID and employee number keys
+     * Uses a single Caffeine invalidateAll when the cache is backed by Caffeine
+     * @param employees Deleted employee rows
+     */
+    private void evictCachedEmployees(List<Employee> employees) {
+        Cache cache = cacheManager.getCache(EMPLOYEE_CACHE);
+        if (cache == null || employees.isEmpty()) {
+            return;
+        }
+        List<Object> keys = new ArrayList<>(employees.size() * 2);
+        for (Employee employee : employees) {
+            keys.add(employee.getEmployeeId());
+            keys.add(NUMBER_KEY_PREFIX + employee.getEmployeeNumber());
+        }
+        if (cache.getNativeCache() instanceof com.github.benmanes.caffeine.cache.Cache<?, ?> caffeineCache) {
+            caffeineCache.invalidateAll(keys);
+        } else {
+            keys.forEach(cache::evict);
+        }
+    }
+    
+    /**
+     * Build the per identifier bulk delete results
+     * @param ids Requested employee IDs
+     * @param numbers Requested employee numbers
+     * @param deleted Deleted employee rows
+     * @return BulkDeleteResponse
+     */
+    private BulkDeleteResponse toBulkDeleteResponse(Set<Long> ids, Set<String> numbers, List<Employee> deleted) {
+        Map<Long, Employee> deletedById = new HashMap<>();
+        Map<String, Employee> deletedByNumber = new HashMap<>();
+        for (Employee employee : deleted) {
+            deletedById.put(employee.getEmployeeId(), employee);
+            deletedByNumber.put(employee.getEmployeeNumber(), employee);
         }
         
-        Employee employee = new Employee();
-        employee.setEmployeeId(dto.getEmployeeId());
-        employee.setEmployeeNumber(dto.getEmployeeNumber());
-        employee.setName(dto.getName());
-        employee.setFurigana(dto.getFurigana());
-        employee.setBirthday(dto.getBirthday());
-        employee.setEmail(dto.getEmail());
-        employee.setBasicSalary(dto.getBasicSalary());
-        employee.setDependentCount(dto.getDependentCount());
-        employee.setNoHealthInsurance(dto.getNoHealthInsurance());
-        employee.setNoPensionInsurance(dto.getNoPensionInsurance());
-        employee.setUnitPrice(dto.getUnitPrice());
-        employee.setIndividualBusinessAmount(dto.getIndividualBusinessAmount());
-        employee.setPositionAllowance(dto.getPositionAllowance());
-        employee.setHousingAllowance(dto.getHousingAllowance());
-        employee.setFamilyAllowance(dto.getFamilyAllowance());
-        employee.setCollectionFeeAmount(dto.getCollectionFeeAmount());
-        employee.setPaymentFeeAmount(dto.getPaymentFeeAmount());
-        employee.setThirdPartyManagementRate(dto.getThirdPartyManagementRate());
-        employee.setThirdPartyProfitDistributionRate(dto.getThirdPartyProfitDistributionRate());
-        employee.setPhoneNumber(dto.getPhoneNumber());
-        employee.setConsumptionTaxRate(dto.getConsumptionTaxRate());
-        employee.setNonWorkingDeduction(dto.getNonWorkingDeduction());
-        employee.setOvertimeAllowance(dto.getOvertimeAllowance());
-        employee.setCommutingAllowance(dto.getCommutingAllowance());
-        employee.setRemarks(dto.getRemarks());
-        employee.setIsDisabled(dto.getIsDisabled());
-        employee.setIsSingleParent(dto.getIsSingleParent());
-        employee.setIsWidow(dto.getIsWidow());
-        employee.setIsWorkingStudent(dto.getIsWorkingStudent());
-        employee.setDisabledDependentCount(dto.getDisabledDependentCount());
-        
-        return employee;
+        List<BulkDeleteResult> results = new ArrayList<>(ids.size() + numbers.size());
+        for (Long id : ids) {
+            Employee employee = deletedById.get(id);
+            results.add(employee != null
+                    ? new BulkDeleteResult(id, employee.getEmployeeNumber(), BulkDeleteResult.Status.DELETED)
+                    : new BulkDeleteResult(id, null, BulkDeleteResult.Status.NOT_FOUND));
+        }
+        for (String number : numbers) {
+            Employee employee = deletedByNumber.get(number);
+            results.add(employee != null
+                    ? new BulkDeleteResult(employee.getEmployeeId(), number, BulkDeleteResult.Status.DELETED)
+                    : new BulkDeleteResult(null, number, BulkDeleteResult.Status.NOT_FOUND));
+        }
+        return new BulkDeleteResponse(results.size(), deleted.size(), results);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,125 @@
+package jp.asatex.revenue_calculator_backend_employee.service;
+
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.databind.util.ByteBufferBackedInputStream;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import jp.asatex.revenue_calculator_backend_employee.dto.EmployeeDto;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Employee snapshot file
+ * Persists the roster snapshot to local disk, so a restart starts from it and only catches up the
+ * changes made since (see EmployeeSnapshotService). The file holds a fixed header (magic, format
+ * version, watermark, employee count) followed by the employees as a sequence of Smile encoded
+ * values in employee ID order; it is memory-mapped for reading. Files are written next to the
+ * target and moved into place, so a crash never leaves a partial file behind
+ */
+@Component
+public class EmployeeSnapshotFile {
+
+    /**
+     * "EMPS"
+     */
+    private static final int MAGIC = 0x454D5053;
+
+    /**
+     * Incremented whenever the layout or the encoded DTO changes incompatibly
+     */
+    private static final int FORMAT_VERSION = 1;
+
+    private static final int HEADER_SIZE = 4 + 4 + 8 + 4 + 4;
+
+    private static final int WRITE_BUFFER_SIZE = 64 * 1024;
+
+    private static final String PART_SUFFIX = ".part";
+
+    private final ObjectMapper smileMapper;
+
+    private final Path file;
+
+    public EmployeeSnapshotFile(Jackson2ObjectMapperBuilder objectMapperBuilder,
+                                @Value("${employee.snapshot.file.path:build/snapshot/employees.snapshot}") Path file) {
+        this.smileMapper = objectMapperBuilder.factory(new SmileFactory()).build();
+        this.file = file.toAbsolutePath();
+    }
+
+    /**
+     * Write a snapshot, replacing the previous file
+     * @param snapshot Roster snapshot
+     * @param watermark Update time the snapshot is known to be current at
+     * @throws IOException if the file cannot be written
+     */
+    public void write(EmployeeRosterSnapshot snapshot, LocalDateTime watermark) throws IOException {
+        Files.createDirectories(file.getParent());
+        Path part = file.resolveSibling(file.getFileName() + PART_SUFFIX);
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(part), WRITE_BUFFER_SIZE))) {
+            out.writeInt(MAGIC);
+            out.writeInt(FORMAT_VERSION);
+            out.writeLong(watermark.toEpochSecond(ZoneOffset.UTC));
+            out.writeInt(watermark.getNano());
+            out.writeInt(snapshot.size());
+            try (SequenceWriter values = smileMapper.writerFor(EmployeeDto.class).writeValues(out)) {
+                values.writeAll(snapshot.getEmployees());
+            }
+        }
+        Files.move(part, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    /**
+     * Read the snapshot file
+     * @return Restored snapshot, or null if there is no file
+     * @throws IOException if the file cannot be read, is of another format version or is truncated
+     */
+    public Restored read() throws IOException {
+        if (!Files.isRegularFile(file)) {
+            return null;
+        }
+        MappedByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            // The mapping stays valid after the channel is closed
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+        if (buffer.remaining() < HEADER_SIZE || buffer.getInt() != MAGIC || buffer.getInt() != FORMAT_VERSION) {
+            throw new IOException("Not an employee snapshot file of format version " + FORMAT_VERSION + ": " + file);
+        }
+        LocalDateTime watermark = LocalDateTime.ofEpochSecond(buffer.getLong(), buffer.getInt(), ZoneOffset.UTC);
+        int count = buffer.getInt();
+        List<EmployeeDto> employees = new ArrayList<>(count);
+        try (MappingIterator<EmployeeDto> values = smileMapper.readerFor(EmployeeDto.class)
+                .readValues(new ByteBufferBackedInputStream(buffer))) {
+            while (values.hasNextValue()) {
+                employees.add(values.nextValue());
+            }
+        }
+        if (employees.size() != count) {
+            throw new IOException("Truncated employee snapshot file, " + employees.size() + " of " + count + " employees: " + file);
+        }
+        return new Restored(EmployeeRosterSnapshot.of(employees), watermark);
+    }
+
+    /**
+     * Snapshot read from the file
+     * @param snapshot Roster snapshot
+     * @param watermark Update time the snapshot is known to be current at
+     */
+    public record Restored(EmployeeRosterSnapshot snapshot, LocalDateTime watermark) {
+    }
+}
@@ -0,0 +1,36 @@
+package jp.asatex.revenue_calculator_backend_employee.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Employee snapshot reconciliation background job
+ * Periodically reloads the in-memory roster snapshot from the database, repairing changes it missed
+ * (lost notifications, employee.stream.enabled=false, writes outside EmployeeService)
+ * Runs only with employee.snapshot.enabled=true
+ */
+@Component
+@ConditionalOnProperty(name = "employee.snapshot.enabled", havingValue = "true")
+public class EmployeeSnapshotReconcileJob {
+
+    private static final Logger logger = LoggerFactory.getLogger(EmployeeSnapshotReconcileJob.class);
+
+    @Autowired
+    private EmployeeSnapshotService employeeSnapshotService;
+
+    /**
+     * Run one reconciliation pass; EmployeeSnapshotService skips it while another reload is running
+     */
+    @Scheduled(initialDelayString = "${employee.snapshot.reconcile.initial-delay:PT10M}",
+               fixedDelayString = "${employee.snapshot.reconcile.interval:PT10M}")
+    public void reconcile() {
+        employeeSnapshotService.reload()
+                .subscribe(
+                        differences -> logger.debug("Snapshot reconciliation finished, {} employees differed", differences),
+                        error -> logger.error("Snapshot reconciliation failed", error));
+    }
+}
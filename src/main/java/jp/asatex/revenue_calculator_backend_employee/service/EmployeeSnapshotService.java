@@ -0,0 +1,384 @@
+package jp.asatex.revenue_calculator_backend_employee.service;
+
+import jp.asatex.revenue_calculator_backend_employee.dto.EmployeeChangeDto;
+import jp.asatex.revenue_calculator_backend_employee.dto.EmployeeChangeEvent;
+import jp.asatex.revenue_calculator_backend_employee.dto.EmployeeDto;
+import jp.asatex.revenue_calculator_backend_employee.entity.Employee;
+import jp.asatex.revenue_calculator_backend_employee.mapper.EmployeeMapper;
+import jp.asatex.revenue_calculator_backend_employee.repository.EmployeeRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.NoTransactionException;
+import org.springframework.transaction.reactive.TransactionSynchronization;
+import org.springframework.transaction.reactive.TransactionSynchronizationManager;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import reactor.util.function.Tuple2;
+import reactor.util.function.Tuples;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.UnaryOperator;
+
+/**
+ * Employee snapshot service layer
+ * Optionally keeps the active roster in memory as an immutable EmployeeRosterSnapshot and serves
+ * list pages and the employee count from it instead of PostgreSQL. The snapshot is loaded from the
+ * primary once the application is ready; writes of this instance are applied after they commit, writes
+ * of other instances when their change notification arrives (see EmployeeChangeListener). A periodic
+ * reload reconciles the snapshot with the database and reports how far it had drifted.
+ * Each load is stamped with a watermark, the database time it is known to be current at. The snapshot
+ * is saved with its watermark to a local file (see EmployeeSnapshotFile) after every load and on
+ * shutdown; at startup a file whose watermark is within employee.snapshot.file.max-age of the database
+ * time is restored and only the employees changed after its watermark are read, instead of the whole
+ * roster. The maximum age must stay below employee.archive.retention, or employees deleted after the
+ * watermark may already be archived and their deletion missed.
+ * Until the first load completes, and with employee.snapshot.enabled=false, nothing is served from memory
+ */
+@Service
+public class EmployeeSnapshotService implements DisposableBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(EmployeeSnapshotService.class);
+
+    /**
+     * Rows fetched per round trip while loading the roster
+     */
+    private static final int LOAD_FETCH_SIZE = 1000;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private EmployeeMapper employeeMapper;
+
+    @Autowired
+    private EmployeeSnapshotFile employeeSnapshotFile;
+
+    @Value("${employee.snapshot.enabled:false}")
+    private boolean enabled;
+
+    @Value("${employee.snapshot.file.enabled:true}")
+    private boolean fileEnabled;
+
+    @Value("${employee.snapshot.file.max-age:PT24H}")
+    private Duration fileMaxAge;
+
+    @Value("${employee.changes.settle-window:PT5S}")
+    private Duration settleWindow;
+
+    private final Object lock = new Object();
+
+    private volatile EmployeeRosterSnapshot snapshot;
+
+    /**
+     * Changes applied while a reload is reading the roster, replayed onto the reloaded snapshot
+     * Guarded by lock, null while no reload is running
+     */
+    private List<UnaryOperator<EmployeeRosterSnapshot>> pendingChanges;
+
+    /**
+     * Update time the snapshot is known to be current at, guarded by lock
+     */
+    private LocalDateTime watermark;
+
+    /**
+     * Load the snapshot once the application (and Flyway) is ready, from the snapshot file if possible
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        if (!enabled) {
+            return;
+        }
+        restore()
+                .switchIfEmpty(Mono.defer(this::reload))
+                .subscribe(
+                unused -> logger.info("Employee snapshot loaded, {} active employees", snapshot.size()),
+                error -> logger.error("Failed to load employee snapshot, list reads stay on the database", error));
+    }
+
+    /**
+     * Whether list pages and the employee count are served from the snapshot
+     * @return true if enabled and loaded
+     */
+    public boolean isServing() {
+        return enabled && snapshot != null;
+    }
+
+    /**
+     * Read one page and the total count from the same snapshot
+     * @param sortColumn employee_id, name or employee_number
+     * @param descending Whether to sort descending
+     * @param offset Offset of the page
+     * @param limit Page size
+     * @return Employees of the page and the number of active employees
+     */
+    public Tuple2<List<EmployeeDto>, Long> getPage(String sortColumn, boolean descending, int offset, int limit) {
+        EmployeeRosterSnapshot current = snapshot;
+        return Tuples.of(current.page(sortColumn, descending, offset, limit), (long) current.size());
+    }
+
+    /**
+     * Number of active employees in the snapshot
+     * @return Count
+     */
+    public long getCount() {
+        return snapshot.size();
+    }
+
+    /**
+     * Put a created or updated employee into the snapshot once the surrounding transaction commits
+     * @param employee Employee as written
+     * @return Mono<Void>
+     */
+    public Mono<Void> putAfterCommit(EmployeeDto employee) {
+        return afterCommit(current -> current.put(employee));
+    }
+
+    /**
+     * Remove deleted employees from the snapshot once the surrounding transaction commits
+     * @param employeeIds Employee IDs
+     * @return Mono<Void>
+     */
+    public Mono<Void> removeAfterCommit(Collection<Long> employeeIds) {
+        return afterCommit(current -> {
+            EmployeeRosterSnapshot removed = current;
+            for (Long employeeId : employeeIds) {
+                removed = removed.remove(employeeId);
+            }
+            return removed;
+        });
+    }
+
+    /**
+     * Apply a change notification
+     * Deletions are applied as they are; for other changes the employee is read from the primary,
+     * unless the snapshot already holds the notified version (e.g. a write of this instance)
+     * @param event Change event
+     * @return Mono<Void> completing once the change is applied
+     */
+    public Mono<Void> applyChange(EmployeeChangeEvent event) {
+        if (!enabled || event.getEmployeeId() == null) {
+            return Mono.empty();
+        }
+        Long employeeId = event.getEmployeeId();
+        if (event.getChangeType() == EmployeeChangeDto.ChangeType.DELETED) {
+            apply(current -> current.remove(employeeId));
+            return Mono.empty();
+        }
+        EmployeeRosterSnapshot current = snapshot;
+        EmployeeDto held = current != null ? current.get(employeeId) : null;
+        if (held != null && held.getVersion() != null && event.getVersion() != null
+                && held.getVersion() >= event.getVersion()) {
+            return Mono.empty();
+        }
+        return employeeRepository.findActiveDtoById(employeeId)
+                .doOnNext(employee -> apply(roster -> roster.put(employee)))
+                .switchIfEmpty(Mono.fromRunnable(() -> apply(roster -> roster.remove(employeeId))))
+                .then();
+    }
+
+    /**
+     * Reload the snapshot from the primary and swap it in
+     * Changes applied during the reload are replayed onto the reloaded snapshot, so none is lost
+     * @return Mono<Integer> number of employees that differed from the replaced snapshot, empty if disabled or a reload is already running
+     */
+    public Mono<Integer> reload() {
+        return rebuild(employeeRepository.streamActiveDtos(LOAD_FETCH_SIZE)
+                        .collectList()
+                        .map(EmployeeRosterSnapshot::of))
+                .doOnSuccess(differences -> {
+                    if (differences != null && differences > 0) {
+                        logger.warn("Employee snapshot had drifted from the database by {} employees, reloaded", differences);
+                    }
+                });
+    }
+
+    /**
+     * Restore the snapshot from the snapshot file and catch it up with the employees changed after its watermark
+     * @return Mono<Integer> number of employees that differed from the replaced snapshot, empty if there is no usable file
+     */
+    public Mono<Integer> restore() {
+        if (!enabled || !fileEnabled) {
+            return Mono.empty();
+        }
+        return Mono.fromCallable(employeeSnapshotFile::read)
+                .subscribeOn(Schedulers.boundedElastic())
+                .filterWhen(this::isFresh)
+                .flatMap(restored -> rebuild(employeeRepository.findChangedAfter(restored.watermark())
+                        .collectList()
+                        .map(changed -> catchUp(restored.snapshot(), changed))))
+                .onErrorResume(error -> {
+                    logger.warn("Failed to restore employee snapshot from file, loading it from the database", error);
+                    return Mono.empty();
+                });
+    }
+
+    /**
+     * Save the snapshot file on shutdown
+     */
+    @Override
+    public void destroy() {
+        if (!enabled || !fileEnabled) {
+            return;
+        }
+        try {
+            writeFile();
+        } catch (IOException e) {
+            logger.warn("Failed to save employee snapshot file on shutdown", e);
+        }
+    }
+
+    /**
+     * Swap in a snapshot built by the loader, replaying the changes applied meanwhile, then save it
+     * The watermark is taken before the loader reads, less the settle window: a row updated just
+     * before may belong to a transaction that commits only after the read
+     */
+    private Mono<Integer> rebuild(Mono<EmployeeRosterSnapshot> loader) {
+        return Mono.defer(() -> {
+            if (!enabled) {
+                return Mono.empty();
+            }
+            List<UnaryOperator<EmployeeRosterSnapshot>> changes = new ArrayList<>();
+            synchronized (lock) {
+                if (pendingChanges != null) {
+                    logger.debug("Employee snapshot reload already running, skipping");
+                    return Mono.empty();
+                }
+                pendingChanges = changes;
+            }
+            return employeeRepository.currentTimestamp()
+                    .flatMap(now -> loader.map(loaded -> swap(loaded, changes, now.minus(settleWindow))))
+                    .flatMap(differences -> save().thenReturn(differences))
+                    .doFinally(signal -> {
+                        synchronized (lock) {
+                            if (pendingChanges == changes) {
+                                pendingChanges = null;
+                            }
+                        }
+                    });
+        });
+    }
+
+    private int swap(EmployeeRosterSnapshot loaded, List<UnaryOperator<EmployeeRosterSnapshot>> changes,
+                     LocalDateTime loadedWatermark) {
+        synchronized (lock) {
+            EmployeeRosterSnapshot replayed = loaded;
+            for (UnaryOperator<EmployeeRosterSnapshot> change : changes) {
+                replayed = change.apply(replayed);
+            }
+            int differences = snapshot != null ? snapshot.differences(replayed) : 0;
+            snapshot = replayed;
+            watermark = loadedWatermark;
+            pendingChanges = null;
+            return differences;
+        }
+    }
+
+    /**
+     * Whether the watermark of a restored snapshot is recent enough to catch up from
+     * Judged by the watermark, not the file time: a file saved on shutdown keeps the watermark of the
+     * last load, which may be much older. Compared with the database time the watermark was taken on
+     */
+    private Mono<Boolean> isFresh(EmployeeSnapshotFile.Restored restored) {
+        return employeeRepository.currentTimestamp()
+                .map(now -> {
+                    if (restored.watermark().isBefore(now.minus(fileMaxAge))) {
+                        logger.info("Employee snapshot file watermark {} is older than {}, loading from the database",
+                                restored.watermark(), fileMaxAge);
+                        return false;
+                    }
+                    return true;
+                });
+    }
+
+    /**
+     * Apply the rows changed after the watermark of a restored snapshot, in one rebuild
+     */
+    private EmployeeRosterSnapshot catchUp(EmployeeRosterSnapshot restored, List<Employee> changed) {
+        Map<Long, EmployeeDto> employees = new HashMap<>();
+        for (EmployeeDto employee : restored.getEmployees()) {
+            employees.put(employee.getEmployeeId(), employee);
+        }
+        for (Employee employee : changed) {
+            if (employee.isDeleted()) {
+                employees.remove(employee.getEmployeeId());
+            } else {
+                employees.put(employee.getEmployeeId(), employeeMapper.toDto(employee));
+            }
+        }
+        logger.info("Employee snapshot restored from file, {} changed employees caught up", changed.size());
+        return EmployeeRosterSnapshot.of(employees.values());
+    }
+
+    private Mono<Void> save() {
+        if (!fileEnabled) {
+            return Mono.empty();
+        }
+        return Mono.<Void>fromCallable(() -> {
+                    writeFile();
+                    return null;
+                })
+                .subscribeOn(Schedulers.boundedElastic())
+                .onErrorResume(error -> {
+                    logger.warn("Failed to save employee snapshot file", error);
+                    return Mono.empty();
+                });
+    }
+
+    private void writeFile() throws IOException {
+        EmployeeRosterSnapshot current;
+        LocalDateTime currentWatermark;
+        synchronized (lock) {
+            current = snapshot;
+            currentWatermark = watermark;
+        }
+        if (current != null) {
+            // Changes applied after the watermark are caught up again on restore, which is harmless
+            employeeSnapshotFile.write(current, currentWatermark);
+        }
+    }
+
+    private void apply(UnaryOperator<EmployeeRosterSnapshot> change) {
+        synchronized (lock) {
+            if (pendingChanges != null) {
+                pendingChanges.add(change);
+            }
+            if (snapshot != null) {
+                snapshot = change.apply(snapshot);
+            }
+        }
+    }
+
+    private Mono<Void> afterCommit(UnaryOperator<EmployeeRosterSnapshot> change) {
+        if (!enabled) {
+            return Mono.empty();
+        }
+        return TransactionSynchronizationManager.forCurrentTransaction()
+                .flatMap(synchronizationManager -> {
+                    if (!synchronizationManager.isSynchronizationActive()) {
+                        apply(change);
+                        return Mono.<Void>empty();
+                    }
+                    synchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                        @Override
+                        public Mono<Void> afterCommit() {
+                            return Mono.fromRunnable(() -> apply(change));
+                        }
+                    });
+                    return Mono.<Void>empty();
+                })
+                .onErrorResume(NoTransactionException.class, e -> Mono.fromRunnable(() -> apply(change)));
+    }
+}
@@ -280,7 +280,8 @@ public class SystemMonitoringService {
                     // Don't wrap business exceptions, only wrap unexpected technical exceptions
                     if (!(error instanceof TransactionHandler) && 
                         !(error instanceof jp.asatex.revenue_calculator_backend_employee.exception.DuplicateEmployeeNumberHandler) &&
-                        !(error instanceof jp.asatex.revenue_calculator_backend_employee.exception.EmployeeNotFoundHandler)) {
+                        !(error instanceof jp.asatex.revenue_calculator_backend_employee.exception.EmployeeNotFoundHandler) &&
+                        !(error instanceof jp.asatex.revenue_calculator_backend_employee.exception.EmployeeVersionConflictHandler)) {
                         throw new TransactionHandler("Transaction failed for operation: " + operation, error);
                     }
                 });
@@ -0,0 +1,104 @@
+package jp.asatex.revenue_calculator_backend_employee.validation;
+
+import jp.asatex.revenue_calculator_backend_employee.dto.BatchValidationResult;
+import jp.asatex.revenue_calculator_backend_employee.dto.EmployeeDto;
+import jp.asatex.revenue_calculator_backend_employee.dto.RowViolation;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Employee batch validator
+ * Validates large lists of EmployeeDto for import and bulk paths: rows are split into chunks
+ * that are validated in parallel on a bounded scheduler with the shared application validator,
+ * and violations are collected by row index
+ */
+@Component
+public class EmployeeBatchValidator implements DisposableBean {
+
+    private final Validator validator;
+
+    private final int chunkSize;
+
+    private final int parallelism;
+
+    private final Scheduler scheduler;
+
+    @Autowired
+    public EmployeeBatchValidator(Validator validator,
+                                  @Value("${employee.validation.batch.chunk-size:500}") int chunkSize,
+                                  @Value("${employee.validation.batch.parallelism:0}") int parallelism) {
+        this.validator = validator;
+        this.chunkSize = Math.max(1, chunkSize);
+        this.parallelism = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+        this.scheduler = Schedulers.newParallel("employee-batch-validation", this.parallelism, true);
+    }
+
+    /**
+     * Validate all rows
+     * @param rows Rows to validate, a null row is reported as a violation
+     * @return Mono<BatchValidationResult> violations by row index
+     */
+    public Mono<BatchValidationResult> validate(List<EmployeeDto> rows) {
+        if (rows.isEmpty()) {
+            return Mono.just(new BatchValidationResult(0, Map.of()));
+        }
+        List<EmployeeDto> indexed = rows instanceof RandomAccess ? rows : new ArrayList<>(rows);
+        int chunks = (indexed.size() + chunkSize - 1) / chunkSize;
+
+        return Flux.range(0, chunks)
+                .parallel(Math.min(parallelism, chunks))
+                .runOn(scheduler)
+                .map(chunk -> validateChunk(indexed, chunk * chunkSize, Math.min(indexed.size(), (chunk + 1) * chunkSize)))
+                .sequential()
+                .collect(() -> new TreeMap<Integer, List<RowViolation>>(), Map::putAll)
+                .map(violations -> new BatchValidationResult(indexed.size(), violations));
+    }
+
+    /**
+     * Validate the rows in [from, to)
+     * @return Violations by row index, only for invalid rows
+     */
+    private Map<Integer, List<RowViolation>> validateChunk(List<EmployeeDto> rows, int from, int to) {
+        Map<Integer, List<RowViolation>> violations = new HashMap<>();
+        for (int rowIndex = from; rowIndex < to; rowIndex++) {
+            EmployeeDto row = rows.get(rowIndex);
+            if (row == null) {
+                violations.put(rowIndex, List.of(new RowViolation(rowIndex, null, "Row cannot be null")));
+                continue;
+            }
+            Set<ConstraintViolation<EmployeeDto>> rowViolations = validator.validate(row);
+            if (rowViolations.isEmpty()) {
+                continue;
+            }
+            List<RowViolation> converted = new ArrayList<>(rowViolations.size());
+            for (ConstraintViolation<EmployeeDto> violation : rowViolations) {
+                converted.add(new RowViolation(rowIndex, violation.getPropertyPath().toString(), violation.getMessage()));
+            }
+            converted.sort(Comparator.comparing(RowViolation::getField).thenComparing(RowViolation::getMessage));
+            violations.put(rowIndex, converted);
+        }
+        return violations;
+    }
+
+    @Override
+    public void destroy() {
+        scheduler.dispose();
+    }
+}
@@ -0,0 +1,7 @@
+-- Add optimistic locking version column
+-- Every UPDATE increments the version; writers send the version they read and
+-- the update only succeeds if it still matches
+
+ALTER TABLE employeeInfo ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
+
+COMMENT ON COLUMN employeeInfo.version IS 'Row version for optimistic locking, incremented on every update';
@@ -0,0 +1,21 @@
+-- Make soft delete a first-class filter
+-- Every read path filters on is_deleted = false, so the hot lookup indexes only
+-- need to cover active rows; a plain index on the low-cardinality flag is never selective
+
+-- is_deleted must be a real boolean for the partial index predicates to match
+UPDATE employeeInfo SET is_deleted = FALSE WHERE is_deleted IS NULL;
+ALTER TABLE employeeInfo ALTER COLUMN is_deleted SET DEFAULT FALSE;
+ALTER TABLE employeeInfo ALTER COLUMN is_deleted SET NOT NULL;
+
+-- Replace full-table indexes with partial indexes over active rows
+DROP INDEX IF EXISTS idx_employeeInfo_is_deleted;
+DROP INDEX IF EXISTS idx_employeeInfo_employee_number;
+DROP INDEX IF EXISTS idx_employeeInfo_name;
+DROP INDEX IF EXISTS idx_employeeInfo_furigana;
+
+CREATE INDEX IF NOT EXISTS idx_employeeInfo_active_employee_id ON employeeInfo(employee_id) WHERE is_deleted = FALSE;
+CREATE INDEX IF NOT EXISTS idx_employeeInfo_active_employee_number ON employeeInfo(employee_number) WHERE is_deleted = FALSE;
+CREATE INDEX IF NOT EXISTS idx_employeeInfo_active_name ON employeeInfo(name) WHERE is_deleted = FALSE;
+CREATE INDEX IF NOT EXISTS idx_employeeInfo_active_furigana ON employeeInfo(furigana) WHERE is_deleted = FALSE;
+
+COMMENT ON COLUMN employeeInfo.is_deleted IS 'Soft delete flag, deleted rows are excluded from every read path';
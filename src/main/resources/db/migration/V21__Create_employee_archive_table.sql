@@ -0,0 +1,20 @@
+-- Cold storage for soft deleted employees
+-- A background job moves rows that have been soft deleted for longer than the retention
+-- period out of employeeInfo so they no longer bloat its indexes and scans.
+-- The archive mirrors the employeeInfo columns plus archived_at. The archive job names every
+-- column it moves (EmployeeArchiveRepository), so column order does not matter, but columns added
+-- to employeeInfo later must be added here too and to the job's column list
+
+CREATE TABLE IF NOT EXISTS employeeInfo_archive (LIKE employeeInfo);
+ALTER TABLE employeeInfo_archive ADD COLUMN IF NOT EXISTS archived_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP;
+ALTER TABLE employeeInfo_archive ADD CONSTRAINT pk_employeeInfo_archive PRIMARY KEY (employee_id);
+
+CREATE INDEX IF NOT EXISTS idx_employeeInfo_archive_employee_number ON employeeInfo_archive(employee_number);
+CREATE INDEX IF NOT EXISTS idx_employeeInfo_archive_archived_at ON employeeInfo_archive(archived_at);
+
+-- The archival job selects the oldest soft deleted rows; only deleted rows need deleted_at indexed
+DROP INDEX IF EXISTS idx_employeeInfo_deleted_at;
+CREATE INDEX IF NOT EXISTS idx_employeeInfo_deleted_at_deleted ON employeeInfo(deleted_at) WHERE is_deleted = TRUE;
+
+COMMENT ON TABLE employeeInfo_archive IS 'Archived soft deleted employees, read only';
+COMMENT ON COLUMN employeeInfo_archive.archived_at IS 'When the row was moved out of employeeInfo';
@@ -0,0 +1,9 @@
+-- Support the incremental change feed
+-- Clients page through employeeInfo in (updated_at, employee_id) order starting after a cursor,
+-- so the pair needs a composite index and updated_at must never be NULL.
+-- Soft deleted rows are included: the feed reports deletions too
+
+UPDATE employeeInfo SET updated_at = COALESCE(created_at, CURRENT_TIMESTAMP) WHERE updated_at IS NULL;
+ALTER TABLE employeeInfo ALTER COLUMN updated_at SET NOT NULL;
+
+CREATE INDEX IF NOT EXISTS idx_employeeInfo_updated_at_employee_id ON employeeInfo(updated_at, employee_id);
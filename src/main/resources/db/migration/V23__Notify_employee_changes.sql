@@ -0,0 +1,25 @@
+-- Push employee changes to listeners on the employee_changes channel
+-- Every committed insert, update and soft delete notifies once per row; NOTIFY is transactional,
+-- so listeners only see changes that committed. The payload stays small (well below the
+-- 8000 byte NOTIFY limit): listeners read the current row through the API when they need it.
+-- Hard deletes by the archive job are not notified, the soft delete was already reported
+
+CREATE OR REPLACE FUNCTION notify_employee_change()
+RETURNS TRIGGER AS $$
+BEGIN
+    PERFORM pg_notify('employee_changes', json_build_object(
+        'employeeId', NEW.employee_id,
+        'employeeNumber', NEW.employee_number,
+        'changeType', CASE WHEN NEW.is_deleted THEN 'DELETED' ELSE 'UPSERTED' END,
+        'version', NEW.version,
+        'changedAt', NEW.updated_at
+    )::text);
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+DROP TRIGGER IF EXISTS notify_employeeInfo_change ON employeeInfo;
+CREATE TRIGGER notify_employeeInfo_change
+    AFTER INSERT OR UPDATE ON employeeInfo
+    FOR EACH ROW
+    EXECUTE FUNCTION notify_employee_change();
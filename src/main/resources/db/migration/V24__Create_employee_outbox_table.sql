@@ -0,0 +1,16 @@
+-- Transactional outbox for employee domain events
+-- Events are inserted in the same transaction as the employee change and removed by the relay
+-- once the sink accepted them (at-least-once delivery). event_id orders the events; changes to
+-- one employee are serialized by its row lock, so their events are ordered per employee
+
+CREATE TABLE IF NOT EXISTS employeeInfo_outbox (
+    event_id BIGSERIAL PRIMARY KEY,
+    employee_id BIGINT NOT NULL,
+    event_type VARCHAR(20) NOT NULL,
+    payload JSONB NOT NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT chk_employeeInfo_outbox_event_type CHECK (event_type IN ('CREATED', 'UPDATED', 'DELETED'))
+);
+
+COMMENT ON TABLE employeeInfo_outbox IS 'Employee domain events waiting to be relayed to the event sink';
+COMMENT ON COLUMN employeeInfo_outbox.payload IS 'Employee state after the change';
@@ -0,0 +1,22 @@
+-- Field level audit trail of employee changes
+-- Rows are written asynchronously in batches after the change committed, so an entry may lag
+-- the change by up to one flush interval. changes holds {"property": {"old": ..., "new": ...}}
+-- for every field the write changed; creates have no old values and deletes no new values
+
+CREATE TABLE IF NOT EXISTS employee_audit (
+    audit_id BIGSERIAL PRIMARY KEY,
+    employee_id BIGINT NOT NULL,
+    action VARCHAR(20) NOT NULL,
+    changes JSONB NOT NULL,
+    changed_by VARCHAR(100),
+    changed_at TIMESTAMP NOT NULL,
+    recorded_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT chk_employee_audit_action CHECK (action IN ('CREATED', 'UPDATED', 'DELETED'))
+);
+
+CREATE INDEX IF NOT EXISTS idx_employee_audit_employee_id_changed_at ON employee_audit(employee_id, changed_at);
+
+COMMENT ON TABLE employee_audit IS 'Field level history of employee changes';
+COMMENT ON COLUMN employee_audit.changes IS 'Changed fields by JSON property name with their old and new values';
+COMMENT ON COLUMN employee_audit.changed_at IS 'Commit time of the change';
+COMMENT ON COLUMN employee_audit.recorded_at IS 'Time the audit entry was written';
@@ -0,0 +1,10 @@
+-- List pages sort names and employee numbers under the "C" collation with the employee ID as
+-- tiebreaker, the same order as the in-memory roster snapshot, so both serve identical pages
+-- and pages stay stable across offsets. Index that order over active rows
+
+DROP INDEX IF EXISTS idx_employeeInfo_active_name;
+
+CREATE INDEX IF NOT EXISTS idx_employeeInfo_active_name_sort
+    ON employeeInfo(name COLLATE "C", employee_id) WHERE is_deleted = FALSE;
+CREATE INDEX IF NOT EXISTS idx_employeeInfo_active_employee_number_sort
+    ON employeeInfo(employee_number COLLATE "C", employee_id) WHERE is_deleted = FALSE;
@@ -0,0 +1,30 @@
+-- Employee numbers only need to be unique among active employees
+-- The UNIQUE constraint of V1 also covered soft deleted rows, so the number of a deleted employee
+-- could never be given to a new one although every read reports it as not found
+
+DO $$
+DECLARE
+    constraint_record RECORD;
+BEGIN
+    -- The constraint name depends on how the column was created (V1 or V17), look it up
+    FOR constraint_record IN
+        SELECT con.conname
+        FROM pg_constraint con
+        JOIN pg_attribute att ON att.attrelid = con.conrelid AND att.attnum = ANY(con.conkey)
+        WHERE con.conrelid = 'employeeinfo'::regclass
+          AND con.contype = 'u'
+          AND array_length(con.conkey, 1) = 1
+          AND att.attname = 'employee_number'
+    LOOP
+        EXECUTE format('ALTER TABLE employeeInfo DROP CONSTRAINT %I', constraint_record.conname);
+    END LOOP;
+END $$;
+
+CREATE UNIQUE INDEX IF NOT EXISTS uk_employeeInfo_active_employee_number
+    ON employeeInfo(employee_number) WHERE is_deleted = FALSE;
+
+-- Covered by the unique index above
+DROP INDEX IF EXISTS idx_employeeInfo_active_employee_number;
+
+-- Duplicates the primary key index and only adds write cost
+DROP INDEX IF EXISTS idx_employeeInfo_active_employee_id;
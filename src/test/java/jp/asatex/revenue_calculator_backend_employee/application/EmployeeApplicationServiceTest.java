@@ -1,20 +1,54 @@
 package jp.asatex.revenue_calculator_backend_employee.application;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jp.asatex.revenue_calculator_backend_employee.dto.BulkDeleteRequest;
 import jp.asatex.revenue_calculator_backend_employee.dto.EmployeeDto;
+import jp.asatex.revenue_calculator_backend_employee.dto.EmployeeExportJob;
+import jp.asatex.revenue_calculator_backend_employee.dto.EmployeeField;
 import jp.asatex.revenue_calculator_backend_employee.exception.TransactionHandler;
+import jp.asatex.revenue_calculator_backend_employee.export.EmployeeExportFormat;
+import jp.asatex.revenue_calculator_backend_employee.export.EmployeeExportJobService;
+import jp.asatex.revenue_calculator_backend_employee.routing.ReadRouting;
+import jp.asatex.revenue_calculator_backend_employee.routing.ReplicaLagMonitor;
+import jp.asatex.revenue_calculator_backend_employee.service.EmployeeRosterVersion;
 import jp.asatex.revenue_calculator_backend_employee.service.EmployeeService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ServerWebInputException;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
+import jakarta.validation.ConstraintViolationException;
+import jakarta.validation.Validation;
 
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 /**
@@ -24,11 +58,15 @@ import static org.mockito.Mockito.when;
 @ExtendWith(MockitoExtension.class)
 class EmployeeApplicationServiceTest {
 
+    private static final Set<String> WRITE_USE_CASES = Set.of("createEmployee", "updateEmployee", "patchEmployee",
+            "deleteEmployee", "deleteEmployeeByNumber", "bulkDeleteEmployees");
+
     @Mock
     private EmployeeService employeeService;
 
     private EmployeeApplicationService employeeApplicationService;
     private EmployeeDto testEmployeeDto;
+    private final ObjectMapper objectMapper = new ObjectMapper();
 
     @BeforeEach
     void setUp() {
@@ -38,6 +76,9 @@ class EmployeeApplicationServiceTest {
             java.lang.reflect.Field field = EmployeeApplicationService.class.getDeclaredField("employeeService");
             field.setAccessible(true);
             field.set(employeeApplicationService, employeeService);
+            java.lang.reflect.Field validatorField = EmployeeApplicationService.class.getDeclaredField("validator");
+            validatorField.setAccessible(true);
+            validatorField.set(employeeApplicationService, Validation.buildDefaultValidatorFactory().getValidator());
         } catch (Exception e) {
             throw new RuntimeException("Failed to inject mock service", e);
         }
@@ -106,6 +147,30 @@ class EmployeeApplicationServiceTest {
                 .verify();
     }
 
+    @Test
+    @DisplayName("Bulk delete without any identifier should be rejected before reaching the service")
+    void testBulkDeleteWithoutIdentifiersIsRejected() {
+        // When & Then
+        StepVerifier.create(employeeApplicationService.bulkDeleteEmployees(new BulkDeleteRequest(List.of(), null)))
+                .expectError(ServerWebInputException.class)
+                .verify();
+
+        verify(employeeService, never()).bulkDeleteEmployees(any(), any());
+    }
+
+    @Test
+    @DisplayName("Bulk delete should wrap unexpected exceptions in TransactionHandler")
+    void testBulkDeleteWrapsUnexpectedExceptions() {
+        // Given
+        when(employeeService.bulkDeleteEmployees(any(), any()))
+                .thenReturn(Mono.error(new RuntimeException("Database connection failed")));
+
+        // When & Then
+        StepVerifier.create(employeeApplicationService.bulkDeleteEmployees(new BulkDeleteRequest(List.of(1L), List.of())))
+                .expectError(TransactionHandler.class)
+                .verify();
+    }
+
     @Test
     @DisplayName("Create employee should not wrap TransactionHandler")
     void testCreateEmployeeDoesNotWrapTransactionHandler() {
@@ -119,4 +184,180 @@ class EmployeeApplicationServiceTest {
                 .expectError(TransactionHandler.class)
                 .verify();
     }
+
+    @Test
+    @DisplayName("Patch employee should pass only supplied fields to the service")
+    void testPatchEmployeePassesOnlySuppliedFields() throws Exception {
+        // Given
+        JsonNode patch = objectMapper.readTree("{\"housingAllowance\": 35000.50, \"remarks\": null}");
+        when(employeeService.patchEmployee(eq(1L), anyMap(), any())).thenReturn(Mono.just(testEmployeeDto));
+
+        // When & Then
+        StepVerifier.create(employeeApplicationService.patchEmployee(1L, patch, null))
+                .expectNext(testEmployeeDto)
+                .verifyComplete();
+
+        verify(employeeService).patchEmployee(eq(1L), argThat((Map<EmployeeField, Object> changes) ->
+                changes.size() == 2
+                        && new BigDecimal("35000.50").compareTo((BigDecimal) changes.get(EmployeeField.HOUSING_ALLOWANCE)) == 0
+                        && changes.containsKey(EmployeeField.REMARKS)
+                        && changes.get(EmployeeField.REMARKS) == null), isNull());
+    }
+
+    @Test
+    @DisplayName("Patch employee should validate supplied fields only")
+    void testPatchEmployeeRejectsInvalidValue() throws Exception {
+        // Given
+        JsonNode patch = objectMapper.readTree("{\"consumptionTaxRate\": 150}");
+
+        // When & Then
+        StepVerifier.create(employeeApplicationService.patchEmployee(1L, patch, null))
+                .expectError(ConstraintViolationException.class)
+                .verify();
+        verify(employeeService, never()).patchEmployee(any(), anyMap(), any());
+    }
+
+    @Test
+    @DisplayName("Patch employee should reject clearing a required field")
+    void testPatchEmployeeRejectsNullRequiredField() throws Exception {
+        // Given
+        JsonNode patch = objectMapper.readTree("{\"name\": null}");
+
+        // When & Then
+        StepVerifier.create(employeeApplicationService.patchEmployee(1L, patch, null))
+                .expectError(ConstraintViolationException.class)
+                .verify();
+    }
+
+    @Test
+    @DisplayName("Patch employee should reject unknown and read-only fields")
+    void testPatchEmployeeRejectsUnknownField() throws Exception {
+        // When & Then
+        StepVerifier.create(employeeApplicationService.patchEmployee(1L, objectMapper.readTree("{\"employeeId\": 2}"), null))
+                .expectError(ServerWebInputException.class)
+                .verify();
+        StepVerifier.create(employeeApplicationService.patchEmployee(1L, objectMapper.readTree("{\"salary\": 1}"), null))
+                .expectError(ServerWebInputException.class)
+                .verify();
+    }
+
+    @Test
+    @DisplayName("Patch employee should reject values of the wrong type")
+    void testPatchEmployeeRejectsWrongType() throws Exception {
+        // When & Then
+        StepVerifier.create(employeeApplicationService.patchEmployee(1L, objectMapper.readTree("{\"dependentCount\": \"two\"}"), null))
+                .expectError(ServerWebInputException.class)
+                .verify();
+    }
+
+    @Test
+    @DisplayName("Patch employee should use the version member as expected version without writing it")
+    void testPatchEmployeeUsesVersionMember() throws Exception {
+        // Given
+        JsonNode patch = objectMapper.readTree("{\"remarks\": \"moved\", \"version\": 7}");
+        when(employeeService.patchEmployee(eq(1L), anyMap(), any())).thenReturn(Mono.just(testEmployeeDto));
+
+        // When & Then
+        StepVerifier.create(employeeApplicationService.patchEmployee(1L, patch, null))
+                .expectNext(testEmployeeDto)
+                .verifyComplete();
+
+        verify(employeeService).patchEmployee(eq(1L),
+                argThat((Map<EmployeeField, Object> changes) -> changes.size() == 1 && "moved".equals(changes.get(EmployeeField.REMARKS))),
+                eq(7L));
+    }
+
+    @Test
+    @DisplayName("Patch employee should prefer the If-Match version over the version member")
+    void testPatchEmployeePrefersIfMatchVersion() throws Exception {
+        // Given
+        JsonNode patch = objectMapper.readTree("{\"remarks\": \"moved\", \"version\": 7}");
+        when(employeeService.patchEmployee(eq(1L), anyMap(), any())).thenReturn(Mono.just(testEmployeeDto));
+
+        // When & Then
+        StepVerifier.create(employeeApplicationService.patchEmployee(1L, patch, 9L))
+                .expectNext(testEmployeeDto)
+                .verifyComplete();
+
+        verify(employeeService).patchEmployee(eq(1L), anyMap(), eq(9L));
+    }
+
+    @Test
+    @DisplayName("Submit export job should hand the streaming export of the format to the job service")
+    void testSubmitExportJob() throws Exception {
+        // Given
+        EmployeeExportJobService employeeExportJobService = mock(EmployeeExportJobService.class);
+        inject("employeeExportJobService", employeeExportJobService);
+        EmployeeExportJob job = new EmployeeExportJob();
+        when(employeeService.exportEmployees()).thenReturn(Flux.just(testEmployeeDto));
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Flux<byte[]>> content = ArgumentCaptor.forClass(Flux.class);
+        when(employeeExportJobService.submit(eq(EmployeeExportFormat.CSV), content.capture())).thenReturn(job);
+
+        // When & Then
+        StepVerifier.create(employeeApplicationService.submitExportJob("csv"))
+                .expectNext(job)
+                .verifyComplete();
+        String csv = content.getValue()
+                .map(bytes -> new String(bytes, StandardCharsets.UTF_8))
+                .collect(StringBuilder::new, StringBuilder::append)
+                .block()
+                .toString();
+        assertThat(csv).startsWith("employeeId,employeeNumber,name,");
+        assertThat(csv.lines()).hasSize(2);
+        assertThat(csv).contains("\n1,EMP001,Tanaka Taro,");
+    }
+
+    @Test
+    @DisplayName("Submit export job should reject unknown formats")
+    void testSubmitExportJobWithUnknownFormat() {
+        StepVerifier.create(employeeApplicationService.submitExportJob("xml"))
+                .expectError(ServerWebInputException.class)
+                .verify();
+    }
+
+    @Test
+    @DisplayName("Roster entity tag should follow the roster version, and be withheld while untracked or while the replica may lag")
+    void testGetRosterETag() throws Exception {
+        // Given
+        ReplicaLagMonitor replicaLagMonitor = mock(ReplicaLagMonitor.class);
+        when(replicaLagMonitor.isWithinLagBound()).thenReturn(false);
+        EmployeeRosterVersion rosterVersion = new EmployeeRosterVersion(
+                new ReadRouting(Optional.of(replicaLagMonitor), Duration.ofSeconds(5)), Duration.ofSeconds(5));
+        inject("employeeRosterVersion", rosterVersion);
+
+        // When & Then - nothing is tagged while writes of other instances are not tracked
+        assertThat(employeeApplicationService.getRosterETag()).isNull();
+        rosterVersion.setTracking(true);
+
+        // Primary reads are tagged with the current version
+        String eTag = employeeApplicationService.getRosterETag();
+        rosterVersion.increment();
+        assertThat(employeeApplicationService.getRosterETag()).isNotNull().isNotEqualTo(eTag);
+
+        // A replica within its lag bound may not have the last change yet
+        when(replicaLagMonitor.isWithinLagBound()).thenReturn(true);
+        assertThat(employeeApplicationService.getRosterETag()).isNull();
+    }
+
+    @Test
+    @DisplayName("Only write use cases should run in a transaction")
+    void testOnlyWritesAreTransactional() {
+        assertThat(AnnotatedElementUtils.hasAnnotation(EmployeeApplicationService.class, Transactional.class)).isFalse();
+        for (Method method : EmployeeApplicationService.class.getDeclaredMethods()) {
+            if (!Modifier.isPublic(method.getModifiers())) {
+                continue;
+            }
+            boolean write = WRITE_USE_CASES.contains(method.getName());
+            assertThat(AnnotatedElementUtils.hasAnnotation(method, Transactional.class))
+                    .as(method.getName())
+                    .isEqualTo(write);
+        }
+    }
+
+    private void inject(String fieldName, Object value) throws Exception {
+        java.lang.reflect.Field field = EmployeeApplicationService.class.getDeclaredField(fieldName);
+        field.setAccessible(true);
+        field.set(employeeApplicationService, value);
+    }
 }
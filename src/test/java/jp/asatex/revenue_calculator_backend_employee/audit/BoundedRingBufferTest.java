@@ -0,0 +1,121 @@
+package jp.asatex.revenue_calculator_backend_employee.audit;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * BoundedRingBuffer unit test
+ * Tests capacity, ordering, overflow and concurrent producers
+ */
+class BoundedRingBufferTest {
+
+    @Test
+    void constructor_ShouldRoundCapacityUpToPowerOfTwo() {
+        assertThat(new BoundedRingBuffer<Integer>(1).capacity()).isEqualTo(2);
+        assertThat(new BoundedRingBuffer<Integer>(5).capacity()).isEqualTo(8);
+        assertThat(new BoundedRingBuffer<Integer>(8).capacity()).isEqualTo(8);
+        assertThatThrownBy(() -> new BoundedRingBuffer<Integer>(0)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void offerAndPoll_ShouldBeFirstInFirstOutAcrossLaps() {
+        BoundedRingBuffer<Integer> buffer = new BoundedRingBuffer<>(4);
+
+        for (int lap = 0; lap < 3; lap++) {
+            for (int i = 0; i < 3; i++) {
+                assertThat(buffer.offer(lap * 10 + i)).isTrue();
+            }
+            assertThat(buffer.size()).isEqualTo(3);
+            assertThat(buffer.poll()).isEqualTo(lap * 10);
+            assertThat(buffer.poll()).isEqualTo(lap * 10 + 1);
+            assertThat(buffer.poll()).isEqualTo(lap * 10 + 2);
+        }
+        assertThat(buffer.poll()).isNull();
+        assertThat(buffer.size()).isZero();
+    }
+
+    @Test
+    void offer_WhenFull_ShouldReturnFalseUntilSpaceIsFreed() {
+        BoundedRingBuffer<Integer> buffer = new BoundedRingBuffer<>(2);
+
+        assertThat(buffer.offer(1)).isTrue();
+        assertThat(buffer.offer(2)).isTrue();
+        assertThat(buffer.offer(3)).isFalse();
+
+        assertThat(buffer.poll()).isEqualTo(1);
+        assertThat(buffer.offer(3)).isTrue();
+        assertThat(buffer.size()).isEqualTo(2);
+    }
+
+    @Test
+    void drainTo_ShouldMoveAtMostMaxElementsInOrder() {
+        BoundedRingBuffer<Integer> buffer = new BoundedRingBuffer<>(8);
+        for (int i = 0; i < 5; i++) {
+            buffer.offer(i);
+        }
+        List<Integer> drained = new ArrayList<>();
+
+        assertThat(buffer.drainTo(drained, 3)).isEqualTo(3);
+        assertThat(drained).containsExactly(0, 1, 2);
+        assertThat(buffer.drainTo(drained, 10)).isEqualTo(2);
+        assertThat(drained).containsExactly(0, 1, 2, 3, 4);
+    }
+
+    @Test
+    void offer_FromConcurrentProducers_ShouldNeitherLoseNorDuplicateElements() throws Exception {
+        int producers = 4;
+        int perProducer = 20_000;
+        BoundedRingBuffer<Integer> buffer = new BoundedRingBuffer<>(1024);
+        ExecutorService executor = Executors.newFixedThreadPool(producers);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<Integer>> accepted = new ArrayList<>();
+            for (int p = 0; p < producers; p++) {
+                int base = p * perProducer;
+                accepted.add(executor.submit(() -> {
+                    start.await();
+                    int count = 0;
+                    for (int i = 0; i < perProducer; i++) {
+                        if (buffer.offer(base + i)) {
+                            count++;
+                        }
+                    }
+                    return count;
+                }));
+            }
+
+            start.countDown();
+            Set<Integer> received = new HashSet<>();
+            int expected = -1;
+            while (expected < 0 || received.size() < expected) {
+                Integer element = buffer.poll();
+                if (element != null) {
+                    assertThat(received.add(element)).isTrue();
+                } else if (expected < 0 && accepted.stream().allMatch(Future::isDone)) {
+                    expected = 0;
+                    for (Future<Integer> future : accepted) {
+                        expected += future.get();
+                    }
+                }
+            }
+
+            assertThat(received).hasSize(expected);
+            assertThat(buffer.poll()).isNull();
+        } finally {
+            executor.shutdownNow();
+            executor.awaitTermination(5, TimeUnit.SECONDS);
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package jp.asatex.revenue_calculator_backend_employee.common;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.server.ServerWebInputException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * ChangeCursor test class
+ */
+@DisplayName("ChangeCursor Test")
+class ChangeCursorTest {
+
+    @Test
+    @DisplayName("Encoded cursor should decode to the same position")
+    void testRoundTrip() {
+        ChangeCursor cursor = new ChangeCursor(LocalDateTime.of(2025, 1, 15, 10, 30, 0, 123456000), 42L);
+
+        String token = cursor.encode();
+
+        assertFalse(token.contains("="));
+        assertEquals(cursor, ChangeCursor.decode(token));
+    }
+
+    @Test
+    @DisplayName("Cursor on a whole second should round trip")
+    void testRoundTripWholeSecond() {
+        ChangeCursor cursor = new ChangeCursor(LocalDateTime.of(2025, 1, 15, 10, 30), 7L);
+
+        assertEquals(cursor, ChangeCursor.decode(cursor.encode()));
+    }
+
+    @Test
+    @DisplayName("Missing cursor should start from the beginning")
+    void testDecodeAbsent() {
+        assertNull(ChangeCursor.decode(null));
+        assertNull(ChangeCursor.decode(""));
+        assertNull(ChangeCursor.decode("  "));
+    }
+
+    @Test
+    @DisplayName("Malformed cursor should be rejected")
+    void testDecodeInvalid() {
+        assertThrows(ServerWebInputException.class, () -> ChangeCursor.decode("not base64!"));
+        assertThrows(ServerWebInputException.class, () -> ChangeCursor.decode(encode("2025-01-15T10:30")));
+        assertThrows(ServerWebInputException.class, () -> ChangeCursor.decode(encode("yesterday_42")));
+        assertThrows(ServerWebInputException.class, () -> ChangeCursor.decode(encode("2025-01-15T10:30_abc")));
+    }
+
+    private static String encode(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,64 @@
+package jp.asatex.revenue_calculator_backend_employee.common;
+
+import jp.asatex.revenue_calculator_backend_employee.dto.EmployeeDto;
+import jp.asatex.revenue_calculator_backend_employee.dto.EmployeeField;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * EmployeeCsv test class
+ */
+@DisplayName("EmployeeCsv Test")
+class EmployeeCsvTest {
+
+    @Test
+    @DisplayName("Header should name the employee ID, every employee field and the version")
+    void testHeader() {
+        String header = EmployeeCsv.header();
+
+        assertThat(header).startsWith("employeeId,employeeNumber,name,furigana,birthday,");
+        assertThat(header).endsWith(",disabledDependentCount,version\n");
+        assertThat(header.split(",")).hasSize(EmployeeField.values().length + 2);
+    }
+
+    @Test
+    @DisplayName("Row should write values like JSON and leave nulls empty")
+    void testRow() {
+        EmployeeDto employee = new EmployeeDto();
+        employee.setEmployeeId(7L);
+        employee.setEmployeeNumber("EMP007");
+        employee.setName("Tanaka Taro");
+        employee.setBirthday(LocalDate.of(1990, 5, 15));
+        employee.setBasicSalary(new BigDecimal("3.5E+5"));
+        employee.setIsDisabled(true);
+        employee.setVersion(2L);
+
+        String[] values = EmployeeCsv.row(employee).split(",", -1);
+
+        assertThat(values).hasSize(EmployeeField.values().length + 2);
+        assertThat(values[0]).isEqualTo("7");
+        assertThat(values[1]).isEqualTo("EMP007");
+        assertThat(values[1 + EmployeeField.BIRTHDAY.ordinal()]).isEqualTo("1990-05-15");
+        assertThat(values[1 + EmployeeField.BASIC_SALARY.ordinal()]).isEqualTo("350000");
+        assertThat(values[1 + EmployeeField.IS_DISABLED.ordinal()]).isEqualTo("true");
+        assertThat(values[1 + EmployeeField.EMAIL.ordinal()]).isEmpty();
+        assertThat(values[values.length - 1]).isEqualTo("2\n");
+    }
+
+    @Test
+    @DisplayName("Values containing separators, quotes or line breaks should be quoted")
+    void testRowQuoting() {
+        EmployeeDto employee = new EmployeeDto();
+        employee.setEmployeeId(7L);
+        employee.setRemarks("Part time, \"remote\"\nsecond line");
+
+        String row = EmployeeCsv.row(employee);
+
+        assertThat(row).contains("\"Part time, \"\"remote\"\"\nsecond line\"");
+    }
+}
@@ -0,0 +1,100 @@
+package jp.asatex.revenue_calculator_backend_employee.common;
+
+import jp.asatex.revenue_calculator_backend_employee.dto.EmployeeDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.server.ServerWebInputException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * EntityTags test class
+ */
+@DisplayName("EntityTags Test")
+class EntityTagsTest {
+
+    @Nested
+    @DisplayName("of Method Tests")
+    class OfTests {
+
+        @Test
+        @DisplayName("Employee with ID and version should produce a strong tag")
+        void testOf() {
+            EmployeeDto employee = new EmployeeDto();
+            employee.setEmployeeId(12L);
+            employee.setVersion(3L);
+
+            assertEquals("\"12-3\"", EntityTags.of(employee));
+        }
+
+        @Test
+        @DisplayName("Employee without version should produce no tag")
+        void testOfWithoutVersion() {
+            EmployeeDto employee = new EmployeeDto();
+            employee.setEmployeeId(12L);
+
+            assertNull(EntityTags.of(employee));
+            assertNull(EntityTags.of(null));
+        }
+    }
+
+    @Nested
+    @DisplayName("versionFromIfMatch Method Tests")
+    class VersionFromIfMatchTests {
+
+        @Test
+        @DisplayName("Strong tag of the same employee should return its version")
+        void testVersionFromIfMatch() {
+            assertEquals(3L, EntityTags.versionFromIfMatch("\"12-3\"", 12L));
+            assertEquals(3L, EntityTags.versionFromIfMatch(" \"12-3\" ", 12L));
+        }
+
+        @Test
+        @DisplayName("Missing header and wildcard should return null")
+        void testVersionFromIfMatchAbsent() {
+            assertNull(EntityTags.versionFromIfMatch(null, 12L));
+            assertNull(EntityTags.versionFromIfMatch("", 12L));
+            assertNull(EntityTags.versionFromIfMatch("*", 12L));
+        }
+
+        @Test
+        @DisplayName("Tags of other employees, weak tags and garbage should be rejected")
+        void testVersionFromIfMatchInvalid() {
+            assertThrows(ServerWebInputException.class, () -> EntityTags.versionFromIfMatch("\"13-3\"", 12L));
+            assertThrows(ServerWebInputException.class, () -> EntityTags.versionFromIfMatch("W/\"12-3\"", 12L));
+            assertThrows(ServerWebInputException.class, () -> EntityTags.versionFromIfMatch("\"12-x\"", 12L));
+            assertThrows(ServerWebInputException.class, () -> EntityTags.versionFromIfMatch("\"12-\"", 12L));
+            assertThrows(ServerWebInputException.class, () -> EntityTags.versionFromIfMatch("\"12-3\", \"12-4\"", 12L));
+        }
+    }
+
+    @Nested
+    @DisplayName("matchesIfNoneMatch Method Tests")
+    class MatchesIfNoneMatchTests {
+
+        @Test
+        @DisplayName("Tags should match by weak comparison")
+        void testWeakComparison() {
+            assertTrue(EntityTags.matchesIfNoneMatch("W/\"roster-a-3\"", "W/\"roster-a-3\""));
+            assertTrue(EntityTags.matchesIfNoneMatch("\"roster-a-3\"", "W/\"roster-a-3\""));
+            assertTrue(EntityTags.matchesIfNoneMatch("W/\"12-3\"", "\"12-3\""));
+            assertFalse(EntityTags.matchesIfNoneMatch("W/\"roster-a-2\"", "W/\"roster-a-3\""));
+        }
+
+        @Test
+        @DisplayName("Any tag of a list or * should match")
+        void testListAndAny() {
+            assertTrue(EntityTags.matchesIfNoneMatch("\"12-2\", \"12-3\"", "\"12-3\""));
+            assertTrue(EntityTags.matchesIfNoneMatch("*", "\"12-3\""));
+        }
+
+        @Test
+        @DisplayName("Absent header or tag should not match")
+        void testAbsent() {
+            assertFalse(EntityTags.matchesIfNoneMatch(null, "\"12-3\""));
+            assertFalse(EntityTags.matchesIfNoneMatch(" ", "\"12-3\""));
+            assertFalse(EntityTags.matchesIfNoneMatch("*", null));
+        }
+    }
+}
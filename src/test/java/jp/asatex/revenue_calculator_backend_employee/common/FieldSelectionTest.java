@@ -0,0 +1,55 @@
+package jp.asatex.revenue_calculator_backend_employee.common;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.server.ServerWebInputException;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * FieldSelection test class
+ */
+@DisplayName("FieldSelection Test")
+class FieldSelectionTest {
+
+    @Test
+    @DisplayName("Selected fields should map to their columns and types, employee ID first")
+    void testParse() {
+        FieldSelection fields = FieldSelection.parse("employeeNumber,name,birthday,basicSalary");
+
+        assertEquals(List.of("employeeId", "employeeNumber", "name", "birthday", "basicSalary"), fields.getProperties());
+        assertEquals(List.of("employee_id", "employee_number", "name", "birthday", "basic_salary"), fields.getColumns());
+        assertEquals(List.of(Long.class, String.class, String.class, LocalDate.class, BigDecimal.class), fields.getTypes());
+        assertEquals("employee_id, employee_number, name, birthday, basic_salary", fields.toSelectList());
+    }
+
+    @Test
+    @DisplayName("Whitespace, empty entries and duplicates should be ignored")
+    void testParseLenientList() {
+        FieldSelection fields = FieldSelection.parse(" name , ,employeeId,name,version");
+
+        assertEquals(List.of("employeeId", "name", "version"), fields.getProperties());
+        assertEquals(FieldSelection.parse("name,version"), fields);
+    }
+
+    @Test
+    @DisplayName("Fields outside the allowlist should be rejected")
+    void testParseUnknownField() {
+        ServerWebInputException exception = assertThrows(ServerWebInputException.class,
+                () -> FieldSelection.parse("name,is_deleted"));
+        assertTrue(exception.getReason().contains("is_deleted"));
+        assertThrows(ServerWebInputException.class, () -> FieldSelection.parse("name; DROP TABLE employeeInfo"));
+        assertThrows(ServerWebInputException.class, () -> FieldSelection.parse("deletedBy"));
+    }
+
+    @Test
+    @DisplayName("A selection without fields should be rejected")
+    void testParseEmpty() {
+        assertThrows(ServerWebInputException.class, () -> FieldSelection.parse(null));
+        assertThrows(ServerWebInputException.class, () -> FieldSelection.parse(" "));
+    }
+}
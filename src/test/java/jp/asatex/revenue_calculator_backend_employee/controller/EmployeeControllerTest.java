@@ -1,27 +1,58 @@
 package jp.asatex.revenue_calculator_backend_employee.controller;
 
+import jp.asatex.revenue_calculator_backend_employee.dto.ArchivedEmployeeDto;
+import jp.asatex.revenue_calculator_backend_employee.dto.BulkDeleteRequest;
+import jp.asatex.revenue_calculator_backend_employee.dto.BulkDeleteResponse;
+import jp.asatex.revenue_calculator_backend_employee.dto.BulkDeleteResult;
+import jp.asatex.revenue_calculator_backend_employee.dto.ChangeFeedResponse;
+import jp.asatex.revenue_calculator_backend_employee.dto.EmployeeChangeDto;
+import jp.asatex.revenue_calculator_backend_employee.dto.EmployeeChangeEvent;
 import jp.asatex.revenue_calculator_backend_employee.dto.EmployeeDto;
+import jp.asatex.revenue_calculator_backend_employee.dto.EmployeeExportJob;
 import jp.asatex.revenue_calculator_backend_employee.common.PageRequest;
 import jp.asatex.revenue_calculator_backend_employee.common.PageResponse;
 import jp.asatex.revenue_calculator_backend_employee.exception.EmployeeNotFoundHandler;
+import jp.asatex.revenue_calculator_backend_employee.exception.EmployeeVersionConflictHandler;
+import jp.asatex.revenue_calculator_backend_employee.exception.ExportJobNotFoundHandler;
+import jp.asatex.revenue_calculator_backend_employee.exception.ExportJobNotReadyHandler;
 import jp.asatex.revenue_calculator_backend_employee.application.EmployeeApplicationService;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.reactive.WebFluxTest;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
 import org.springframework.test.web.reactive.server.WebTestClient;
+import org.springframework.web.server.ServerWebInputException;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.io.IOException;
 import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 /**
@@ -133,6 +164,153 @@ class EmployeeControllerTest {
                 .isEqualTo(updatedEmployee);
     }
 
+    @Test
+    void testPatchEmployee() {
+        // Prepare test data
+        EmployeeDto patchedEmployee = new EmployeeDto(1L, "EMP001", "Tanaka Taro", "tanaka taro", LocalDate.of(1990, 5, 15), "tanaka@example.com", new BigDecimal("350000"), 2, true, true, new BigDecimal("5000"), new BigDecimal("150000"), new BigDecimal("50000"), new BigDecimal("35000"), new BigDecimal("20000"), new BigDecimal("5000"), new BigDecimal("3000"), new BigDecimal("5.00"), new BigDecimal("3.00"), null, null, null, null, null, null, null, null, null, null, null);
+
+        when(employeeApplicationService.patchEmployee(anyLong(), any(), any())).thenReturn(Mono.just(patchedEmployee));
+
+        // Execute test
+        webTestClient.patch()
+                .uri("/api/v1/employee/1")
+                .contentType(MediaType.parseMediaType("application/merge-patch+json"))
+                .bodyValue("{\"housingAllowance\": 35000}")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentType(MediaType.APPLICATION_JSON)
+                .expectBody(EmployeeDto.class)
+                .isEqualTo(patchedEmployee);
+    }
+
+    @Test
+    void testUpdateEmployeeWithIfMatch() {
+        // Prepare test data
+        EmployeeDto updatedEmployee = new EmployeeDto(1L, "EMP001", "Tanaka Taro (Updated)", "tanaka taro (updated)", LocalDate.of(1990, 5, 15), "tanaka.updated@example.com", new BigDecimal("400000"), 3, true, true, new BigDecimal("5500"), new BigDecimal("165000"), new BigDecimal("55000"), new BigDecimal("35000"), new BigDecimal("25000"), new BigDecimal("5500"), new BigDecimal("3500"), new BigDecimal("5.50"), new BigDecimal("3.50"), null, null, null, null, null, null, null, null, null, null, null);
+        updatedEmployee.setVersion(4L);
+
+        when(employeeApplicationService.updateEmployee(eq(1L), argThat(dto -> Long.valueOf(3L).equals(dto.getVersion()))))
+                .thenReturn(Mono.just(updatedEmployee));
+
+        // Execute test
+        webTestClient.put()
+                .uri("/api/v1/employee/1")
+                .header("If-Match", "\"1-3\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(updatedEmployee)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals("ETag", "\"1-4\"")
+                .expectBody(EmployeeDto.class)
+                .isEqualTo(updatedEmployee);
+    }
+
+    @Test
+    void testGetEmployeeByIdNotModified() {
+        EmployeeDto employee = new EmployeeDto(1L, "EMP001", "Tanaka Taro", "tanaka taro", LocalDate.of(1990, 5, 15), null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null);
+        employee.setVersion(4L);
+        when(employeeApplicationService.getEmployeeById(1L)).thenReturn(Mono.just(employee));
+
+        webTestClient.get()
+                .uri("/api/v1/employee/1")
+                .header(HttpHeaders.IF_NONE_MATCH, "\"1-4\"")
+                .exchange()
+                .expectStatus().isNotModified()
+                .expectHeader().valueEquals("ETag", "\"1-4\"")
+                .expectBody().isEmpty();
+    }
+
+    @Test
+    void testGetEmployeeByNumberModified() {
+        EmployeeDto employee = new EmployeeDto(1L, "EMP001", "Tanaka Taro", "tanaka taro", LocalDate.of(1990, 5, 15), null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null);
+        employee.setVersion(5L);
+        when(employeeApplicationService.getEmployeeByNumber("EMP001")).thenReturn(Mono.just(employee));
+
+        webTestClient.get()
+                .uri("/api/v1/employee/number/EMP001")
+                .header(HttpHeaders.IF_NONE_MATCH, "\"1-4\"")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals("ETag", "\"1-5\"")
+                .expectBody(EmployeeDto.class)
+                .isEqualTo(employee);
+    }
+
+    @Test
+    void testGetEmployeesWithPaginationCarriesRosterETag() {
+        PageResponse<EmployeeDto> pageResponse = new PageResponse<>(List.of(), 0, 10, 0L, "name", "ASC");
+        when(employeeApplicationService.getRosterETag()).thenReturn("W/\"roster-a-3\"");
+        when(employeeApplicationService.getEmployeesWithPagination(any(PageRequest.class))).thenReturn(Mono.just(pageResponse));
+
+        webTestClient.get()
+                .uri("/api/v1/employee?page=0&size=10")
+                .header(HttpHeaders.IF_NONE_MATCH, "W/\"roster-a-2\"")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals("ETag", "W/\"roster-a-3\"");
+    }
+
+    @Test
+    void testGetEmployeesWithPaginationNotModified() {
+        when(employeeApplicationService.getRosterETag()).thenReturn("W/\"roster-a-3\"");
+
+        webTestClient.get()
+                .uri("/api/v1/employee?page=0&size=10")
+                .header(HttpHeaders.IF_NONE_MATCH, "W/\"roster-a-3\"")
+                .exchange()
+                .expectStatus().isNotModified()
+                .expectHeader().valueEquals("ETag", "W/\"roster-a-3\"");
+
+        verify(employeeApplicationService, never()).getEmployeesWithPagination(any(PageRequest.class));
+    }
+
+    @Test
+    void testGetEmployeeFieldsWithPaginationNotModified() {
+        when(employeeApplicationService.getRosterETag()).thenReturn("W/\"roster-a-3\"");
+
+        webTestClient.get()
+                .uri("/api/v1/employee?fields=name&page=0&size=10")
+                .header(HttpHeaders.IF_NONE_MATCH, "W/\"roster-a-3\"")
+                .exchange()
+                .expectStatus().isNotModified();
+
+        verify(employeeApplicationService, never()).getEmployeeFieldsWithPagination(any(PageRequest.class), any());
+    }
+
+    @Test
+    void testUpdateEmployeeWithMalformedIfMatch() {
+        EmployeeDto employee = new EmployeeDto(1L, "EMP001", "Tanaka Taro", "tanaka taro", LocalDate.of(1990, 5, 15), null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null);
+
+        webTestClient.put()
+                .uri("/api/v1/employee/1")
+                .header("If-Match", "\"2-3\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(employee)
+                .exchange()
+                .expectStatus().isBadRequest();
+    }
+
+    @Test
+    void testUpdateEmployeeVersionConflict() {
+        EmployeeDto current = new EmployeeDto(1L, "EMP001", "Tanaka Taro", "tanaka taro", LocalDate.of(1990, 5, 15), null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null);
+        current.setVersion(5L);
+
+        when(employeeApplicationService.updateEmployee(anyLong(), any(EmployeeDto.class)))
+                .thenReturn(Mono.error(new EmployeeVersionConflictHandler("Employee was modified concurrently", current)));
+
+        webTestClient.put()
+                .uri("/api/v1/employee/1")
+                .header("If-Match", "\"1-3\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(current)
+                .exchange()
+                .expectStatus().isEqualTo(409)
+                .expectHeader().valueEquals("ETag", "\"1-5\"")
+                .expectBody()
+                .jsonPath("$.error").isEqualTo("Version conflict")
+                .jsonPath("$.current.version").isEqualTo(5);
+    }
+
     @Test
     void testUpdateEmployeeAllFields() {
         // Prepare updated employee data with all fields changed
@@ -212,6 +390,327 @@ class EmployeeControllerTest {
                 .expectStatus().isNoContent();
     }
 
+    @Test
+    void testGetArchivedEmployeeById() {
+        EmployeeDto employee = new EmployeeDto();
+        employee.setEmployeeId(1L);
+        employee.setEmployeeNumber("EMP001");
+        ArchivedEmployeeDto archived = new ArchivedEmployeeDto(employee, LocalDateTime.of(2025, 1, 15, 10, 30), "system",
+                LocalDateTime.of(2025, 4, 15, 3, 0));
+        when(employeeApplicationService.getArchivedEmployeeById(1L)).thenReturn(Mono.just(archived));
+
+        webTestClient.get()
+                .uri("/api/v1/employee/archive/1")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.employee.employeeNumber").isEqualTo("EMP001")
+                .jsonPath("$.deletedBy").isEqualTo("system");
+    }
+
+    @Test
+    void testGetArchivedEmployeeByIdNotFound() {
+        when(employeeApplicationService.getArchivedEmployeeById(999L))
+                .thenReturn(Mono.error(new EmployeeNotFoundHandler("Archived employee not found with ID: 999")));
+
+        webTestClient.get()
+                .uri("/api/v1/employee/archive/999")
+                .exchange()
+                .expectStatus().isNotFound();
+    }
+
+    @Test
+    void testGetChanges() {
+        EmployeeChangeDto deleted = new EmployeeChangeDto(3L, EmployeeChangeDto.ChangeType.DELETED,
+                LocalDateTime.of(2025, 1, 15, 10, 30), null);
+        ChangeFeedResponse response = new ChangeFeedResponse(List.of(deleted), "next", false);
+        when(employeeApplicationService.getChanges("cursor", 100)).thenReturn(Mono.just(response));
+
+        webTestClient.get()
+                .uri("/api/v1/employee/changes?since=cursor&limit=100")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.changes[0].employeeId").isEqualTo(3)
+                .jsonPath("$.changes[0].changeType").isEqualTo("DELETED")
+                .jsonPath("$.nextCursor").isEqualTo("next")
+                .jsonPath("$.hasMore").isEqualTo(false);
+    }
+
+    @Test
+    void testGetChangesWithDefaults() {
+        when(employeeApplicationService.getChanges(null, 500)).thenReturn(Mono.just(new ChangeFeedResponse()));
+
+        webTestClient.get()
+                .uri("/api/v1/employee/changes")
+                .exchange()
+                .expectStatus().isOk();
+    }
+
+    @Test
+    void testGetChangesWithInvalidLimit() {
+        webTestClient.get()
+                .uri("/api/v1/employee/changes?limit=1001")
+                .exchange()
+                .expectStatus().isBadRequest();
+    }
+
+    @Test
+    void testStreamChanges() {
+        EmployeeChangeEvent change = new EmployeeChangeEvent(1L, "EMP001", EmployeeChangeDto.ChangeType.UPSERTED, 2L,
+                LocalDateTime.of(2025, 1, 15, 10, 30));
+        when(employeeApplicationService.streamChanges("run-41")).thenReturn(Flux.just(
+                ServerSentEvent.builder((Object) change).id("run-42").event("employee-change").build()));
+
+        String body = webTestClient.get()
+                .uri("/api/v1/employee/stream")
+                .accept(MediaType.TEXT_EVENT_STREAM)
+                .header("Last-Event-ID", "run-41")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.TEXT_EVENT_STREAM)
+                .expectBody(String.class)
+                .returnResult()
+                .getResponseBody();
+
+        assertThat(body).contains("id:run-42", "event:employee-change", "\"employeeNumber\":\"EMP001\"");
+    }
+
+    @Test
+    void testBulkDeleteEmployees() {
+        BulkDeleteResponse response = new BulkDeleteResponse(2, 1, List.of(
+                new BulkDeleteResult(1L, "EMP001", BulkDeleteResult.Status.DELETED),
+                new BulkDeleteResult(null, "EMP404", BulkDeleteResult.Status.NOT_FOUND)));
+        when(employeeApplicationService.bulkDeleteEmployees(any(BulkDeleteRequest.class))).thenReturn(Mono.just(response));
+
+        webTestClient.post()
+                .uri("/api/v1/employee/bulk-delete")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(new BulkDeleteRequest(List.of(1L), List.of("EMP404")))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.deleted").isEqualTo(1)
+                .jsonPath("$.results[0].status").isEqualTo("DELETED")
+                .jsonPath("$.results[1].status").isEqualTo("NOT_FOUND");
+    }
+
+    @Test
+    void testGetEmployeesWithPaginationAsCbor() throws Exception {
+        EmployeeDto employee = new EmployeeDto(1L, "EMP001", "Tanaka Taro", "tanaka taro", LocalDate.of(1990, 5, 15), "tanaka@example.com", new BigDecimal("350000.50"), 2, true, true, new BigDecimal("5000"), new BigDecimal("150000"), new BigDecimal("50000"), new BigDecimal("30000"), new BigDecimal("20000"), new BigDecimal("5000"), new BigDecimal("3000"), new BigDecimal("5.00"), new BigDecimal("3.00"), null, null, null, null, null, null, null, null, null, null, null);
+        PageResponse<EmployeeDto> pageResponse = new PageResponse<>(List.of(employee), 0, 10, 1L, "name", "ASC");
+        when(employeeApplicationService.getEmployeesWithPagination(any(PageRequest.class))).thenReturn(Mono.just(pageResponse));
+
+        byte[] body = webTestClient.get()
+                .uri("/api/v1/employee?page=0&size=10")
+                .accept(MediaType.APPLICATION_CBOR)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentType(MediaType.APPLICATION_CBOR)
+                .expectBody(byte[].class)
+                .returnResult()
+                .getResponseBody();
+
+        PageResponse<EmployeeDto> decoded = binaryMapper(new CBORFactory()).readValue(body, new TypeReference<>() {});
+        assertThat(decoded.getTotalElements()).isEqualTo(1L);
+        assertThat(decoded.getContent()).containsExactly(employee);
+        assertThat(decoded.getContent().get(0).getBasicSalary()).isEqualTo(new BigDecimal("350000.50"));
+    }
+
+    @Test
+    void testBulkDeleteEmployeesAsSmile() throws Exception {
+        MediaType smile = MediaType.valueOf("application/x-jackson-smile");
+        ObjectMapper smileMapper = binaryMapper(new SmileFactory());
+        BulkDeleteResponse response = new BulkDeleteResponse(1, 1, List.of(
+                new BulkDeleteResult(1L, "EMP001", BulkDeleteResult.Status.DELETED)));
+        when(employeeApplicationService.bulkDeleteEmployees(argThat(request -> request.getEmployeeIds().equals(List.of(1L)))))
+                .thenReturn(Mono.just(response));
+
+        byte[] body = webTestClient.post()
+                .uri("/api/v1/employee/bulk-delete")
+                .contentType(smile)
+                .accept(smile)
+                .bodyValue(smileMapper.writeValueAsBytes(new BulkDeleteRequest(List.of(1L), List.of())))
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentType(smile)
+                .expectBody(byte[].class)
+                .returnResult()
+                .getResponseBody();
+
+        BulkDeleteResponse decoded = smileMapper.readValue(body, BulkDeleteResponse.class);
+        assertThat(decoded.getDeleted()).isEqualTo(1);
+        assertThat(decoded.getResults().get(0).getStatus()).isEqualTo(BulkDeleteResult.Status.DELETED);
+    }
+
+    @Test
+    void testExportEmployeesAsNdjson() {
+        EmployeeDto employee1 = new EmployeeDto();
+        employee1.setEmployeeId(1L);
+        employee1.setEmployeeNumber("EMP001");
+        EmployeeDto employee2 = new EmployeeDto();
+        employee2.setEmployeeId(2L);
+        employee2.setEmployeeNumber("EMP002");
+        when(employeeApplicationService.exportEmployees()).thenReturn(Flux.just(employee1, employee2));
+
+        String body = webTestClient.get()
+                .uri("/api/v1/employee/export")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+                .expectBody(String.class)
+                .returnResult()
+                .getResponseBody();
+
+        String[] lines = body.split("\n");
+        assertThat(lines).hasSize(2);
+        assertThat(lines[0]).contains("\"employeeNumber\":\"EMP001\"");
+        assertThat(lines[1]).contains("\"employeeNumber\":\"EMP002\"");
+    }
+
+    @Test
+    void testExportEmployeesAsCsv() {
+        when(employeeApplicationService.exportEmployeesAsCsv()).thenReturn(Flux.just("employeeId,employeeNumber\n", "1,EMP001\n"));
+
+        webTestClient.get()
+                .uri("/api/v1/employee/export?format=csv")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.valueOf("text/csv"))
+                .expectHeader().valueEquals(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"employees.csv\"")
+                .expectBody(String.class)
+                .isEqualTo("employeeId,employeeNumber\n1,EMP001\n");
+    }
+
+    @Test
+    void testExportEmployeesAsArrow() {
+        byte[] stream = {1, 2, 3};
+        when(employeeApplicationService.exportEmployeesAsArrow()).thenReturn(Flux.just(stream));
+
+        webTestClient.get()
+                .uri("/api/v1/employee/export?format=arrow")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentType(MediaType.valueOf("application/vnd.apache.arrow.stream"))
+                .expectHeader().valueEquals(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"employees.arrows\"")
+                .expectBody(byte[].class)
+                .isEqualTo(stream);
+    }
+
+    @Test
+    void testSubmitExportJob() {
+        EmployeeExportJob job = new EmployeeExportJob("job-1", "csv", EmployeeExportJob.Status.QUEUED,
+                LocalDateTime.of(2025, 1, 15, 10, 30), null, null, null, null);
+        when(employeeApplicationService.submitExportJob("csv")).thenReturn(Mono.just(job));
+
+        webTestClient.post()
+                .uri("/api/v1/employee/export/jobs?format=csv")
+                .exchange()
+                .expectStatus().isAccepted()
+                .expectHeader().location("/api/v1/employee/export/jobs/job-1")
+                .expectBody()
+                .jsonPath("$.jobId").isEqualTo("job-1")
+                .jsonPath("$.status").isEqualTo("QUEUED");
+    }
+
+    @Test
+    void testSubmitExportJobWithUnknownFormat() {
+        when(employeeApplicationService.submitExportJob("xml"))
+                .thenReturn(Mono.error(new ServerWebInputException("Unknown export format: xml")));
+
+        webTestClient.post()
+                .uri("/api/v1/employee/export/jobs?format=xml")
+                .exchange()
+                .expectStatus().isBadRequest();
+    }
+
+    @Test
+    void testGetExportJob() {
+        EmployeeExportJob job = new EmployeeExportJob("job-1", "csv", EmployeeExportJob.Status.COMPLETED,
+                LocalDateTime.of(2025, 1, 15, 10, 30), LocalDateTime.of(2025, 1, 15, 10, 31),
+                LocalDateTime.of(2025, 1, 15, 11, 31), 1024L, null);
+        when(employeeApplicationService.getExportJob("job-1")).thenReturn(Mono.just(job));
+
+        webTestClient.get()
+                .uri("/api/v1/employee/export/jobs/job-1")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.status").isEqualTo("COMPLETED")
+                .jsonPath("$.fileSize").isEqualTo(1024);
+    }
+
+    @Test
+    void testGetUnknownExportJob() {
+        when(employeeApplicationService.getExportJob("missing"))
+                .thenReturn(Mono.error(new ExportJobNotFoundHandler("Export job not found: missing")));
+
+        webTestClient.get()
+                .uri("/api/v1/employee/export/jobs/missing")
+                .exchange()
+                .expectStatus().isNotFound()
+                .expectBody()
+                .jsonPath("$.error").isEqualTo("Export job not found");
+    }
+
+    @Test
+    void testDownloadExportJobFile(@TempDir Path directory) throws IOException {
+        byte[] content = {31, -117, 8, 0, 1, 2, 3, 4, 5, 6};
+        Path file = Files.write(directory.resolve("job-1.csv.gz"), content);
+        when(employeeApplicationService.getExportJobFile("job-1")).thenReturn(Mono.just(file));
+
+        webTestClient.get()
+                .uri("/api/v1/employee/export/jobs/job-1/file")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentType(MediaType.valueOf("application/gzip"))
+                .expectHeader().valueEquals(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"employees-job-1.csv.gz\"")
+                .expectHeader().valueEquals(HttpHeaders.ACCEPT_RANGES, "bytes")
+                .expectBody(byte[].class)
+                .isEqualTo(content);
+    }
+
+    @Test
+    void testDownloadExportJobFileRange(@TempDir Path directory) throws IOException {
+        byte[] content = {31, -117, 8, 0, 1, 2, 3, 4, 5, 6};
+        Path file = Files.write(directory.resolve("job-1.csv.gz"), content);
+        when(employeeApplicationService.getExportJobFile("job-1")).thenReturn(Mono.just(file));
+
+        webTestClient.get()
+                .uri("/api/v1/employee/export/jobs/job-1/file")
+                .header(HttpHeaders.RANGE, "bytes=4-")
+                .exchange()
+                .expectStatus().isEqualTo(206)
+                .expectHeader().valueEquals(HttpHeaders.CONTENT_RANGE, "bytes 4-9/10")
+                .expectBody(byte[].class)
+                .isEqualTo(new byte[] {1, 2, 3, 4, 5, 6});
+    }
+
+    @Test
+    void testDownloadExportJobFileNotReady() {
+        EmployeeExportJob job = new EmployeeExportJob("job-1", "csv", EmployeeExportJob.Status.RUNNING,
+                LocalDateTime.of(2025, 1, 15, 10, 30), null, null, null, null);
+        when(employeeApplicationService.getExportJobFile("job-1"))
+                .thenReturn(Mono.error(new ExportJobNotReadyHandler("Export job job-1 is RUNNING", job)));
+
+        webTestClient.get()
+                .uri("/api/v1/employee/export/jobs/job-1/file")
+                .exchange()
+                .expectStatus().isEqualTo(409)
+                .expectBody()
+                .jsonPath("$.job.status").isEqualTo("RUNNING");
+    }
+
+    @Test
+    void testBulkDeleteEmployeesWithInvalidEmployeeNumber() {
+        webTestClient.post()
+                .uri("/api/v1/employee/bulk-delete")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(new BulkDeleteRequest(List.of(), List.of("EMP 001")))
+                .exchange()
+                .expectStatus().isBadRequest();
+    }
+
     @Test
     void testSearchEmployeesByName() {
         // Prepare test data
@@ -231,6 +730,57 @@ class EmployeeControllerTest {
                 .hasSize(2);
     }
 
+    @Test
+    void testGetEmployeeFieldsWithPagination() {
+        Map<String, Object> row = new LinkedHashMap<>();
+        row.put("employeeId", 1L);
+        row.put("name", "Tanaka Taro");
+        PageResponse<Map<String, Object>> pageResponse = new PageResponse<>(List.of(row), 0, 10, 1L, "employeeId", "ASC");
+
+        when(employeeApplicationService.getEmployeeFieldsWithPagination(any(PageRequest.class), eq("name")))
+                .thenReturn(Mono.just(pageResponse));
+
+        webTestClient.get()
+                .uri("/api/v1/employee?fields=name&page=0&size=10")
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.content[0].employeeId").isEqualTo(1)
+                .jsonPath("$.content[0].name").isEqualTo("Tanaka Taro")
+                .jsonPath("$.content[0].email").doesNotExist()
+                .jsonPath("$.totalElements").isEqualTo(1);
+    }
+
+    @Test
+    void testGetEmployeeFieldsById() {
+        Map<String, Object> row = new LinkedHashMap<>();
+        row.put("employeeId", 1L);
+        row.put("employeeNumber", "EMP001");
+
+        when(employeeApplicationService.getEmployeeFieldsById(1L, "employeeNumber")).thenReturn(Mono.just(row));
+
+        webTestClient.get()
+                .uri("/api/v1/employee/1?fields=employeeNumber")
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .json("{\"employeeId\":1,\"employeeNumber\":\"EMP001\"}", true);
+    }
+
+    @Test
+    void testSearchEmployeeFieldsByNameWithUnknownField() {
+        when(employeeApplicationService.searchEmployeeFieldsByName("Tanaka", "salary"))
+                .thenReturn(Flux.error(new ServerWebInputException("Unknown field: salary")));
+
+        webTestClient.get()
+                .uri("/api/v1/employee/search/name?name=Tanaka&fields=salary")
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isBadRequest();
+    }
+
     @Test
     void testSearchEmployeesByNameNotFound() {
         when(employeeApplicationService.searchEmployeesByName("Yamada")).thenReturn(Flux.empty());
@@ -301,4 +851,8 @@ class EmployeeControllerTest {
                 .expectBody(String.class)
                 .isEqualTo("Employee API is running");
     }
+
+    private static ObjectMapper binaryMapper(JsonFactory factory) {
+        return Jackson2ObjectMapperBuilder.json().factory(factory).build();
+    }
 }
@@ -57,6 +57,21 @@ public class GlobalExceptionHandlerTest {
                 .jsonPath("$.message").isEqualTo("Employee number already exists: EMP001");
     }
 
+    @Test
+    public void testHandleExportJobQueueFullHandler() {
+        when(employeeApplicationService.submitExportJob(any())).thenReturn(
+                Mono.error(new ExportJobQueueFullHandler("Export job queue is full, 20 jobs are waiting"))
+        );
+        
+        webTestClient.post()
+                .uri("/api/v1/employee/export/jobs?format=csv")
+                .exchange()
+                .expectStatus().isEqualTo(503)
+                .expectBody()
+                .jsonPath("$.error").isEqualTo("Export job queue full")
+                .jsonPath("$.message").isEqualTo("Export job queue is full, 20 jobs are waiting");
+    }
+
     @Test
     public void testHandleValidationException_InvalidFurigana() {
         // Test furigana with invalid characters
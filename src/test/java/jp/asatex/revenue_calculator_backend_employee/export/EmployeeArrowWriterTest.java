@@ -0,0 +1,149 @@
+package jp.asatex.revenue_calculator_backend_employee.export;
+
+import jp.asatex.revenue_calculator_backend_employee.dto.EmployeeField;
+import org.apache.arrow.memory.BufferAllocator;
+import org.apache.arrow.memory.RootAllocator;
+import org.apache.arrow.vector.BigIntVector;
+import org.apache.arrow.vector.DateDayVector;
+import org.apache.arrow.vector.DecimalVector;
+import org.apache.arrow.vector.VarCharVector;
+import org.apache.arrow.vector.VectorSchemaRoot;
+import org.apache.arrow.vector.ipc.ArrowStreamReader;
+import org.apache.arrow.vector.types.pojo.ArrowType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Hooks;
+import reactor.core.scheduler.Schedulers;
+import reactor.test.StepVerifier;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * EmployeeArrowWriter test class
+ */
+@DisplayName("EmployeeArrowWriter Test")
+class EmployeeArrowWriterTest {
+
+    private final EmployeeArrowWriter writer = new EmployeeArrowWriter(2, 64 * 1024 * 1024);
+
+    @AfterEach
+    void tearDown() {
+        writer.destroy();
+    }
+
+    @Test
+    @DisplayName("Amounts and rates should be decimal columns with the scale of their database columns")
+    void testSchema() {
+        assertThat(EmployeeArrowWriter.getSchema().getFields()).hasSize(EmployeeField.values().length + 2);
+        assertThat(EmployeeArrowWriter.getSchema().findField("basicSalary").getType())
+                .isEqualTo(new ArrowType.Decimal(12, 2, 128));
+        assertThat(EmployeeArrowWriter.getSchema().findField("consumptionTaxRate").getType())
+                .isEqualTo(new ArrowType.Decimal(5, 2, 128));
+        assertThat(EmployeeArrowWriter.getSchema().findField("employeeId").isNullable()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Rows should be written as fixed-size record batches readable as an Arrow stream")
+    void testWrite() throws Exception {
+        List<Object[]> rows = List.of(row(1L, "EMP001", new BigDecimal("350000")), row(2L, "EMP002", null),
+                row(3L, "EMP003", new BigDecimal("280000.5")));
+
+        byte[] stream = concat(writer.write(Flux.fromIterable(rows)).collectList().block());
+
+        List<Integer> batchSizes = new ArrayList<>();
+        List<Long> employeeIds = new ArrayList<>();
+        try (BufferAllocator allocator = new RootAllocator();
+             ArrowStreamReader reader = new ArrowStreamReader(new ByteArrayInputStream(stream), allocator)) {
+            VectorSchemaRoot root = reader.getVectorSchemaRoot();
+            while (reader.loadNextBatch()) {
+                batchSizes.add(root.getRowCount());
+                BigIntVector ids = (BigIntVector) root.getVector("employeeId");
+                DecimalVector salaries = (DecimalVector) root.getVector("basicSalary");
+                VarCharVector numbers = (VarCharVector) root.getVector("employeeNumber");
+                DateDayVector birthdays = (DateDayVector) root.getVector("birthday");
+                for (int i = 0; i < root.getRowCount(); i++) {
+                    long id = ids.get(i);
+                    employeeIds.add(id);
+                    assertThat(new String(numbers.get(i))).isEqualTo("EMP00" + id);
+                    assertThat(birthdays.getObject(i)).isEqualTo((int) LocalDate.of(1990, 1, 1).toEpochDay());
+                    if (id == 1L) {
+                        assertThat(salaries.getObject(i)).isEqualTo(new BigDecimal("350000.00"));
+                    } else if (id == 2L) {
+                        assertThat(salaries.isNull(i)).isTrue();
+                    } else {
+                        assertThat(salaries.getObject(i)).isEqualTo(new BigDecimal("280000.50"));
+                    }
+                }
+            }
+        }
+
+        assertThat(batchSizes).containsExactly(2, 1);
+        assertThat(employeeIds).containsExactly(1L, 2L, 3L);
+    }
+
+    @Test
+    @DisplayName("An empty export should still be a valid stream with the schema")
+    void testWriteEmpty() throws Exception {
+        byte[] stream = concat(writer.write(Flux.empty()).collectList().block());
+
+        try (BufferAllocator allocator = new RootAllocator();
+             ArrowStreamReader reader = new ArrowStreamReader(new ByteArrayInputStream(stream), allocator)) {
+            assertThat(reader.getVectorSchemaRoot().getSchema()).isEqualTo(EmployeeArrowWriter.getSchema());
+            assertThat(reader.loadNextBatch()).isFalse();
+        }
+    }
+
+    @Test
+    @DisplayName("Cancelling while batches are written should release the vectors without touching them afterwards")
+    void testCancelWhileWriting() {
+        List<Throwable> dropped = new CopyOnWriteArrayList<>();
+        Hooks.onErrorDropped(dropped::add);
+        try {
+            Flux<Object[]> rows = Flux.range(1, 10_000)
+                    .map(id -> row((long) id, "EMP" + id, new BigDecimal("350000")))
+                    .subscribeOn(Schedulers.boundedElastic());
+            for (int attempt = 0; attempt < 50; attempt++) {
+                StepVerifier.create(writer.write(rows))
+                        .expectNextCount(2)
+                        .thenCancel()
+                        .verify(Duration.ofSeconds(10));
+            }
+        } finally {
+            Hooks.resetOnErrorDropped();
+        }
+
+        assertThat(dropped).isEmpty();
+        // Closing the root allocator fails if an export still holds memory
+        writer.destroy();
+    }
+
+    private static Object[] row(Long employeeId, String employeeNumber, BigDecimal basicSalary) {
+        Object[] values = new Object[EmployeeField.values().length + 2];
+        values[0] = employeeId;
+        values[1 + EmployeeField.EMPLOYEE_NUMBER.ordinal()] = employeeNumber;
+        values[1 + EmployeeField.BIRTHDAY.ordinal()] = LocalDate.of(1990, 1, 1);
+        values[1 + EmployeeField.BASIC_SALARY.ordinal()] = basicSalary;
+        values[1 + EmployeeField.CONSUMPTION_TAX_RATE.ordinal()] = new BigDecimal("10");
+        values[1 + EmployeeField.IS_DISABLED.ordinal()] = Boolean.FALSE;
+        values[1 + EmployeeField.DEPENDENT_COUNT.ordinal()] = 2;
+        values[values.length - 1] = 0L;
+        return values;
+    }
+
+    private static byte[] concat(List<byte[]> chunks) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        chunks.forEach(out::writeBytes);
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,186 @@
+package jp.asatex.revenue_calculator_backend_employee.export;
+
+import jp.asatex.revenue_calculator_backend_employee.dto.EmployeeExportJob;
+import jp.asatex.revenue_calculator_backend_employee.exception.ExportJobNotFoundHandler;
+import jp.asatex.revenue_calculator_backend_employee.exception.ExportJobNotReadyHandler;
+import jp.asatex.revenue_calculator_backend_employee.exception.ExportJobQueueFullHandler;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * EmployeeExportJobService test class
+ */
+@DisplayName("EmployeeExportJobService Test")
+class EmployeeExportJobServiceTest {
+
+    @TempDir
+    Path directory;
+
+    private EmployeeExportJobService service;
+
+    @AfterEach
+    void tearDown() {
+        if (service != null) {
+            service.destroy();
+        }
+    }
+
+    @Test
+    @DisplayName("A completed job should have written its content to a gzip compressed file")
+    void testSubmitWritesGzipFile() throws IOException {
+        service = new EmployeeExportJobService(directory, Duration.ofHours(1), 2, 20);
+
+        EmployeeExportJob submitted = service.submit(EmployeeExportFormat.CSV, lines("a,b\n", "1,2\n", "3,4\n"));
+
+        assertThat(submitted.getFormat()).isEqualTo("csv");
+        EmployeeExportJob completed = awaitStatus(submitted.getJobId(), EmployeeExportJob.Status.COMPLETED);
+        Path file = service.getFile(submitted.getJobId());
+        assertThat(file.getFileName().toString()).isEqualTo(submitted.getJobId() + ".csv.gz");
+        assertThat(completed.getFileSize()).isEqualTo(Files.size(file));
+        assertThat(completed.getExpiresAt()).isEqualTo(completed.getCompletedAt().plusHours(1));
+        assertThat(gunzip(file)).isEqualTo("a,b\n1,2\n3,4\n");
+    }
+
+    @Test
+    @DisplayName("A failed export should fail the job and leave no file behind")
+    void testFailedExport() throws IOException {
+        service = new EmployeeExportJobService(directory, Duration.ofHours(1), 2, 20);
+
+        EmployeeExportJob submitted = service.submit(EmployeeExportFormat.NDJSON,
+                lines("{}\n").concatWith(Flux.error(new IllegalStateException("cursor closed"))));
+
+        EmployeeExportJob failed = awaitStatus(submitted.getJobId(), EmployeeExportJob.Status.FAILED);
+        assertThat(failed.getError()).isEqualTo("cursor closed");
+        assertThatThrownBy(() -> service.getFile(submitted.getJobId()))
+                .isInstanceOf(ExportJobNotReadyHandler.class);
+        try (var files = Files.list(directory)) {
+            assertThat(files).isEmpty();
+        }
+    }
+
+    @Test
+    @DisplayName("Jobs beyond max-running should queue until a running job finishes")
+    void testJobsQueueBeyondMaxRunning() {
+        service = new EmployeeExportJobService(directory, Duration.ofHours(1), 1, 20);
+        Sinks.One<byte[]> blocker = Sinks.one();
+
+        EmployeeExportJob first = service.submit(EmployeeExportFormat.CSV, blocker.asMono().flux());
+        EmployeeExportJob second = service.submit(EmployeeExportFormat.CSV, lines("x\n"));
+
+        awaitStatus(first.getJobId(), EmployeeExportJob.Status.RUNNING);
+        assertThat(service.getJob(second.getJobId()).getStatus()).isEqualTo(EmployeeExportJob.Status.QUEUED);
+        assertThatThrownBy(() -> service.getFile(first.getJobId()))
+                .isInstanceOf(ExportJobNotReadyHandler.class)
+                .satisfies(error -> assertThat(((ExportJobNotReadyHandler) error).getJob().getStatus())
+                        .isEqualTo(EmployeeExportJob.Status.RUNNING));
+
+        blocker.tryEmitValue("y\n".getBytes(StandardCharsets.UTF_8));
+
+        awaitStatus(first.getJobId(), EmployeeExportJob.Status.COMPLETED);
+        awaitStatus(second.getJobId(), EmployeeExportJob.Status.COMPLETED);
+    }
+
+    @Test
+    @DisplayName("Submissions beyond max-queued should be rejected until a queued job starts")
+    void testSubmitRejectedWhenQueueFull() {
+        service = new EmployeeExportJobService(directory, Duration.ofHours(1), 1, 1);
+        Sinks.One<byte[]> blocker = Sinks.one();
+
+        EmployeeExportJob running = service.submit(EmployeeExportFormat.CSV, blocker.asMono().flux());
+        awaitStatus(running.getJobId(), EmployeeExportJob.Status.RUNNING);
+        EmployeeExportJob queued = service.submit(EmployeeExportFormat.CSV, lines("x\n"));
+
+        assertThatThrownBy(() -> service.submit(EmployeeExportFormat.CSV, lines("y\n")))
+                .isInstanceOf(ExportJobQueueFullHandler.class);
+
+        blocker.tryEmitValue("z\n".getBytes(StandardCharsets.UTF_8));
+        awaitStatus(queued.getJobId(), EmployeeExportJob.Status.COMPLETED);
+        EmployeeExportJob accepted = service.submit(EmployeeExportFormat.CSV, lines("y\n"));
+        awaitStatus(accepted.getJobId(), EmployeeExportJob.Status.COMPLETED);
+    }
+
+    @Test
+    @DisplayName("Unknown jobs should not be found")
+    void testUnknownJob() {
+        service = new EmployeeExportJobService(directory, Duration.ofHours(1), 2, 20);
+
+        assertThatThrownBy(() -> service.getJob("missing")).isInstanceOf(ExportJobNotFoundHandler.class);
+        assertThatThrownBy(() -> service.getFile("missing")).isInstanceOf(ExportJobNotFoundHandler.class);
+    }
+
+    @Test
+    @DisplayName("Purging should remove expired jobs with their files")
+    void testPurgeExpiredJobs() {
+        service = new EmployeeExportJobService(directory, Duration.ZERO, 2, 20);
+        EmployeeExportJob submitted = service.submit(EmployeeExportFormat.CSV, lines("a\n"));
+        awaitStatus(submitted.getJobId(), EmployeeExportJob.Status.COMPLETED);
+        Path file = service.getFile(submitted.getJobId());
+
+        StepVerifier.create(service.purgeExpired())
+                .expectNext(1)
+                .verifyComplete();
+
+        assertThat(file).doesNotExist();
+        assertThatThrownBy(() -> service.getJob(submitted.getJobId())).isInstanceOf(ExportJobNotFoundHandler.class);
+    }
+
+    @Test
+    @DisplayName("Purging should remove old export files of a previous run and keep other files")
+    void testPurgeOrphanedFiles() throws IOException {
+        service = new EmployeeExportJobService(directory, Duration.ofHours(1), 2, 20);
+        FileTime old = FileTime.from(Instant.now().minus(Duration.ofHours(2)));
+        Path orphan = Files.writeString(directory.resolve("previous.csv.gz"), "x");
+        Path orphanPart = Files.writeString(directory.resolve("previous.arrows.gz.part"), "x");
+        Path recent = Files.writeString(directory.resolve("recent.csv.gz"), "x");
+        Path unrelated = Files.writeString(directory.resolve("notes.txt"), "x");
+        Files.setLastModifiedTime(orphan, old);
+        Files.setLastModifiedTime(orphanPart, old);
+        Files.setLastModifiedTime(unrelated, old);
+
+        StepVerifier.create(service.purgeExpired())
+                .expectNext(2)
+                .verifyComplete();
+
+        assertThat(orphan).doesNotExist();
+        assertThat(orphanPart).doesNotExist();
+        assertThat(recent).exists();
+        assertThat(unrelated).exists();
+    }
+
+    private EmployeeExportJob awaitStatus(String jobId, EmployeeExportJob.Status status) {
+        return Mono.fromSupplier(() -> service.getJob(jobId))
+                .filter(job -> job.getStatus() == status)
+                .repeatWhenEmpty(repeat -> repeat.delayElements(Duration.ofMillis(20)))
+                .timeout(Duration.ofSeconds(10))
+                .block();
+    }
+
+    private static Flux<byte[]> lines(String... lines) {
+        return Flux.just(lines).map(line -> line.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String gunzip(Path file) throws IOException {
+        try (InputStream in = new GZIPInputStream(Files.newInputStream(file))) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
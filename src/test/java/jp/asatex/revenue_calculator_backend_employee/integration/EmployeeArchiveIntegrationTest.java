@@ -0,0 +1,126 @@
+package jp.asatex.revenue_calculator_backend_employee.integration;
+
+import jp.asatex.revenue_calculator_backend_employee.dto.EmployeeDto;
+import jp.asatex.revenue_calculator_backend_employee.repository.EmployeeRepository;
+import jp.asatex.revenue_calculator_backend_employee.service.EmployeeArchiveService;
+import jp.asatex.revenue_calculator_backend_employee.service.EmployeeService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.test.StepVerifier;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Employee archive integration test
+ * Tests moving soft deleted employees to the archive table and reading them back
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+@Import({jp.asatex.revenue_calculator_backend_employee.config.TestConfig.class, 
+         jp.asatex.revenue_calculator_backend_employee.config.TestContainersConfig.class})
+@DisplayName("Employee Archive Integration Test")
+class EmployeeArchiveIntegrationTest {
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private EmployeeArchiveService employeeArchiveService;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private DatabaseClient databaseClient;
+
+    @BeforeEach
+    void setUp() {
+        // Clean up test data
+        employeeRepository.deleteAll().block();
+        databaseClient.sql("DELETE FROM employeeInfo_archive").fetch().rowsUpdated().block();
+    }
+
+    @Test
+    @DisplayName("Only employees deleted longer ago than the retention period should be archived")
+    void testArchiveMovesOnlyExpiredDeletedEmployees() {
+        EmployeeDto expired = employeeService.createEmployee(employee("ARC001")).block();
+        EmployeeDto recent = employeeService.createEmployee(employee("ARC002")).block();
+        EmployeeDto active = employeeService.createEmployee(employee("ARC003")).block();
+        employeeService.deleteEmployeeById(expired.getEmployeeId()).block();
+        employeeService.deleteEmployeeById(recent.getEmployeeId()).block();
+        databaseClient.sql("UPDATE employeeInfo SET deleted_at = CURRENT_TIMESTAMP - INTERVAL '365 days' WHERE employee_id = :id")
+                .bind("id", expired.getEmployeeId())
+                .fetch().rowsUpdated().block();
+
+        StepVerifier.create(employeeArchiveService.archiveDeletedEmployees())
+                .expectNext(1L)
+                .verifyComplete();
+
+        // The expired row left employeeInfo, the others stayed
+        assertThat(employeeRepository.findById(expired.getEmployeeId()).block()).isNull();
+        assertThat(employeeRepository.findById(recent.getEmployeeId()).block()).isNotNull();
+        assertThat(employeeRepository.findActiveById(active.getEmployeeId()).block()).isNotNull();
+
+        webTestClient.get()
+                .uri("/api/v1/employee/archive/{id}", expired.getEmployeeId())
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.employee.employeeNumber").isEqualTo("ARC001")
+                .jsonPath("$.deletedBy").isEqualTo("system")
+                .jsonPath("$.archivedAt").exists();
+
+        webTestClient.get()
+                .uri("/api/v1/employee/archive?page=0&size=10")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.totalElements").isEqualTo(1);
+
+        webTestClient.get()
+                .uri("/api/v1/employee/archive/{id}", recent.getEmployeeId())
+                .exchange()
+                .expectStatus().isNotFound();
+    }
+
+    @Test
+    @DisplayName("The archive should have every employeeInfo column, so the job moves all of them")
+    void testArchiveMirrorsEmployeeColumns() {
+        List<String> employeeColumns = columnsOf("employeeinfo");
+        List<String> archiveColumns = columnsOf("employeeinfo_archive");
+
+        assertThat(archiveColumns).containsAll(employeeColumns).contains("archived_at");
+        assertThat(archiveColumns).hasSize(employeeColumns.size() + 1);
+    }
+
+    private List<String> columnsOf(String table) {
+        return databaseClient.sql("SELECT column_name FROM information_schema.columns WHERE table_name = :table")
+                .bind("table", table)
+                .map(row -> row.get("column_name", String.class))
+                .all()
+                .collectList()
+                .block();
+    }
+
+    private EmployeeDto employee(String employeeNumber) {
+        EmployeeDto employee = new EmployeeDto();
+        employee.setEmployeeNumber(employeeNumber);
+        employee.setName("Archive Employee " + employeeNumber);
+        employee.setFurigana("archive employee");
+        employee.setBirthday(LocalDate.of(1990, 1, 1));
+        return employee;
+    }
+}
@@ -0,0 +1,118 @@
+package jp.asatex.revenue_calculator_backend_employee.integration;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jp.asatex.revenue_calculator_backend_employee.dto.EmployeeDto;
+import jp.asatex.revenue_calculator_backend_employee.dto.EmployeeField;
+import jp.asatex.revenue_calculator_backend_employee.repository.EmployeeRepository;
+import jp.asatex.revenue_calculator_backend_employee.service.EmployeeAuditService;
+import jp.asatex.revenue_calculator_backend_employee.service.EmployeeService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.test.StepVerifier;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Employee audit integration test
+ * Tests that committed changes are written to employee_audit as field level diffs
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Import({jp.asatex.revenue_calculator_backend_employee.config.TestConfig.class, 
+         jp.asatex.revenue_calculator_backend_employee.config.TestContainersConfig.class})
+@DisplayName("Employee Audit Integration Test")
+class EmployeeAuditIntegrationTest {
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private EmployeeAuditService employeeAuditService;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private TransactionalOperator transactionalOperator;
+
+    @Autowired
+    private DatabaseClient databaseClient;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @BeforeEach
+    void setUp() {
+        // Clean up test data, including entries queued by other tests
+        employeeAuditService.flush().block();
+        employeeRepository.deleteAll().block();
+        databaseClient.sql("DELETE FROM employee_audit").fetch().rowsUpdated().block();
+    }
+
+    @Test
+    @DisplayName("Create, patch and delete should be written as field level diffs, in order")
+    void testChangesAreAudited() throws Exception {
+        EmployeeDto created = employeeService.createEmployee(employee("AUD001")).block();
+        employeeService.patchEmployee(created.getEmployeeId(), Map.of(EmployeeField.NAME, "Renamed AUD001"), null).block();
+        employeeService.deleteEmployeeById(created.getEmployeeId()).block();
+
+        StepVerifier.create(employeeAuditService.flush())
+                .expectNext(3L)
+                .verifyComplete();
+
+        List<Map<String, Object>> rows = databaseClient
+                .sql("SELECT action, changes::text AS changes FROM employee_audit WHERE employee_id = :employeeId ORDER BY audit_id")
+                .bind("employeeId", created.getEmployeeId())
+                .fetch()
+                .all()
+                .collectList()
+                .block();
+        assertThat(rows).extracting(row -> row.get("action")).containsExactly("CREATED", "UPDATED", "DELETED");
+
+        JsonNode updated = objectMapper.readTree((String) rows.get(1).get("changes"));
+        assertThat(updated.size()).isEqualTo(1);
+        assertThat(updated.path("name").path("old").asText()).isEqualTo("Audit Test AUD001");
+        assertThat(updated.path("name").path("new").asText()).isEqualTo("Renamed AUD001");
+    }
+
+    @Test
+    @DisplayName("A rolled back change should not be audited")
+    void testRolledBackChangeIsNotAudited() {
+        EmployeeDto created = employeeService.createEmployee(employee("AUD002")).block();
+        employeeAuditService.flush().block();
+        created.setName("Rolled back AUD002");
+
+        StepVerifier.create(transactionalOperator.execute(status -> {
+                    status.setRollbackOnly();
+                    return employeeService.updateEmployee(created.getEmployeeId(), created);
+                }))
+                .expectNextCount(1)
+                .verifyComplete();
+
+        assertThat(employeeAuditService.getQueueDepth()).isZero();
+        StepVerifier.create(employeeAuditService.flush())
+                .expectNext(0L)
+                .verifyComplete();
+    }
+
+    private static EmployeeDto employee(String employeeNumber) {
+        EmployeeDto employee = new EmployeeDto();
+        employee.setEmployeeNumber(employeeNumber);
+        employee.setName("Audit Test " + employeeNumber);
+        employee.setFurigana("audit test");
+        employee.setBirthday(LocalDate.of(1990, 1, 1));
+        return employee;
+    }
+}
@@ -0,0 +1,94 @@
+package jp.asatex.revenue_calculator_backend_employee.integration;
+
+import jp.asatex.revenue_calculator_backend_employee.dto.EmployeeChangeDto;
+import jp.asatex.revenue_calculator_backend_employee.dto.EmployeeChangeEvent;
+import jp.asatex.revenue_calculator_backend_employee.dto.EmployeeDto;
+import jp.asatex.revenue_calculator_backend_employee.repository.EmployeeRepository;
+import jp.asatex.revenue_calculator_backend_employee.service.EmployeeChangeListener;
+import jp.asatex.revenue_calculator_backend_employee.service.EmployeeChangeStreamService;
+import jp.asatex.revenue_calculator_backend_employee.service.EmployeeService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Employee change stream integration test
+ * Tests that committed writes reach stream subscribers through PostgreSQL LISTEN/NOTIFY
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@TestPropertySource(properties = "employee.stream.enabled=true")
+@Import({jp.asatex.revenue_calculator_backend_employee.config.TestConfig.class, 
+         jp.asatex.revenue_calculator_backend_employee.config.TestContainersConfig.class})
+@DisplayName("Employee Change Stream Integration Test")
+class EmployeeChangeStreamIntegrationTest {
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private EmployeeChangeListener employeeChangeListener;
+
+    @Autowired
+    private EmployeeChangeStreamService employeeChangeStreamService;
+
+    @BeforeEach
+    void setUp() {
+        // Clean up test data
+        employeeRepository.deleteAll().block();
+
+        // The listener connects once the application is ready
+        Mono.fromSupplier(employeeChangeListener::isListening)
+                .filter(Boolean::booleanValue)
+                .repeatWhenEmpty(100, attempts -> attempts.delayElements(Duration.ofMillis(100)))
+                .block(Duration.ofSeconds(15));
+    }
+
+    @Test
+    @DisplayName("Create and delete should be pushed to subscribers in commit order")
+    void testCreateAndDeleteArePushed() {
+        StepVerifier.create(employeeChangeStreamService.subscribe(null)
+                        .filter(event -> EmployeeChangeStreamService.CHANGE_EVENT.equals(event.event()))
+                        .map(event -> (EmployeeChangeEvent) event.data())
+                        .take(2))
+                .then(() -> {
+                    EmployeeDto created = employeeService.createEmployee(employee("STR001")).block();
+                    employeeService.deleteEmployeeById(created.getEmployeeId()).block();
+                })
+                .assertNext(change -> {
+                    assertThat(change.getEmployeeNumber()).isEqualTo("STR001");
+                    assertThat(change.getChangeType()).isEqualTo(EmployeeChangeDto.ChangeType.UPSERTED);
+                    assertThat(change.getChangedAt()).isNotNull();
+                })
+                .assertNext(change -> {
+                    assertThat(change.getEmployeeNumber()).isEqualTo("STR001");
+                    assertThat(change.getChangeType()).isEqualTo(EmployeeChangeDto.ChangeType.DELETED);
+                })
+                .expectComplete()
+                .verify(Duration.ofSeconds(10));
+    }
+
+    private static EmployeeDto employee(String employeeNumber) {
+        EmployeeDto employee = new EmployeeDto();
+        employee.setEmployeeNumber(employeeNumber);
+        employee.setName("Stream Test " + employeeNumber);
+        employee.setFurigana("stream test");
+        employee.setBirthday(LocalDate.of(1990, 1, 1));
+        return employee;
+    }
+}
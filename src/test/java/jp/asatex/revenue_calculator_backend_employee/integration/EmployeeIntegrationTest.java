@@ -3,6 +3,7 @@ package jp.asatex.revenue_calculator_backend_employee.integration;
 import jp.asatex.revenue_calculator_backend_employee.dto.EmployeeDto;
 import jp.asatex.revenue_calculator_backend_employee.entity.Employee;
 import jp.asatex.revenue_calculator_backend_employee.repository.EmployeeRepository;
+import jp.asatex.revenue_calculator_backend_employee.service.EmployeeRosterVersion;
 import jp.asatex.revenue_calculator_backend_employee.common.PageResponse;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -40,12 +41,17 @@ class EmployeeIntegrationTest {
     @Autowired
     private EmployeeRepository employeeRepository;
 
+    @Autowired
+    private EmployeeRosterVersion employeeRosterVersion;
+
 
     @BeforeEach
     void setUp() {
         // Clean up test data
         employeeRepository.deleteAll().block();
         
+        // Repository writes bypass EmployeeService, so make cached pages of earlier tests unreachable
+        employeeRosterVersion.increment();
     }
 
     @Test
@@ -199,6 +205,66 @@ class EmployeeIntegrationTest {
                 .expectStatus().isNotFound();
     }
 
+    @Test
+    void testUpdateRefreshesEmployeeCachedByNumber() {
+        // Create an employee and cache it under its employee number
+        EmployeeDto newEmployee = new EmployeeDto();
+        newEmployee.setEmployeeNumber("EMP101");
+        newEmployee.setName("Suzuki Ichiro");
+        EmployeeDto createdEmployee = Objects.requireNonNull(webTestClient.post()
+                .uri("/api/v1/employee")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(newEmployee)
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBody(EmployeeDto.class)
+                .returnResult()
+                .getResponseBody());
+        Long employeeId = createdEmployee.getEmployeeId();
+        webTestClient.get()
+                .uri("/api/v1/employee/number/{employeeNumber}", "EMP101")
+                .exchange()
+                .expectStatus().isOk();
+
+        // Update it with PUT
+        EmployeeDto updatedEmployee = new EmployeeDto();
+        updatedEmployee.setEmployeeNumber("EMP101");
+        updatedEmployee.setName("Suzuki Ichiro (Updated)");
+        EmployeeDto resultEmployee = Objects.requireNonNull(webTestClient.put()
+                .uri("/api/v1/employee/{id}", employeeId)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(updatedEmployee)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(EmployeeDto.class)
+                .returnResult()
+                .getResponseBody());
+
+        // The number lookup returns the updated row, not the cached one
+        EmployeeDto retrievedByNumber = Objects.requireNonNull(webTestClient.get()
+                .uri("/api/v1/employee/number/{employeeNumber}", "EMP101")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(EmployeeDto.class)
+                .returnResult()
+                .getResponseBody());
+        assertThat(retrievedByNumber.getVersion()).isEqualTo(resultEmployee.getVersion());
+        assertThat(retrievedByNumber.getName()).isEqualTo("Suzuki Ichiro (Updated)");
+
+        // Changing the number drops the old number key
+        updatedEmployee.setEmployeeNumber("EMP102");
+        webTestClient.put()
+                .uri("/api/v1/employee/{id}", employeeId)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(updatedEmployee)
+                .exchange()
+                .expectStatus().isOk();
+        webTestClient.get()
+                .uri("/api/v1/employee/number/{employeeNumber}", "EMP101")
+                .exchange()
+                .expectStatus().isNotFound();
+    }
+
     @Test
     void testCreateMultipleEmployees() {
         // Create multiple employees
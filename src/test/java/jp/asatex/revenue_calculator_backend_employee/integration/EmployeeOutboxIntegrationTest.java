@@ -0,0 +1,109 @@
+package jp.asatex.revenue_calculator_backend_employee.integration;
+
+import jp.asatex.revenue_calculator_backend_employee.dto.EmployeeDomainEvent;
+import jp.asatex.revenue_calculator_backend_employee.dto.EmployeeDto;
+import jp.asatex.revenue_calculator_backend_employee.exception.DuplicateEmployeeNumberHandler;
+import jp.asatex.revenue_calculator_backend_employee.outbox.InMemoryEmployeeEventSink;
+import jp.asatex.revenue_calculator_backend_employee.repository.EmployeeRepository;
+import jp.asatex.revenue_calculator_backend_employee.service.EmployeeOutboxService;
+import jp.asatex.revenue_calculator_backend_employee.service.EmployeeService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.test.context.ActiveProfiles;
+import reactor.test.StepVerifier;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Employee outbox integration test
+ * Tests that domain events commit with the employee change and are relayed in order
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Import({jp.asatex.revenue_calculator_backend_employee.config.TestConfig.class, 
+         jp.asatex.revenue_calculator_backend_employee.config.TestContainersConfig.class})
+@DisplayName("Employee Outbox Integration Test")
+class EmployeeOutboxIntegrationTest {
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private EmployeeOutboxService employeeOutboxService;
+
+    @Autowired
+    private InMemoryEmployeeEventSink eventSink;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private DatabaseClient databaseClient;
+
+    @BeforeEach
+    void setUp() {
+        // Clean up test data
+        employeeRepository.deleteAll().block();
+        databaseClient.sql("DELETE FROM employeeInfo_outbox").fetch().rowsUpdated().block();
+        eventSink.clear();
+    }
+
+    @Test
+    @DisplayName("Create, update and delete should be relayed once each, in order")
+    void testEventsAreRelayedInOrder() {
+        EmployeeDto created = employeeService.createEmployee(employee("OBX001")).block();
+        created.setName("Renamed OBX001");
+        employeeService.updateEmployee(created.getEmployeeId(), created).block();
+        employeeService.deleteEmployeeById(created.getEmployeeId()).block();
+
+        StepVerifier.create(employeeOutboxService.relay())
+                .expectNext(3L)
+                .verifyComplete();
+
+        assertThat(eventSink.getEvents())
+                .extracting(EmployeeDomainEvent::getEventType)
+                .containsExactly(EmployeeDomainEvent.EventType.CREATED,
+                        EmployeeDomainEvent.EventType.UPDATED,
+                        EmployeeDomainEvent.EventType.DELETED);
+        assertThat(eventSink.getEvents())
+                .allMatch(event -> event.getEmployeeId().equals(created.getEmployeeId()));
+        assertThat(eventSink.getEvents().get(1).getEmployee().getName()).isEqualTo("Renamed OBX001");
+
+        // Relayed events are removed
+        StepVerifier.create(employeeOutboxService.relay())
+                .expectNext(0L)
+                .verifyComplete();
+        assertThat(eventSink.getEvents()).hasSize(3);
+    }
+
+    @Test
+    @DisplayName("A failed write should leave no event behind")
+    void testFailedWriteHasNoEvent() {
+        employeeService.createEmployee(employee("OBX002")).block();
+
+        StepVerifier.create(employeeService.createEmployee(employee("OBX002")))
+                .expectError(DuplicateEmployeeNumberHandler.class)
+                .verify();
+
+        StepVerifier.create(employeeOutboxService.relay())
+                .expectNext(1L)
+                .verifyComplete();
+        assertThat(eventSink.getEvents()).hasSize(1);
+    }
+
+    private static EmployeeDto employee(String employeeNumber) {
+        EmployeeDto employee = new EmployeeDto();
+        employee.setEmployeeNumber(employeeNumber);
+        employee.setName("Outbox Test " + employeeNumber);
+        employee.setFurigana("outbox test");
+        employee.setBirthday(LocalDate.of(1990, 1, 1));
+        return employee;
+    }
+}
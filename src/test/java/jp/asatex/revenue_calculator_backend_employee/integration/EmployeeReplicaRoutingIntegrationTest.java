@@ -0,0 +1,288 @@
+package jp.asatex.revenue_calculator_backend_employee.integration;
+
+import io.r2dbc.spi.ConnectionFactory;
+import jp.asatex.revenue_calculator_backend_employee.dto.EmployeeDto;
+import jp.asatex.revenue_calculator_backend_employee.repository.EmployeeRepository;
+import jp.asatex.revenue_calculator_backend_employee.routing.ReadRouting;
+import jp.asatex.revenue_calculator_backend_employee.routing.ReplicaLagMonitor;
+import jp.asatex.revenue_calculator_backend_employee.service.EmployeeService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.Network;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.containers.wait.strategy.Wait;
+import org.testcontainers.images.builder.Transferable;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Employee replica routing integration test
+ * Runs the application against a primary and a streaming replica of it, and tests that reads are
+ * served by the replica while writes and reads of just written employees stay on the primary
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(jp.asatex.revenue_calculator_backend_employee.config.TestConfig.class)
+@DisplayName("Employee Replica Routing Integration Test")
+class EmployeeReplicaRoutingIntegrationTest {
+
+    private static final String DATABASE = "asatex-revenue-replica-test";
+
+    private static final String USERNAME = "db_user";
+
+    private static final String PASSWORD = "local";
+
+    /**
+     * Creates the replication role and allows it to stream WAL, run by the image on first start
+     */
+    private static final String REPLICATION_SETUP = """
+            #!/bin/sh
+            set -e
+            psql -v ON_ERROR_STOP=1 --username "$POSTGRES_USER" --dbname "$POSTGRES_DB" \
+                -c "CREATE ROLE replicator WITH REPLICATION LOGIN PASSWORD 'replica'"
+            echo "host replication replicator all scram-sha-256" >> "$PGDATA/pg_hba.conf"
+            """;
+
+    /**
+     * Clones the primary with pg_basebackup (retrying until the primary accepts replication
+     * connections) and starts it as a hot standby
+     */
+    private static final String REPLICA_STARTUP =
+            "until pg_basebackup -h primary -U replicator -D /tmp/replica -R -X stream -w; do rm -rf /tmp/replica; sleep 1; done; "
+            + "chmod 700 /tmp/replica; exec postgres -D /tmp/replica";
+
+    private static final Network NETWORK = Network.newNetwork();
+
+    @SuppressWarnings("resource") // Containers live for the whole test run and are stopped by Testcontainers
+    private static final PostgreSQLContainer<?> PRIMARY = new PostgreSQLContainer<>("postgres:15-alpine")
+            .withDatabaseName(DATABASE)
+            .withUsername(USERNAME)
+            .withPassword(PASSWORD)
+            .withNetwork(NETWORK)
+            .withNetworkAliases("primary")
+            .withCopyToContainer(Transferable.of(REPLICATION_SETUP, 0755), "/docker-entrypoint-initdb.d/replication.sh");
+
+    @SuppressWarnings("resource")
+    private static final GenericContainer<?> REPLICA = new GenericContainer<>("postgres:15-alpine")
+            .withNetwork(NETWORK)
+            .withEnv("PGPASSWORD", "replica")
+            .withCreateContainerCmdModifier(cmd -> cmd.withUser("postgres"))
+            .withCommand("sh", "-c", REPLICA_STARTUP)
+            .withExposedPorts(5432)
+            .waitingFor(Wait.forLogMessage(".*ready to accept read-only connections.*", 1)
+                    .withStartupTimeout(Duration.ofMinutes(2)));
+
+    static {
+        PRIMARY.start();
+        REPLICA.start();
+    }
+
+    @DynamicPropertySource
+    static void databaseProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.r2dbc.url", () -> "r2dbc:postgresql://" + PRIMARY.getHost() + ":"
+                + PRIMARY.getMappedPort(5432) + "/" + DATABASE);
+        registry.add("spring.r2dbc.username", () -> USERNAME);
+        registry.add("spring.r2dbc.password", () -> PASSWORD);
+        registry.add("spring.flyway.url", PRIMARY::getJdbcUrl);
+        registry.add("spring.flyway.user", () -> USERNAME);
+        registry.add("spring.flyway.password", () -> PASSWORD);
+        registry.add("employee.replica.enabled", () -> "true");
+        registry.add("employee.replica.url", () -> "r2dbc:postgresql://" + REPLICA.getHost() + ":"
+                + REPLICA.getMappedPort(5432) + "/" + DATABASE);
+        registry.add("employee.replica.username", () -> USERNAME);
+        registry.add("employee.replica.password", () -> PASSWORD);
+        // Long enough that a paused replica stays in rotation for the whole test
+        registry.add("employee.replica.max-lag", () -> "PT1M");
+    }
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private ReadRouting readRouting;
+
+    @Autowired
+    private ReplicaLagMonitor replicaLagMonitor;
+
+    @Autowired
+    private DatabaseClient databaseClient;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    @Qualifier("replicaConnectionFactory")
+    private ConnectionFactory replicaConnectionFactory;
+
+    private DatabaseClient replicaClient;
+
+    @BeforeEach
+    void setUp() {
+        replicaClient = DatabaseClient.create(replicaConnectionFactory);
+        employeeRepository.deleteAll().block();
+        cacheManager.getCache("employees").clear();
+        replicaLagMonitor.check().block();
+    }
+
+    @Test
+    @DisplayName("Routed reads should be served by the replica, others by the primary")
+    void testReadsAreRoutedToReplica() {
+        assertThat(readRouting.isReplicaUsable()).isTrue();
+
+        StepVerifier.create(readRouting.fromReplica(isInRecovery()))
+                .expectNext(true)
+                .verifyComplete();
+        StepVerifier.create(isInRecovery())
+                .expectNext(false)
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Writes should go to the primary and reach the replica through replication")
+    void testWritesGoToPrimary() {
+        EmployeeDto created = employeeService.createEmployee(employee("REP001")).block();
+
+        awaitReplayed(created.getEmployeeNumber());
+        StepVerifier.create(employeeService.existsByEmployeeNumber("REP001"))
+                .expectNext(true)
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Reads of a just written employee should be served by the primary while the replica lags")
+    void testReadYourWritesWhileReplicaLags() {
+        EmployeeDto replicated = employeeService.createEmployee(employee("REP002")).block();
+        awaitReplayed(replicated.getEmployeeNumber());
+
+        setReplayPaused(true);
+        try {
+            EmployeeDto created = employeeService.createEmployee(employee("REP003")).block();
+
+            // Other reads are served by the paused replica, which has not seen the new employee
+            StepVerifier.create(employeeService.getEmployeeCount())
+                    .expectNext(1L)
+                    .verifyComplete();
+            // The new employee is read from the primary
+            StepVerifier.create(employeeService.getEmployeeById(created.getEmployeeId()))
+                    .assertNext(employee -> assertThat(employee.getEmployeeNumber()).isEqualTo("REP003"))
+                    .verifyComplete();
+            StepVerifier.create(employeeService.getEmployeeByNumber("REP003"))
+                    .assertNext(employee -> assertThat(employee.getEmployeeId()).isEqualTo(created.getEmployeeId()))
+                    .verifyComplete();
+        } finally {
+            setReplayPaused(false);
+        }
+    }
+
+    @Test
+    @DisplayName("Reads should go to the primary while the replica is not streaming from it")
+    void testReadsFallBackToPrimaryWhileReceiverStopped() {
+        String primaryConninfo = replicaClient.sql("SHOW primary_conninfo")
+                .map(row -> row.get(0, String.class))
+                .one()
+                .block();
+
+        // Without a primary to stream from, the replica has replayed everything it received
+        setPrimaryConninfo("");
+        try {
+            awaitReceiverStatus(null);
+            replicaLagMonitor.check().block();
+
+            assertThat(readRouting.isReplicaUsable()).isFalse();
+            StepVerifier.create(readRouting.fromReplica(isInRecovery()))
+                    .expectNext(false)
+                    .verifyComplete();
+        } finally {
+            setPrimaryConninfo(primaryConninfo);
+            awaitReceiverStatus("streaming");
+        }
+
+        replicaLagMonitor.check().block();
+        assertThat(readRouting.isReplicaUsable()).isTrue();
+    }
+
+    private Mono<Boolean> isInRecovery() {
+        return databaseClient.sql("SELECT pg_is_in_recovery()")
+                .map(row -> row.get(0, Boolean.class))
+                .one();
+    }
+
+    private void awaitReplayed(String employeeNumber) {
+        StepVerifier.create(replicaClient.sql("SELECT COUNT(*) FROM employeeInfo WHERE employee_number = :employeeNumber")
+                        .bind("employeeNumber", employeeNumber)
+                        .map(row -> row.get(0, Long.class))
+                        .one()
+                        .filter(count -> count > 0)
+                        .repeatWhenEmpty(repeat -> repeat.delayElements(Duration.ofMillis(100)))
+                        .timeout(Duration.ofSeconds(30)))
+                .expectNext(1L)
+                .verifyComplete();
+    }
+
+    private void setReplayPaused(boolean paused) {
+        String expectedState = paused ? "paused" : "not paused";
+        replicaClient.sql(paused ? "SELECT pg_wal_replay_pause()" : "SELECT pg_wal_replay_resume()")
+                .fetch()
+                .rowsUpdated()
+                .block();
+        StepVerifier.create(replicaClient.sql("SELECT pg_get_wal_replay_pause_state()")
+                        .map(row -> row.get(0, String.class))
+                        .one()
+                        .filter(expectedState::equals)
+                        .repeatWhenEmpty(repeat -> repeat.delayElements(Duration.ofMillis(100)))
+                        .timeout(Duration.ofSeconds(30)))
+                .expectNext(expectedState)
+                .verifyComplete();
+    }
+
+    private void setPrimaryConninfo(String conninfo) {
+        replicaClient.sql("ALTER SYSTEM SET primary_conninfo = '" + conninfo.replace("'", "''") + "'")
+                .fetch()
+                .rowsUpdated()
+                .then(replicaClient.sql("SELECT pg_reload_conf()").fetch().rowsUpdated())
+                .block();
+    }
+
+    /**
+     * Wait for the WAL receiver to reach a status, null for no receiver running
+     */
+    private void awaitReceiverStatus(String status) {
+        String expected = status == null ? "none" : status;
+        StepVerifier.create(replicaClient.sql("SELECT COALESCE((SELECT status FROM pg_stat_wal_receiver), 'none')")
+                        .map(row -> row.get(0, String.class))
+                        .one()
+                        .filter(expected::equals)
+                        .repeatWhenEmpty(repeat -> repeat.delayElements(Duration.ofMillis(100)))
+                        .timeout(Duration.ofSeconds(30)))
+                .expectNext(expected)
+                .verifyComplete();
+    }
+
+    private static EmployeeDto employee(String employeeNumber) {
+        EmployeeDto employee = new EmployeeDto();
+        employee.setEmployeeNumber(employeeNumber);
+        employee.setName("Replica Test " + employeeNumber);
+        employee.setFurigana("replica test");
+        employee.setBirthday(LocalDate.of(1990, 1, 1));
+        return employee;
+    }
+}
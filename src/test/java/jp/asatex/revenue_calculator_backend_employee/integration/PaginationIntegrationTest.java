@@ -4,6 +4,8 @@ import jp.asatex.revenue_calculator_backend_employee.dto.EmployeeDto;
 import jp.asatex.revenue_calculator_backend_employee.common.PageResponse;
 import jp.asatex.revenue_calculator_backend_employee.entity.Employee;
 import jp.asatex.revenue_calculator_backend_employee.repository.EmployeeRepository;
+import jp.asatex.revenue_calculator_backend_employee.service.EmployeeRosterVersion;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -32,6 +34,9 @@ class PaginationIntegrationTest {
     @Autowired
     private EmployeeRepository employeeRepository;
 
+    @Autowired
+    private EmployeeRosterVersion employeeRosterVersion;
+
     @BeforeEach
     void setUp() {
         // Clean up test data
@@ -39,6 +44,17 @@ class PaginationIntegrationTest {
         
         // Create test data
         createTestEmployees();
+        
+        // Repository writes bypass EmployeeService, so make cached pages of earlier tests unreachable
+        employeeRosterVersion.increment();
+        
+        // The change listener is disabled in tests; a single instance sees all writes, so cache pages
+        employeeRosterVersion.setTracking(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        employeeRosterVersion.setTracking(false);
     }
 
     private void createTestEmployees() {
@@ -203,6 +219,73 @@ class PaginationIntegrationTest {
         }
     }
 
+    @Test
+    void testPaginationWithSelectedFields() {
+        webTestClient.get()
+                .uri("/api/v1/employee?fields=employeeNumber,name&page=0&size=5&sortBy=employeeNumber&sortDirection=DESC")
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.content.length()").isEqualTo(5)
+                .jsonPath("$.content[0].employeeNumber").isEqualTo("EMP025")
+                .jsonPath("$.content[0].name").isEqualTo("Employee 25")
+                .jsonPath("$.content[0].employeeId").isNumber()
+                .jsonPath("$.content[0].furigana").doesNotExist()
+                .jsonPath("$.content[0].birthday").doesNotExist()
+                .jsonPath("$.totalElements").isEqualTo(25);
+    }
+
+    @Test
+    void testSearchByNameWithSelectedFields() {
+        webTestClient.get()
+                .uri(uriBuilder -> uriBuilder.path("/api/v1/employee/search/name")
+                        .queryParam("name", "Employee 1")
+                        .queryParam("fields", "name,birthday")
+                        .build())
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.length()").isEqualTo(11)
+                .jsonPath("$[?(@.name == 'Employee 1')].birthday").isEqualTo(java.util.List.of("1991-01-01"))
+                .jsonPath("$[*].employeeNumber").doesNotExist();
+    }
+
+    @Test
+    void testGetByNumberWithSelectedFields() {
+        webTestClient.get()
+                .uri("/api/v1/employee/number/EMP003?fields=name,version")
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.name").isEqualTo("Employee 3")
+                .jsonPath("$.version").isNumber()
+                .jsonPath("$.furigana").doesNotExist();
+
+        webTestClient.get()
+                .uri("/api/v1/employee/number/MISSING?fields=name")
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isNotFound();
+    }
+
+    @Test
+    void testSelectedFieldsOutsideAllowlist() {
+        webTestClient.get()
+                .uri("/api/v1/employee?fields=name,deletedBy")
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isBadRequest();
+
+        webTestClient.get()
+                .uri("/api/v1/employee?fields=")
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isBadRequest();
+    }
+
     @Test
     void testPaginationWithInvalidParameters() {
         // Test invalid page number
@@ -487,4 +570,39 @@ class PaginationIntegrationTest {
             assertThat(firstName.compareTo(secondName)).isGreaterThanOrEqualTo(0);
         }
     }
+
+    @Test
+    void testCachedPageReflectsWrites() {
+        String uri = "/api/v1/employee?page=0&size=5&sortBy=employeeNumber&sortDirection=DESC";
+        webTestClient.get()
+                .uri(uri)
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.content[0].employeeNumber").isEqualTo("EMP025")
+                .jsonPath("$.totalElements").isEqualTo(25);
+
+        EmployeeDto newEmployee = new EmployeeDto();
+        newEmployee.setEmployeeNumber("EMP026");
+        newEmployee.setName("Employee 26");
+        newEmployee.setFurigana("employee 26");
+        newEmployee.setBirthday(LocalDate.of(1990, 1, 1));
+        webTestClient.post()
+                .uri("/api/v1/employee")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(newEmployee)
+                .exchange()
+                .expectStatus().isCreated();
+
+        // The write moved the roster version on, so the page is read again
+        webTestClient.get()
+                .uri(uri)
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.content[0].employeeNumber").isEqualTo("EMP026")
+                .jsonPath("$.totalElements").isEqualTo(26);
+    }
 }
@@ -2,6 +2,8 @@ package jp.asatex.revenue_calculator_backend_employee.integration;
 
 import jp.asatex.revenue_calculator_backend_employee.dto.EmployeeDto;
 import jp.asatex.revenue_calculator_backend_employee.entity.Employee;
+import jp.asatex.revenue_calculator_backend_employee.exception.DuplicateEmployeeNumberHandler;
+import jp.asatex.revenue_calculator_backend_employee.exception.EmployeeVersionConflictHandler;
 import jp.asatex.revenue_calculator_backend_employee.repository.EmployeeRepository;
 import jp.asatex.revenue_calculator_backend_employee.service.EmployeeService;
 import org.junit.jupiter.api.BeforeEach;
@@ -13,9 +15,13 @@ import org.springframework.context.annotation.Import;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.reactive.server.WebTestClient;
 import org.springframework.web.reactive.function.BodyInserters;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 import reactor.test.StepVerifier;
 
 import java.time.LocalDate;
+import java.util.List;
 import static org.assertj.core.api.Assertions.assertThat;
 
 /**
@@ -103,6 +109,29 @@ class TransactionIntegrationTest {
         assertThat(count).isEqualTo(1);
     }
 
+    @Test
+    @DisplayName("Concurrent creates with the same employee number should store exactly one employee")
+    void testConcurrentCreateWithSameEmployeeNumber() {
+        int attempts = 8;
+
+        List<String> outcomes = Flux.range(0, attempts)
+                .flatMap(i -> Mono.defer(() -> employeeService.createEmployee(testEmployee))
+                        .subscribeOn(Schedulers.parallel())
+                        .map(created -> "CREATED")
+                        .onErrorResume(DuplicateEmployeeNumberHandler.class, error -> Mono.just("DUPLICATE")),
+                        attempts)
+                .collectList()
+                .block();
+
+        assertThat(outcomes).hasSize(attempts);
+        assertThat(outcomes).filteredOn("CREATED"::equals).hasSize(1);
+        assertThat(outcomes).filteredOn("DUPLICATE"::equals).hasSize(attempts - 1);
+
+        // Verify the unique constraint kept a single row
+        Long count = employeeRepository.count().block();
+        assertThat(count).isEqualTo(1);
+    }
+
     @Test
     @DisplayName("Update employee transaction should commit successfully")
     void testUpdateEmployeeTransactionCommit() {
@@ -136,6 +165,68 @@ class TransactionIntegrationTest {
         assertThat(savedEmployee.getName()).isEqualTo("Updated Employee");
     }
 
+    @Test
+    @DisplayName("Concurrent updates of the same version should let exactly one win")
+    void testConcurrentUpdateWithSameVersion() {
+        EmployeeDto createdEmployee = employeeService.createEmployee(testEmployee).block();
+        assertThat(createdEmployee).isNotNull();
+        Long readVersion = createdEmployee.getVersion();
+        int attempts = 4;
+
+        List<String> outcomes = Flux.range(0, attempts)
+                .flatMap(i -> Mono.defer(() -> {
+                            EmployeeDto edit = new EmployeeDto();
+                            edit.setEmployeeNumber(createdEmployee.getEmployeeNumber());
+                            edit.setName("Editor " + i);
+                            edit.setFurigana(createdEmployee.getFurigana());
+                            edit.setBirthday(createdEmployee.getBirthday());
+                            edit.setVersion(readVersion);
+                            return employeeService.updateEmployee(createdEmployee.getEmployeeId(), edit);
+                        })
+                        .subscribeOn(Schedulers.parallel())
+                        .map(updated -> "UPDATED")
+                        .onErrorResume(EmployeeVersionConflictHandler.class, error -> Mono.just("CONFLICT")),
+                        attempts)
+                .collectList()
+                .block();
+
+        assertThat(outcomes).filteredOn("UPDATED"::equals).hasSize(1);
+        assertThat(outcomes).filteredOn("CONFLICT"::equals).hasSize(attempts - 1);
+
+        Employee savedEmployee = employeeRepository.findById(createdEmployee.getEmployeeId()).block();
+        assertThat(savedEmployee).isNotNull();
+        assertThat(savedEmployee.getVersion()).isEqualTo(readVersion + 1);
+    }
+
+    @Test
+    @DisplayName("Update with a stale If-Match should return 409 with the current state")
+    void testUpdateWithStaleIfMatchReturnsConflict() {
+        EmployeeDto createdEmployee = employeeService.createEmployee(testEmployee).block();
+        assertThat(createdEmployee).isNotNull();
+        String staleTag = "\"" + createdEmployee.getEmployeeId() + "-" + createdEmployee.getVersion() + "\"";
+
+        createdEmployee.setName("First Edit");
+        webTestClient.put()
+                .uri("/api/v1/employee/{id}", createdEmployee.getEmployeeId())
+                .header("If-Match", staleTag)
+                .contentType(org.springframework.http.MediaType.APPLICATION_JSON)
+                .body(BodyInserters.fromValue(createdEmployee))
+                .exchange()
+                .expectStatus().isOk();
+
+        createdEmployee.setName("Second Edit");
+        webTestClient.put()
+                .uri("/api/v1/employee/{id}", createdEmployee.getEmployeeId())
+                .header("If-Match", staleTag)
+                .contentType(org.springframework.http.MediaType.APPLICATION_JSON)
+                .body(BodyInserters.fromValue(createdEmployee))
+                .exchange()
+                .expectStatus().isEqualTo(409)
+                .expectBody()
+                .jsonPath("$.current.name").isEqualTo("First Edit")
+                .jsonPath("$.current.version").isEqualTo(createdEmployee.getVersion().intValue() + 1);
+    }
+
     @Test
     @DisplayName("Delete employee transaction should commit successfully")
     void testDeleteEmployeeTransactionCommit() {
@@ -149,9 +240,23 @@ class TransactionIntegrationTest {
                 .exchange()
                 .expectStatus().isNoContent();
 
-        // Verify employee has been deleted
+        // Verify employee has been soft deleted and is hidden from every read path
         Employee deletedEmployee = employeeRepository.findById(createdEmployee.getEmployeeId()).block();
-        assertThat(deletedEmployee).isNull();
+        assertThat(deletedEmployee).isNotNull();
+        assertThat(deletedEmployee.isDeleted()).isTrue();
+        assertThat(deletedEmployee.getDeletedAt()).isNotNull();
+        assertThat(employeeRepository.findActiveById(createdEmployee.getEmployeeId()).block()).isNull();
+
+        webTestClient.get()
+                .uri("/api/v1/employee/{id}", createdEmployee.getEmployeeId())
+                .exchange()
+                .expectStatus().isNotFound();
+
+        // A second delete finds no active employee
+        webTestClient.delete()
+                .uri("/api/v1/employee/{id}", createdEmployee.getEmployeeId())
+                .exchange()
+                .expectStatus().isNotFound();
     }
 
     @Test
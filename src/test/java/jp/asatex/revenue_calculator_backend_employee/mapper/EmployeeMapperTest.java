@@ -0,0 +1,78 @@
+package jp.asatex.revenue_calculator_backend_employee.mapper;
+
+import jp.asatex.revenue_calculator_backend_employee.dto.EmployeeDto;
+import jp.asatex.revenue_calculator_backend_employee.entity.Employee;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mapstruct.factory.Mappers;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * EmployeeMapper test class
+ */
+@DisplayName("EmployeeMapper Test")
+class EmployeeMapperTest {
+
+    private final EmployeeMapper employeeMapper = Mappers.getMapper(EmployeeMapper.class);
+
+    @Test
+    @DisplayName("Every DTO property should survive a round trip through the entity")
+    void testRoundTrip() {
+        EmployeeDto employee = employeeDto();
+
+        EmployeeDto roundTripped = employeeMapper.toDto(employeeMapper.toEntity(employee));
+
+        assertThat(roundTripped).usingRecursiveComparison().isEqualTo(employee);
+    }
+
+    @Test
+    @DisplayName("Audit and soft delete columns should not be taken from the DTO")
+    void testToEntityIgnoresAuditColumns() {
+        Employee employee = employeeMapper.toEntity(employeeDto());
+
+        assertThat(employee.getEmployeeId()).isEqualTo(7L);
+        assertThat(employee.getVersion()).isEqualTo(3L);
+        assertThat(employee.getCreatedAt()).isNull();
+        assertThat(employee.getUpdatedAt()).isNull();
+        assertThat(employee.getDeletedAt()).isNull();
+        assertThat(employee.getDeletedBy()).isNull();
+        assertThat(employee.isDeleted()).isFalse();
+        assertThat(employee.getPreviousState()).isNull();
+    }
+
+    @Test
+    @DisplayName("Entity columns should be copied into the DTO")
+    void testToDto() {
+        Employee employee = employeeMapper.toEntity(employeeDto());
+        employee.setCreatedAt(LocalDateTime.of(2025, 1, 15, 10, 0));
+
+        EmployeeDto dto = employeeMapper.toDto(employee);
+
+        assertThat(dto.getEmployeeNumber()).isEqualTo("EMP007");
+        assertThat(dto.getThirdPartyProfitDistributionRate()).isEqualByComparingTo("0.05");
+        assertThat(dto.getDisabledDependentCount()).isEqualTo(1);
+        assertThat(dto.getVersion()).isEqualTo(3L);
+    }
+
+    @Test
+    @DisplayName("Null should map to null")
+    void testNull() {
+        assertThat(employeeMapper.toDto(null)).isNull();
+        assertThat(employeeMapper.toEntity(null)).isNull();
+    }
+
+    private static EmployeeDto employeeDto() {
+        BigDecimal amount = new BigDecimal("250000");
+        EmployeeDto employee = new EmployeeDto(7L, "EMP007", "Tanaka Taro", "tanaka taro", LocalDate.of(1990, 5, 15),
+                "tanaka@example.com", amount, 2, true, false, amount, amount, amount, amount, amount,
+                amount, amount, new BigDecimal("0.10"), new BigDecimal("0.05"), "090-1234-5678",
+                new BigDecimal("0.10"), amount, amount, amount, "remarks", true, false, true, false, 1);
+        employee.setVersion(3L);
+        return employee;
+    }
+}
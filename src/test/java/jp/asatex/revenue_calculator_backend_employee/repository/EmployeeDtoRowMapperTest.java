@@ -0,0 +1,101 @@
+package jp.asatex.revenue_calculator_backend_employee.repository;
+
+import io.r2dbc.spi.Row;
+import jp.asatex.revenue_calculator_backend_employee.dto.EmployeeDto;
+import jp.asatex.revenue_calculator_backend_employee.dto.EmployeeField;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * EmployeeDtoRowMapper test class
+ */
+@DisplayName("EmployeeDtoRowMapper Test")
+class EmployeeDtoRowMapperTest {
+
+    @Test
+    @DisplayName("Select list should be the employee ID, every employee field in order, then the version")
+    void testSelectColumnsOrder() {
+        List<String> expected = new ArrayList<>();
+        expected.add("employee_id");
+        for (EmployeeField field : EmployeeField.values()) {
+            expected.add(field.getColumn());
+        }
+        expected.add("version");
+
+        assertThat(Arrays.asList(EmployeeDtoRowMapper.SELECT_COLUMNS.split(", "))).isEqualTo(expected);
+    }
+
+    @Test
+    @DisplayName("Every column should be read by index into its DTO property")
+    void testMap() {
+        EmployeeField[] fields = EmployeeField.values();
+        Object[] values = new Object[fields.length + 2];
+        values[0] = 7L;
+        for (int i = 0; i < fields.length; i++) {
+            values[i + 1] = sampleValue(fields[i], i);
+        }
+        values[values.length - 1] = 3L;
+        Row row = mock(Row.class);
+        when(row.get(anyInt(), any())).thenAnswer(invocation -> {
+            Class<?> type = invocation.getArgument(1);
+            return type.cast(values[(int) invocation.getArgument(0)]);
+        });
+
+        EmployeeDto employee = EmployeeDtoRowMapper.map(row);
+
+        assertThat(employee.getEmployeeId()).isEqualTo(7L);
+        assertThat(employee.getVersion()).isEqualTo(3L);
+        assertThat(employee.getEmployeeNumber()).isEqualTo(values[1]);
+        assertThat(employee.getBirthday()).isEqualTo(values[1 + EmployeeField.BIRTHDAY.ordinal()]);
+        assertThat(employee.getBasicSalary()).isEqualTo(values[1 + EmployeeField.BASIC_SALARY.ordinal()]);
+        assertThat(employee.getThirdPartyProfitDistributionRate())
+                .isEqualTo(values[1 + EmployeeField.THIRD_PARTY_PROFIT_DISTRIBUTION_RATE.ordinal()]);
+        assertThat(employee.getCommutingAllowance()).isEqualTo(values[1 + EmployeeField.COMMUTING_ALLOWANCE.ordinal()]);
+        assertThat(employee.getRemarks()).isEqualTo(values[1 + EmployeeField.REMARKS.ordinal()]);
+        assertThat(employee.getIsWorkingStudent()).isEqualTo(values[1 + EmployeeField.IS_WORKING_STUDENT.ordinal()]);
+        assertThat(employee.getDisabledDependentCount()).isEqualTo(values[1 + EmployeeField.DISABLED_DEPENDENT_COUNT.ordinal()]);
+    }
+
+    @Test
+    @DisplayName("Values should be read by index in select order")
+    void testValues() {
+        Row row = mock(Row.class);
+        when(row.get(anyInt(), any())).thenAnswer(invocation -> (int) invocation.getArgument(0) == 0 ? 7L : null);
+        when(row.get(1 + EmployeeField.NAME.ordinal(), String.class)).thenReturn("Tanaka Taro");
+
+        Object[] values = EmployeeDtoRowMapper.values(row);
+
+        assertThat(values).hasSize(EmployeeField.values().length + 2);
+        assertThat(values[0]).isEqualTo(7L);
+        assertThat(values[1 + EmployeeField.NAME.ordinal()]).isEqualTo("Tanaka Taro");
+        assertThat(values[values.length - 1]).isNull();
+    }
+
+    private static Object sampleValue(EmployeeField field, int index) {
+        if (field.getType() == String.class) {
+            return field.getProperty() + "-" + index;
+        }
+        if (field.getType() == BigDecimal.class) {
+            return BigDecimal.valueOf(index * 100L + 1, 2);
+        }
+        if (field.getType() == Integer.class) {
+            return index;
+        }
+        if (field.getType() == Boolean.class) {
+            return index % 2 == 0;
+        }
+        return LocalDate.of(1990, 1, 1).plusDays(index);
+    }
+}
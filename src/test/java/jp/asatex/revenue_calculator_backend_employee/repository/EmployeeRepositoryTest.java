@@ -1,17 +1,29 @@
 package jp.asatex.revenue_calculator_backend_employee.repository;
 
+import jp.asatex.revenue_calculator_backend_employee.dto.EmployeeDto;
+import jp.asatex.revenue_calculator_backend_employee.dto.EmployeeField;
 import jp.asatex.revenue_calculator_backend_employee.entity.Employee;
+import jp.asatex.revenue_calculator_backend_employee.exception.PostgresErrorCodes;
+import jp.asatex.revenue_calculator_backend_employee.service.EmployeeRosterSnapshot;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.data.r2dbc.DataR2dbcTest;
 import org.springframework.context.annotation.Import;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.ReactiveTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import org.springframework.transaction.support.DefaultTransactionDefinition;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -27,6 +39,9 @@ class EmployeeRepositoryTest {
     @Autowired
     private EmployeeRepository employeeRepository;
 
+    @Autowired
+    private ReactiveTransactionManager transactionManager;
+
     private Employee testEmployee1;
     private Employee testEmployee2;
 
@@ -320,6 +335,231 @@ class EmployeeRepositoryTest {
                 .verifyComplete();
     }
 
+    @Test
+    void updateActiveById_ShouldUpdateAndReturnRow() {
+        // Given
+        Employee savedEmployee = employeeRepository.save(testEmployee1).block();
+        Employee changes = new Employee();
+        changes.setEmployeeNumber("EMP001");
+        changes.setName("Tanaka Taro (Updated)");
+        changes.setFurigana(null);
+
+        // When
+        Mono<Employee> result = employeeRepository.updateActiveById(savedEmployee.getEmployeeId(), changes, null);
+
+        // Then
+        StepVerifier.create(result)
+                .assertNext(employee -> {
+                    assertThat(employee.getEmployeeId()).isEqualTo(savedEmployee.getEmployeeId());
+                    assertThat(employee.getName()).isEqualTo("Tanaka Taro (Updated)");
+                    assertThat(employee.getFurigana()).isNull();
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void updateActiveById_WhenEmployeeSoftDeleted_ShouldReturnEmpty() {
+        // Given
+        testEmployee1.setDeleted(true);
+        Employee savedEmployee = employeeRepository.save(testEmployee1).block();
+
+        // When & Then
+        StepVerifier.create(employeeRepository.updateActiveById(savedEmployee.getEmployeeId(), testEmployee2, null))
+                .verifyComplete();
+    }
+
+    @Test
+    void updateActiveById_WhenEmployeeNotExists_ShouldReturnEmpty() {
+        StepVerifier.create(employeeRepository.updateActiveById(999999L, testEmployee1, null))
+                .verifyComplete();
+    }
+
+    @Test
+    void patchActiveById_ShouldWriteOnlySuppliedColumns() {
+        // Given
+        testEmployee1.setEmail("tanaka@example.com");
+        Employee savedEmployee = employeeRepository.save(testEmployee1).block();
+        Map<EmployeeField, Object> changes = new EnumMap<>(EmployeeField.class);
+        changes.put(EmployeeField.HOUSING_ALLOWANCE, new BigDecimal("35000.00"));
+        changes.put(EmployeeField.FURIGANA, null);
+
+        // When
+        Mono<Employee> result = employeeRepository.patchActiveById(savedEmployee.getEmployeeId(), changes, null);
+
+        // Then
+        StepVerifier.create(result)
+                .assertNext(employee -> {
+                    assertThat(employee.getHousingAllowance()).isEqualByComparingTo("35000");
+                    assertThat(employee.getFurigana()).isNull();
+                    assertThat(employee.getName()).isEqualTo("Tanaka Taro");
+                    assertThat(employee.getEmail()).isEqualTo("tanaka@example.com");
+                    // The row before the write is returned for the audit diff
+                    assertThat(employee.getPreviousState())
+                            .contains("\"furigana\": \"" + savedEmployee.getFurigana() + "\"")
+                            .contains("\"version\": " + savedEmployee.getVersion());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void updateActiveById_WithMatchingVersion_ShouldIncrementVersion() {
+        // Given
+        Employee savedEmployee = employeeRepository.save(testEmployee1).block();
+        savedEmployee.setName("Tanaka Taro (Updated)");
+
+        // When
+        Mono<Employee> result = employeeRepository.updateActiveById(
+                savedEmployee.getEmployeeId(), savedEmployee, savedEmployee.getVersion());
+
+        // Then
+        StepVerifier.create(result)
+                .assertNext(employee -> assertThat(employee.getVersion()).isEqualTo(savedEmployee.getVersion() + 1))
+                .verifyComplete();
+    }
+
+    @Test
+    void updateActiveById_WithStaleVersion_ShouldReturnEmpty() {
+        // Given
+        Employee savedEmployee = employeeRepository.save(testEmployee1).block();
+        Long readVersion = savedEmployee.getVersion();
+        employeeRepository.updateActiveById(savedEmployee.getEmployeeId(), savedEmployee, readVersion).block();
+
+        // When & Then
+        StepVerifier.create(employeeRepository.updateActiveById(savedEmployee.getEmployeeId(), savedEmployee, readVersion))
+                .verifyComplete();
+    }
+
+    @Test
+    void patchActiveById_WithStaleVersion_ShouldReturnEmpty() {
+        // Given
+        Employee savedEmployee = employeeRepository.save(testEmployee1).block();
+        Map<EmployeeField, Object> changes = new EnumMap<>(EmployeeField.class);
+        changes.put(EmployeeField.REMARKS, "first");
+        employeeRepository.patchActiveById(savedEmployee.getEmployeeId(), changes, savedEmployee.getVersion()).block();
+
+        // When & Then
+        StepVerifier.create(employeeRepository.patchActiveById(savedEmployee.getEmployeeId(), changes, savedEmployee.getVersion()))
+                .verifyComplete();
+    }
+
+    @Test
+    void patchActiveById_WhenEmployeeNotExists_ShouldReturnEmpty() {
+        Map<EmployeeField, Object> changes = new EnumMap<>(EmployeeField.class);
+        changes.put(EmployeeField.REMARKS, "note");
+
+        StepVerifier.create(employeeRepository.patchActiveById(999999L, changes, null))
+                .verifyComplete();
+    }
+
+    @Test
+    void findActiveDtoById_ShouldMapEveryColumnLikeTheEntity() {
+        // Given
+        testEmployee1.setEmail("tanaka@example.com");
+        testEmployee1.setBasicSalary(new BigDecimal("350000.00"));
+        testEmployee1.setDependentCount(2);
+        testEmployee1.setNoHealthInsurance(true);
+        testEmployee1.setUnitPrice(new BigDecimal("5000.00"));
+        testEmployee1.setThirdPartyManagementRate(new BigDecimal("5.00"));
+        testEmployee1.setPhoneNumber("03-1234-5678");
+        testEmployee1.setRemarks("remarks");
+        testEmployee1.setIsWidow(true);
+        testEmployee1.setDisabledDependentCount(1);
+        Employee savedEmployee = employeeRepository.save(testEmployee1).block();
+        Employee entity = employeeRepository.findActiveById(savedEmployee.getEmployeeId()).block();
+
+        // When & Then
+        StepVerifier.create(employeeRepository.findActiveDtoById(savedEmployee.getEmployeeId()))
+                .assertNext(employee -> assertThat(employee).usingRecursiveComparison().isEqualTo(entity))
+                .verifyComplete();
+        StepVerifier.create(employeeRepository.findActiveDtoByEmployeeNumber("EMP001"))
+                .assertNext(employee -> assertThat(employee).usingRecursiveComparison().isEqualTo(entity))
+                .verifyComplete();
+    }
+
+    @Test
+    void findActiveDtoPage_ShouldSortAndSkipDeletedEmployees() {
+        // Given
+        employeeRepository.save(testEmployee1).block();
+        employeeRepository.save(testEmployee2).block();
+        Employee deleted = new Employee();
+        deleted.setEmployeeNumber("EMP003");
+        deleted.setName("Deleted Employee");
+        deleted.setDeleted(true);
+        employeeRepository.save(deleted).block();
+
+        // When & Then
+        StepVerifier.create(employeeRepository.findActiveDtoPage("name", false, 0, 10).map(employee -> employee.getName()))
+                .expectNext("Sato Hanako", "Tanaka Taro")
+                .verifyComplete();
+        StepVerifier.create(employeeRepository.findActiveDtoPage("employee_number", true, 1, 1).map(employee -> employee.getEmployeeNumber()))
+                .expectNext("EMP001")
+                .verifyComplete();
+        StepVerifier.create(employeeRepository.findActiveDtosByFuriganaContaining("%hanako%"))
+                .assertNext(employee -> assertThat(employee.getEmployeeNumber()).isEqualTo("EMP002"))
+                .verifyComplete();
+        StepVerifier.create(employeeRepository.findActiveDtoPage("is_deleted", false, 0, 10))
+                .expectError(IllegalArgumentException.class)
+                .verify();
+    }
+
+    @Test
+    void findActiveDtoPage_ShouldSortLikeRosterSnapshot() {
+        // Given - names whose order depends on the collation, and duplicates that need the tiebreaker
+        List<String> names = List.of("佐藤 花子", "𠮷田 太郎", "鈴木 一郎", "apple", "Banana", "Apple", "Apple", "ｱｲｳ", "ｔａｎａｋａ");
+        for (int i = 0; i < names.size(); i++) {
+            Employee employee = new Employee();
+            employee.setEmployeeNumber(i % 2 == 0 ? "emp" + i : "EMP" + i);
+            employee.setName(names.get(i));
+            employeeRepository.save(employee).block();
+        }
+        EmployeeRosterSnapshot snapshot = EmployeeRosterSnapshot.of(employeeRepository.streamActiveDtos(100).collectList().block());
+
+        // When & Then - every page matches the page the snapshot serves
+        for (String sortColumn : List.of("name", "employee_number", "employee_id")) {
+            for (boolean descending : List.of(false, true)) {
+                for (int offset = 0; offset < names.size(); offset += 3) {
+                    List<Long> fromDatabase = employeeRepository.findActiveDtoPage(sortColumn, descending, offset, 3)
+                            .map(EmployeeDto::getEmployeeId).collectList().block();
+                    List<Long> fromSnapshot = snapshot.page(sortColumn, descending, offset, 3).stream()
+                            .map(EmployeeDto::getEmployeeId).toList();
+                    assertThat(fromDatabase).as("%s %s offset %d", sortColumn, descending ? "DESC" : "ASC", offset)
+                            .isEqualTo(fromSnapshot);
+                }
+            }
+        }
+    }
+
+    @Test
+    void streamActiveDtos_ShouldStreamActiveEmployeesInIdOrderAsRequested() {
+        // Given
+        List<Long> activeIds = Flux.range(1, 5)
+                .concatMap(i -> {
+                    Employee employee = new Employee();
+                    employee.setEmployeeNumber("EXP00" + i);
+                    employee.setName("Export Employee " + i);
+                    employee.setDeleted(i == 3);
+                    return employeeRepository.save(employee);
+                })
+                .filter(employee -> !employee.isDeleted())
+                .map(Employee::getEmployeeId)
+                .collectList()
+                .block();
+        DefaultTransactionDefinition snapshot = new DefaultTransactionDefinition();
+        snapshot.setReadOnly(true);
+        snapshot.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+        TransactionalOperator transactionalOperator = TransactionalOperator.create(transactionManager, snapshot);
+
+        // When & Then: rows are fetched two at a time and emitted only on demand
+        StepVerifier.create(transactionalOperator.transactional(employeeRepository.streamActiveDtos(2))
+                        .map(employee -> employee.getEmployeeId()), 1)
+                .expectNext(activeIds.get(0))
+                .thenRequest(2)
+                .expectNext(activeIds.get(1), activeIds.get(2))
+                .thenRequest(Long.MAX_VALUE)
+                .expectNext(activeIds.get(3))
+                .verifyComplete();
+    }
+
     @Test
     void saveEmployeeWithNullFurigana_ShouldSaveSuccessfully() {
         // Given
@@ -353,4 +593,122 @@ class EmployeeRepositoryTest {
                 })
                 .verifyComplete();
     }
+
+    @Test
+    void softDeleteById_ShouldMarkRowDeletedAndIncrementVersion() {
+        // Given
+        Employee savedEmployee = employeeRepository.save(testEmployee1).block();
+
+        // When
+        Mono<Employee> result = employeeRepository.softDeleteById(savedEmployee.getEmployeeId(), "tester");
+
+        // Then
+        StepVerifier.create(result)
+                .assertNext(employee -> {
+                    assertThat(employee.isDeleted()).isTrue();
+                    assertThat(employee.getDeletedAt()).isNotNull();
+                    assertThat(employee.getDeletedBy()).isEqualTo("tester");
+                    assertThat(employee.getVersion()).isEqualTo(savedEmployee.getVersion() + 1);
+                })
+                .verifyComplete();
+
+        // A second soft delete matches no active row
+        StepVerifier.create(employeeRepository.softDeleteById(savedEmployee.getEmployeeId(), "tester"))
+                .verifyComplete();
+    }
+
+    @Test
+    void softDeleteByEmployeeNumber_ShouldHideEmployeeFromActiveQueries() {
+        // Given
+        Employee savedEmployee = employeeRepository.save(testEmployee1).block();
+        employeeRepository.save(testEmployee2).block();
+
+        // When
+        StepVerifier.create(employeeRepository.softDeleteByEmployeeNumber("EMP001", "tester"))
+                .assertNext(employee -> assertThat(employee.getEmployeeId()).isEqualTo(savedEmployee.getEmployeeId()))
+                .verifyComplete();
+
+        // Then
+        StepVerifier.create(employeeRepository.findActiveById(savedEmployee.getEmployeeId()))
+                .verifyComplete();
+        StepVerifier.create(employeeRepository.findByEmployeeNumber("EMP001"))
+                .verifyComplete();
+        StepVerifier.create(employeeRepository.findByNameContaining("%Tanaka%"))
+                .verifyComplete();
+        StepVerifier.create(employeeRepository.findByFuriganaContaining("%tanaka%"))
+                .verifyComplete();
+        StepVerifier.create(employeeRepository.findAllWithPaginationByIdAsc(0, 10))
+                .assertNext(employee -> assertThat(employee.getEmployeeNumber()).isEqualTo("EMP002"))
+                .verifyComplete();
+        StepVerifier.create(employeeRepository.countAllActive())
+                .expectNext(1L)
+                .verifyComplete();
+
+        // The number is free again and can be given to a new employee
+        StepVerifier.create(employeeRepository.existsByEmployeeNumber("EMP001"))
+                .expectNext(false)
+                .verifyComplete();
+        Employee successor = new Employee();
+        successor.setEmployeeNumber("EMP001");
+        successor.setName("Suzuki Ichiro");
+        StepVerifier.create(employeeRepository.save(successor).map(Employee::getEmployeeNumber))
+                .expectNext("EMP001")
+                .verifyComplete();
+    }
+
+    @Test
+    void save_WithNumberOfActiveEmployee_ShouldViolateUniqueIndex() {
+        // Given
+        employeeRepository.save(testEmployee1).block();
+        Employee duplicate = new Employee();
+        duplicate.setEmployeeNumber("EMP001");
+        duplicate.setName("Suzuki Ichiro");
+
+        // When & Then
+        StepVerifier.create(employeeRepository.save(duplicate))
+                .expectErrorMatches(PostgresErrorCodes::isUniqueViolation)
+                .verify();
+    }
+
+    @Test
+    void softDeleteAll_ShouldDeleteByIdsAndNumbersInOneStatement() {
+        // Given
+        Employee savedEmployee1 = employeeRepository.save(testEmployee1).block();
+        employeeRepository.save(testEmployee2).block();
+
+        // When
+        Flux<Employee> result = employeeRepository.softDeleteAll(
+                List.of(savedEmployee1.getEmployeeId(), 999999L), List.of("EMP002", "EMP404"), "tester");
+
+        // Then
+        StepVerifier.create(result.map(Employee::getEmployeeNumber).collectList())
+                .assertNext(numbers -> assertThat(numbers).containsExactlyInAnyOrder("EMP001", "EMP002"))
+                .verifyComplete();
+        StepVerifier.create(employeeRepository.countAllActive())
+                .expectNext(0L)
+                .verifyComplete();
+    }
+
+    @Test
+    void findChanges_ShouldPageActiveAndDeletedRowsInUpdateOrder() {
+        // Given
+        Employee savedEmployee1 = employeeRepository.save(testEmployee1).block();
+        Employee savedEmployee2 = employeeRepository.save(testEmployee2).block();
+        employeeRepository.softDeleteById(savedEmployee1.getEmployeeId(), "tester").block();
+
+        // When
+        List<Employee> firstPage = employeeRepository.findChangesFromStart(0L, 1).collectList().block();
+
+        // Then - EMP002 is now the oldest change, the deleted EMP001 follows it
+        assertThat(firstPage).extracting(Employee::getEmployeeNumber).containsExactly("EMP002");
+        Employee last = firstPage.get(0);
+        StepVerifier.create(employeeRepository.findChangesAfter(last.getUpdatedAt(), last.getEmployeeId(), 0L, 10))
+                .assertNext(employee -> {
+                    assertThat(employee.getEmployeeId()).isEqualTo(savedEmployee1.getEmployeeId());
+                    assertThat(employee.isDeleted()).isTrue();
+                })
+                .verifyComplete();
+        StepVerifier.create(employeeRepository.findChangesAfter(last.getUpdatedAt(), savedEmployee2.getEmployeeId(), 3_600_000L, 10))
+                .verifyComplete();
+    }
 }
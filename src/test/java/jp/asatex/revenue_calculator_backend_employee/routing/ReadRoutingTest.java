@@ -0,0 +1,124 @@
+package jp.asatex.revenue_calculator_backend_employee.routing;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.mockito.Mockito.when;
+
+/**
+ * ReadRouting test class
+ */
+@DisplayName("ReadRouting Test")
+@ExtendWith(MockitoExtension.class)
+class ReadRoutingTest {
+
+    private static final String PRIMARY = "primary";
+
+    @Mock
+    private ReplicaLagMonitor replicaLagMonitor;
+
+    @Test
+    @DisplayName("Without a replica every read should go to the primary")
+    void testWithoutReplica() {
+        ReadRouting readRouting = new ReadRouting(Optional.empty(), Duration.ofSeconds(5));
+        readRouting.recordWrite(1L, "EMP001");
+
+        StepVerifier.create(readRouting.fromReplica(route()))
+                .expectNext(PRIMARY)
+                .verifyComplete();
+        StepVerifier.create(readRouting.fromReplicaById(2L, route()))
+                .expectNext(PRIMARY)
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Reads should go to the replica while it is within the lag bound")
+    void testReplicaWithinLagBound() {
+        when(replicaLagMonitor.isWithinLagBound()).thenReturn(true);
+        ReadRouting readRouting = new ReadRouting(Optional.of(replicaLagMonitor), Duration.ofSeconds(5));
+
+        StepVerifier.create(readRouting.fromReplica(route()))
+                .expectNext(ReadRouting.REPLICA)
+                .verifyComplete();
+        StepVerifier.create(readRouting.fromReplica(Flux.from(route())))
+                .expectNext(ReadRouting.REPLICA)
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Reads should fall back to the primary when the replica lags behind")
+    void testReplicaBeyondLagBound() {
+        when(replicaLagMonitor.isWithinLagBound()).thenReturn(false);
+        ReadRouting readRouting = new ReadRouting(Optional.of(replicaLagMonitor), Duration.ofSeconds(5));
+
+        StepVerifier.create(readRouting.fromReplica(route()))
+                .expectNext(PRIMARY)
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("The lag bound should be checked on subscription, not on assembly")
+    void testLagBoundCheckedOnSubscription() {
+        when(replicaLagMonitor.isWithinLagBound()).thenReturn(true, false);
+        ReadRouting readRouting = new ReadRouting(Optional.of(replicaLagMonitor), Duration.ofSeconds(5));
+        Mono<String> read = readRouting.fromReplica(route());
+
+        StepVerifier.create(read)
+                .expectNext(ReadRouting.REPLICA)
+                .verifyComplete();
+        StepVerifier.create(read)
+                .expectNext(PRIMARY)
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Reads of a recently written employee should stay on the primary")
+    void testReadYourWrites() {
+        when(replicaLagMonitor.isWithinLagBound()).thenReturn(true);
+        ReadRouting readRouting = new ReadRouting(Optional.of(replicaLagMonitor), Duration.ofSeconds(5));
+        readRouting.recordWrite(1L, "EMP001");
+
+        StepVerifier.create(readRouting.fromReplicaById(1L, route()))
+                .expectNext(PRIMARY)
+                .verifyComplete();
+        StepVerifier.create(readRouting.fromReplicaByNumber("EMP001", route()))
+                .expectNext(PRIMARY)
+                .verifyComplete();
+        StepVerifier.create(readRouting.fromReplicaById(2L, route()))
+                .expectNext(ReadRouting.REPLICA)
+                .verifyComplete();
+        StepVerifier.create(readRouting.fromReplicaByNumber("EMP002", route()))
+                .expectNext(ReadRouting.REPLICA)
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Recent writes should expire after the lag bound")
+    void testRecentWritesExpire() throws InterruptedException {
+        when(replicaLagMonitor.isWithinLagBound()).thenReturn(true);
+        ReadRouting readRouting = new ReadRouting(Optional.of(replicaLagMonitor), Duration.ofMillis(50));
+        readRouting.recordWrite(1L, "EMP001");
+
+        Thread.sleep(100);
+
+        StepVerifier.create(readRouting.fromReplicaById(1L, route()))
+                .expectNext(ReadRouting.REPLICA)
+                .verifyComplete();
+    }
+
+    /**
+     * Read that emits the route it was subscribed with
+     */
+    private Mono<String> route() {
+        return Mono.deferContextual(context -> Mono.just(context.getOrDefault(ReadRouting.ROUTE_KEY, PRIMARY)));
+    }
+}
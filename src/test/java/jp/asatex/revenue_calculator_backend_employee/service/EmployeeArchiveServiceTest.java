@@ -0,0 +1,149 @@
+package jp.asatex.revenue_calculator_backend_employee.service;
+
+import jp.asatex.revenue_calculator_backend_employee.common.PageRequest;
+import jp.asatex.revenue_calculator_backend_employee.common.SortDirection;
+import jp.asatex.revenue_calculator_backend_employee.entity.ArchivedEmployee;
+import jp.asatex.revenue_calculator_backend_employee.entity.Employee;
+import jp.asatex.revenue_calculator_backend_employee.exception.EmployeeNotFoundHandler;
+import jp.asatex.revenue_calculator_backend_employee.mapper.EmployeeMapper;
+import jp.asatex.revenue_calculator_backend_employee.repository.EmployeeArchiveRepository;
+import io.micrometer.core.instrument.Counter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mapstruct.factory.Mappers;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * EmployeeArchiveService unit test
+ * Tests batching of the archival job and archive queries
+ */
+@ExtendWith(MockitoExtension.class)
+class EmployeeArchiveServiceTest {
+
+    @Mock
+    private EmployeeArchiveRepository employeeArchiveRepository;
+
+    @Spy
+    private EmployeeMapper employeeMapper = Mappers.getMapper(EmployeeMapper.class);
+
+    @Mock
+    private Counter employeeArchiveCounter;
+
+    @InjectMocks
+    private EmployeeArchiveService employeeArchiveService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(employeeArchiveService, "retention", Duration.ofDays(90));
+        ReflectionTestUtils.setField(employeeArchiveService, "batchSize", 2);
+        ReflectionTestUtils.setField(employeeArchiveService, "batchPause", Duration.ZERO);
+        ReflectionTestUtils.setField(employeeArchiveService, "maxBatchesPerRun", 3);
+    }
+
+    @Test
+    void archiveDeletedEmployees_ShouldRunBatchesUntilPartialBatch() {
+        // Given
+        when(employeeArchiveRepository.archiveBatch(any(Duration.class), anyInt()))
+                .thenReturn(Mono.just(2L), Mono.just(2L), Mono.just(1L));
+
+        // When & Then
+        StepVerifier.create(employeeArchiveService.archiveDeletedEmployees())
+                .expectNext(5L)
+                .verifyComplete();
+
+        verify(employeeArchiveRepository, times(3)).archiveBatch(Duration.ofDays(90), 2);
+    }
+
+    @Test
+    void archiveDeletedEmployees_ShouldStopAtBatchLimitPerRun() {
+        // Given
+        when(employeeArchiveRepository.archiveBatch(any(Duration.class), anyInt())).thenReturn(Mono.just(2L));
+
+        // When & Then
+        StepVerifier.create(employeeArchiveService.archiveDeletedEmployees())
+                .expectNext(6L)
+                .verifyComplete();
+
+        verify(employeeArchiveRepository, times(3)).archiveBatch(Duration.ofDays(90), 2);
+    }
+
+    @Test
+    void archiveDeletedEmployees_WhenNothingToArchive_ShouldRunSingleBatch() {
+        // Given
+        when(employeeArchiveRepository.archiveBatch(any(Duration.class), anyInt())).thenReturn(Mono.just(0L));
+
+        // When & Then
+        StepVerifier.create(employeeArchiveService.archiveDeletedEmployees())
+                .expectNext(0L)
+                .verifyComplete();
+
+        verify(employeeArchiveRepository, times(1)).archiveBatch(any(Duration.class), anyInt());
+    }
+
+    @Test
+    void getArchivedEmployeeById_WhenArchived_ShouldReturnDeletionDetails() {
+        // Given
+        Employee employee = new Employee();
+        employee.setEmployeeId(1L);
+        employee.setEmployeeNumber("EMP001");
+        employee.setDeleted(true);
+        employee.setDeletedBy("system");
+        employee.setDeletedAt(LocalDateTime.of(2025, 1, 15, 10, 30));
+        LocalDateTime archivedAt = LocalDateTime.of(2025, 4, 15, 3, 0);
+        when(employeeArchiveRepository.findById(1L)).thenReturn(Mono.just(new ArchivedEmployee(employee, archivedAt)));
+
+        // When & Then
+        StepVerifier.create(employeeArchiveService.getArchivedEmployeeById(1L))
+                .assertNext(archived -> {
+                    assertThat(archived.getEmployee().getEmployeeNumber()).isEqualTo("EMP001");
+                    assertThat(archived.getDeletedBy()).isEqualTo("system");
+                    assertThat(archived.getArchivedAt()).isEqualTo(archivedAt);
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void getArchivedEmployeeById_WhenNotArchived_ShouldThrowException() {
+        // Given
+        when(employeeArchiveRepository.findById(999L)).thenReturn(Mono.empty());
+
+        // When & Then
+        StepVerifier.create(employeeArchiveService.getArchivedEmployeeById(999L))
+                .expectError(EmployeeNotFoundHandler.class)
+                .verify();
+    }
+
+    @Test
+    void getArchivedEmployees_ShouldPageInDatabase() {
+        // Given
+        when(employeeArchiveRepository.findPage(20, 10)).thenReturn(Flux.empty());
+        when(employeeArchiveRepository.count()).thenReturn(Mono.just(20L));
+
+        // When & Then
+        StepVerifier.create(employeeArchiveService.getArchivedEmployees(new PageRequest(2, 10, "name", SortDirection.ASC)))
+                .assertNext(page -> {
+                    assertThat(page.getContent()).isEmpty();
+                    assertThat(page.getTotalElements()).isEqualTo(20L);
+                    assertThat(page.getSortBy()).isEqualTo("archivedAt");
+                })
+                .verifyComplete();
+    }
+}
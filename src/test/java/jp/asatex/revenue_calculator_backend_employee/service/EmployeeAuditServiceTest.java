@@ -0,0 +1,193 @@
+package jp.asatex.revenue_calculator_backend_employee.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import jp.asatex.revenue_calculator_backend_employee.dto.EmployeeDto;
+import jp.asatex.revenue_calculator_backend_employee.entity.EmployeeAuditEntry;
+import jp.asatex.revenue_calculator_backend_employee.repository.EmployeeAuditRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * EmployeeAuditService unit test
+ * Tests field level diffs, the bounded queue and batched writes
+ */
+@ExtendWith(MockitoExtension.class)
+class EmployeeAuditServiceTest {
+
+    @Mock
+    private EmployeeAuditRepository employeeAuditRepository;
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .findAndRegisterModules()
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private EmployeeAuditService employeeAuditService;
+
+    private final List<List<EmployeeAuditEntry>> writtenBatches = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        employeeAuditService = createService(16);
+        lenient().when(employeeAuditRepository.insertAll(anyList())).thenAnswer(invocation -> {
+            List<EmployeeAuditEntry> batch = invocation.getArgument(0);
+            writtenBatches.add(List.copyOf(batch));
+            return Mono.just((long) batch.size());
+        });
+    }
+
+    @Test
+    void recordUpdated_ShouldRecordOnlyChangedFields() throws Exception {
+        // Given - stored scale of basic_salary differs from the DTO but the value is the same
+        String previousState = """
+                {"employee_id": 1, "employee_number": "EMP001", "name": "Tanaka Taro",
+                 "basic_salary": 350000.00, "birthday": "1990-05-15", "remarks": "old note"}
+                """;
+        EmployeeDto updated = employee(1L, "EMP001", "Suzuki Hanako");
+        updated.setBasicSalary(new BigDecimal("350000"));
+        updated.setBirthday(LocalDate.of(1990, 5, 15));
+
+        // When
+        StepVerifier.create(employeeAuditService.recordUpdated(previousState, updated)).verifyComplete();
+        StepVerifier.create(employeeAuditService.flush()).expectNext(1L).verifyComplete();
+
+        // Then
+        EmployeeAuditEntry entry = writtenBatches.get(0).get(0);
+        assertThat(entry.getEmployeeId()).isEqualTo(1L);
+        assertThat(entry.getAction()).isEqualTo("UPDATED");
+        assertThat(entry.getChangedAt()).isNotNull();
+        JsonNode changes = objectMapper.readTree(entry.getChanges());
+        assertThat(changes.size()).isEqualTo(2);
+        assertThat(changes.path("name").path("old").asText()).isEqualTo("Tanaka Taro");
+        assertThat(changes.path("name").path("new").asText()).isEqualTo("Suzuki Hanako");
+        assertThat(changes.path("remarks").path("old").asText()).isEqualTo("old note");
+        assertThat(changes.path("remarks").path("new").isNull()).isTrue();
+    }
+
+    @Test
+    void recordUpdated_WhenNothingChanged_ShouldRecordNothing() {
+        // Given
+        String previousState = "{\"employee_id\": 1, \"employee_number\": \"EMP001\", \"name\": \"Tanaka Taro\"}";
+
+        // When
+        StepVerifier.create(employeeAuditService.recordUpdated(previousState, employee(1L, "EMP001", "Tanaka Taro")))
+                .verifyComplete();
+
+        // Then
+        assertThat(employeeAuditService.getQueueDepth()).isZero();
+    }
+
+    @Test
+    void recordCreatedAndDeleted_ShouldRecordSetFieldsAsNewAndOldValues() throws Exception {
+        // Given
+        EmployeeDto employee = employee(1L, "EMP001", "Tanaka Taro");
+
+        // When
+        StepVerifier.create(employeeAuditService.recordCreated(employee)).verifyComplete();
+        StepVerifier.create(employeeAuditService.recordDeleted(List.of(employee))).verifyComplete();
+        StepVerifier.create(employeeAuditService.flush()).expectNext(2L).verifyComplete();
+
+        // Then
+        List<EmployeeAuditEntry> batch = writtenBatches.get(0);
+        assertThat(batch).extracting(EmployeeAuditEntry::getAction).containsExactly("CREATED", "DELETED");
+        JsonNode created = objectMapper.readTree(batch.get(0).getChanges());
+        assertThat(created.path("name").path("old").isNull()).isTrue();
+        assertThat(created.path("name").path("new").asText()).isEqualTo("Tanaka Taro");
+        assertThat(created.has("email")).isFalse();
+        JsonNode deleted = objectMapper.readTree(batch.get(1).getChanges());
+        assertThat(deleted.path("employeeNumber").path("old").asText()).isEqualTo("EMP001");
+        assertThat(deleted.path("employeeNumber").path("new").isNull()).isTrue();
+    }
+
+    @Test
+    void record_WhenQueueFull_ShouldDropAndCountWithoutBlocking() {
+        // Given
+        employeeAuditService = createService(2);
+
+        // When
+        StepVerifier.create(employeeAuditService.recordDeleted(List.of(
+                        employee(1L, "EMP001", "A"), employee(2L, "EMP002", "B"), employee(3L, "EMP003", "C"))))
+                .verifyComplete();
+
+        // Then
+        assertThat(employeeAuditService.getQueueDepth()).isEqualTo(2);
+        assertThat(meterRegistry.get("employee.audit.queue.depth").gauge().value()).isEqualTo(2.0);
+        assertThat(meterRegistry.get("employee.audit.dropped.total").counter().count()).isEqualTo(1.0);
+        verify(employeeAuditRepository, never()).insertAll(anyList());
+    }
+
+    @Test
+    void flush_ShouldWriteQueuedEntriesInBatches() {
+        // Given
+        ReflectionTestUtils.setField(employeeAuditService, "batchSize", 2);
+        StepVerifier.create(employeeAuditService.recordDeleted(List.of(employee(1L, "EMP001", "A"),
+                employee(2L, "EMP002", "B"), employee(3L, "EMP003", "C"), employee(4L, "EMP004", "D"),
+                employee(5L, "EMP005", "E")))).verifyComplete();
+
+        // When
+        StepVerifier.create(employeeAuditService.flush()).expectNext(5L).verifyComplete();
+
+        // Then
+        verify(employeeAuditRepository, times(3)).insertAll(anyList());
+        assertThat(writtenBatches).extracting(List::size).containsExactly(2, 2, 1);
+        assertThat(writtenBatches.get(0)).extracting(EmployeeAuditEntry::getEmployeeId).containsExactly(1L, 2L);
+        assertThat(employeeAuditService.getQueueDepth()).isZero();
+        assertThat(meterRegistry.get("employee.audit.written.total").counter().count()).isEqualTo(5.0);
+    }
+
+    @Test
+    void flush_WhenInsertFails_ShouldCountBatchAsDropped() {
+        // Given
+        when(employeeAuditRepository.insertAll(anyList())).thenReturn(Mono.error(new IllegalStateException("database unavailable")));
+        StepVerifier.create(employeeAuditService.recordCreated(employee(1L, "EMP001", "A"))).verifyComplete();
+
+        // When
+        StepVerifier.create(employeeAuditService.flush()).expectNext(1L).verifyComplete();
+
+        // Then
+        verify(employeeAuditRepository).insertAll(argThat(batch -> batch.size() == 1));
+        assertThat(meterRegistry.get("employee.audit.dropped.total").counter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("employee.audit.written.total").counter().count()).isZero();
+    }
+
+    private EmployeeAuditService createService(int queueCapacity) {
+        meterRegistry = new SimpleMeterRegistry();
+        EmployeeAuditService service = new EmployeeAuditService(queueCapacity, employeeAuditRepository, objectMapper,
+                meterRegistry.counter("employee.audit.written.total"), meterRegistry.counter("employee.audit.dropped.total"),
+                meterRegistry);
+        ReflectionTestUtils.setField(service, "batchSize", 500);
+        return service;
+    }
+
+    private static EmployeeDto employee(Long id, String employeeNumber, String name) {
+        EmployeeDto employee = new EmployeeDto();
+        employee.setEmployeeId(id);
+        employee.setEmployeeNumber(employeeNumber);
+        employee.setName(name);
+        return employee;
+    }
+}
@@ -0,0 +1,166 @@
+package jp.asatex.revenue_calculator_backend_employee.service;
+
+import jp.asatex.revenue_calculator_backend_employee.common.ChangeCursor;
+import jp.asatex.revenue_calculator_backend_employee.dto.EmployeeChangeDto;
+import jp.asatex.revenue_calculator_backend_employee.entity.Employee;
+import jp.asatex.revenue_calculator_backend_employee.mapper.EmployeeMapper;
+import jp.asatex.revenue_calculator_backend_employee.repository.EmployeeRepository;
+import io.micrometer.core.instrument.Counter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mapstruct.factory.Mappers;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * EmployeeChangeFeedService unit test
+ * Tests paging and cursor handling of the change feed
+ */
+@ExtendWith(MockitoExtension.class)
+class EmployeeChangeFeedServiceTest {
+
+    private static final LocalDateTime T0 = LocalDateTime.of(2025, 1, 15, 10, 0);
+
+    @Mock
+    private EmployeeRepository employeeRepository;
+
+    @Spy
+    private EmployeeMapper employeeMapper = Mappers.getMapper(EmployeeMapper.class);
+
+    @Mock
+    private Counter employeeQueryCounter;
+
+    @InjectMocks
+    private EmployeeChangeFeedService employeeChangeFeedService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(employeeChangeFeedService, "settleWindow", Duration.ofSeconds(5));
+    }
+
+    @Test
+    void getChanges_FromStart_ShouldReturnChangesAndCursorOfLastRow() {
+        // Given
+        when(employeeRepository.findChangesFromStart(5000L, 3))
+                .thenReturn(Flux.just(employee(1L, T0, false), employee(2L, T0.plusSeconds(1), true)));
+
+        // When & Then
+        StepVerifier.create(employeeChangeFeedService.getChanges(null, 2))
+                .assertNext(response -> {
+                    assertThat(response.isHasMore()).isFalse();
+                    assertThat(response.getChanges()).hasSize(2);
+
+                    EmployeeChangeDto upserted = response.getChanges().get(0);
+                    assertThat(upserted.getChangeType()).isEqualTo(EmployeeChangeDto.ChangeType.UPSERTED);
+                    assertThat(upserted.getChangedAt()).isEqualTo(T0);
+                    assertThat(upserted.getEmployee().getEmployeeNumber()).isEqualTo("EMP1");
+
+                    EmployeeChangeDto deleted = response.getChanges().get(1);
+                    assertThat(deleted.getChangeType()).isEqualTo(EmployeeChangeDto.ChangeType.DELETED);
+                    assertThat(deleted.getEmployeeId()).isEqualTo(2L);
+                    assertThat(deleted.getEmployee()).isNull();
+
+                    assertThat(ChangeCursor.decode(response.getNextCursor()))
+                            .isEqualTo(new ChangeCursor(T0.plusSeconds(1), 2L));
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void getChanges_WithMoreRowsThanLimit_ShouldTrimAndReportMore() {
+        // Given
+        ChangeCursor since = new ChangeCursor(T0, 1L);
+        when(employeeRepository.findChangesAfter(T0, 1L, 5000L, 3))
+                .thenReturn(Flux.just(employee(2L, T0, false), employee(3L, T0, false), employee(4L, T0, false)));
+
+        // When & Then
+        StepVerifier.create(employeeChangeFeedService.getChanges(since, 2))
+                .assertNext(response -> {
+                    assertThat(response.isHasMore()).isTrue();
+                    assertThat(response.getChanges()).extracting(EmployeeChangeDto::getEmployeeId).containsExactly(2L, 3L);
+                    assertThat(ChangeCursor.decode(response.getNextCursor())).isEqualTo(new ChangeCursor(T0, 3L));
+                })
+                .verifyComplete();
+
+        verify(employeeQueryCounter).increment();
+    }
+
+    @Test
+    void getChanges_WithNoChanges_ShouldKeepCursor() {
+        // Given
+        ChangeCursor since = new ChangeCursor(T0, 1L);
+        when(employeeRepository.findChangesAfter(T0, 1L, 5000L, 11)).thenReturn(Flux.empty());
+
+        // When & Then
+        StepVerifier.create(employeeChangeFeedService.getChanges(since, 10))
+                .assertNext(response -> {
+                    assertThat(response.getChanges()).isEmpty();
+                    assertThat(response.isHasMore()).isFalse();
+                    assertThat(response.getNextCursor()).isEqualTo(since.encode());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void getChanges_FromStartWithNoChanges_ShouldReturnNoCursor() {
+        // Given
+        when(employeeRepository.findChangesFromStart(5000L, 11)).thenReturn(Flux.empty());
+
+        // When & Then
+        StepVerifier.create(employeeChangeFeedService.getChanges(null, 10))
+                .assertNext(response -> {
+                    assertThat(response.getChanges()).isEmpty();
+                    assertThat(response.getNextCursor()).isNull();
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void getChanges_WithSubSecondSettleWindow_ShouldPassMilliseconds() {
+        // Given
+        ReflectionTestUtils.setField(employeeChangeFeedService, "settleWindow", Duration.ofMillis(1500));
+        when(employeeRepository.findChangesFromStart(1500L, 11)).thenReturn(Flux.empty());
+
+        // When & Then
+        StepVerifier.create(employeeChangeFeedService.getChanges(null, 10))
+                .assertNext(response -> assertThat(response.getChanges()).isEmpty())
+                .verifyComplete();
+    }
+
+    @Test
+    void validateSettleWindow_WithSubMillisecondOrNegativeWindow_ShouldFail() {
+        employeeChangeFeedService.validateSettleWindow();
+
+        ReflectionTestUtils.setField(employeeChangeFeedService, "settleWindow", Duration.ofNanos(1_500_000));
+        assertThatThrownBy(() -> employeeChangeFeedService.validateSettleWindow())
+                .isInstanceOf(IllegalStateException.class);
+
+        ReflectionTestUtils.setField(employeeChangeFeedService, "settleWindow", Duration.ofSeconds(-1));
+        assertThatThrownBy(() -> employeeChangeFeedService.validateSettleWindow())
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    private static Employee employee(Long id, LocalDateTime updatedAt, boolean deleted) {
+        Employee employee = new Employee();
+        employee.setEmployeeId(id);
+        employee.setEmployeeNumber("EMP" + id);
+        employee.setName("Employee " + id);
+        employee.setUpdatedAt(updatedAt);
+        employee.setDeleted(deleted);
+        return employee;
+    }
+}
@@ -0,0 +1,119 @@
+package jp.asatex.revenue_calculator_backend_employee.service;
+
+import jp.asatex.revenue_calculator_backend_employee.dto.EmployeeChangeDto;
+import jp.asatex.revenue_calculator_backend_employee.dto.EmployeeChangeEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.codec.ServerSentEvent;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * EmployeeChangeStreamService unit test
+ * Tests replay for reconnecting subscribers and disconnection of slow subscribers
+ */
+class EmployeeChangeStreamServiceTest {
+
+    private Counter employeeStreamDropCounter;
+
+    private EmployeeChangeStreamService employeeChangeStreamService;
+
+    @BeforeEach
+    void setUp() {
+        employeeStreamDropCounter = new SimpleMeterRegistry().counter("employee.stream.dropped.total");
+        employeeChangeStreamService = new EmployeeChangeStreamService(3, 2, Duration.ofHours(1), employeeStreamDropCounter);
+    }
+
+    @Test
+    void subscribe_WithoutLastEventId_ShouldOnlyReceiveNewChanges() {
+        // Given
+        employeeChangeStreamService.publish(change(1L));
+
+        // When & Then
+        StepVerifier.create(employeeChangeStreamService.subscribe(null).take(1))
+                .then(() -> employeeChangeStreamService.publish(change(2L)))
+                .assertNext(event -> {
+                    assertThat(event.event()).isEqualTo(EmployeeChangeStreamService.CHANGE_EVENT);
+                    assertThat(event.id()).endsWith("-2");
+                    assertThat(((EmployeeChangeEvent) event.data()).getEmployeeId()).isEqualTo(2L);
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void subscribe_WithLastEventId_ShouldReplayRetainedChanges() {
+        // Given
+        String firstId = firstEventIdAfterPublishing(change(1L));
+        employeeChangeStreamService.publish(change(2L));
+        employeeChangeStreamService.publish(change(3L));
+
+        // When & Then
+        StepVerifier.create(employeeChangeStreamService.subscribe(firstId).take(2))
+                .assertNext(event -> assertThat(((EmployeeChangeEvent) event.data()).getEmployeeId()).isEqualTo(2L))
+                .assertNext(event -> assertThat(((EmployeeChangeEvent) event.data()).getEmployeeId()).isEqualTo(3L))
+                .verifyComplete();
+    }
+
+    @Test
+    void subscribe_WhenLastEventIdNoLongerRetained_ShouldRequestResync() {
+        // Given - replay keeps 3 changes, the 4 after the first one push it out
+        String firstId = firstEventIdAfterPublishing(change(1L));
+        LongStream.rangeClosed(2, 5).forEach(id -> employeeChangeStreamService.publish(change(id)));
+
+        // When & Then
+        StepVerifier.create(employeeChangeStreamService.subscribe(firstId).take(2))
+                .assertNext(event -> {
+                    assertThat(event.event()).isEqualTo(EmployeeChangeStreamService.RESYNC_EVENT);
+                    assertThat(event.id()).endsWith("-5");
+                })
+                .then(() -> employeeChangeStreamService.publish(change(6L)))
+                .assertNext(event -> assertThat(((EmployeeChangeEvent) event.data()).getEmployeeId()).isEqualTo(6L))
+                .verifyComplete();
+    }
+
+    @Test
+    void subscribe_WithLastEventIdOfEarlierRun_ShouldRequestResync() {
+        StepVerifier.create(employeeChangeStreamService.subscribe("earlier-42").take(1))
+                .assertNext(event -> assertThat(event.event()).isEqualTo(EmployeeChangeStreamService.RESYNC_EVENT))
+                .verifyComplete();
+    }
+
+    @Test
+    void publishResync_ShouldSendResyncEventToSubscribers() {
+        StepVerifier.create(employeeChangeStreamService.subscribe(null).take(1))
+                .then(() -> employeeChangeStreamService.publishResync())
+                .assertNext(event -> assertThat(event.event()).isEqualTo(EmployeeChangeStreamService.RESYNC_EVENT))
+                .verifyComplete();
+    }
+
+    @Test
+    void subscribe_WhenSubscriberFallsBehind_ShouldCompleteAndCountDrop() {
+        StepVerifier.create(employeeChangeStreamService.subscribe(null), 0)
+                .then(() -> LongStream.rangeClosed(1, 100).forEach(id -> employeeChangeStreamService.publish(change(id))))
+                .thenRequest(Long.MAX_VALUE)
+                .thenConsumeWhile(event -> true)
+                .expectComplete()
+                .verify(Duration.ofSeconds(5));
+
+        assertThat(employeeStreamDropCounter.count()).isEqualTo(1.0);
+    }
+
+    private String firstEventIdAfterPublishing(EmployeeChangeEvent change) {
+        return employeeChangeStreamService.subscribe(null)
+                .doOnSubscribe(subscription -> employeeChangeStreamService.publish(change))
+                .map(ServerSentEvent::id)
+                .blockFirst(Duration.ofSeconds(5));
+    }
+
+    private static EmployeeChangeEvent change(Long employeeId) {
+        return new EmployeeChangeEvent(employeeId, "EMP" + employeeId, EmployeeChangeDto.ChangeType.UPSERTED, 1L,
+                LocalDateTime.of(2025, 1, 15, 10, 30));
+    }
+}
@@ -0,0 +1,202 @@
+package jp.asatex.revenue_calculator_backend_employee.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import jp.asatex.revenue_calculator_backend_employee.dto.EmployeeDomainEvent;
+import jp.asatex.revenue_calculator_backend_employee.dto.EmployeeDto;
+import jp.asatex.revenue_calculator_backend_employee.entity.EmployeeOutboxEntry;
+import jp.asatex.revenue_calculator_backend_employee.outbox.EmployeeEventSink;
+import jp.asatex.revenue_calculator_backend_employee.repository.EmployeeOutboxRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * EmployeeOutboxService unit test
+ * Tests appending events and relaying batches to the sink
+ */
+@ExtendWith(MockitoExtension.class)
+class EmployeeOutboxServiceTest {
+
+    private static final LocalDateTime T0 = LocalDateTime.of(2025, 1, 15, 10, 30);
+
+    @Mock
+    private EmployeeOutboxRepository employeeOutboxRepository;
+
+    @Mock
+    private EmployeeEventSink employeeEventSink;
+
+    @Mock
+    private TransactionalOperator transactionalOperator;
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .findAndRegisterModules()
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private EmployeeOutboxService employeeOutboxService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        employeeOutboxService = new EmployeeOutboxService(employeeOutboxRepository, Optional.of(employeeEventSink),
+                transactionalOperator, objectMapper, meterRegistry.counter("employee.outbox.relayed.total"), meterRegistry);
+        ReflectionTestUtils.setField(employeeOutboxService, "batchSize", 2);
+        ReflectionTestUtils.setField(employeeOutboxService, "maxBatchesPerRun", 3);
+
+        lenient().when(transactionalOperator.transactional(any(Mono.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        lenient().when(employeeOutboxRepository.tryLock(anyLong())).thenReturn(Mono.just(true));
+        lenient().when(employeeOutboxRepository.deleteAll(anyList())).thenAnswer(invocation ->
+                Mono.just((long) invocation.<List<Long>>getArgument(0).size()));
+        lenient().when(employeeOutboxRepository.lag()).thenReturn(Mono.just(new EmployeeOutboxRepository.Lag(0, 0)));
+        lenient().when(employeeEventSink.deliver(anyList())).thenReturn(Mono.empty());
+    }
+
+    @Test
+    void append_ShouldWriteOneEventPerEmployeeInOrder() {
+        // Given
+        when(employeeOutboxRepository.append(eq("DELETED"), anyList(), anyList())).thenReturn(Mono.just(2L));
+
+        // When
+        StepVerifier.create(employeeOutboxService.append(EmployeeDomainEvent.EventType.DELETED,
+                        List.of(employee(1L, "EMP001"), employee(2L, "EMP002"))))
+                .verifyComplete();
+
+        // Then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<String>> payloads = ArgumentCaptor.forClass(List.class);
+        verify(employeeOutboxRepository).append(eq("DELETED"), eq(List.of(1L, 2L)), payloads.capture());
+        assertThat(payloads.getValue()).hasSize(2);
+        assertThat(payloads.getValue().get(1)).contains("\"employeeNumber\":\"EMP002\"");
+    }
+
+    @Test
+    void append_WithNoEmployees_ShouldNotWrite() {
+        StepVerifier.create(employeeOutboxService.append(EmployeeDomainEvent.EventType.DELETED, List.of()))
+                .verifyComplete();
+
+        verify(employeeOutboxRepository, never()).append(any(), anyList(), anyList());
+    }
+
+    @Test
+    void relay_ShouldDeliverBatchesInOrderAndRemoveThem() throws Exception {
+        // Given
+        when(employeeOutboxRepository.findBatch(2)).thenReturn(
+                Flux.just(entry(1L, 7L, "CREATED"), entry(2L, 7L, "UPDATED")),
+                Flux.just(entry(3L, 7L, "DELETED")));
+
+        // When & Then
+        StepVerifier.create(employeeOutboxService.relay())
+                .expectNext(3L)
+                .verifyComplete();
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<EmployeeDomainEvent>> batches = ArgumentCaptor.forClass(List.class);
+        verify(employeeEventSink, times(2)).deliver(batches.capture());
+        assertThat(batches.getAllValues().get(0))
+                .extracting(EmployeeDomainEvent::getEventType)
+                .containsExactly(EmployeeDomainEvent.EventType.CREATED, EmployeeDomainEvent.EventType.UPDATED);
+        assertThat(batches.getAllValues().get(1).get(0).getEmployee().getEmployeeNumber()).isEqualTo("EMP7");
+        verify(employeeOutboxRepository).deleteAll(List.of(1L, 2L));
+        verify(employeeOutboxRepository).deleteAll(List.of(3L));
+        assertThat(meterRegistry.get("employee.outbox.relayed.total").counter().count()).isEqualTo(3.0);
+    }
+
+    @Test
+    void relay_WhenSinkFails_ShouldKeepEvents() throws Exception {
+        // Given
+        when(employeeOutboxRepository.findBatch(2)).thenReturn(Flux.just(entry(1L, 7L, "CREATED")));
+        when(employeeEventSink.deliver(anyList())).thenReturn(Mono.error(new IllegalStateException("sink down")));
+
+        // When & Then
+        StepVerifier.create(employeeOutboxService.relay())
+                .expectError(IllegalStateException.class)
+                .verify();
+
+        verify(employeeOutboxRepository, never()).deleteAll(anyList());
+    }
+
+    @Test
+    void relay_WhenLockHeldElsewhere_ShouldSkip() {
+        // Given
+        when(employeeOutboxRepository.tryLock(anyLong())).thenReturn(Mono.just(false));
+
+        // When & Then
+        StepVerifier.create(employeeOutboxService.relay())
+                .expectNext(0L)
+                .verifyComplete();
+
+        verify(employeeOutboxRepository, never()).findBatch(anyInt());
+    }
+
+    @Test
+    void relay_ShouldUpdateLagGauges() {
+        // Given
+        when(employeeOutboxRepository.findBatch(2)).thenReturn(Flux.empty());
+        when(employeeOutboxRepository.lag()).thenReturn(Mono.just(new EmployeeOutboxRepository.Lag(5, 12.5)));
+
+        // When
+        StepVerifier.create(employeeOutboxService.relay())
+                .expectNext(0L)
+                .verifyComplete();
+
+        // Then
+        assertThat(meterRegistry.get("employee.outbox.pending").gauge().value()).isEqualTo(5.0);
+        assertThat(meterRegistry.get("employee.outbox.lag.seconds").gauge().value()).isEqualTo(12.5);
+    }
+
+    @Test
+    void relay_WithoutSink_ShouldFailAndKeepEvents() {
+        // Given
+        EmployeeOutboxService withoutSink = new EmployeeOutboxService(employeeOutboxRepository, Optional.empty(),
+                transactionalOperator, objectMapper, meterRegistry.counter("employee.outbox.relayed.total"), meterRegistry);
+
+        // When
+        StepVerifier.create(withoutSink.relay())
+                .expectError(IllegalStateException.class)
+                .verify();
+
+        // Then
+        assertThat(withoutSink.hasSink()).isFalse();
+        verify(employeeOutboxRepository, never()).findBatch(anyInt());
+    }
+
+    private EmployeeOutboxEntry entry(Long eventId, Long employeeId, String eventType) throws Exception {
+        return new EmployeeOutboxEntry(eventId, employeeId, eventType,
+                objectMapper.writeValueAsString(employee(employeeId, "EMP" + employeeId)), T0);
+    }
+
+    private static EmployeeDto employee(Long id, String employeeNumber) {
+        EmployeeDto employee = new EmployeeDto();
+        employee.setEmployeeId(id);
+        employee.setEmployeeNumber(employeeNumber);
+        employee.setName("Outbox " + employeeNumber);
+        return employee;
+    }
+}
@@ -0,0 +1,103 @@
+package jp.asatex.revenue_calculator_backend_employee.service;
+
+import jp.asatex.revenue_calculator_backend_employee.dto.EmployeeDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * EmployeeRosterSnapshot test class
+ */
+@DisplayName("EmployeeRosterSnapshot Test")
+class EmployeeRosterSnapshotTest {
+
+    private final EmployeeRosterSnapshot snapshot = EmployeeRosterSnapshot.of(List.of(
+            employee(3L, "EMP001", "Suzuki", 1L),
+            employee(1L, "EMP003", "Tanaka", 1L),
+            employee(2L, "EMP002", "Sato", 1L)));
+
+    @Test
+    @DisplayName("Pages should follow every sort key in both directions")
+    void testPage() {
+        assertThat(ids(snapshot.page("employee_id", false, 0, 10))).containsExactly(1L, 2L, 3L);
+        assertThat(ids(snapshot.page("employee_id", true, 0, 10))).containsExactly(3L, 2L, 1L);
+        assertThat(ids(snapshot.page("name", false, 0, 10))).containsExactly(2L, 3L, 1L);
+        assertThat(ids(snapshot.page("name", true, 0, 10))).containsExactly(1L, 3L, 2L);
+        assertThat(ids(snapshot.page("employee_number", false, 0, 10))).containsExactly(3L, 2L, 1L);
+        assertThat(ids(snapshot.page("employee_number", true, 1, 1))).containsExactly(2L);
+        assertThat(snapshot.page("name", false, 3, 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Put should insert into every order and leave the original snapshot unchanged")
+    void testPutInsert() {
+        EmployeeRosterSnapshot inserted = snapshot.put(employee(4L, "EMP000", "Ito", 1L));
+
+        assertThat(inserted.size()).isEqualTo(4);
+        assertThat(ids(inserted.page("name", false, 0, 10))).containsExactly(4L, 2L, 3L, 1L);
+        assertThat(ids(inserted.page("employee_number", false, 0, 10))).containsExactly(4L, 3L, 2L, 1L);
+        assertThat(snapshot.size()).isEqualTo(3);
+        assertThat(snapshot.get(4L)).isNull();
+    }
+
+    @Test
+    @DisplayName("Put should move a replaced employee to its new position, and ignore older versions")
+    void testPutReplace() {
+        EmployeeRosterSnapshot renamed = snapshot.put(employee(1L, "EMP003", "Abe", 2L));
+
+        assertThat(renamed.size()).isEqualTo(3);
+        assertThat(ids(renamed.page("name", false, 0, 10))).containsExactly(1L, 2L, 3L);
+        assertThat(renamed.put(employee(1L, "EMP003", "Tanaka", 1L))).isSameAs(renamed);
+    }
+
+    @Test
+    @DisplayName("Remove should drop the employee from every order")
+    void testRemove() {
+        EmployeeRosterSnapshot removed = snapshot.remove(2L);
+
+        assertThat(removed.size()).isEqualTo(2);
+        assertThat(ids(removed.page("name", false, 0, 10))).containsExactly(3L, 1L);
+        assertThat(ids(removed.page("employee_number", true, 0, 10))).containsExactly(1L, 3L);
+        assertThat(removed.remove(2L)).isSameAs(removed);
+    }
+
+    @Test
+    @DisplayName("Differences should count missing, extra and changed employees")
+    void testDifferences() {
+        EmployeeRosterSnapshot changed = snapshot.remove(3L)
+                .put(employee(1L, "EMP003", "Tanaka", 2L))
+                .put(employee(5L, "EMP005", "Kato", 1L));
+
+        assertThat(snapshot.differences(snapshot)).isZero();
+        assertThat(snapshot.differences(changed)).isEqualTo(3);
+        assertThat(EmployeeRosterSnapshot.empty().differences(snapshot)).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Text should sort by code point, like the \"C\" collation")
+    void testCodePointOrder() {
+        EmployeeRosterSnapshot names = EmployeeRosterSnapshot.of(List.of(
+                employee(1L, "EMP001", "ｱｲｳ", 1L),
+                employee(2L, "EMP002", "𠮷田", 1L),
+                employee(3L, "EMP003", "吉田", 1L),
+                employee(4L, "EMP004", "Yoshida", 1L)));
+
+        assertThat(ids(names.page("name", false, 0, 10))).containsExactly(4L, 3L, 1L, 2L);
+    }
+
+    private static List<Long> ids(List<EmployeeDto> employees) {
+        return employees.stream().map(EmployeeDto::getEmployeeId).toList();
+    }
+
+    private static EmployeeDto employee(Long id, String employeeNumber, String name, Long version) {
+        EmployeeDto employee = new EmployeeDto();
+        employee.setEmployeeId(id);
+        employee.setEmployeeNumber(employeeNumber);
+        employee.setName(name);
+        employee.setVersion(version);
+        return employee;
+    }
+}
@@ -0,0 +1,91 @@
+package jp.asatex.revenue_calculator_backend_employee.service;
+
+import jp.asatex.revenue_calculator_backend_employee.routing.ReadRouting;
+import jp.asatex.revenue_calculator_backend_employee.routing.ReplicaLagMonitor;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * EmployeeRosterVersion test class
+ */
+@DisplayName("EmployeeRosterVersion Test")
+class EmployeeRosterVersionTest {
+
+    private final EmployeeRosterVersion rosterVersion = newRosterVersion(Optional.empty());
+
+    @Test
+    @DisplayName("Increment should change the version and its entity tag")
+    void testIncrement() {
+        long before = rosterVersion.current();
+        String tagBefore = rosterVersion.eTag(before);
+
+        rosterVersion.increment();
+
+        assertThat(rosterVersion.current()).isEqualTo(before + 1);
+        assertThat(rosterVersion.eTag(rosterVersion.current())).isNotEqualTo(tagBefore).startsWith("W/\"roster-");
+        assertThat(rosterVersion.changedWithin(Duration.ofMinutes(1))).isTrue();
+        assertThat(rosterVersion.changedWithin(Duration.ZERO)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Entity tags of different instances should never match")
+    void testEpoch() {
+        assertThat(newRosterVersion(Optional.empty()).eTag(0)).isNotEqualTo(rosterVersion.eTag(0));
+    }
+
+    @Test
+    @DisplayName("Without a transaction the change should be recorded right away")
+    void testIncrementAfterCommitWithoutTransaction() {
+        StepVerifier.create(rosterVersion.incrementAfterCommit())
+                .verifyComplete();
+
+        assertThat(rosterVersion.current()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("Without a replica the current version should always be visible to reads")
+    void testVisibleToReadsWithoutReplica() {
+        rosterVersion.increment();
+
+        assertThat(rosterVersion.isVisibleToReads()).isTrue();
+    }
+
+    @Test
+    @DisplayName("A recent change should not be visible to reads served by the replica")
+    void testVisibleToReadsWithReplica() {
+        ReplicaLagMonitor replicaLagMonitor = mock(ReplicaLagMonitor.class);
+        when(replicaLagMonitor.isWithinLagBound()).thenReturn(true);
+        EmployeeRosterVersion replicaRosterVersion = newRosterVersion(Optional.of(replicaLagMonitor));
+
+        replicaRosterVersion.increment();
+        assertThat(replicaRosterVersion.isVisibleToReads()).isFalse();
+
+        // Reads fall back to the primary once the replica is beyond its lag bound
+        when(replicaLagMonitor.isWithinLagBound()).thenReturn(false);
+        assertThat(replicaRosterVersion.isVisibleToReads()).isTrue();
+    }
+
+    @Test
+    @DisplayName("The version should only track other instances while the change listener is connected")
+    void testTracking() {
+        assertThat(rosterVersion.isTracking()).isFalse();
+
+        rosterVersion.setTracking(true);
+        assertThat(rosterVersion.isTracking()).isTrue();
+
+        rosterVersion.setTracking(false);
+        assertThat(rosterVersion.isTracking()).isFalse();
+    }
+
+    private static EmployeeRosterVersion newRosterVersion(Optional<ReplicaLagMonitor> replicaLagMonitor) {
+        return new EmployeeRosterVersion(new ReadRouting(replicaLagMonitor, Duration.ofSeconds(5)), Duration.ofSeconds(5));
+    }
+}
@@ -1,27 +1,57 @@
 package jp.asatex.revenue_calculator_backend_employee.service;
 
+import jp.asatex.revenue_calculator_backend_employee.common.PageRequest;
+import jp.asatex.revenue_calculator_backend_employee.common.SortDirection;
+import jp.asatex.revenue_calculator_backend_employee.dto.BulkDeleteResult;
+import jp.asatex.revenue_calculator_backend_employee.dto.EmployeeDomainEvent;
 import jp.asatex.revenue_calculator_backend_employee.dto.EmployeeDto;
+import jp.asatex.revenue_calculator_backend_employee.dto.EmployeeField;
 import jp.asatex.revenue_calculator_backend_employee.entity.Employee;
 import jp.asatex.revenue_calculator_backend_employee.exception.DuplicateEmployeeNumberHandler;
 import jp.asatex.revenue_calculator_backend_employee.exception.EmployeeNotFoundHandler;
+import jp.asatex.revenue_calculator_backend_employee.exception.EmployeeVersionConflictHandler;
+import jp.asatex.revenue_calculator_backend_employee.mapper.EmployeeMapper;
 import jp.asatex.revenue_calculator_backend_employee.repository.EmployeeRepository;
+import jp.asatex.revenue_calculator_backend_employee.routing.ReadRouting;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mapstruct.factory.Mappers;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
 import org.springframework.context.annotation.Import;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.test.util.ReflectionTestUtils;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import java.time.LocalDate;
 import reactor.test.StepVerifier;
 
 
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.Arrays;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 /**
@@ -67,6 +97,29 @@ class EmployeeServiceTest {
     @Mock
     private SystemMonitoringService transactionMonitoringService;
 
+    @Mock
+    private CacheManager cacheManager;
+
+    @Mock
+    private EmployeeOutboxService employeeOutboxService;
+
+    @Mock
+    private EmployeeAuditService employeeAuditService;
+
+    @Spy
+    private ReadRouting readRouting = new ReadRouting(Optional.empty(), Duration.ofSeconds(5));
+
+    @Spy
+    private EmployeeMapper employeeMapper = Mappers.getMapper(EmployeeMapper.class);
+
+    @Spy
+    private EmployeeRosterVersion employeeRosterVersion = new EmployeeRosterVersion(readRouting, Duration.ofSeconds(5));
+
+    @Spy
+    private EmployeeSnapshotService employeeSnapshotService = new EmployeeSnapshotService();
+
+    private ConcurrentMapCache employeeCache;
+
 
     @InjectMocks
     private EmployeeService employeeService;
@@ -98,13 +151,19 @@ class EmployeeServiceTest {
                     return operation;
                 });
 
+        employeeCache = new ConcurrentMapCache("employees");
+        org.mockito.Mockito.lenient().when(cacheManager.getCache("employees")).thenReturn(employeeCache);
+        org.mockito.Mockito.lenient().when(employeeOutboxService.append(any(), any())).thenReturn(Mono.empty());
+        org.mockito.Mockito.lenient().when(employeeAuditService.recordCreated(any())).thenReturn(Mono.empty());
+        org.mockito.Mockito.lenient().when(employeeAuditService.recordUpdated(any(), any())).thenReturn(Mono.empty());
+        org.mockito.Mockito.lenient().when(employeeAuditService.recordDeleted(any())).thenReturn(Mono.empty());
     }
 
 
     @Test
     void getEmployeeById_WhenEmployeeExists_ShouldReturnEmployee() {
         // Given
-        when(employeeRepository.findById(1L)).thenReturn(Mono.just(testEmployee));
+        when(employeeRepository.findActiveDtoById(1L)).thenReturn(Mono.just(testEmployeeDto));
 
         // When & Then
         StepVerifier.create(employeeService.getEmployeeById(1L))
@@ -115,7 +174,7 @@ class EmployeeServiceTest {
     @Test
     void getEmployeeById_WhenEmployeeNotExists_ShouldThrowException() {
         // Given
-        when(employeeRepository.findById(999L)).thenReturn(Mono.empty());
+        when(employeeRepository.findActiveDtoById(999L)).thenReturn(Mono.empty());
 
         // When & Then
         StepVerifier.create(employeeService.getEmployeeById(999L))
@@ -126,7 +185,7 @@ class EmployeeServiceTest {
     @Test
     void getEmployeeByNumber_WhenEmployeeExists_ShouldReturnEmployee() {
         // Given
-        when(employeeRepository.findByEmployeeNumber("EMP001")).thenReturn(Mono.just(testEmployee));
+        when(employeeRepository.findActiveDtoByEmployeeNumber("EMP001")).thenReturn(Mono.just(testEmployeeDto));
 
         // When & Then
         StepVerifier.create(employeeService.getEmployeeByNumber("EMP001"))
@@ -137,7 +196,7 @@ class EmployeeServiceTest {
     @Test
     void getEmployeeByNumber_WhenEmployeeNotExists_ShouldThrowException() {
         // Given
-        when(employeeRepository.findByEmployeeNumber("NOTEXIST")).thenReturn(Mono.empty());
+        when(employeeRepository.findActiveDtoByEmployeeNumber("NOTEXIST")).thenReturn(Mono.empty());
 
         // When & Then
         StepVerifier.create(employeeService.getEmployeeByNumber("NOTEXIST"))
@@ -148,8 +207,8 @@ class EmployeeServiceTest {
     @Test
     void searchEmployeesByName_ShouldReturnMatchingEmployees() {
         // Given
-        List<Employee> employees = Arrays.asList(testEmployee);
-        when(employeeRepository.findByNameContaining("%Tanaka%")).thenReturn(Flux.fromIterable(employees));
+        List<EmployeeDto> employees = Arrays.asList(testEmployeeDto);
+        when(employeeRepository.findActiveDtosByNameContaining("%Tanaka%")).thenReturn(Flux.fromIterable(employees));
 
         // When & Then
         StepVerifier.create(employeeService.searchEmployeesByName("Tanaka"))
@@ -161,7 +220,6 @@ class EmployeeServiceTest {
     @Test
     void createEmployee_WhenEmployeeNumberNotExists_ShouldCreateEmployee() {
         // Given
-        when(employeeRepository.existsByEmployeeNumber("EMP001")).thenReturn(Mono.just(false));
         when(employeeRepository.save(any(Employee.class))).thenReturn(Mono.just(testEmployee));
 
         // When & Then
@@ -170,10 +228,87 @@ class EmployeeServiceTest {
                 .verifyComplete();
     }
 
+    @Test
+    void createEmployee_ShouldInsertWithoutExistenceCheck() {
+        // Given
+        when(employeeRepository.save(any(Employee.class))).thenReturn(Mono.just(testEmployee));
+
+        // When
+        StepVerifier.create(employeeService.createEmployee(testEmployeeDto))
+                .expectNextCount(1)
+                .verifyComplete();
+
+        // Then - a single insert, the client supplied ID is ignored
+        verify(employeeRepository, never()).existsByEmployeeNumber(anyString());
+        verify(employeeRepository).save(argThat(employee -> employee.getEmployeeId() == null));
+    }
+
+    @Test
+    void createEmployee_ShouldAppendCreatedEventToOutbox() {
+        // Given
+        when(employeeRepository.save(any(Employee.class))).thenReturn(Mono.just(testEmployee));
+
+        // When
+        StepVerifier.create(employeeService.createEmployee(testEmployeeDto))
+                .expectNextCount(1)
+                .verifyComplete();
+
+        // Then
+        verify(employeeOutboxService).append(eq(EmployeeDomainEvent.EventType.CREATED),
+                argThat(employees -> employees.size() == 1 && employees.get(0).getEmployeeId().equals(1L)));
+    }
+
+    @Test
+    void createEmployee_WhenOutboxAppendFails_ShouldFail() {
+        // Given
+        when(employeeRepository.save(any(Employee.class))).thenReturn(Mono.just(testEmployee));
+        when(employeeOutboxService.append(any(), any())).thenReturn(Mono.error(new IllegalStateException("outbox unavailable")));
+
+        // When & Then - the error rolls back the insert together with the event
+        StepVerifier.create(employeeService.createEmployee(testEmployeeDto))
+                .expectError(IllegalStateException.class)
+                .verify();
+    }
+
+    @Test
+    void updateEmployee_ShouldRecordAuditAgainstPreviousState() {
+        // Given
+        Employee updatedEmployee = new Employee();
+        updatedEmployee.setEmployeeId(1L);
+        updatedEmployee.setEmployeeNumber("EMP001");
+        updatedEmployee.setName("Suzuki Hanako");
+        updatedEmployee.setPreviousState("{"employee_id": 1, "name": "Tanaka Taro"}");
+        when(employeeRepository.updateActiveById(eq(1L), any(Employee.class), any())).thenReturn(Mono.just(updatedEmployee));
+
+        // When
+        StepVerifier.create(employeeService.updateEmployee(1L, testEmployeeDto))
+                .expectNextCount(1)
+                .verifyComplete();
+
+        // Then
+        verify(employeeAuditService).recordUpdated(eq(updatedEmployee.getPreviousState()),
+                argThat(employee -> "Suzuki Hanako".equals(employee.getName())));
+    }
+
+    @Test
+    void createEmployee_ShouldIncrementRosterVersion() {
+        // Given
+        when(employeeRepository.save(any(Employee.class))).thenReturn(Mono.just(testEmployee));
+
+        // When
+        StepVerifier.create(employeeService.createEmployee(testEmployeeDto))
+                .expectNextCount(1)
+                .verifyComplete();
+
+        // Then
+        assertThat(employeeRosterVersion.current()).isEqualTo(1L);
+    }
+
     @Test
     void createEmployee_WhenEmployeeNumberExists_ShouldThrowException() {
         // Given
-        when(employeeRepository.existsByEmployeeNumber("EMP001")).thenReturn(Mono.just(true));
+        when(employeeRepository.save(any(Employee.class)))
+                .thenReturn(Mono.error(new DuplicateKeyException("duplicate key value violates unique constraint")));
 
         // When & Then
         StepVerifier.create(employeeService.createEmployee(testEmployeeDto))
@@ -181,6 +316,18 @@ class EmployeeServiceTest {
                 .verify();
     }
 
+    @Test
+    void createEmployee_WhenOtherDataIntegrityViolation_ShouldNotReportDuplicate() {
+        // Given
+        when(employeeRepository.save(any(Employee.class)))
+                .thenReturn(Mono.error(new DataIntegrityViolationException("violates check constraint")));
+
+        // When & Then
+        StepVerifier.create(employeeService.createEmployee(testEmployeeDto))
+                .expectError(DataIntegrityViolationException.class)
+                .verify();
+    }
+
     @Test
     void updateEmployee_WhenEmployeeExistsAndNumberNotChanged_ShouldUpdateEmployee() {
         // Given
@@ -190,8 +337,7 @@ class EmployeeServiceTest {
         updateDto.setFurigana("tanaka taro (updated)");
         updateDto.setBirthday(createDate(1990, 5, 15));
 
-        when(employeeRepository.findById(1L)).thenReturn(Mono.just(testEmployee));
-        when(employeeRepository.save(any(Employee.class))).thenReturn(Mono.just(testEmployee));
+        when(employeeRepository.updateActiveById(eq(1L), any(Employee.class), any())).thenReturn(Mono.just(testEmployee));
 
         // When & Then
         StepVerifier.create(employeeService.updateEmployee(1L, updateDto))
@@ -216,19 +362,23 @@ class EmployeeServiceTest {
         updatedEmployee.setFurigana("tanaka taro (updated)");
         updatedEmployee.setBirthday(createDate(1990, 5, 15));
 
-        when(employeeRepository.findById(1L)).thenReturn(Mono.just(testEmployee));
-        when(employeeRepository.save(any(Employee.class))).thenReturn(Mono.just(updatedEmployee));
+        when(employeeRepository.updateActiveById(eq(1L), any(Employee.class), any())).thenReturn(Mono.just(updatedEmployee));
+        employeeCache.put(1L, testEmployeeDto);
+        employeeCache.put("number:EMP001", testEmployeeDto);
 
         // When & Then
         StepVerifier.create(employeeService.updateEmployee(1L, updateDto))
                 .expectNextMatches(dto -> dto.getEmployeeNumber().equals("EMP002"))
                 .verifyComplete();
+        assertThat(employeeCache.get("number:EMP001")).isNull();
+        assertThat(employeeCache.get("number:EMP002", EmployeeDto.class).getName()).isEqualTo("Tanaka Taro (Updated)");
+        assertThat(employeeCache.get(1L, EmployeeDto.class).getEmployeeNumber()).isEqualTo("EMP002");
     }
 
     @Test
     void updateEmployee_WhenEmployeeNotExists_ShouldThrowException() {
         // Given
-        when(employeeRepository.findById(999L)).thenReturn(Mono.empty());
+        when(employeeRepository.updateActiveById(eq(999L), any(Employee.class), any())).thenReturn(Mono.empty());
 
         // When & Then
         StepVerifier.create(employeeService.updateEmployee(999L, testEmployeeDto))
@@ -236,6 +386,32 @@ class EmployeeServiceTest {
                 .verify();
     }
 
+    @Test
+    void updateEmployee_ShouldIssueSingleUpdateWithoutLookup() {
+        // Given
+        when(employeeRepository.updateActiveById(eq(1L), any(Employee.class), any())).thenReturn(Mono.just(testEmployee));
+
+        // When & Then
+        StepVerifier.create(employeeService.updateEmployee(1L, testEmployeeDto))
+                .expectNextMatches(dto -> dto.getEmployeeId().equals(1L))
+                .verifyComplete();
+
+        verify(employeeRepository, never()).findActiveDtoById(any(Long.class));
+        verify(employeeRepository, never()).save(any(Employee.class));
+    }
+
+    @Test
+    void updateEmployee_WhenNewNumberViolatesUniqueConstraint_ShouldThrowDuplicateException() {
+        // Given
+        when(employeeRepository.updateActiveById(eq(1L), any(Employee.class), any()))
+                .thenReturn(Mono.error(new DuplicateKeyException("duplicate key value violates unique constraint")));
+
+        // When & Then
+        StepVerifier.create(employeeService.updateEmployee(1L, testEmployeeDto))
+                .expectError(DuplicateEmployeeNumberHandler.class)
+                .verify();
+    }
+
     @Test
     void updateEmployee_WhenEmployeeExistsButNewNumberExists_ShouldUpdateEmployee() {
         // Given
@@ -253,8 +429,7 @@ class EmployeeServiceTest {
         updatedEmployee.setFurigana("tanaka taro (updated)");
         updatedEmployee.setBirthday(createDate(1990, 5, 15));
 
-        when(employeeRepository.findById(1L)).thenReturn(Mono.just(testEmployee));
-        when(employeeRepository.save(any(Employee.class))).thenReturn(Mono.just(updatedEmployee));
+        when(employeeRepository.updateActiveById(eq(1L), any(Employee.class), any())).thenReturn(Mono.just(updatedEmployee));
 
         // When & Then
         StepVerifier.create(employeeService.updateEmployee(1L, updateDto))
@@ -263,42 +438,169 @@ class EmployeeServiceTest {
     }
 
     @Test
-    void deleteEmployeeById_WhenEmployeeExists_ShouldDeleteEmployee() {
+    void updateEmployee_WithCurrentVersion_ShouldPassExpectedVersion() {
+        // Given
+        testEmployeeDto.setVersion(3L);
+        testEmployee.setVersion(4L);
+        when(employeeRepository.updateActiveById(eq(1L), any(Employee.class), eq(3L))).thenReturn(Mono.just(testEmployee));
+
+        // When & Then
+        StepVerifier.create(employeeService.updateEmployee(1L, testEmployeeDto))
+                .expectNextMatches(dto -> dto.getVersion().equals(4L))
+                .verifyComplete();
+
+        verify(employeeRepository, never()).findActiveDtoById(any(Long.class));
+    }
+
+    @Test
+    void updateEmployee_WithStaleVersion_ShouldThrowConflictWithCurrentState() {
+        // Given
+        testEmployeeDto.setVersion(3L);
+        EmployeeDto currentEmployee = new EmployeeDto();
+        currentEmployee.setEmployeeId(1L);
+        currentEmployee.setEmployeeNumber("EMP001");
+        currentEmployee.setVersion(5L);
+        when(employeeRepository.updateActiveById(eq(1L), any(Employee.class), eq(3L))).thenReturn(Mono.empty());
+        when(employeeRepository.findActiveDtoById(1L)).thenReturn(Mono.just(currentEmployee));
+
+        // When & Then
+        StepVerifier.create(employeeService.updateEmployee(1L, testEmployeeDto))
+                .expectErrorSatisfies(error -> {
+                    assertThat(error).isInstanceOf(EmployeeVersionConflictHandler.class);
+                    assertThat(((EmployeeVersionConflictHandler) error).getCurrentEmployee().getVersion()).isEqualTo(5L);
+                })
+                .verify();
+
+        assertThat(employeeCache.get(1L, EmployeeDto.class).getVersion()).isEqualTo(5L);
+    }
+
+    @Test
+    void updateEmployee_WithVersionForMissingEmployee_ShouldThrowNotFound() {
+        // Given
+        testEmployeeDto.setVersion(3L);
+        when(employeeRepository.updateActiveById(eq(999L), any(Employee.class), eq(3L))).thenReturn(Mono.empty());
+        when(employeeRepository.findActiveDtoById(999L)).thenReturn(Mono.empty());
+
+        // When & Then
+        StepVerifier.create(employeeService.updateEmployee(999L, testEmployeeDto))
+                .expectError(EmployeeNotFoundHandler.class)
+                .verify();
+    }
+
+    @Test
+    void patchEmployee_ShouldUpdateOnlySuppliedFieldsAndRefreshCache() {
+        // Given
+        Map<EmployeeField, Object> changes = new EnumMap<>(EmployeeField.class);
+        changes.put(EmployeeField.HOUSING_ALLOWANCE, new BigDecimal("35000.00"));
+        testEmployee.setHousingAllowance(new BigDecimal("35000.00"));
+        when(employeeRepository.patchActiveById(1L, changes, null)).thenReturn(Mono.just(testEmployee));
+
+        // When & Then
+        StepVerifier.create(employeeService.patchEmployee(1L, changes, null))
+                .expectNextMatches(dto -> dto.getHousingAllowance().compareTo(new BigDecimal("35000")) == 0)
+                .verifyComplete();
+
+        verify(employeeRepository, never()).save(any(Employee.class));
+        assertThat(employeeCache.get(1L, EmployeeDto.class).getHousingAllowance()).isEqualByComparingTo("35000");
+        assertThat(employeeCache.get("number:EMP001", EmployeeDto.class)).isNotNull();
+    }
+
+    @Test
+    void patchEmployee_WhenEmployeeNumberChanged_ShouldDropOldNumberKey() {
+        // Given
+        employeeCache.put(1L, testEmployeeDto);
+        employeeCache.put("number:EMP001", testEmployeeDto);
+        Map<EmployeeField, Object> changes = new EnumMap<>(EmployeeField.class);
+        changes.put(EmployeeField.EMPLOYEE_NUMBER, "EMP009");
+        testEmployee.setEmployeeNumber("EMP009");
+        when(employeeRepository.patchActiveById(1L, changes, null)).thenReturn(Mono.just(testEmployee));
+
+        // When & Then
+        StepVerifier.create(employeeService.patchEmployee(1L, changes, null))
+                .expectNextMatches(dto -> dto.getEmployeeNumber().equals("EMP009"))
+                .verifyComplete();
+
+        assertThat(employeeCache.get("number:EMP001")).isNull();
+        assertThat(employeeCache.get("number:EMP009", EmployeeDto.class).getEmployeeNumber()).isEqualTo("EMP009");
+        assertThat(employeeCache.get(1L, EmployeeDto.class).getEmployeeNumber()).isEqualTo("EMP009");
+    }
+
+    @Test
+    void patchEmployee_WhenEmployeeNotExists_ShouldThrowException() {
         // Given
-        when(employeeRepository.findById(1L)).thenReturn(Mono.just(testEmployee));
-        when(employeeRepository.delete(testEmployee)).thenReturn(Mono.empty());
+        Map<EmployeeField, Object> changes = new EnumMap<>(EmployeeField.class);
+        changes.put(EmployeeField.REMARKS, null);
+        when(employeeRepository.patchActiveById(999L, changes, null)).thenReturn(Mono.empty());
+
+        // When & Then
+        StepVerifier.create(employeeService.patchEmployee(999L, changes, null))
+                .expectError(EmployeeNotFoundHandler.class)
+                .verify();
+    }
+
+    @Test
+    void patchEmployee_WhenPatchIsEmpty_ShouldReturnCurrentEmployee() {
+        // Given
+        when(employeeRepository.findActiveDtoById(1L)).thenReturn(Mono.just(testEmployeeDto));
+
+        // When & Then
+        StepVerifier.create(employeeService.patchEmployee(1L, new EnumMap<>(EmployeeField.class), null))
+                .expectNextMatches(dto -> dto.getEmployeeNumber().equals("EMP001"))
+                .verifyComplete();
+
+        verify(employeeRepository, never()).patchActiveById(any(), any(), any());
+    }
+
+    @Test
+    void deleteEmployeeById_WhenEmployeeExists_ShouldSoftDeleteAndEvictBothKeys() {
+        // Given
+        employeeCache.put(1L, testEmployeeDto);
+        employeeCache.put("number:EMP001", testEmployeeDto);
+        testEmployee.setDeleted(true);
+        when(employeeRepository.softDeleteById(1L, "system")).thenReturn(Mono.just(testEmployee));
 
         // When & Then
         StepVerifier.create(employeeService.deleteEmployeeById(1L))
                 .verifyComplete();
+
+        verify(employeeRepository, never()).delete(any(Employee.class));
+        assertThat(employeeCache.get(1L)).isNull();
+        assertThat(employeeCache.get("number:EMP001")).isNull();
+        assertThat(employeeRosterVersion.current()).isEqualTo(1L);
     }
 
     @Test
     void deleteEmployeeById_WhenEmployeeNotExists_ShouldThrowException() {
         // Given
-        when(employeeRepository.findById(999L)).thenReturn(Mono.empty());
+        when(employeeRepository.softDeleteById(999L, "system")).thenReturn(Mono.empty());
 
         // When & Then
         StepVerifier.create(employeeService.deleteEmployeeById(999L))
                 .expectError(EmployeeNotFoundHandler.class)
                 .verify();
+        assertThat(employeeRosterVersion.current()).isZero();
     }
 
     @Test
-    void deleteEmployeeByNumber_WhenEmployeeExists_ShouldDeleteEmployee() {
+    void deleteEmployeeByNumber_WhenEmployeeExists_ShouldSoftDeleteAndEvictBothKeys() {
         // Given
-        when(employeeRepository.findByEmployeeNumber("EMP001")).thenReturn(Mono.just(testEmployee));
-        when(employeeRepository.delete(testEmployee)).thenReturn(Mono.empty());
+        employeeCache.put(1L, testEmployeeDto);
+        employeeCache.put("number:EMP001", testEmployeeDto);
+        testEmployee.setDeleted(true);
+        when(employeeRepository.softDeleteByEmployeeNumber("EMP001", "system")).thenReturn(Mono.just(testEmployee));
 
         // When & Then
         StepVerifier.create(employeeService.deleteEmployeeByNumber("EMP001"))
                 .verifyComplete();
+
+        assertThat(employeeCache.get(1L)).isNull();
+        assertThat(employeeCache.get("number:EMP001")).isNull();
     }
 
     @Test
     void deleteEmployeeByNumber_WhenEmployeeNotExists_ShouldThrowException() {
         // Given
-        when(employeeRepository.findByEmployeeNumber("NOTEXIST")).thenReturn(Mono.empty());
+        when(employeeRepository.softDeleteByEmployeeNumber("NOTEXIST", "system")).thenReturn(Mono.empty());
 
         // When & Then
         StepVerifier.create(employeeService.deleteEmployeeByNumber("NOTEXIST"))
@@ -306,4 +608,134 @@ class EmployeeServiceTest {
                 .verify();
     }
 
+    @Test
+    void bulkDeleteEmployees_ShouldReturnResultPerIdentifierAndEvictAllKeys() {
+        // Given
+        employeeCache.put(1L, testEmployeeDto);
+        employeeCache.put("number:EMP001", testEmployeeDto);
+        Employee otherEmployee = new Employee();
+        otherEmployee.setEmployeeId(2L);
+        otherEmployee.setEmployeeNumber("EMP002");
+        employeeCache.put("number:EMP002", testEmployeeDto);
+        when(employeeRepository.softDeleteAll(any(), any(), eq("system")))
+                .thenReturn(Flux.just(testEmployee, otherEmployee));
+
+        // When & Then
+        StepVerifier.create(employeeService.bulkDeleteEmployees(List.of(1L, 1L, 999L), List.of("EMP002", "EMP404")))
+                .assertNext(response -> {
+                    assertThat(response.getRequested()).isEqualTo(4);
+                    assertThat(response.getDeleted()).isEqualTo(2);
+                    assertThat(response.getResults()).containsExactly(
+                            new BulkDeleteResult(1L, "EMP001", BulkDeleteResult.Status.DELETED),
+                            new BulkDeleteResult(999L, null, BulkDeleteResult.Status.NOT_FOUND),
+                            new BulkDeleteResult(2L, "EMP002", BulkDeleteResult.Status.DELETED),
+                            new BulkDeleteResult(null, "EMP404", BulkDeleteResult.Status.NOT_FOUND));
+                })
+                .verifyComplete();
+
+        assertThat(employeeCache.get(1L)).isNull();
+        assertThat(employeeCache.get("number:EMP001")).isNull();
+        assertThat(employeeCache.get("number:EMP002")).isNull();
+    }
+
+    @Test
+    void getEmployeesWithPagination_ShouldPageActiveEmployeesInDatabase() {
+        // Given
+        PageRequest pageRequest = new PageRequest(1, 10, "name", SortDirection.DESC);
+        when(employeeRepository.findActiveDtoPage("name", true, 10, 10)).thenReturn(Flux.just(testEmployeeDto));
+        when(employeeRepository.countAllActive()).thenReturn(Mono.just(11L));
+
+        // When & Then
+        StepVerifier.create(employeeService.getEmployeesWithPagination(pageRequest))
+                .assertNext(page -> {
+                    assertThat(page.getContent()).hasSize(1);
+                    assertThat(page.getTotalElements()).isEqualTo(11L);
+                    assertThat(page.getSortBy()).isEqualTo("name");
+                })
+                .verifyComplete();
+
+        verify(employeeRepository, never()).findAll();
+    }
+
+    @Test
+    void getEmployeesWithPagination_WithUnknownSortColumn_ShouldSortById() {
+        // Given
+        PageRequest pageRequest = new PageRequest(0, 5, "unknown", SortDirection.ASC);
+        when(employeeRepository.findActiveDtoPage("employee_id", false, 0, 5)).thenReturn(Flux.just(testEmployeeDto));
+        when(employeeRepository.countAllActive()).thenReturn(Mono.just(1L));
+
+        // When & Then
+        StepVerifier.create(employeeService.getEmployeesWithPagination(pageRequest))
+                .assertNext(page -> assertThat(page.getContent()).extracting(EmployeeDto::getEmployeeId).containsExactly(1L))
+                .verifyComplete();
+    }
+
+    @Test
+    void getEmployeesWithPagination_InSnapshotMode_ShouldPageFromMemory() {
+        // Given
+        EmployeeDto secondEmployee = new EmployeeDto();
+        secondEmployee.setEmployeeId(2L);
+        secondEmployee.setEmployeeNumber("EMP002");
+        secondEmployee.setName("Suzuki Hanako");
+        enableSnapshot(testEmployeeDto, secondEmployee);
+        PageRequest pageRequest = new PageRequest(0, 1, "name", SortDirection.ASC);
+
+        // When & Then
+        StepVerifier.create(employeeService.getEmployeesWithPagination(pageRequest))
+                .assertNext(page -> {
+                    assertThat(page.getContent()).extracting(EmployeeDto::getEmployeeNumber).containsExactly("EMP002");
+                    assertThat(page.getTotalElements()).isEqualTo(2L);
+                })
+                .verifyComplete();
+        StepVerifier.create(employeeService.getEmployeeCount())
+                .expectNext(2L)
+                .verifyComplete();
+
+        verify(employeeRepository, never()).findActiveDtoPage(any(), anyBoolean(), anyInt(), anyInt());
+        verify(employeeRepository, never()).countAllActive();
+    }
+
+    @Test
+    void createAndDelete_InSnapshotMode_ShouldApplyToSnapshot() {
+        // Given
+        enableSnapshot();
+        when(employeeRepository.save(any(Employee.class))).thenReturn(Mono.just(testEmployee));
+        when(employeeRepository.softDeleteById(1L, "system")).thenReturn(Mono.just(testEmployee));
+
+        // When & Then
+        StepVerifier.create(employeeService.createEmployee(testEmployeeDto))
+                .expectNextCount(1)
+                .verifyComplete();
+        assertThat(employeeSnapshotService.getCount()).isEqualTo(1L);
+
+        StepVerifier.create(employeeService.deleteEmployeeById(1L))
+                .verifyComplete();
+        assertThat(employeeSnapshotService.getCount()).isZero();
+        assertThat(employeeRosterVersion.current()).isEqualTo(2L);
+    }
+
+    @Test
+    void exportEmployees_ShouldStreamWithConfiguredFetchSize() {
+        // Given
+        ReflectionTestUtils.setField(employeeService, "exportFetchSize", 250);
+        when(employeeRepository.streamActiveDtos(250)).thenReturn(Flux.just(testEmployeeDto));
+
+        // When & Then
+        StepVerifier.create(employeeService.exportEmployees())
+                .expectNext(testEmployeeDto)
+                .verifyComplete();
+
+        verify(employeeRepository, never()).findAll();
+    }
+
+    private void enableSnapshot(EmployeeDto... employees) {
+        ReflectionTestUtils.setField(employeeSnapshotService, "enabled", true);
+        ReflectionTestUtils.setField(employeeSnapshotService, "employeeRepository", employeeRepository);
+        ReflectionTestUtils.setField(employeeSnapshotService, "settleWindow", Duration.ofSeconds(5));
+        when(employeeRepository.currentTimestamp()).thenReturn(Mono.just(LocalDateTime.now()));
+        when(employeeRepository.streamActiveDtos(anyInt())).thenReturn(Flux.just(employees));
+        StepVerifier.create(employeeSnapshotService.reload())
+                .expectNext(0)
+                .verifyComplete();
+    }
 }
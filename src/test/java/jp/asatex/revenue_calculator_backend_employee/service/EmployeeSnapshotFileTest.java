@@ -0,0 +1,77 @@
+package jp.asatex.revenue_calculator_backend_employee.service;
+
+import jp.asatex.revenue_calculator_backend_employee.dto.EmployeeDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * EmployeeSnapshotFile test class
+ */
+@DisplayName("EmployeeSnapshotFile Test")
+class EmployeeSnapshotFileTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("A written snapshot should be read back with its watermark")
+    void testRoundTrip() throws IOException {
+        EmployeeSnapshotFile snapshotFile = snapshotFile(tempDir.resolve("snapshot/employees.snapshot"));
+        EmployeeDto employee = employee(2L, "Sato");
+        employee.setBirthday(LocalDate.of(1990, 4, 1));
+        employee.setBasicSalary(new BigDecimal("300000.00"));
+        LocalDateTime watermark = LocalDateTime.of(2024, 4, 1, 9, 0, 0, 123456000);
+
+        snapshotFile.write(EmployeeRosterSnapshot.of(List.of(employee, employee(1L, "Tanaka"))), watermark);
+        EmployeeSnapshotFile.Restored restored = snapshotFile.read();
+
+        assertThat(restored.watermark()).isEqualTo(watermark);
+        assertThat(restored.snapshot().getEmployees())
+                .extracting(EmployeeDto::getEmployeeId).containsExactly(1L, 2L);
+        assertThat(restored.snapshot().get(2L))
+                .usingRecursiveComparison().isEqualTo(employee);
+        assertThat(tempDir.resolve("snapshot/employees.snapshot.part")).doesNotExist();
+    }
+
+    @Test
+    @DisplayName("Reading without a file should return null")
+    void testReadMissing() throws IOException {
+        assertThat(snapshotFile(tempDir.resolve("employees.snapshot")).read()).isNull();
+    }
+
+    @Test
+    @DisplayName("Reading a file of another format should fail")
+    void testReadForeignFile() throws IOException {
+        Path file = tempDir.resolve("employees.snapshot");
+        Files.writeString(file, "not a snapshot, just some text");
+
+        assertThatThrownBy(() -> snapshotFile(file).read())
+                .isInstanceOf(IOException.class);
+    }
+
+    private static EmployeeSnapshotFile snapshotFile(Path file) {
+        return new EmployeeSnapshotFile(Jackson2ObjectMapperBuilder.json(), file);
+    }
+
+    private static EmployeeDto employee(Long id, String name) {
+        EmployeeDto employee = new EmployeeDto();
+        employee.setEmployeeId(id);
+        employee.setEmployeeNumber(String.format("EMP%03d", id));
+        employee.setName(name);
+        employee.setVersion(1L);
+        return employee;
+    }
+}
@@ -0,0 +1,237 @@
+package jp.asatex.revenue_calculator_backend_employee.service;
+
+import jp.asatex.revenue_calculator_backend_employee.dto.EmployeeChangeDto;
+import jp.asatex.revenue_calculator_backend_employee.dto.EmployeeChangeEvent;
+import jp.asatex.revenue_calculator_backend_employee.dto.EmployeeDto;
+import jp.asatex.revenue_calculator_backend_employee.entity.Employee;
+import jp.asatex.revenue_calculator_backend_employee.mapper.EmployeeMapper;
+import jp.asatex.revenue_calculator_backend_employee.repository.EmployeeRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mapstruct.factory.Mappers;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * EmployeeSnapshotService unit test
+ * Tests loading, reconciliation and applying changes to the roster snapshot
+ */
+@ExtendWith(MockitoExtension.class)
+class EmployeeSnapshotServiceTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2024, 4, 1, 9, 0);
+
+    @Mock
+    private EmployeeRepository employeeRepository;
+
+    @Spy
+    private EmployeeMapper employeeMapper = Mappers.getMapper(EmployeeMapper.class);
+
+    @InjectMocks
+    private EmployeeSnapshotService employeeSnapshotService;
+
+    @TempDir
+    Path tempDir;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(employeeSnapshotService, "enabled", true);
+        ReflectionTestUtils.setField(employeeSnapshotService, "settleWindow", Duration.ofSeconds(5));
+        ReflectionTestUtils.setField(employeeSnapshotService, "fileMaxAge", Duration.ofHours(24));
+        lenient().when(employeeRepository.currentTimestamp()).thenReturn(Mono.just(NOW));
+    }
+
+    @Test
+    void reload_ShouldServePagesOnceLoaded() {
+        // Given
+        when(employeeRepository.streamActiveDtos(anyInt())).thenReturn(Flux.just(employee(2L, "Sato", 1L), employee(1L, "Tanaka", 1L)));
+        assertThat(employeeSnapshotService.isServing()).isFalse();
+
+        // When
+        StepVerifier.create(employeeSnapshotService.reload())
+                .expectNext(0)
+                .verifyComplete();
+
+        // Then
+        assertThat(employeeSnapshotService.isServing()).isTrue();
+        assertThat(employeeSnapshotService.getCount()).isEqualTo(2L);
+        assertThat(employeeSnapshotService.getPage("name", true, 0, 1).getT1())
+                .extracting(EmployeeDto::getEmployeeId).containsExactly(1L);
+    }
+
+    @Test
+    void reload_ShouldReplayChangesAppliedWhileLoadingAndReportDrift() {
+        // Given - a snapshot that missed the creation of employee 2
+        when(employeeRepository.streamActiveDtos(anyInt())).thenReturn(Flux.just(employee(1L, "Tanaka", 1L)));
+        employeeSnapshotService.reload().block();
+        Sinks.Many<EmployeeDto> rows = Sinks.many().unicast().onBackpressureBuffer();
+        when(employeeRepository.streamActiveDtos(anyInt())).thenReturn(rows.asFlux());
+
+        // When - employee 3 is created after the reload has read past it
+        StepVerifier.create(employeeSnapshotService.reload())
+                .then(() -> {
+                    rows.tryEmitNext(employee(1L, "Tanaka", 1L));
+                    rows.tryEmitNext(employee(2L, "Sato", 1L));
+                    employeeSnapshotService.putAfterCommit(employee(3L, "Ito", 1L)).block();
+                    rows.tryEmitComplete();
+                })
+                .expectNext(1)
+                .verifyComplete();
+
+        // Then
+        assertThat(employeeSnapshotService.getPage("employee_id", false, 0, 10).getT1())
+                .extracting(EmployeeDto::getEmployeeId).containsExactly(1L, 2L, 3L);
+    }
+
+    @Test
+    void applyChange_ShouldReadUpsertedEmployeeAndRemoveDeletedOne() {
+        // Given
+        when(employeeRepository.streamActiveDtos(anyInt())).thenReturn(Flux.just(employee(1L, "Tanaka", 1L)));
+        employeeSnapshotService.reload().block();
+        when(employeeRepository.findActiveDtoById(2L)).thenReturn(Mono.just(employee(2L, "Sato", 1L)));
+
+        // When & Then
+        StepVerifier.create(employeeSnapshotService.applyChange(event(2L, EmployeeChangeDto.ChangeType.UPSERTED, 1L)))
+                .verifyComplete();
+        assertThat(employeeSnapshotService.getCount()).isEqualTo(2L);
+
+        StepVerifier.create(employeeSnapshotService.applyChange(event(1L, EmployeeChangeDto.ChangeType.DELETED, 2L)))
+                .verifyComplete();
+        assertThat(employeeSnapshotService.getPage("employee_id", false, 0, 10).getT1())
+                .extracting(EmployeeDto::getEmployeeId).containsExactly(2L);
+    }
+
+    @Test
+    void applyChange_ShouldSkipVersionsAlreadyHeld() {
+        // Given
+        when(employeeRepository.streamActiveDtos(anyInt())).thenReturn(Flux.just(employee(1L, "Tanaka", 3L)));
+        employeeSnapshotService.reload().block();
+
+        // When & Then
+        StepVerifier.create(employeeSnapshotService.applyChange(event(1L, EmployeeChangeDto.ChangeType.UPSERTED, 3L)))
+                .verifyComplete();
+        verify(employeeRepository, never()).findActiveDtoById(any());
+    }
+
+    @Test
+    void restore_ShouldCatchUpSavedSnapshotFromItsWatermark() throws Exception {
+        // Given - a snapshot saved by a previous run
+        EmployeeSnapshotFile snapshotFile = new EmployeeSnapshotFile(Jackson2ObjectMapperBuilder.json(), tempDir.resolve("employees.snapshot"));
+        ReflectionTestUtils.setField(employeeSnapshotService, "employeeSnapshotFile", snapshotFile);
+        ReflectionTestUtils.setField(employeeSnapshotService, "fileEnabled", true);
+        when(employeeRepository.streamActiveDtos(anyInt())).thenReturn(Flux.just(employee(1L, "Tanaka", 1L), employee(2L, "Sato", 1L)));
+        employeeSnapshotService.reload().block();
+        assertThat(snapshotFile.read().watermark()).isEqualTo(NOW.minusSeconds(5));
+
+        // Given - employee 1 deleted and employee 3 created since
+        EmployeeSnapshotService restarted = new EmployeeSnapshotService();
+        ReflectionTestUtils.setField(restarted, "employeeRepository", employeeRepository);
+        ReflectionTestUtils.setField(restarted, "employeeMapper", employeeMapper);
+        ReflectionTestUtils.setField(restarted, "employeeSnapshotFile", snapshotFile);
+        ReflectionTestUtils.setField(restarted, "enabled", true);
+        ReflectionTestUtils.setField(restarted, "fileEnabled", true);
+        ReflectionTestUtils.setField(restarted, "fileMaxAge", Duration.ofHours(24));
+        ReflectionTestUtils.setField(restarted, "settleWindow", Duration.ofSeconds(5));
+        when(employeeRepository.findChangedAfter(NOW.minusSeconds(5)))
+                .thenReturn(Flux.just(changedEmployee(1L, "Tanaka", 2L, true), changedEmployee(3L, "Ito", 1L, false)));
+
+        // When
+        StepVerifier.create(restarted.restore())
+                .expectNext(0)
+                .verifyComplete();
+
+        // Then
+        assertThat(restarted.getPage("employee_id", false, 0, 10).getT1())
+                .extracting(EmployeeDto::getEmployeeId).containsExactly(2L, 3L);
+        verify(employeeRepository).streamActiveDtos(anyInt());
+    }
+
+    @Test
+    void restore_WithWatermarkOlderThanMaxAge_ShouldBeEmpty() throws Exception {
+        // Given - a file written just now (e.g. on shutdown) that holds the watermark of an old load
+        EmployeeSnapshotFile snapshotFile = new EmployeeSnapshotFile(Jackson2ObjectMapperBuilder.json(), tempDir.resolve("employees.snapshot"));
+        snapshotFile.write(EmployeeRosterSnapshot.of(List.of(employee(1L, "Tanaka", 1L))), NOW.minusDays(2));
+        ReflectionTestUtils.setField(employeeSnapshotService, "employeeSnapshotFile", snapshotFile);
+        ReflectionTestUtils.setField(employeeSnapshotService, "fileEnabled", true);
+
+        // When & Then
+        StepVerifier.create(employeeSnapshotService.restore())
+                .verifyComplete();
+        assertThat(employeeSnapshotService.isServing()).isFalse();
+        verify(employeeRepository, never()).findChangedAfter(any());
+    }
+
+    @Test
+    void restore_WithoutFile_ShouldBeEmpty() {
+        // Given
+        ReflectionTestUtils.setField(employeeSnapshotService, "employeeSnapshotFile",
+                new EmployeeSnapshotFile(Jackson2ObjectMapperBuilder.json(), tempDir.resolve("missing.snapshot")));
+        ReflectionTestUtils.setField(employeeSnapshotService, "fileEnabled", true);
+
+        // When & Then
+        StepVerifier.create(employeeSnapshotService.restore())
+                .verifyComplete();
+        assertThat(employeeSnapshotService.isServing()).isFalse();
+    }
+
+    @Test
+    void disabled_ShouldNeitherLoadNorApplyChanges() {
+        // Given
+        ReflectionTestUtils.setField(employeeSnapshotService, "enabled", false);
+
+        // When & Then
+        StepVerifier.create(employeeSnapshotService.reload())
+                .verifyComplete();
+        StepVerifier.create(employeeSnapshotService.removeAfterCommit(List.of(1L)))
+                .verifyComplete();
+        assertThat(employeeSnapshotService.isServing()).isFalse();
+        verify(employeeRepository, never()).streamActiveDtos(anyInt());
+    }
+
+    private static EmployeeDto employee(Long id, String name, Long version) {
+        EmployeeDto employee = new EmployeeDto();
+        employee.setEmployeeId(id);
+        employee.setEmployeeNumber(String.format("EMP%03d", id));
+        employee.setName(name);
+        employee.setVersion(version);
+        return employee;
+    }
+
+    private static Employee changedEmployee(Long id, String name, Long version, boolean deleted) {
+        Employee employee = new Employee();
+        employee.setEmployeeId(id);
+        employee.setEmployeeNumber(String.format("EMP%03d", id));
+        employee.setName(name);
+        employee.setVersion(version);
+        employee.setDeleted(deleted);
+        employee.setUpdatedAt(NOW);
+        return employee;
+    }
+
+    private static EmployeeChangeEvent event(Long id, EmployeeChangeDto.ChangeType changeType, Long version) {
+        return new EmployeeChangeEvent(id, String.format("EMP%03d", id), changeType, version, LocalDateTime.now());
+    }
+}
@@ -0,0 +1,111 @@
+package jp.asatex.revenue_calculator_backend_employee.validation;
+
+import jp.asatex.revenue_calculator_backend_employee.dto.EmployeeDto;
+import jp.asatex.revenue_calculator_backend_employee.dto.RowViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.ValidatorFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.test.StepVerifier;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * EmployeeBatchValidator test
+ * Tests chunked parallel validation and collection of violations by row index
+ */
+@DisplayName("EmployeeBatchValidator Test")
+class EmployeeBatchValidatorTest {
+
+    private ValidatorFactory validatorFactory;
+
+    private EmployeeBatchValidator batchValidator;
+
+    @BeforeEach
+    void setUp() {
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        // Small chunks so the rows span several parallel chunks
+        batchValidator = new EmployeeBatchValidator(validatorFactory.getValidator(), 3, 4);
+    }
+
+    @AfterEach
+    void tearDown() {
+        batchValidator.destroy();
+        validatorFactory.close();
+    }
+
+    @Test
+    @DisplayName("Violations should be collected by row index across chunks")
+    void testViolationsCollectedByRowIndex() {
+        List<EmployeeDto> rows = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            rows.add(validEmployee(i));
+        }
+        rows.get(1).setEmail("not-an-email");
+        rows.get(7).setEmployeeNumber("EMP 007");
+        rows.get(7).setName("");
+
+        StepVerifier.create(batchValidator.validate(rows))
+                .assertNext(result -> {
+                    assertThat(result.getTotalRows()).isEqualTo(10);
+                    assertThat(result.isValid()).isFalse();
+                    assertThat(result.getInvalidRows()).isEqualTo(2);
+                    assertThat(result.getViolationsByRow()).containsOnlyKeys(1, 7);
+                    assertThat(result.getViolationsByRow().get(1))
+                            .extracting(RowViolation::getField)
+                            .containsExactly("email");
+                    assertThat(result.getViolationsByRow().get(7))
+                            .extracting(RowViolation::getField)
+                            .contains("employeeNumber", "name");
+                    assertThat(result.getViolationsByRow().get(7))
+                            .allMatch(violation -> violation.getRowIndex() == 7);
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Valid rows should produce a valid result")
+    void testAllRowsValid() {
+        List<EmployeeDto> rows = new LinkedList<>(Arrays.asList(validEmployee(0), validEmployee(1)));
+
+        StepVerifier.create(batchValidator.validate(rows))
+                .assertNext(result -> {
+                    assertThat(result.isValid()).isTrue();
+                    assertThat(result.getTotalRows()).isEqualTo(2);
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Null rows and empty batches should be handled")
+    void testNullRowAndEmptyBatch() {
+        StepVerifier.create(batchValidator.validate(Arrays.asList(validEmployee(0), null)))
+                .assertNext(result -> assertThat(result.getViolationsByRow()).containsOnlyKeys(1))
+                .verifyComplete();
+
+        StepVerifier.create(batchValidator.validate(List.of()))
+                .assertNext(result -> {
+                    assertThat(result.isValid()).isTrue();
+                    assertThat(result.getTotalRows()).isZero();
+                })
+                .verifyComplete();
+    }
+
+    private EmployeeDto validEmployee(int index) {
+        EmployeeDto employee = new EmployeeDto();
+        employee.setEmployeeNumber("EMP" + index);
+        employee.setName("Employee " + index);
+        employee.setFurigana("employee");
+        employee.setBirthday(LocalDate.of(1990, 1, 1));
+        employee.setEmail("employee" + index + "@example.com");
+        return employee;
+    }
+}